@@ -0,0 +1,131 @@
+package com.scalar.dl.benchmarks;
+
+import com.scalar.db.api.Put;
+import com.scalar.dl.ledger.asset.AssetHasher;
+import com.scalar.dl.ledger.asset.AssetRecordEncoder;
+import com.scalar.dl.ledger.config.LedgerConfig;
+import com.scalar.dl.ledger.database.AssetRecord;
+import com.scalar.dl.ledger.database.Snapshot;
+import com.scalar.dl.ledger.database.scalardb.DefaultTamperEvidentAssetComposer;
+import com.scalar.dl.ledger.database.scalardb.ScalarNamespaceResolver;
+import com.scalar.dl.ledger.model.ContractExecutionRequest;
+import com.scalar.dl.ledger.namespace.Namespaces;
+import com.scalar.dl.ledger.statemachine.AssetInput;
+import com.scalar.dl.ledger.statemachine.AssetKey;
+import com.scalar.dl.ledger.statemachine.InternalAsset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the per-commit cost of composing tamper-evident records: {@link
+ * DefaultTamperEvidentAssetComposer#compose} as a whole, and its two dominant parts, {@link
+ * AssetInput#toString} and the hashing of a record. The hashing is measured both with {@link
+ * AssetHasher.Builder#build}, which encodes all the fields of each record, and with {@link
+ * AssetRecordEncoder#hash}, which the composer uses to encode the shared fields once per commit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AssetComposerBenchmark {
+  private static final String CONTRACT_ID = "payment";
+
+  @Param({"1", "2", "8"})
+  private int numAssets;
+
+  @Param({"128", "1024"})
+  private int dataSize;
+
+  private DefaultTamperEvidentAssetComposer composer;
+  private ContractExecutionRequest request;
+  private Snapshot snapshot;
+  private Map<AssetKey, InternalAsset> readSet;
+  private String input;
+  private String output;
+  private byte[] prevHash;
+  private AssetRecordEncoder encoder;
+
+  @Setup(Level.Trial)
+  public void setUp() throws NoSuchAlgorithmException {
+    LedgerConfig config = BenchmarkFixtures.createLedgerConfig();
+    composer = new DefaultTamperEvidentAssetComposer(new ScalarNamespaceResolver(config));
+    request = BenchmarkFixtures.createExecutionRequest(CONTRACT_ID, "{\"amount\":1}");
+
+    output = createData(dataSize);
+    prevHash =
+        MessageDigest.getInstance("SHA-256").digest(output.getBytes(StandardCharsets.UTF_8));
+
+    snapshot = new Snapshot();
+    for (int i = 0; i < numAssets; i++) {
+      AssetKey key = AssetKey.of(Namespaces.DEFAULT, "asset" + i);
+      snapshot.put(
+          key,
+          AssetRecord.newBuilder()
+              .id(key.assetId())
+              .age(10)
+              .data(output)
+              .input("{}")
+              .contractId(CONTRACT_ID)
+              .argument(request.getContractArgument())
+              .signature(request.getSignature())
+              .hash(prevHash)
+              .build());
+      snapshot.put(key, output);
+    }
+    readSet = snapshot.getReadSet();
+    input = new AssetInput(readSet).toString();
+    encoder =
+        new AssetRecordEncoder(
+            input, CONTRACT_ID, request.getContractArgument(), request.getSignature());
+  }
+
+  @Benchmark
+  public Map<AssetKey, Put> compose() {
+    return composer.compose(snapshot, request);
+  }
+
+  @Benchmark
+  public String assetInputToString() {
+    return new AssetInput(readSet).toString();
+  }
+
+  @Benchmark
+  public byte[] assetHasherBuild() {
+    return new AssetHasher.Builder()
+        .id("asset0")
+        .age(11)
+        .input(input)
+        .output(output)
+        .contractId(CONTRACT_ID)
+        .argument(request.getContractArgument())
+        .signature(request.getSignature())
+        .prevHash(prevHash)
+        .build()
+        .get();
+  }
+
+  @Benchmark
+  public byte[] assetRecordEncoderHash() {
+    return encoder.hash("asset0", 11, output, prevHash);
+  }
+
+  private static String createData(int size) {
+    StringBuilder builder = new StringBuilder(size + 16);
+    builder.append("{\"balance\":1,\"memo\":\"");
+    while (builder.length() < size - 2) {
+      builder.append('x');
+    }
+    return builder.append("\"}").toString();
+  }
+}
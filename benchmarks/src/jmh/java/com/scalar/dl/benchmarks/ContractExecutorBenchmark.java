@@ -0,0 +1,88 @@
+package com.scalar.dl.benchmarks;
+
+import com.scalar.dl.benchmarks.contract.Payment;
+import com.scalar.dl.ledger.config.LedgerConfig;
+import com.scalar.dl.ledger.contract.ContractExecutor;
+import com.scalar.dl.ledger.contract.ContractManager;
+import com.scalar.dl.ledger.database.scalardb.DefaultTamperEvidentAssetComposer;
+import com.scalar.dl.ledger.database.scalardb.ScalarNamespaceResolver;
+import com.scalar.dl.ledger.function.FunctionManager;
+import com.scalar.dl.ledger.model.ContractExecutionRequest;
+import com.scalar.dl.ledger.model.ContractExecutionResult;
+import com.scalar.dl.ledger.namespace.Namespaces;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link ContractExecutor#execute} end to end (contract lookup, validation cache, class
+ * loading, invocation, asset composition and commit) against in-memory registries and ledger.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContractExecutorBenchmark {
+  private static final String CONTRACT_ID = "payment";
+
+  @Param({"1000"})
+  private int numAssets;
+
+  private InMemoryTransactionManager transactionManager;
+  private ContractExecutor executor;
+  private ContractExecutionRequest[] requests;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    LedgerConfig config = BenchmarkFixtures.createLedgerConfig();
+    InMemoryCertificateRegistry certRegistry = new InMemoryCertificateRegistry();
+    certRegistry.bind(Namespaces.DEFAULT, BenchmarkFixtures.createCertificateEntry());
+    InMemoryContractRegistry contractRegistry = new InMemoryContractRegistry();
+    contractRegistry.bind(
+        Namespaces.DEFAULT, BenchmarkFixtures.createContractEntry(CONTRACT_ID, Payment.class));
+    ContractManager contractManager =
+        BenchmarkFixtures.createContractManager(config, certRegistry, contractRegistry);
+
+    transactionManager =
+        new InMemoryTransactionManager(
+            new DefaultTamperEvidentAssetComposer(new ScalarNamespaceResolver(config)));
+    // functions are disabled, so the function manager is never consulted
+    FunctionManager functionManager = new FunctionManager(null, null);
+    executor = new ContractExecutor(config, contractManager, functionManager, transactionManager);
+
+    // pre-sign the requests so that signing is not part of the measurement
+    requests = new ContractExecutionRequest[numAssets];
+    for (int i = 0; i < numAssets; i++) {
+      String argument =
+          "{\""
+              + Payment.FROM
+              + "\":\"a"
+              + i
+              + "\",\""
+              + Payment.TO
+              + "\":\"a"
+              + ((i + 1) % numAssets)
+              + "\",\""
+              + Payment.AMOUNT
+              + "\":1}";
+      requests[i] = BenchmarkFixtures.createExecutionRequest(CONTRACT_ID, argument);
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void clearAssets() {
+    transactionManager.clear();
+  }
+
+  @Benchmark
+  public ContractExecutionResult execute() {
+    return executor.execute(requests[ThreadLocalRandom.current().nextInt(numAssets)]);
+  }
+}
@@ -0,0 +1,59 @@
+package com.scalar.dl.benchmarks;
+
+import com.scalar.dl.benchmarks.contract.Payment;
+import com.scalar.dl.ledger.config.LedgerConfig;
+import com.scalar.dl.ledger.contract.ContractEntry;
+import com.scalar.dl.ledger.contract.ContractMachine;
+import com.scalar.dl.ledger.contract.ContractManager;
+import com.scalar.dl.ledger.namespace.Namespaces;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link ContractManager#getInstance} once the signature of the entry has been validated
+ * and cached. {@link #getInstance()} never gives the instance back, so the contract class is
+ * defined and instantiated on every call, whereas {@link #getInstanceAndRelease()} releases it as
+ * the executor does, so the pooled instance is reused.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContractManagerBenchmark {
+  private static final String CONTRACT_ID = "payment";
+
+  private ContractManager manager;
+  private ContractEntry entry;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    LedgerConfig config = BenchmarkFixtures.createLedgerConfig();
+    InMemoryCertificateRegistry certRegistry = new InMemoryCertificateRegistry();
+    certRegistry.bind(Namespaces.DEFAULT, BenchmarkFixtures.createCertificateEntry());
+    InMemoryContractRegistry contractRegistry = new InMemoryContractRegistry();
+    entry = BenchmarkFixtures.createContractEntry(CONTRACT_ID, Payment.class);
+    contractRegistry.bind(Namespaces.DEFAULT, entry);
+    manager = BenchmarkFixtures.createContractManager(config, certRegistry, contractRegistry);
+
+    // warm the validation cache so that only the loading path is measured
+    manager.getInstance(Namespaces.DEFAULT, entry);
+  }
+
+  @Benchmark
+  public ContractMachine getInstance() {
+    return manager.getInstance(Namespaces.DEFAULT, entry);
+  }
+
+  @Benchmark
+  public ContractMachine getInstanceAndRelease() {
+    ContractMachine contract = manager.getInstance(Namespaces.DEFAULT, entry);
+    manager.release(Namespaces.DEFAULT, entry, contract);
+    return contract;
+  }
+}
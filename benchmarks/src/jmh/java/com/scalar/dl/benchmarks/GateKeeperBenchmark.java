@@ -0,0 +1,60 @@
+package com.scalar.dl.benchmarks;
+
+import com.scalar.dl.ledger.server.GateKeeper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the admission of a request through {@link GateKeeper}, i.e., a pair of {@link
+ * GateKeeper#letIn()} and {@link GateKeeper#letOut()} that every request goes through, with all the
+ * available cores contending on one open gate. {@link #letInAndOutWithMonitor()} is a baseline that
+ * admits requests under a monitor as the gatekeeper used to do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+public class GateKeeperBenchmark {
+  private final GateKeeper gateKeeper = new GateKeeper();
+  private final MonitorGateKeeper monitorGateKeeper = new MonitorGateKeeper();
+
+  @Benchmark
+  public void letInAndOut() {
+    gateKeeper.letIn();
+    gateKeeper.letOut();
+  }
+
+  @Benchmark
+  public void letInAndOutWithMonitor() throws InterruptedException {
+    monitorGateKeeper.letIn();
+    monitorGateKeeper.letOut();
+  }
+
+  /** The admission path of a gatekeeper that guards its state with the object monitor. */
+  private static class MonitorGateKeeper {
+    private boolean isOpen = true;
+    private int numOutstandingRequests;
+
+    synchronized void letIn() throws InterruptedException {
+      while (!isOpen) {
+        wait();
+      }
+      numOutstandingRequests++;
+    }
+
+    synchronized void letOut() {
+      if (numOutstandingRequests > 0) {
+        numOutstandingRequests--;
+      }
+      if (numOutstandingRequests == 0) {
+        notifyAll();
+      }
+    }
+  }
+}
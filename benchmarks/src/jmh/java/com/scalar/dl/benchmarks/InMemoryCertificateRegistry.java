@@ -0,0 +1,35 @@
+package com.scalar.dl.benchmarks;
+
+import com.scalar.dl.ledger.crypto.CertificateEntry;
+import com.scalar.dl.ledger.database.CertificateRegistry;
+import com.scalar.dl.ledger.error.CommonError;
+import com.scalar.dl.ledger.exception.MissingCertificateException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.concurrent.ThreadSafe;
+
+/** A {@link CertificateRegistry} that keeps certificate entries in memory. */
+@ThreadSafe
+public class InMemoryCertificateRegistry implements CertificateRegistry {
+  private final Map<String, Map<CertificateEntry.Key, CertificateEntry>> entries =
+      new ConcurrentHashMap<>();
+
+  @Override
+  public void bind(String namespace, CertificateEntry entry) {
+    entries.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>()).put(entry.getKey(), entry);
+  }
+
+  @Override
+  public void unbind(String namespace, CertificateEntry.Key key) {
+    entries.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>()).remove(key);
+  }
+
+  @Override
+  public CertificateEntry lookup(String namespace, CertificateEntry.Key key) {
+    CertificateEntry entry = entries.getOrDefault(namespace, new ConcurrentHashMap<>()).get(key);
+    if (entry == null) {
+      throw new MissingCertificateException(CommonError.CERTIFICATE_NOT_FOUND);
+    }
+    return entry;
+  }
+}
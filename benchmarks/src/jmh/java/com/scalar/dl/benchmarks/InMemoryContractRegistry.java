@@ -0,0 +1,51 @@
+package com.scalar.dl.benchmarks;
+
+import com.scalar.dl.ledger.contract.ContractEntry;
+import com.scalar.dl.ledger.database.ContractRegistry;
+import com.scalar.dl.ledger.error.CommonError;
+import com.scalar.dl.ledger.exception.MissingContractException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.annotation.concurrent.ThreadSafe;
+
+/** A {@link ContractRegistry} that keeps contract entries in memory. */
+@ThreadSafe
+public class InMemoryContractRegistry implements ContractRegistry {
+  private final Map<String, Map<ContractEntry.Key, ContractEntry>> entries =
+      new ConcurrentHashMap<>();
+
+  @Override
+  public void bind(String namespace, ContractEntry entry) {
+    entries.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>()).put(entry.getKey(), entry);
+  }
+
+  @Override
+  public void unbind(String namespace, ContractEntry.Key key) {
+    entries.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>()).remove(key);
+  }
+
+  @Override
+  public ContractEntry lookup(String namespace, ContractEntry.Key key) {
+    ContractEntry entry = entries.getOrDefault(namespace, new ConcurrentHashMap<>()).get(key);
+    if (entry == null) {
+      throw new MissingContractException(CommonError.CONTRACT_NOT_FOUND);
+    }
+    return entry;
+  }
+
+  @Override
+  public List<ContractEntry> scan(String namespace, String certId) {
+    return entries.getOrDefault(namespace, new ConcurrentHashMap<>()).values().stream()
+        .filter(e -> e.getEntityId().equals(certId))
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public List<ContractEntry> scan(String namespace, String certId, int certVersion) {
+    return scan(namespace, certId).stream()
+        .filter(e -> e.getKeyVersion() == certVersion)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,34 @@
+package com.scalar.dl.benchmarks;
+
+import com.scalar.dl.ledger.crypto.SecretEntry;
+import com.scalar.dl.ledger.database.SecretRegistry;
+import com.scalar.dl.ledger.error.CommonError;
+import com.scalar.dl.ledger.exception.MissingSecretException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.concurrent.ThreadSafe;
+
+/** A {@link SecretRegistry} that keeps secret entries in memory. */
+@ThreadSafe
+public class InMemorySecretRegistry implements SecretRegistry {
+  private final Map<String, Map<SecretEntry.Key, SecretEntry>> entries = new ConcurrentHashMap<>();
+
+  @Override
+  public void bind(String namespace, SecretEntry entry) {
+    entries.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>()).put(entry.getKey(), entry);
+  }
+
+  @Override
+  public void unbind(String namespace, SecretEntry.Key key) {
+    entries.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>()).remove(key);
+  }
+
+  @Override
+  public SecretEntry lookup(String namespace, SecretEntry.Key key) {
+    SecretEntry entry = entries.getOrDefault(namespace, new ConcurrentHashMap<>()).get(key);
+    if (entry == null) {
+      throw new MissingSecretException(CommonError.SECRET_NOT_FOUND);
+    }
+    return entry;
+  }
+}
@@ -0,0 +1,147 @@
+package com.scalar.dl.benchmarks;
+
+import com.scalar.db.api.Put;
+import com.scalar.dl.ledger.database.AssetFilter;
+import com.scalar.dl.ledger.database.AssetRecord;
+import com.scalar.dl.ledger.database.Snapshot;
+import com.scalar.dl.ledger.database.TamperEvidentAssetLedger;
+import com.scalar.dl.ledger.database.scalardb.AssetAttribute;
+import com.scalar.dl.ledger.database.scalardb.TamperEvidentAssetComposer;
+import com.scalar.dl.ledger.model.ContractExecutionRequest;
+import com.scalar.dl.ledger.proof.AssetProof;
+import com.scalar.dl.ledger.statemachine.AssetKey;
+import com.scalar.dl.ledger.statemachine.InternalAsset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link TamperEvidentAssetLedger} that reads from and writes to an in-memory store. Commits go
+ * through the given {@link TamperEvidentAssetComposer} so that the hashing cost of the real ledger
+ * is kept, but no proofs are returned.
+ */
+@NotThreadSafe
+public class InMemoryTamperEvidentAssetLedger implements TamperEvidentAssetLedger {
+  private final Map<AssetKey, NavigableMap<Integer, InternalAsset>> store;
+  private final Snapshot snapshot;
+  @Nullable private final ContractExecutionRequest request;
+  private final TamperEvidentAssetComposer assetComposer;
+  private final String contextNamespace;
+
+  public InMemoryTamperEvidentAssetLedger(
+      Map<AssetKey, NavigableMap<Integer, InternalAsset>> store,
+      @Nullable ContractExecutionRequest request,
+      TamperEvidentAssetComposer assetComposer,
+      String contextNamespace) {
+    this.store = store;
+    this.snapshot = new Snapshot();
+    this.request = request;
+    this.assetComposer = assetComposer;
+    this.contextNamespace = contextNamespace;
+  }
+
+  @Override
+  public Optional<InternalAsset> get(String assetId) {
+    return get(contextNamespace, assetId);
+  }
+
+  @Override
+  public Optional<InternalAsset> get(String namespace, String assetId) {
+    AssetKey key = AssetKey.of(namespace, assetId);
+    Optional<InternalAsset> recordInSnapshot = snapshot.get(key);
+    if (recordInSnapshot.isPresent()) {
+      return recordInSnapshot;
+    }
+
+    NavigableMap<Integer, InternalAsset> history = store.get(key);
+    if (history == null || history.isEmpty()) {
+      return Optional.empty();
+    }
+    InternalAsset record = history.lastEntry().getValue();
+    snapshot.put(key, record);
+    return Optional.of(record);
+  }
+
+  @Override
+  public List<InternalAsset> scan(AssetFilter filter) {
+    String namespace = filter.getNamespace().orElse(contextNamespace);
+    NavigableMap<Integer, InternalAsset> history =
+        store.getOrDefault(AssetKey.of(namespace, filter.getId()), new ConcurrentSkipListMap<>());
+
+    if (filter.getStartAge().isPresent()) {
+      history = history.tailMap(filter.getStartAge().get(), filter.isStartInclusive());
+    }
+    if (filter.getEndAge().isPresent()) {
+      history = history.headMap(filter.getEndAge().get(), filter.isEndInclusive());
+    }
+    if (filter.getAgeOrder().isPresent()
+        && filter.getAgeOrder().get() == AssetFilter.AgeOrder.DESC) {
+      history = history.descendingMap();
+    }
+
+    List<InternalAsset> records = new ArrayList<>();
+    for (InternalAsset record : history.values()) {
+      if (filter.getLimit() > 0 && records.size() >= filter.getLimit()) {
+        break;
+      }
+      records.add(record);
+    }
+
+    // add the asset ID to the snapshot in the same way as the real ledger
+    get(namespace, filter.getId());
+
+    return records;
+  }
+
+  @Override
+  public void put(String assetId, String data) {
+    put(contextNamespace, assetId, data);
+  }
+
+  @Override
+  public void put(String namespace, String assetId, String data) {
+    AssetKey key = AssetKey.of(namespace, assetId);
+    if (!snapshot.getReadSet().containsKey(key)) {
+      get(namespace, assetId);
+    }
+    snapshot.put(key, data);
+  }
+
+  @Override
+  public List<AssetProof> commit() {
+    if (!snapshot.hasWriteSet()) {
+      return Collections.emptyList();
+    }
+
+    Map<AssetKey, Put> puts = assetComposer.compose(snapshot, request);
+    puts.forEach(
+        (key, put) -> {
+          AssetRecord record = toRecord(put);
+          store.computeIfAbsent(key, k -> new ConcurrentSkipListMap<>()).put(record.age(), record);
+        });
+    return Collections.emptyList();
+  }
+
+  @Override
+  public void abort() {}
+
+  private AssetRecord toRecord(Put put) {
+    return AssetRecord.newBuilder()
+        .id(put.getPartitionKey().getColumns().get(0).getTextValue())
+        .age(put.getClusteringKey().get().getColumns().get(0).getIntValue())
+        .input(put.getTextValue(AssetAttribute.INPUT))
+        .data(put.getTextValue(AssetAttribute.OUTPUT))
+        .contractId(put.getTextValue(AssetAttribute.CONTRACT_ID))
+        .argument(put.getTextValue(AssetAttribute.ARGUMENT))
+        .signature(put.getBlobValueAsBytes(AssetAttribute.SIGNATURE))
+        .hash(put.getBlobValueAsBytes(AssetAttribute.HASH))
+        .prevHash(put.getBlobValueAsBytes(AssetAttribute.PREV_HASH))
+        .build();
+  }
+}
@@ -0,0 +1,66 @@
+package com.scalar.dl.benchmarks;
+
+import com.scalar.dl.ledger.database.Transaction;
+import com.scalar.dl.ledger.database.TransactionManager;
+import com.scalar.dl.ledger.database.TransactionState;
+import com.scalar.dl.ledger.database.scalardb.TamperEvidentAssetComposer;
+import com.scalar.dl.ledger.model.ContractExecutionRequest;
+import com.scalar.dl.ledger.namespace.Namespaces;
+import com.scalar.dl.ledger.statemachine.AssetKey;
+import com.scalar.dl.ledger.statemachine.InternalAsset;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link TransactionManager} that hands out {@link InMemoryTamperEvidentAssetLedger}s sharing a
+ * single in-memory asset store. Functions are not supported, so transactions are created without a
+ * mutable database.
+ */
+@ThreadSafe
+public class InMemoryTransactionManager implements TransactionManager {
+  private final Map<AssetKey, NavigableMap<Integer, InternalAsset>> store =
+      new ConcurrentHashMap<>();
+  private final TamperEvidentAssetComposer assetComposer;
+
+  public InMemoryTransactionManager(TamperEvidentAssetComposer assetComposer) {
+    this.assetComposer = assetComposer;
+  }
+
+  @Override
+  public Transaction startWith(ContractExecutionRequest request) {
+    return new Transaction(
+        new InMemoryTamperEvidentAssetLedger(
+            store, request, assetComposer, request.getContextNamespaceOrDefault()),
+        null);
+  }
+
+  @Override
+  public Transaction startWith() {
+    return new Transaction(
+        new InMemoryTamperEvidentAssetLedger(store, null, assetComposer, Namespaces.DEFAULT),
+        null);
+  }
+
+  @Override
+  public TransactionState getState(String transactionId) {
+    return TransactionState.COMMITTED;
+  }
+
+  @Override
+  public TransactionState abort(String transactionId) {
+    return TransactionState.ABORTED;
+  }
+
+  @Override
+  public void finish(String transactionId) {}
+
+  @Override
+  public void recover(Map<AssetKey, Integer> assetIds) {}
+
+  /** Clears all the assets stored so far. */
+  public void clear() {
+    store.clear();
+  }
+}
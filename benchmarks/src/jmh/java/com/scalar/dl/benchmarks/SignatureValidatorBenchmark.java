@@ -0,0 +1,46 @@
+package com.scalar.dl.benchmarks;
+
+import com.scalar.dl.ledger.crypto.DigitalSignatureValidator;
+import com.scalar.dl.ledger.model.ContractExecutionRequest;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link DigitalSignatureValidator#validate} on the serialized form of a contract
+ * execution request, which is what the ledger verifies for every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SignatureValidatorBenchmark {
+  private DigitalSignatureValidator validator;
+  private byte[] serialized;
+  private byte[] signature;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    validator = new DigitalSignatureValidator(BenchmarkFixtures.CERTIFICATE);
+    ContractExecutionRequest request =
+        BenchmarkFixtures.createExecutionRequest("payment", "{\"amount\":1}");
+    serialized =
+        ContractExecutionRequest.serialize(
+            request.getContractId(),
+            request.getContractArgument(),
+            request.getContextNamespace(),
+            request.getEntityId(),
+            request.getKeyVersion());
+    signature = request.getSignature();
+  }
+
+  @Benchmark
+  public boolean validate() {
+    return validator.validate(serialized, signature);
+  }
+}
@@ -0,0 +1,84 @@
+package com.scalar.dl.benchmarks;
+
+import com.scalar.dl.benchmarks.contract.GetAssetId;
+import com.scalar.dl.benchmarks.contract.MultiGet;
+import com.scalar.dl.ledger.config.LedgerConfig;
+import com.scalar.dl.ledger.contract.ContractExecutor;
+import com.scalar.dl.ledger.contract.ContractManager;
+import com.scalar.dl.ledger.database.scalardb.DefaultTamperEvidentAssetComposer;
+import com.scalar.dl.ledger.database.scalardb.ScalarNamespaceResolver;
+import com.scalar.dl.ledger.function.FunctionManager;
+import com.scalar.dl.ledger.model.ContractExecutionRequest;
+import com.scalar.dl.ledger.model.ContractExecutionResult;
+import com.scalar.dl.ledger.namespace.Namespaces;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link ContractExecutor#execute} of a contract that invokes a sub-contract for each of
+ * the records it reads, which is how the table contracts of the generic contracts resolve asset
+ * IDs. Every invocation checks a contract instance out of {@link ContractManager}, so the
+ * allocation per operation shows how much the pooling of the instances saves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SubContractBenchmark {
+  private static final String CONTRACT_ID = "multi_get";
+
+  @Param({"1", "10"})
+  private int numSubContractCalls;
+
+  private InMemoryTransactionManager transactionManager;
+  private ContractExecutor executor;
+  private ContractExecutionRequest request;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    LedgerConfig config = BenchmarkFixtures.createLedgerConfig();
+    InMemoryCertificateRegistry certRegistry = new InMemoryCertificateRegistry();
+    certRegistry.bind(Namespaces.DEFAULT, BenchmarkFixtures.createCertificateEntry());
+    InMemoryContractRegistry contractRegistry = new InMemoryContractRegistry();
+    contractRegistry.bind(
+        Namespaces.DEFAULT, BenchmarkFixtures.createContractEntry(CONTRACT_ID, MultiGet.class));
+    contractRegistry.bind(
+        Namespaces.DEFAULT,
+        BenchmarkFixtures.createContractEntry(
+            MultiGet.GET_ASSET_ID_CONTRACT_ID, GetAssetId.class));
+    ContractManager contractManager =
+        BenchmarkFixtures.createContractManager(config, certRegistry, contractRegistry);
+
+    transactionManager =
+        new InMemoryTransactionManager(
+            new DefaultTamperEvidentAssetComposer(new ScalarNamespaceResolver(config)));
+    // functions are disabled, so the function manager is never consulted
+    FunctionManager functionManager = new FunctionManager(null, null);
+    executor = new ContractExecutor(config, contractManager, functionManager, transactionManager);
+
+    StringBuilder keys = new StringBuilder();
+    for (int i = 0; i < numSubContractCalls; i++) {
+      keys.append(i == 0 ? "" : ",").append("\"k").append(i).append('"');
+    }
+    String argument = "{\"" + MultiGet.KEYS + "\":[" + keys + "]}";
+    // the request is signed up front so that signing is not part of the measurement
+    request = BenchmarkFixtures.createExecutionRequest(CONTRACT_ID, argument);
+  }
+
+  @Setup(Level.Iteration)
+  public void clearAssets() {
+    transactionManager.clear();
+  }
+
+  @Benchmark
+  public ContractExecutionResult execute() {
+    return executor.execute(request);
+  }
+}
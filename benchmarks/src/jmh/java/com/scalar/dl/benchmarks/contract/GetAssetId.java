@@ -0,0 +1,22 @@
+package com.scalar.dl.benchmarks.contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.scalar.dl.ledger.contract.JacksonBasedContract;
+import com.scalar.dl.ledger.statemachine.Ledger;
+import javax.annotation.Nullable;
+
+/**
+ * A contract that maps a record key to the ID of the asset that stores the record, which the table
+ * contracts of the generic contracts invoke as a sub-contract for every record they touch.
+ */
+public class GetAssetId extends JacksonBasedContract {
+  public static final String PREFIX = "rec_";
+
+  @Nullable
+  @Override
+  public JsonNode invoke(
+      Ledger<JsonNode> ledger, JsonNode argument, @Nullable JsonNode properties) {
+    return TextNode.valueOf(PREFIX + argument.asText());
+  }
+}
@@ -0,0 +1,28 @@
+package com.scalar.dl.benchmarks.contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.scalar.dl.ledger.contract.JacksonBasedContract;
+import com.scalar.dl.ledger.statemachine.Ledger;
+import javax.annotation.Nullable;
+
+/**
+ * A contract that reads the records of the given keys, resolving the asset ID of each key with the
+ * {@link GetAssetId} sub-contract in the same way as the table contracts of the generic contracts.
+ */
+public class MultiGet extends JacksonBasedContract {
+  public static final String KEYS = "keys";
+  public static final String GET_ASSET_ID_CONTRACT_ID = "get_asset_id";
+
+  @Nullable
+  @Override
+  public JsonNode invoke(
+      Ledger<JsonNode> ledger, JsonNode argument, @Nullable JsonNode properties) {
+    ObjectNode result = getObjectMapper().createObjectNode();
+    for (JsonNode key : argument.get(KEYS)) {
+      String assetId = invoke(GET_ASSET_ID_CONTRACT_ID, ledger, key).asText();
+      result.put(key.asText(), ledger.get(assetId).isPresent());
+    }
+    return result;
+  }
+}
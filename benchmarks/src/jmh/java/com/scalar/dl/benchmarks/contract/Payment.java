@@ -0,0 +1,44 @@
+package com.scalar.dl.benchmarks.contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.scalar.dl.ledger.contract.JacksonBasedContract;
+import com.scalar.dl.ledger.statemachine.Asset;
+import com.scalar.dl.ledger.statemachine.Ledger;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * A contract that moves an amount from one asset to another, creating the assets on their first
+ * use. It reads and writes two assets, which is the typical shape of the requests we serve.
+ */
+public class Payment extends JacksonBasedContract {
+  public static final String FROM = "from";
+  public static final String TO = "to";
+  public static final String AMOUNT = "amount";
+  public static final String BALANCE = "balance";
+
+  @Nullable
+  @Override
+  public JsonNode invoke(
+      Ledger<JsonNode> ledger, JsonNode argument, @Nullable JsonNode properties) {
+    String from = argument.get(FROM).asText();
+    String to = argument.get(TO).asText();
+    int amount = argument.get(AMOUNT).asInt();
+
+    int fromBalance = getBalance(ledger, from);
+    int toBalance = getBalance(ledger, to);
+
+    ledger.put(from, getObjectMapper().createObjectNode().put(BALANCE, fromBalance - amount));
+    ledger.put(to, getObjectMapper().createObjectNode().put(BALANCE, toBalance + amount));
+
+    return getObjectMapper()
+        .createObjectNode()
+        .put(FROM, fromBalance - amount)
+        .put(TO, toBalance + amount);
+  }
+
+  private int getBalance(Ledger<JsonNode> ledger, String assetId) {
+    Optional<Asset<JsonNode>> asset = ledger.get(assetId);
+    return asset.map(a -> a.data().get(BALANCE).asInt()).orElse(0);
+  }
+}
@@ -9,6 +9,8 @@ import com.scalar.dl.ledger.config.AuthenticationMethod;
 import com.scalar.dl.ledger.config.ConfigUtils;
 import com.scalar.dl.ledger.config.GrpcClientConfig;
 import com.scalar.dl.ledger.config.TargetConfig;
+import com.scalar.dl.ledger.config.TracingConfig;
+import com.scalar.dl.ledger.config.TracingExporter;
 import com.scalar.dl.ledger.namespace.Namespaces;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.File;
@@ -38,6 +40,10 @@ public class ClientConfig {
   @VisibleForTesting static final int DEFAULT_AUDITOR_PRIVILEGED_PORT = 40052;
   @VisibleForTesting static final boolean DEFAULT_AUDITOR_TLS_ENABLED = false;
   @VisibleForTesting static final boolean DEFAULT_AUTO_BOOTSTRAP = true;
+  @VisibleForTesting static final boolean DEFAULT_TRACING_ENABLED = false;
+  @VisibleForTesting static final double DEFAULT_TRACING_SAMPLING_RATIO = 0.01;
+  @VisibleForTesting static final String DEFAULT_TRACING_EXPORTER = "file";
+  @VisibleForTesting static final String DEFAULT_TRACING_FILE_PATH = "client-traces.jsonl";
 
   @VisibleForTesting
   static final AuthenticationMethod DEFAULT_AUTHENTICATION_METHOD =
@@ -345,6 +351,35 @@ public class ClientConfig {
    */
   public static final String CONTEXT_NAMESPACE = PREFIX + "context.namespace";
 
+  /**
+   * <code>scalar.dl.client.tracing.enabled</code> (Optional)<br>
+   * A flag to trace requests as spans (false by default). The trace context is propagated to Ledger
+   * and Auditor in the gRPC metadata, so the spans of a request across the servers can be put
+   * together.
+   */
+  public static final String TRACING_ENABLED = PREFIX + "tracing.enabled";
+
+  /**
+   * <code>scalar.dl.client.tracing.sampling_ratio</code> (Optional)<br>
+   * The ratio of the requests that are traced, between 0.0 and 1.0 (0.01 by default). The servers
+   * follow the sampling decision of the client.
+   */
+  public static final String TRACING_SAMPLING_RATIO = PREFIX + "tracing.sampling_ratio";
+
+  /**
+   * <code>scalar.dl.client.tracing.exporter</code> (Optional)<br>
+   * The exporter of the sampled spans ("file" by default). "file" appends each span to {@link
+   * #TRACING_FILE_PATH} as a line of JSON, and "memory" keeps the latest spans in memory.
+   */
+  public static final String TRACING_EXPORTER = PREFIX + "tracing.exporter";
+
+  /**
+   * <code>scalar.dl.client.tracing.file_path</code> (Optional)<br>
+   * The path of the file that the "file" exporter writes the spans to ("client-traces.jsonl" by
+   * default).
+   */
+  public static final String TRACING_FILE_PATH = PREFIX + "tracing.file_path";
+
   private final Properties props;
   private String serverHost;
   private int serverPort;
@@ -377,6 +412,7 @@ public class ClientConfig {
   private HmacIdentityConfig hmacIdentityConfig;
   private TargetConfig ledgerTargetConfig;
   private TargetConfig auditorTargetConfig;
+  private TracingConfig tracingConfig;
 
   public ClientConfig(File propertiesFile) throws IOException {
     try (FileInputStream stream = new FileInputStream(propertiesFile)) {
@@ -458,6 +494,10 @@ public class ClientConfig {
     return contextNamespace;
   }
 
+  public TracingConfig getTracingConfig() {
+    return tracingConfig;
+  }
+
   private void load() {
     serverHost = ConfigUtils.getString(props, SERVER_HOST, DEFAULT_SERVER_HOST);
     serverPort = ConfigUtils.getInt(props, SERVER_PORT, DEFAULT_SERVER_PORT);
@@ -567,6 +607,18 @@ public class ClientConfig {
               DEFAULT_AUDITOR_LINEARIZABLE_VALIDATION_CONTRACT_ID);
     }
 
+    tracingConfig =
+        TracingConfig.newBuilder()
+            .enabled(ConfigUtils.getBoolean(props, TRACING_ENABLED, DEFAULT_TRACING_ENABLED))
+            .samplingRatio(
+                ConfigUtils.getDouble(
+                    props, TRACING_SAMPLING_RATIO, DEFAULT_TRACING_SAMPLING_RATIO))
+            .exporter(
+                TracingExporter.get(
+                    ConfigUtils.getString(props, TRACING_EXPORTER, DEFAULT_TRACING_EXPORTER)))
+            .filePath(ConfigUtils.getString(props, TRACING_FILE_PATH, DEFAULT_TRACING_FILE_PATH))
+            .build();
+
     ledgerTargetConfig = createLedgerTargetConfig();
     auditorTargetConfig = createAuditorTargetConfig();
   }
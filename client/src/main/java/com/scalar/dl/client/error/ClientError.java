@@ -196,6 +196,12 @@ public enum ClientError implements ScalarDlError {
       "The secret key cannot be null.",
       "",
       "Provide a non-null secret key in your service request."),
+  SERVICE_CONTRACT_ITEMS_CANNOT_BE_NULL(
+      StatusCode.INVALID_ARGUMENT,
+      "029",
+      "The list of contract execution items cannot be null.",
+      "",
+      "Provide a non-null list of contract execution items."),
 
   //
   // Errors for RUNTIME_ERROR(502)
@@ -41,6 +41,8 @@ public class RpcUtil {
       // add an authorization header
       builder.intercept(new AuthorizationInterceptor(config.getTargetAuthorizationCredential()));
     }
+    // propagate the trace context of the calling thread if any
+    builder.intercept(new TracingInterceptor());
   }
 
   public static void configureDataSize(NettyChannelBuilder builder, TargetConfig config) {
@@ -0,0 +1,34 @@
+package com.scalar.dl.client.rpc;
+
+import com.scalar.dl.ledger.trace.SpanContext;
+import com.scalar.dl.ledger.trace.Tracer;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+
+public class TracingInterceptor implements ClientInterceptor {
+  private static final Metadata.Key<String> KEY =
+      Metadata.Key.of(SpanContext.HEADER, Metadata.ASCII_STRING_MARSHALLER);
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions, Channel channel) {
+    // The current span is taken on the calling thread since the call may be started on another
+    SpanContext context = Tracer.currentContext();
+    if (context == null) {
+      return channel.newCall(methodDescriptor, callOptions);
+    }
+    return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(
+        channel.newCall(methodDescriptor, callOptions)) {
+      @Override
+      public void start(Listener<RespT> responseListener, Metadata headers) {
+        headers.put(KEY, context.toHeader());
+        super.start(responseListener, headers);
+      }
+    };
+  }
+}
@@ -8,6 +8,7 @@ import com.scalar.dl.rpc.ContractExecutionResponse;
 import com.scalar.dl.rpc.ExecutionOrderingResponse;
 import com.scalar.dl.rpc.ExecutionValidationRequest;
 import com.scalar.dl.rpc.TransactionStatePurgeRequest;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class AbstractAuditorClient implements Client {
 
@@ -15,6 +16,12 @@ public abstract class AbstractAuditorClient implements Client {
 
   abstract ContractExecutionResponse validate(ExecutionValidationRequest request);
 
+  abstract CompletableFuture<ExecutionOrderingResponse> orderAsync(
+      ContractExecutionRequest request);
+
+  abstract CompletableFuture<ContractExecutionResponse> validateAsync(
+      ExecutionValidationRequest request);
+
   abstract LockRecoveryResult recover(AssetLockRecoveryRequest request);
 
   abstract TransactionStatePurgeResult purgeTransactionStates(TransactionStatePurgeRequest request);
@@ -8,6 +8,7 @@ import com.scalar.dl.rpc.FunctionRegistrationRequest;
 import com.scalar.dl.rpc.LedgerValidationRequest;
 import com.scalar.dl.rpc.SignedFunctionRegistrationRequest;
 import com.scalar.dl.rpc.TransactionStatePurgeRequest;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class AbstractGatewayClient implements Client {
 
@@ -17,6 +18,9 @@ public abstract class AbstractGatewayClient implements Client {
 
   abstract ContractExecutionResult execute(ContractExecutionRequest request);
 
+  abstract CompletableFuture<ContractExecutionResult> executeAsync(
+      ContractExecutionRequest request);
+
   abstract LedgerValidationResult validate(LedgerValidationRequest request);
 
   abstract TransactionStatePurgeResult purgeTransactionStates(TransactionStatePurgeRequest request);
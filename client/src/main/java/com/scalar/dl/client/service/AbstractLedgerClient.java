@@ -1,6 +1,7 @@
 package com.scalar.dl.client.service;
 
 import com.scalar.dl.ledger.database.TransactionState;
+import com.scalar.dl.ledger.model.ContractExecutionItemResult;
 import com.scalar.dl.ledger.model.ContractExecutionResult;
 import com.scalar.dl.ledger.model.LedgerValidationResult;
 import com.scalar.dl.ledger.proof.AssetProof;
@@ -13,11 +14,17 @@ import com.scalar.dl.rpc.ExecutionFinishRequest;
 import com.scalar.dl.rpc.FunctionRegistrationRequest;
 import com.scalar.dl.rpc.LedgerValidationRequest;
 import com.scalar.dl.rpc.SignedFunctionRegistrationRequest;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 public abstract class AbstractLedgerClient implements Client {
   protected static final ThrowableFunction<ContractExecutionResponse, ContractExecutionResponse>
       DEFAULT_AUDITING_HOOK = r -> null;
+  protected static final Function<
+          ContractExecutionResponse, CompletableFuture<ContractExecutionResponse>>
+      DEFAULT_ASYNC_AUDITING_HOOK = r -> CompletableFuture.completedFuture(null);
 
   abstract void register(FunctionRegistrationRequest request);
 
@@ -29,6 +36,13 @@ public abstract class AbstractLedgerClient implements Client {
       ContractExecutionRequest request,
       ThrowableFunction<ContractExecutionResponse, ContractExecutionResponse> auditingHook);
 
+  abstract CompletableFuture<ContractExecutionResult> executeAsync(
+      ContractExecutionRequest request,
+      Function<ContractExecutionResponse, CompletableFuture<ContractExecutionResponse>>
+          auditingHook);
+
+  abstract List<ContractExecutionItemResult> execute(List<ContractExecutionRequest> requests);
+
   abstract LedgerValidationResult validate(LedgerValidationRequest request);
 
   abstract Optional<AssetProof> retrieve(AssetProofRetrievalRequest request);
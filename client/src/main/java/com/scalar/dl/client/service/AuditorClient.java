@@ -28,6 +28,7 @@ import com.scalar.dl.rpc.TransactionStatePurgeRequest;
 import com.scalar.dl.rpc.TransactionStatePurgeResponse;
 import io.grpc.ManagedChannel;
 import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.concurrent.Immutable;
 import javax.json.Json;
@@ -38,6 +39,7 @@ public class AuditorClient extends AbstractAuditorClient {
   private final ManagedChannel channel;
   private final ManagedChannel privilegedChannel;
   private final AuditorGrpc.AuditorBlockingStub auditorStub;
+  private final AuditorGrpc.AuditorFutureStub auditorFutureStub;
   private final AuditorPrivilegedGrpc.AuditorPrivilegedBlockingStub auditorPrivilegedStub;
   private final long deadlineDurationMillis;
 
@@ -50,6 +52,7 @@ public class AuditorClient extends AbstractAuditorClient {
     RpcUtil.configureDataSize(builder, config);
     channel = builder.build();
     auditorStub = AuditorGrpc.newBlockingStub(channel);
+    auditorFutureStub = AuditorGrpc.newFutureStub(channel);
 
     NettyChannelBuilder privilegedBuilder =
         NettyChannelBuilder.forAddress(config.getTargetHost(), config.getTargetPrivilegedPort());
@@ -67,9 +70,19 @@ public class AuditorClient extends AbstractAuditorClient {
       TargetConfig config,
       AuditorGrpc.AuditorBlockingStub auditorStub,
       AuditorPrivilegedGrpc.AuditorPrivilegedBlockingStub auditorPrivilegedStub) {
+    this(config, auditorStub, null, auditorPrivilegedStub);
+  }
+
+  @VisibleForTesting
+  AuditorClient(
+      TargetConfig config,
+      AuditorGrpc.AuditorBlockingStub auditorStub,
+      AuditorGrpc.AuditorFutureStub auditorFutureStub,
+      AuditorPrivilegedGrpc.AuditorPrivilegedBlockingStub auditorPrivilegedStub) {
     this.channel = null;
     this.privilegedChannel = null;
     this.auditorStub = auditorStub;
+    this.auditorFutureStub = auditorFutureStub;
     this.auditorPrivilegedStub = auditorPrivilegedStub;
     assert config.getGrpcClientConfig() != null;
     deadlineDurationMillis = config.getGrpcClientConfig().getDeadlineDurationMillis();
@@ -159,6 +172,17 @@ public class AuditorClient extends AbstractAuditorClient {
     return ContractExecutionResponse.getDefaultInstance();
   }
 
+  @Override
+  public CompletableFuture<ExecutionOrderingResponse> orderAsync(ContractExecutionRequest request) {
+    return toCompletableFuture(getAuditorFutureStub().orderExecution(request));
+  }
+
+  @Override
+  public CompletableFuture<ContractExecutionResponse> validateAsync(
+      ExecutionValidationRequest request) {
+    return toCompletableFuture(getAuditorFutureStub().validateExecution(request));
+  }
+
   @Override
   public void create(NamespaceCreationRequest request) {
     ThrowableConsumer<NamespaceCreationRequest> f =
@@ -222,6 +246,10 @@ public class AuditorClient extends AbstractAuditorClient {
     return auditorStub.withDeadlineAfter(deadlineDurationMillis, TimeUnit.MILLISECONDS);
   }
 
+  private AuditorGrpc.AuditorFutureStub getAuditorFutureStub() {
+    return auditorFutureStub.withDeadlineAfter(deadlineDurationMillis, TimeUnit.MILLISECONDS);
+  }
+
   private AuditorPrivilegedGrpc.AuditorPrivilegedBlockingStub getAuditorPrivilegedStub() {
     return auditorPrivilegedStub.withDeadlineAfter(deadlineDurationMillis, TimeUnit.MILLISECONDS);
   }
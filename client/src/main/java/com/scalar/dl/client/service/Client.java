@@ -1,5 +1,9 @@
 package com.scalar.dl.client.service;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.scalar.dl.client.exception.ClientException;
 import com.scalar.dl.ledger.exception.LedgerException;
 import com.scalar.dl.ledger.service.StatusCode;
@@ -16,6 +20,8 @@ import com.scalar.dl.rpc.SecretRegistrationRequest;
 import com.scalar.dl.rpc.Status;
 import io.grpc.Metadata;
 import io.grpc.protobuf.ProtoUtils;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import javax.json.Json;
 import javax.json.JsonObject;
 
@@ -57,6 +63,10 @@ public interface Client {
   }
 
   default void throwExceptionWithStatusCode(Exception e) {
+    throw toClientException(e);
+  }
+
+  default ClientException toClientException(Throwable e) {
     StatusCode code = StatusCode.UNKNOWN_TRANSACTION_STATUS;
     String message = e.getMessage();
     if (e instanceof LedgerException) {
@@ -71,7 +81,59 @@ public interface Client {
         message = status.getMessage();
       }
     }
-    throw new ClientException(message, e, code);
+    return new ClientException(message, e, code);
+  }
+
+  /**
+   * Converts the specified {@code ListenableFuture} of a gRPC future stub to a {@code
+   * CompletableFuture}. A failure is converted to a {@link ClientException} in the same way as the
+   * blocking calls, and cancelling the returned future cancels the RPC.
+   *
+   * <p>Note that the returned future is completed in a gRPC thread, so the dependent stages must
+   * not block.
+   */
+  default <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> future) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Futures.addCallback(
+        future,
+        new FutureCallback<T>() {
+          @Override
+          public void onSuccess(T response) {
+            result.complete(response);
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            result.completeExceptionally(toClientException(t));
+          }
+        },
+        MoreExecutors.directExecutor());
+    result.whenComplete(
+        (r, e) -> {
+          if (result.isCancelled()) {
+            future.cancel(true);
+          }
+        });
+    return result;
+  }
+
+  /**
+   * Makes the specified dependent stage cancel the specified upstream future when it is cancelled,
+   * since cancelling a dependent stage of a {@code CompletableFuture} is not propagated to the
+   * stages it depends on.
+   *
+   * @param dependent a stage that depends on the upstream future
+   * @param upstream a future of an RPC, typically returned by {@link #toCompletableFuture}
+   * @return the dependent stage
+   */
+  default <T> CompletableFuture<T> cancelling(CompletableFuture<T> dependent, Future<?> upstream) {
+    dependent.whenComplete(
+        (r, e) -> {
+          if (dependent.isCancelled()) {
+            upstream.cancel(true);
+          }
+        });
+    return dependent;
   }
 
   default JsonObject toJsonObject(String json) {
@@ -20,6 +20,7 @@ import com.scalar.dl.client.util.Common;
 import com.scalar.dl.client.util.RequestSigner;
 import com.scalar.dl.client.validation.contract.v1_1_0.ValidateLedger;
 import com.scalar.dl.ledger.config.AuthenticationMethod;
+import com.scalar.dl.ledger.model.ContractExecutionItemResult;
 import com.scalar.dl.ledger.model.ContractExecutionResult;
 import com.scalar.dl.ledger.model.LedgerValidationResult;
 import com.scalar.dl.ledger.model.TransactionStatePurgeResult;
@@ -39,10 +40,12 @@ import com.scalar.dl.rpc.NamespacesListingRequest;
 import com.scalar.dl.rpc.SecretRegistrationRequest;
 import com.scalar.dl.rpc.SignedFunctionRegistrationRequest;
 import com.scalar.dl.rpc.TransactionStatePurgeRequest;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import javax.json.Json;
@@ -966,6 +969,75 @@ public class ClientService implements AutoCloseable {
       List<String> functionIds,
       @Nullable String functionArgument) {
     checkClientMode(ClientMode.CLIENT);
+    ContractExecutionRequest request =
+        createExecutionRequest(nonce, contractId, contractArgument, functionIds, functionArgument);
+
+    return handler.executeContract(request);
+  }
+
+  /**
+   * Executes the specified contracts with the specified arguments in a batch. Each contract is
+   * signed and executed independently, so a failure of one doesn't affect the others. The results
+   * are returned in the same order as the specified items.
+   *
+   * <p>When Auditor is not enabled, the whole batch is sent to Ledger in one request, which saves
+   * the round trips of executing the contracts one by one. Otherwise, the contracts are executed
+   * one by one since each of them needs to be ordered and validated by Auditor.
+   *
+   * @param items a list of {@link ContractExecutionItem}s
+   * @return a list of {@link ContractExecutionItemResult}s
+   * @throws ClientException if the batch request itself fails for some reason
+   */
+  public List<ContractExecutionItemResult> executeContracts(List<ContractExecutionItem> items) {
+    checkClientMode(ClientMode.CLIENT);
+    checkArgument(items != null, ClientError.SERVICE_CONTRACT_ITEMS_CANNOT_BE_NULL.buildMessage());
+
+    List<ContractExecutionRequest> requests = new ArrayList<>(items.size());
+    for (ContractExecutionItem item : items) {
+      requests.add(createExecutionRequest(item));
+    }
+
+    return handler.executeContracts(requests);
+  }
+
+  /**
+   * Executes the specified contract with the specified argument without blocking the calling
+   * thread, so that many executions can be in flight without a thread for each of them. The
+   * execution is ordered and validated by Auditor in the same way as {@code executeContract} if
+   * Auditor is enabled.
+   *
+   * <p>The returned future is completed in a thread of the underlying gRPC channel, so the
+   * dependent stages must not block; use the async variants of the {@code CompletableFuture}
+   * methods with an executor for blocking work.
+   *
+   * @param item a {@link ContractExecutionItem}
+   * @return a {@code CompletableFuture} of {@link ContractExecutionResult}, which is completed
+   *     exceptionally with a {@link ClientException} if the request fails for some reason
+   */
+  public CompletableFuture<ContractExecutionResult> executeContractAsync(
+      ContractExecutionItem item) {
+    checkClientMode(ClientMode.CLIENT);
+    return handler.executeContractAsync(createExecutionRequest(item));
+  }
+
+  private ContractExecutionRequest createExecutionRequest(ContractExecutionItem item) {
+    String nonce = UUID.randomUUID().toString();
+    String argument =
+        Argument.format(
+            item.getContractArgument(),
+            nonce,
+            config.getContextNamespace(),
+            Collections.emptyList());
+    return createExecutionRequest(
+        nonce, item.getContractId(), argument, Collections.emptyList(), null);
+  }
+
+  private ContractExecutionRequest createExecutionRequest(
+      String nonce,
+      String contractId,
+      String contractArgument,
+      List<String> functionIds,
+      @Nullable String functionArgument) {
     checkArgument(
         contractId != null, ClientError.SERVICE_CONTRACT_ID_CANNOT_BE_NULL.buildMessage());
     checkArgument(
@@ -989,9 +1061,7 @@ public class ClientService implements AutoCloseable {
     if (functionArgument != null) {
       builder.setFunctionArgument(functionArgument);
     }
-    ContractExecutionRequest request = signer.sign(builder).build();
-
-    return handler.executeContract(request);
+    return signer.sign(builder).build();
   }
 
   /**
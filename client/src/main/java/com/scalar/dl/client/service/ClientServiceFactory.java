@@ -8,8 +8,10 @@ import com.scalar.dl.client.config.GatewayClientConfig;
 import com.scalar.dl.client.config.HmacIdentityConfig;
 import com.scalar.dl.client.util.RequestSigner;
 import com.scalar.dl.ledger.config.TargetConfig;
+import com.scalar.dl.ledger.config.TracingConfig;
 import com.scalar.dl.ledger.crypto.DigitalSignatureSigner;
 import com.scalar.dl.ledger.crypto.HmacSigner;
+import com.scalar.dl.ledger.trace.Tracer;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.concurrent.ThreadSafe;
@@ -30,6 +32,7 @@ public class ClientServiceFactory {
   private final Map<DigitalSignatureIdentityConfig, RequestSigner> dsSigners =
       new ConcurrentHashMap<>();
   private final Map<HmacIdentityConfig, RequestSigner> hmacSigners = new ConcurrentHashMap<>();
+  private final Map<TracingConfig, Tracer> tracers = new ConcurrentHashMap<>();
 
   /**
    * @param config a client config.
@@ -83,7 +86,10 @@ public class ClientServiceFactory {
           auditorClients.computeIfAbsent(
               config.getAuditorTargetConfig(), this::createAuditorClient);
     }
-    ClientServiceHandler handler = new DefaultClientServiceHandler(ledgerClient, auditorClient);
+    // Tracer is reused if the specified tracing config is the same
+    Tracer tracer = tracers.computeIfAbsent(config.getTracingConfig(), Tracer::create);
+    ClientServiceHandler handler =
+        new DefaultClientServiceHandler(ledgerClient, auditorClient, tracer);
 
     return createClientService(config, handler, autoBootstrapEnabled);
   }
@@ -169,6 +175,7 @@ public class ClientServiceFactory {
     ledgerClients.values().forEach(Client::shutdown);
     auditorClients.values().forEach(Client::shutdown);
     gatewayClients.values().forEach(Client::shutdown);
+    tracers.values().forEach(Tracer::close);
   }
 
   private ClientService createClientService(
@@ -1,6 +1,7 @@
 package com.scalar.dl.client.service;
 
 import com.scalar.dl.client.exception.ClientException;
+import com.scalar.dl.ledger.model.ContractExecutionItemResult;
 import com.scalar.dl.ledger.model.ContractExecutionResult;
 import com.scalar.dl.ledger.model.LedgerValidationResult;
 import com.scalar.dl.ledger.model.TransactionStatePurgeResult;
@@ -16,6 +17,8 @@ import com.scalar.dl.rpc.NamespacesListingRequest;
 import com.scalar.dl.rpc.SecretRegistrationRequest;
 import com.scalar.dl.rpc.SignedFunctionRegistrationRequest;
 import com.scalar.dl.rpc.TransactionStatePurgeRequest;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.json.JsonObject;
 
 public interface ClientServiceHandler {
@@ -80,6 +83,26 @@ public interface ClientServiceHandler {
    */
   ContractExecutionResult executeContract(ContractExecutionRequest request);
 
+  /**
+   * Executes the specified contract with the specified {@code ContractExecutionRequest} without
+   * blocking the calling thread.
+   *
+   * @param request a {@code ContractExecutionRequest}.
+   * @return a {@code CompletableFuture} of {@link ContractExecutionResult}, which is completed
+   *     exceptionally with a {@link ClientException} if the request fails for some reason
+   */
+  CompletableFuture<ContractExecutionResult> executeContractAsync(ContractExecutionRequest request);
+
+  /**
+   * Executes the contracts with the specified {@code ContractExecutionRequest}s. Each request is
+   * executed independently and its failure is reported in the corresponding result.
+   *
+   * @param requests a list of {@code ContractExecutionRequest}s.
+   * @return a list of {@link ContractExecutionItemResult}s in the same order as the requests
+   * @throws ClientException if the batch request itself fails for some reason
+   */
+  List<ContractExecutionItemResult> executeContracts(List<ContractExecutionRequest> requests);
+
   /**
    * Validates the specified asset in the ledger with the specified {@code LedgerValidationRequest}.
    *
@@ -0,0 +1,74 @@
+package com.scalar.dl.client.service;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.scalar.dl.client.error.ClientError;
+import javax.annotation.concurrent.Immutable;
+import javax.json.JsonObject;
+
+/**
+ * A pair of a contract ID and its argument to be executed in a batch with {@link
+ * ClientService#executeContracts(java.util.List)} or asynchronously with {@link
+ * ClientService#executeContractAsync(ContractExecutionItem)}. The argument has to match the type of
+ * the contract in the same way as the corresponding {@code executeContract} methods.
+ */
+@Immutable
+public final class ContractExecutionItem {
+  private final String contractId;
+  private final Object contractArgument;
+
+  private ContractExecutionItem(String contractId, Object contractArgument) {
+    checkArgument(
+        contractId != null, ClientError.SERVICE_CONTRACT_ID_CANNOT_BE_NULL.buildMessage());
+    checkArgument(
+        contractArgument != null,
+        ClientError.SERVICE_CONTRACT_ARGUMENT_CANNOT_BE_NULL.buildMessage());
+    this.contractId = contractId;
+    this.contractArgument = contractArgument;
+  }
+
+  /**
+   * Returns a {@code ContractExecutionItem} for a contract based on Jackson (i.e., {@code
+   * JacksonBasedContract}).
+   *
+   * @param contractId an ID of the contract
+   * @param contractArgument an argument of the contract
+   * @return a {@code ContractExecutionItem}
+   */
+  public static ContractExecutionItem of(String contractId, JsonNode contractArgument) {
+    return new ContractExecutionItem(contractId, contractArgument);
+  }
+
+  /**
+   * Returns a {@code ContractExecutionItem} for a contract based on JSONP (i.e., {@code
+   * JsonpBasedContract}).
+   *
+   * @param contractId an ID of the contract
+   * @param contractArgument an argument of the contract
+   * @return a {@code ContractExecutionItem}
+   */
+  public static ContractExecutionItem of(String contractId, JsonObject contractArgument) {
+    return new ContractExecutionItem(contractId, contractArgument);
+  }
+
+  /**
+   * Returns a {@code ContractExecutionItem} for a contract based on String (i.e., {@code
+   * StringBasedContract}).
+   *
+   * @param contractId an ID of the contract
+   * @param contractArgument an argument of the contract
+   * @return a {@code ContractExecutionItem}
+   */
+  public static ContractExecutionItem of(String contractId, String contractArgument) {
+    return new ContractExecutionItem(contractId, contractArgument);
+  }
+
+  String getContractId() {
+    return contractId;
+  }
+
+  Object getContractArgument() {
+    return contractArgument;
+  }
+}
@@ -5,11 +5,14 @@ import com.google.inject.Inject;
 import com.scalar.dl.client.error.ClientError;
 import com.scalar.dl.client.exception.ClientException;
 import com.scalar.dl.ledger.exception.ValidationException;
+import com.scalar.dl.ledger.model.ContractExecutionItemResult;
 import com.scalar.dl.ledger.model.ContractExecutionResult;
 import com.scalar.dl.ledger.model.LedgerValidationResult;
 import com.scalar.dl.ledger.model.TransactionStatePurgeResult;
 import com.scalar.dl.ledger.service.StatusCode;
 import com.scalar.dl.ledger.statemachine.AssetKey;
+import com.scalar.dl.ledger.trace.Span;
+import com.scalar.dl.ledger.trace.Tracer;
 import com.scalar.dl.rpc.AssetProof;
 import com.scalar.dl.rpc.CertificateRegistrationRequest;
 import com.scalar.dl.rpc.ContractExecutionRequest;
@@ -26,14 +29,27 @@ import com.scalar.dl.rpc.NamespacesListingRequest;
 import com.scalar.dl.rpc.SecretRegistrationRequest;
 import com.scalar.dl.rpc.SignedFunctionRegistrationRequest;
 import com.scalar.dl.rpc.TransactionStatePurgeRequest;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
 import javax.json.JsonObject;
 
 public class DefaultClientServiceHandler implements ClientServiceHandler {
+  static final String EXECUTE_CONTRACT = "execute_contract";
+  static final String ORDER = "order";
+  static final String VALIDATE = "validate";
+  private static final String CONTRACT_ID_ATTRIBUTE = "contract_id";
   private final AbstractLedgerClient client;
   private final AbstractAuditorClient auditorClient;
+  private final Tracer tracer;
 
   /**
    * Constructs a {@code BaseClientService} with the specified {@link AbstractLedgerClient} and
@@ -45,8 +61,24 @@ public class DefaultClientServiceHandler implements ClientServiceHandler {
   @Inject
   public DefaultClientServiceHandler(
       AbstractLedgerClient client, @Nullable AbstractAuditorClient auditorClient) {
+    this(client, auditorClient, Tracer.noop());
+  }
+
+  /**
+   * Constructs a {@code DefaultClientServiceHandler} with the specified {@link
+   * AbstractLedgerClient}, {@link AbstractAuditorClient} and {@link Tracer}. A contract execution
+   * is traced with its ordering and validation by Auditor as child spans, and the trace context is
+   * propagated to the servers.
+   *
+   * @param client a client for the ledger server
+   * @param auditorClient a client for the auditor server
+   * @param tracer a tracer of requests
+   */
+  public DefaultClientServiceHandler(
+      AbstractLedgerClient client, @Nullable AbstractAuditorClient auditorClient, Tracer tracer) {
     this.client = client;
     this.auditorClient = auditorClient;
+    this.tracer = tracer;
   }
 
   /**
@@ -130,8 +162,94 @@ public class DefaultClientServiceHandler implements ClientServiceHandler {
    */
   @Override
   public ContractExecutionResult executeContract(ContractExecutionRequest request) {
-    ContractExecutionRequest ordered = order(request);
-    return client.execute(ordered, r -> validate(ordered, r));
+    Span span =
+        tracer
+            .startSpan(EXECUTE_CONTRACT)
+            .setAttribute(CONTRACT_ID_ATTRIBUTE, request.getContractId());
+    try {
+      ContractExecutionRequest ordered = order(request);
+      return client.execute(ordered, r -> validate(ordered, r));
+    } catch (RuntimeException e) {
+      span.setError(e);
+      throw e;
+    } finally {
+      span.close();
+    }
+  }
+
+  /**
+   * Executes the specified contract with the specified {@code ContractExecutionRequest} without
+   * blocking the calling thread. If Auditor is configured, the request is ordered by Auditor,
+   * executed by Ledger, and validated by Auditor, in the same way as {@link #executeContract}, by
+   * chaining the asynchronous calls. Cancelling the returned future cancels the call in flight,
+   * and the calls of the later steps are not started.
+   *
+   * @param request a {@code ContractExecutionRequest}.
+   * @return a {@code CompletableFuture} of {@link ContractExecutionResult}
+   */
+  @Override
+  public CompletableFuture<ContractExecutionResult> executeContractAsync(
+      ContractExecutionRequest request) {
+    // The span is continued on the threads that complete the calls, so the ordering, the execution
+    // and the validation are traced as in executeContract
+    Span span =
+        tracer
+            .startDetachedSpan(EXECUTE_CONTRACT)
+            .setAttribute(CONTRACT_ID_ATTRIBUTE, request.getContractId());
+    Cancellation cancellation = new Cancellation();
+    CompletableFuture<ContractExecutionResult> future;
+    try {
+      future =
+          inSpan(span, () -> orderAsync(request, cancellation))
+              .thenCompose(ordered -> executeAsync(span, ordered, cancellation));
+    } catch (RuntimeException e) {
+      span.setError(e).close();
+      throw e;
+    }
+    CompletableFuture<ContractExecutionResult> result =
+        future.whenComplete(
+            (r, e) -> {
+              if (e != null) {
+                span.setError(e instanceof CompletionException ? e.getCause() : e);
+              }
+              span.close();
+            });
+    // Cancelling a dependent stage is not propagated to the stages it depends on, so the call in
+    // flight is cancelled explicitly
+    result.whenComplete(
+        (r, e) -> {
+          if (result.isCancelled()) {
+            cancellation.cancel();
+          }
+        });
+    return result;
+  }
+
+  /**
+   * Executes the contracts with the specified {@code ContractExecutionRequest}s. The requests are
+   * sent to Ledger in one batch if Auditor is not configured. Otherwise, they are executed one by
+   * one since each of them has to be ordered and validated by Auditor.
+   *
+   * @param requests a list of {@code ContractExecutionRequest}s.
+   * @return a list of {@link ContractExecutionItemResult}s in the same order as the requests
+   * @throws ClientException if the batch request itself fails for some reason
+   */
+  @Override
+  public List<ContractExecutionItemResult> executeContracts(
+      List<ContractExecutionRequest> requests) {
+    if (auditorClient == null) {
+      return client.execute(requests);
+    }
+
+    List<ContractExecutionItemResult> results = new ArrayList<>(requests.size());
+    for (ContractExecutionRequest request : requests) {
+      try {
+        results.add(ContractExecutionItemResult.succeeded(executeContract(request)));
+      } catch (ClientException e) {
+        results.add(ContractExecutionItemResult.failed(e.getStatusCode(), e.getMessage()));
+      }
+    }
+    return results;
   }
 
   /**
@@ -241,31 +359,102 @@ public class DefaultClientServiceHandler implements ClientServiceHandler {
       return request;
     }
 
-    ExecutionOrderingResponse response = auditorClient.order(request);
+    ExecutionOrderingResponse response;
+    try (Span unused = tracer.startSpan(ORDER)) {
+      response = auditorClient.order(request);
+    }
 
     return ContractExecutionRequest.newBuilder(request)
         .setAuditorSignature(response.getSignature())
         .build();
   }
 
+  private CompletableFuture<ContractExecutionRequest> orderAsync(
+      ContractExecutionRequest request, Cancellation cancellation) {
+    if (auditorClient == null) {
+      return CompletableFuture.completedFuture(request);
+    }
+
+    return traceAsync(ORDER, () -> cancellation.track(() -> auditorClient.orderAsync(request)))
+        .thenApply(
+            response ->
+                ContractExecutionRequest.newBuilder(request)
+                    .setAuditorSignature(response.getSignature())
+                    .build());
+  }
+
   private ContractExecutionResponse validate(
       ContractExecutionRequest request, ContractExecutionResponse ledgerResponse) {
     if (auditorClient == null) {
       return null;
     }
-    ExecutionValidationRequest req =
-        ExecutionValidationRequest.newBuilder()
-            .setRequest(request)
-            .addAllProofs(ledgerResponse.getProofsList())
-            .build();
 
-    ContractExecutionResponse auditorResponse = auditorClient.validate(req);
+    ContractExecutionResponse auditorResponse;
+    try (Span unused = tracer.startSpan(VALIDATE)) {
+      auditorResponse = auditorClient.validate(createValidationRequest(request, ledgerResponse));
+    }
 
     validateResponses(ledgerResponse, auditorResponse);
 
     return auditorResponse;
   }
 
+  private CompletableFuture<ContractExecutionResponse> validateAsync(
+      ContractExecutionRequest request,
+      ContractExecutionResponse ledgerResponse,
+      Cancellation cancellation) {
+    if (auditorClient == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    ExecutionValidationRequest validationRequest = createValidationRequest(request, ledgerResponse);
+    return traceAsync(
+            VALIDATE,
+            () -> cancellation.track(() -> auditorClient.validateAsync(validationRequest)))
+        .thenApply(
+            auditorResponse -> {
+              validateResponses(ledgerResponse, auditorResponse);
+              return auditorResponse;
+            });
+  }
+
+  private CompletableFuture<ContractExecutionResult> executeAsync(
+      Span span, ContractExecutionRequest ordered, Cancellation cancellation) {
+    return inSpan(
+        span,
+        () ->
+            cancellation.track(
+                () ->
+                    client.executeAsync(
+                        ordered,
+                        r -> inSpan(span, () -> validateAsync(ordered, r, cancellation)))));
+  }
+
+  private <T> CompletableFuture<T> traceAsync(String name, Supplier<CompletableFuture<T>> call) {
+    Span span = tracer.startDetachedSpan(name);
+    try {
+      return inSpan(span, call).whenComplete((r, e) -> span.close());
+    } catch (RuntimeException e) {
+      span.close();
+      throw e;
+    }
+  }
+
+  private <T> T inSpan(Span span, Supplier<T> supplier) {
+    // Makes the span the parent of the calls started on the current thread
+    try (Tracer.Scope unused = tracer.withSpan(span)) {
+      return supplier.get();
+    }
+  }
+
+  private ExecutionValidationRequest createValidationRequest(
+      ContractExecutionRequest request, ContractExecutionResponse ledgerResponse) {
+    return ExecutionValidationRequest.newBuilder()
+        .setRequest(request)
+        .addAllProofs(ledgerResponse.getProofsList())
+        .build();
+  }
+
   private void validateResponses(
       ContractExecutionResponse ledgerResponse, ContractExecutionResponse auditorResponse) {
     Runnable throwError =
@@ -294,6 +483,39 @@ public class DefaultClientServiceHandler implements ClientServiceHandler {
             });
   }
 
+  /**
+   * Keeps the call in flight of an asynchronous contract execution so that cancelling the execution
+   * cancels the call, and the calls of the later steps are not started.
+   */
+  @ThreadSafe
+  private static class Cancellation {
+    private final AtomicReference<Future<?>> inFlight = new AtomicReference<>();
+    private volatile boolean cancelled;
+
+    <T> CompletableFuture<T> track(Supplier<CompletableFuture<T>> call) {
+      if (cancelled) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.cancel(false);
+        return future;
+      }
+      CompletableFuture<T> future = call.get();
+      inFlight.set(future);
+      // Checked again since the execution may be cancelled while the call is started
+      if (cancelled) {
+        future.cancel(true);
+      }
+      return future;
+    }
+
+    void cancel() {
+      cancelled = true;
+      Future<?> future = inFlight.get();
+      if (future != null) {
+        future.cancel(true);
+      }
+    }
+  }
+
   @VisibleForTesting
   AbstractLedgerClient getLedgerClient() {
     return client;
@@ -34,6 +34,7 @@ import io.grpc.ManagedChannel;
 import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.concurrent.Immutable;
 import javax.json.Json;
@@ -44,6 +45,7 @@ public class GatewayClient extends AbstractGatewayClient {
   private final ManagedChannel channel;
   private final ManagedChannel privilegedChannel;
   private final GatewayGrpc.GatewayBlockingStub gatewayStub;
+  private final GatewayGrpc.GatewayFutureStub gatewayFutureStub;
   private final GatewayPrivilegedGrpc.GatewayPrivilegedBlockingStub gatewayPrivilegedStub;
   private final long deadlineDurationMillis;
 
@@ -56,6 +58,7 @@ public class GatewayClient extends AbstractGatewayClient {
     RpcUtil.configureDataSize(builder, config);
     channel = builder.build();
     gatewayStub = GatewayGrpc.newBlockingStub(channel);
+    gatewayFutureStub = GatewayGrpc.newFutureStub(channel);
 
     NettyChannelBuilder privilegedBuilder =
         NettyChannelBuilder.forAddress(config.getTargetHost(), config.getTargetPrivilegedPort());
@@ -73,9 +76,19 @@ public class GatewayClient extends AbstractGatewayClient {
       TargetConfig config,
       GatewayGrpc.GatewayBlockingStub gatewayStub,
       GatewayPrivilegedGrpc.GatewayPrivilegedBlockingStub gatewayPrivilegedStub) {
+    this(config, gatewayStub, null, gatewayPrivilegedStub);
+  }
+
+  @VisibleForTesting
+  GatewayClient(
+      TargetConfig config,
+      GatewayGrpc.GatewayBlockingStub gatewayStub,
+      GatewayGrpc.GatewayFutureStub gatewayFutureStub,
+      GatewayPrivilegedGrpc.GatewayPrivilegedBlockingStub gatewayPrivilegedStub) {
     this.channel = null;
     this.privilegedChannel = null;
     this.gatewayStub = gatewayStub;
+    this.gatewayFutureStub = gatewayFutureStub;
     this.gatewayPrivilegedStub = gatewayPrivilegedStub;
     assert config.getGrpcClientConfig() != null;
     deadlineDurationMillis = config.getGrpcClientConfig().getDeadlineDurationMillis();
@@ -169,18 +182,7 @@ public class GatewayClient extends AbstractGatewayClient {
   @Override
   public ContractExecutionResult execute(ContractExecutionRequest request) {
     try {
-      ContractExecutionResponse response = getGatewayStub().executeContract(request);
-
-      String contractResult =
-          response.getContractResult().isEmpty() ? null : response.getContractResult();
-      String functionResult =
-          response.getFunctionResult().isEmpty() ? null : response.getFunctionResult();
-      List<AssetProof> proofs = new ArrayList<>();
-      response.getProofsList().forEach(p -> proofs.add(new AssetProof(p)));
-
-      // In gateway, we can guarantee Ledger's proofs and Auditor's proofs are same, at this point.
-      // So, we just return the same proofs here.
-      return new ContractExecutionResult(contractResult, functionResult, proofs, proofs);
+      return toResult(getGatewayStub().executeContract(request));
     } catch (Exception e) {
       throwExceptionWithStatusCode(e);
     }
@@ -188,6 +190,26 @@ public class GatewayClient extends AbstractGatewayClient {
     return new ContractExecutionResult(null, null, null, null);
   }
 
+  @Override
+  public CompletableFuture<ContractExecutionResult> executeAsync(ContractExecutionRequest request) {
+    CompletableFuture<ContractExecutionResponse> call =
+        toCompletableFuture(getGatewayFutureStub().executeContract(request));
+    return cancelling(call.thenApply(this::toResult), call);
+  }
+
+  private ContractExecutionResult toResult(ContractExecutionResponse response) {
+    String contractResult =
+        response.getContractResult().isEmpty() ? null : response.getContractResult();
+    String functionResult =
+        response.getFunctionResult().isEmpty() ? null : response.getFunctionResult();
+    List<AssetProof> proofs = new ArrayList<>();
+    response.getProofsList().forEach(p -> proofs.add(new AssetProof(p)));
+
+    // In gateway, we can guarantee Ledger's proofs and Auditor's proofs are same, at this point.
+    // So, we just return the same proofs here.
+    return new ContractExecutionResult(contractResult, functionResult, proofs, proofs);
+  }
+
   @Override
   public LedgerValidationResult validate(LedgerValidationRequest request) {
     try {
@@ -252,6 +274,10 @@ public class GatewayClient extends AbstractGatewayClient {
     return gatewayStub.withDeadlineAfter(deadlineDurationMillis, TimeUnit.MILLISECONDS);
   }
 
+  private GatewayGrpc.GatewayFutureStub getGatewayFutureStub() {
+    return gatewayFutureStub.withDeadlineAfter(deadlineDurationMillis, TimeUnit.MILLISECONDS);
+  }
+
   private GatewayPrivilegedGrpc.GatewayPrivilegedBlockingStub getGatewayPrivilegedStub() {
     return gatewayPrivilegedStub.withDeadlineAfter(deadlineDurationMillis, TimeUnit.MILLISECONDS);
   }
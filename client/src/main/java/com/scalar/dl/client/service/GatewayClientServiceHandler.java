@@ -2,6 +2,7 @@ package com.scalar.dl.client.service;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.scalar.dl.client.exception.ClientException;
+import com.scalar.dl.ledger.model.ContractExecutionItemResult;
 import com.scalar.dl.ledger.model.ContractExecutionResult;
 import com.scalar.dl.ledger.model.LedgerValidationResult;
 import com.scalar.dl.ledger.model.TransactionStatePurgeResult;
@@ -17,6 +18,9 @@ import com.scalar.dl.rpc.NamespacesListingRequest;
 import com.scalar.dl.rpc.SecretRegistrationRequest;
 import com.scalar.dl.rpc.SignedFunctionRegistrationRequest;
 import com.scalar.dl.rpc.TransactionStatePurgeRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.json.JsonObject;
 
 public class GatewayClientServiceHandler implements ClientServiceHandler {
@@ -113,6 +117,41 @@ public class GatewayClientServiceHandler implements ClientServiceHandler {
     return client.execute(request);
   }
 
+  /**
+   * Executes the specified contract with the specified {@code ContractExecutionRequest} without
+   * blocking the calling thread.
+   *
+   * @param request a {@code ContractExecutionRequest}.
+   * @return a {@code CompletableFuture} of {@link ContractExecutionResult}
+   */
+  @Override
+  public CompletableFuture<ContractExecutionResult> executeContractAsync(
+      ContractExecutionRequest request) {
+    return client.executeAsync(request);
+  }
+
+  /**
+   * Executes the contracts with the specified {@code ContractExecutionRequest}s. Gateway doesn't
+   * support batched execution, so the requests are sent one by one.
+   *
+   * @param requests a list of {@code ContractExecutionRequest}s.
+   * @return a list of {@link ContractExecutionItemResult}s in the same order as the requests
+   * @throws ClientException if a request fails for some reason
+   */
+  @Override
+  public List<ContractExecutionItemResult> executeContracts(
+      List<ContractExecutionRequest> requests) {
+    List<ContractExecutionItemResult> results = new ArrayList<>(requests.size());
+    for (ContractExecutionRequest request : requests) {
+      try {
+        results.add(ContractExecutionItemResult.succeeded(client.execute(request)));
+      } catch (ClientException e) {
+        results.add(ContractExecutionItemResult.failed(e.getStatusCode(), e.getMessage()));
+      }
+    }
+    return results;
+  }
+
   /**
    * Validates the specified asset in the ledger with the specified {@code LedgerValidationRequest}.
    *
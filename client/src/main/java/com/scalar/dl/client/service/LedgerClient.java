@@ -7,6 +7,7 @@ import com.scalar.dl.client.exception.ClientException;
 import com.scalar.dl.client.rpc.RpcUtil;
 import com.scalar.dl.ledger.config.TargetConfig;
 import com.scalar.dl.ledger.database.TransactionState;
+import com.scalar.dl.ledger.model.ContractExecutionItemResult;
 import com.scalar.dl.ledger.model.ContractExecutionResult;
 import com.scalar.dl.ledger.model.LedgerValidationResult;
 import com.scalar.dl.ledger.proof.AssetProof;
@@ -20,6 +21,8 @@ import com.scalar.dl.rpc.CertificateRegistrationRequest;
 import com.scalar.dl.rpc.ContractExecutionRequest;
 import com.scalar.dl.rpc.ContractExecutionResponse;
 import com.scalar.dl.rpc.ContractRegistrationRequest;
+import com.scalar.dl.rpc.ContractsExecutionRequest;
+import com.scalar.dl.rpc.ContractsExecutionResponse;
 import com.scalar.dl.rpc.ContractsListingRequest;
 import com.scalar.dl.rpc.ExecutionAbortRequest;
 import com.scalar.dl.rpc.ExecutionAbortResponse;
@@ -39,8 +42,12 @@ import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import javax.json.Json;
 import javax.json.JsonObject;
@@ -50,6 +57,7 @@ public class LedgerClient extends AbstractLedgerClient {
   private final ManagedChannel channel;
   private final ManagedChannel privilegedChannel;
   private final LedgerGrpc.LedgerBlockingStub ledgerStub;
+  private final LedgerGrpc.LedgerFutureStub ledgerFutureStub;
   private final LedgerPrivilegedGrpc.LedgerPrivilegedBlockingStub ledgerPrivilegedStub;
   private final long deadlineDurationMillis;
 
@@ -62,6 +70,7 @@ public class LedgerClient extends AbstractLedgerClient {
     RpcUtil.configureDataSize(builder, config);
     channel = builder.build();
     ledgerStub = LedgerGrpc.newBlockingStub(channel);
+    ledgerFutureStub = LedgerGrpc.newFutureStub(channel);
 
     NettyChannelBuilder privilegedBuilder =
         NettyChannelBuilder.forAddress(config.getTargetHost(), config.getTargetPrivilegedPort());
@@ -79,9 +88,19 @@ public class LedgerClient extends AbstractLedgerClient {
       TargetConfig config,
       LedgerGrpc.LedgerBlockingStub ledgerStub,
       LedgerPrivilegedGrpc.LedgerPrivilegedBlockingStub ledgerPrivilegedStub) {
+    this(config, ledgerStub, null, ledgerPrivilegedStub);
+  }
+
+  @VisibleForTesting
+  LedgerClient(
+      TargetConfig config,
+      LedgerGrpc.LedgerBlockingStub ledgerStub,
+      LedgerGrpc.LedgerFutureStub ledgerFutureStub,
+      LedgerPrivilegedGrpc.LedgerPrivilegedBlockingStub ledgerPrivilegedStub) {
     this.channel = null;
     this.privilegedChannel = null;
     this.ledgerStub = ledgerStub;
+    this.ledgerFutureStub = ledgerFutureStub;
     this.ledgerPrivilegedStub = ledgerPrivilegedStub;
     assert config.getGrpcClientConfig() != null;
     deadlineDurationMillis = config.getGrpcClientConfig().getDeadlineDurationMillis();
@@ -184,23 +203,7 @@ public class LedgerClient extends AbstractLedgerClient {
     try {
       ContractExecutionResponse response = getLedgerStub().executeContract(request);
       ContractExecutionResponse auditorResponse = auditingHook.apply(response);
-
-      String contractResult =
-          response.getContractResult().isEmpty() ? null : response.getContractResult();
-      String functionResult =
-          response.getFunctionResult().isEmpty() ? null : response.getFunctionResult();
-      List<AssetProof> proofs = new ArrayList<>();
-      response.getProofsList().forEach(p -> proofs.add(new AssetProof(p)));
-
-      List<AssetProof> auditorProofs = null;
-      if (auditorResponse != null) {
-        auditorProofs =
-            auditorResponse.getProofsList().stream()
-                .map(AssetProof::new)
-                .collect(Collectors.toList());
-      }
-
-      return new ContractExecutionResult(contractResult, functionResult, proofs, auditorProofs);
+      return toResult(response, auditorResponse);
     } catch (Exception e) {
       throwExceptionWithStatusCode(e);
     }
@@ -208,6 +211,54 @@ public class LedgerClient extends AbstractLedgerClient {
     return new ContractExecutionResult(null, null, null, null);
   }
 
+  @Override
+  public CompletableFuture<ContractExecutionResult> executeAsync(
+      ContractExecutionRequest request,
+      Function<ContractExecutionResponse, CompletableFuture<ContractExecutionResponse>>
+          auditingHook) {
+    CompletableFuture<ContractExecutionResponse> call =
+        toCompletableFuture(getLedgerFutureStub().executeContract(request));
+    CompletableFuture<ContractExecutionResult> result =
+        call.thenCompose(
+            response ->
+                auditingHook
+                    .apply(response)
+                    .handle(
+                        (auditorResponse, e) -> {
+                          if (e != null) {
+                            // Converted in the same way as a failure of the blocking hook
+                            throw toClientException(
+                                e instanceof CompletionException ? e.getCause() : e);
+                          }
+                          return toResult(response, auditorResponse);
+                        }));
+    return cancelling(result, call);
+  }
+
+  @Override
+  public List<ContractExecutionItemResult> execute(List<ContractExecutionRequest> requests) {
+    try {
+      ContractsExecutionResponse response =
+          getLedgerStub()
+              .executeContracts(
+                  ContractsExecutionRequest.newBuilder().addAllRequests(requests).build());
+      return response.getResultsList().stream()
+          .map(
+              r -> {
+                StatusCode code = StatusCode.get(r.getStatus().getCode());
+                if (code != StatusCode.OK) {
+                  return ContractExecutionItemResult.failed(code, r.getStatus().getMessage());
+                }
+                return ContractExecutionItemResult.succeeded(toResult(r.getResponse(), null));
+              })
+          .collect(Collectors.toList());
+    } catch (Exception e) {
+      throwExceptionWithStatusCode(e);
+    }
+    // Java compiler requires this line even though it won't come here
+    return new ArrayList<>();
+  }
+
   @Override
   public LedgerValidationResult validate(LedgerValidationRequest request) {
     try {
@@ -287,10 +338,34 @@ public class LedgerClient extends AbstractLedgerClient {
     return "";
   }
 
+  private ContractExecutionResult toResult(
+      ContractExecutionResponse response, @Nullable ContractExecutionResponse auditorResponse) {
+    String contractResult =
+        response.getContractResult().isEmpty() ? null : response.getContractResult();
+    String functionResult =
+        response.getFunctionResult().isEmpty() ? null : response.getFunctionResult();
+    List<AssetProof> proofs = new ArrayList<>();
+    response.getProofsList().forEach(p -> proofs.add(new AssetProof(p)));
+
+    List<AssetProof> auditorProofs = null;
+    if (auditorResponse != null) {
+      auditorProofs =
+          auditorResponse.getProofsList().stream()
+              .map(AssetProof::new)
+              .collect(Collectors.toList());
+    }
+
+    return new ContractExecutionResult(contractResult, functionResult, proofs, auditorProofs);
+  }
+
   private LedgerGrpc.LedgerBlockingStub getLedgerStub() {
     return ledgerStub.withDeadlineAfter(deadlineDurationMillis, TimeUnit.MILLISECONDS);
   }
 
+  private LedgerGrpc.LedgerFutureStub getLedgerFutureStub() {
+    return ledgerFutureStub.withDeadlineAfter(deadlineDurationMillis, TimeUnit.MILLISECONDS);
+  }
+
   private LedgerPrivilegedGrpc.LedgerPrivilegedBlockingStub getLedgerPrivilegedStub() {
     return ledgerPrivilegedStub.withDeadlineAfter(deadlineDurationMillis, TimeUnit.MILLISECONDS);
   }
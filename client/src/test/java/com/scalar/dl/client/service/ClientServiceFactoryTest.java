@@ -16,6 +16,7 @@ import com.scalar.dl.client.config.GatewayClientConfig;
 import com.scalar.dl.client.config.HmacIdentityConfig;
 import com.scalar.dl.client.util.RequestSigner;
 import com.scalar.dl.ledger.config.TargetConfig;
+import com.scalar.dl.ledger.config.TracingConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -35,6 +36,7 @@ public class ClientServiceFactoryTest {
   @BeforeEach
   public void setUp() {
     MockitoAnnotations.openMocks(this);
+    when(config.getTracingConfig()).thenReturn(TracingConfig.disabled());
     factory = spy(new ClientServiceFactory());
   }
 
@@ -196,6 +198,7 @@ public class ClientServiceFactoryTest {
     when(config2.isAuditorEnabled()).thenReturn(true);
     when(config.isAutoBootstrapEnabled()).thenReturn(false);
     when(config2.isAutoBootstrapEnabled()).thenReturn(false);
+    when(config2.getTracingConfig()).thenReturn(TracingConfig.disabled());
     doReturn(ledgerClient).when(factory).createLedgerClient(ledgerTargetConfig1);
     doReturn(auditorClient).when(factory).createAuditorClient(auditorTargetConfig1);
     doReturn(requestSigner).when(factory).createRequestSigner(digitalSignatureIdentityConfig1);
@@ -7,6 +7,7 @@ import static com.scalar.dl.client.validation.contract.v1_1_0.ValidateLedger.STA
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
@@ -27,6 +28,7 @@ import com.scalar.dl.client.exception.ClientException;
 import com.scalar.dl.client.util.RequestSigner;
 import com.scalar.dl.ledger.config.AuthenticationMethod;
 import com.scalar.dl.ledger.crypto.DigitalSignatureSigner;
+import com.scalar.dl.ledger.model.ContractExecutionItemResult;
 import com.scalar.dl.ledger.model.ContractExecutionResult;
 import com.scalar.dl.ledger.model.LedgerValidationResult;
 import com.scalar.dl.ledger.model.TransactionStatePurgeResult;
@@ -51,8 +53,11 @@ import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import javax.json.Json;
 import javax.json.JsonObject;
 import org.junit.jupiter.api.BeforeEach;
@@ -631,6 +636,70 @@ public class ClientServiceTest {
     assertThat(actual.getFunctionResult()).isEqualTo(Optional.of(ANY_FUNCTION_RESULT));
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void executeContracts_CorrectInputsGiven_ShouldSignEachAndExecuteInOneBatch() {
+    // Arrange
+    handler = new DefaultClientServiceHandler(client, null);
+    service = spy(new ClientService(config, handler, signer));
+    when(config.getClientMode()).thenReturn(ClientMode.CLIENT);
+    JsonObject argument = Json.createReader(new StringReader(ANY_CONTRACT_ARGUMENT)).readObject();
+    List<ContractExecutionItemResult> results =
+        Arrays.asList(
+            ContractExecutionItemResult.succeeded(
+                new ContractExecutionResult(ANY_CONTRACT_RESULT, null, null, null)),
+            ContractExecutionItemResult.failed(StatusCode.CONFLICT, "conflict"));
+    when(client.execute(anyList())).thenReturn(results);
+
+    // Act
+    List<ContractExecutionItemResult> actual =
+        service.executeContracts(
+            Arrays.asList(
+                ContractExecutionItem.of(ANY_CONTRACT_ID, argument),
+                ContractExecutionItem.of(ANY_CONTRACT_ID, argument)));
+
+    // Assert
+    ArgumentCaptor<List<ContractExecutionRequest>> captor = ArgumentCaptor.forClass(List.class);
+    verify(client).execute(captor.capture());
+    assertThat(captor.getValue()).hasSize(2);
+    assertThat(captor.getValue().get(0).getNonce())
+        .isNotEqualTo(captor.getValue().get(1).getNonce());
+    captor
+        .getValue()
+        .forEach(
+            r -> {
+              assertThat(r.getContractId()).isEqualTo(ANY_CONTRACT_ID);
+              assertThat(r.getSignature().isEmpty()).isFalse();
+            });
+    assertThat(actual).isEqualTo(results);
+  }
+
+  @Test
+  public void executeContractAsync_CorrectInputsGiven_ShouldSignAndExecuteAsynchronously() {
+    // Arrange
+    handler = new DefaultClientServiceHandler(client, null);
+    service = spy(new ClientService(config, handler, signer));
+    when(config.getClientMode()).thenReturn(ClientMode.CLIENT);
+    JsonObject argument = Json.createReader(new StringReader(ANY_CONTRACT_ARGUMENT)).readObject();
+    ContractExecutionResult result =
+        new ContractExecutionResult(ANY_CONTRACT_RESULT, null, null, null);
+    when(client.executeAsync(any(ContractExecutionRequest.class), any()))
+        .thenReturn(CompletableFuture.completedFuture(result));
+
+    // Act
+    ContractExecutionResult actual =
+        service.executeContractAsync(ContractExecutionItem.of(ANY_CONTRACT_ID, argument)).join();
+
+    // Assert
+    ArgumentCaptor<ContractExecutionRequest> captor =
+        ArgumentCaptor.forClass(ContractExecutionRequest.class);
+    verify(client).executeAsync(captor.capture(), any());
+    assertThat(captor.getValue().getContractId()).isEqualTo(ANY_CONTRACT_ID);
+    assertThat(captor.getValue().getSignature().isEmpty()).isFalse();
+    verify(client, never()).execute(any(ContractExecutionRequest.class), any());
+    assertThat(actual).isEqualTo(result);
+  }
+
   @Test
   public void executeContract_HmacAuthConfiguredAndCorrectInputsGiven_ShouldExecuteProperly() {
     // Arrange
@@ -3,14 +3,23 @@ package com.scalar.dl.client.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.protobuf.ByteString;
+import com.scalar.dl.client.exception.ClientException;
 import com.scalar.dl.ledger.exception.ValidationException;
+import com.scalar.dl.ledger.model.ContractExecutionItemResult;
 import com.scalar.dl.ledger.model.ContractExecutionResult;
+import com.scalar.dl.ledger.service.StatusCode;
 import com.scalar.dl.ledger.service.ThrowableFunction;
+import com.scalar.dl.ledger.trace.InMemorySpanExporter;
+import com.scalar.dl.ledger.trace.Span;
+import com.scalar.dl.ledger.trace.Tracer;
 import com.scalar.dl.rpc.AssetProof;
 import com.scalar.dl.rpc.ContractExecutionRequest;
 import com.scalar.dl.rpc.ContractExecutionResponse;
@@ -20,8 +29,14 @@ import com.scalar.dl.rpc.NamespaceCreationRequest;
 import com.scalar.dl.rpc.NamespaceDroppingRequest;
 import com.scalar.dl.rpc.NamespacesListingRequest;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -506,4 +521,220 @@ public class DefaultClientServiceHandlerTest {
     // Assert
     verify(ledgerClient).drop(request);
   }
+
+  @Test
+  public void executeContracts_AuditorNotConfigured_ShouldSendRequestsInOneBatch() {
+    // Arrange
+    handler = new DefaultClientServiceHandler(ledgerClient, null);
+    List<ContractExecutionRequest> requests =
+        Arrays.asList(
+            ContractExecutionRequest.newBuilder().setNonce("nonce1").build(),
+            ContractExecutionRequest.newBuilder().setNonce("nonce2").build());
+    List<ContractExecutionItemResult> expected =
+        Arrays.asList(
+            ContractExecutionItemResult.succeeded(
+                new ContractExecutionResult(ANY_CONTRACT_RESULT, null, null, null)),
+            ContractExecutionItemResult.failed(StatusCode.CONFLICT, "conflict"));
+    when(ledgerClient.execute(requests)).thenReturn(expected);
+
+    // Act
+    List<ContractExecutionItemResult> actual = handler.executeContracts(requests);
+
+    // Assert
+    assertThat(actual).isEqualTo(expected);
+    verify(ledgerClient).execute(requests);
+    verify(ledgerClient, never()).execute(any(ContractExecutionRequest.class), any());
+  }
+
+  @Test
+  public void executeContracts_AuditorConfigured_ShouldExecuteOneByOneAndReturnEachResult() {
+    // Arrange
+    ContractExecutionRequest request1 =
+        ContractExecutionRequest.newBuilder().setNonce("nonce1").build();
+    ContractExecutionRequest request2 =
+        ContractExecutionRequest.newBuilder().setNonce("nonce2").build();
+    ExecutionOrderingResponse orderingResponse = mock(ExecutionOrderingResponse.class);
+    when(orderingResponse.getSignature()).thenReturn(ByteString.EMPTY);
+    when(auditorClient.order(any(ContractExecutionRequest.class))).thenReturn(orderingResponse);
+    ContractExecutionResult result =
+        new ContractExecutionResult(ANY_CONTRACT_RESULT, null, null, null);
+    ClientException exception = new ClientException("conflict", StatusCode.CONFLICT);
+    when(ledgerClient.execute(any(ContractExecutionRequest.class), any()))
+        .thenReturn(result)
+        .thenThrow(exception);
+
+    // Act
+    List<ContractExecutionItemResult> actual =
+        handler.executeContracts(Arrays.asList(request1, request2));
+
+    // Assert
+    assertThat(actual)
+        .containsExactly(
+            ContractExecutionItemResult.succeeded(result),
+            ContractExecutionItemResult.failed(StatusCode.CONFLICT, "conflict"));
+    verify(auditorClient, times(2)).order(any(ContractExecutionRequest.class));
+    verify(ledgerClient, never()).execute(anyList());
+  }
+
+  @Test
+  public void executeContractAsync_SameProofsGiven_ShouldOrderExecuteAndValidateAsynchronously() {
+    // Arrange
+    ContractExecutionRequest request = ContractExecutionRequest.newBuilder().build();
+    ExecutionOrderingResponse orderingResponse =
+        ExecutionOrderingResponse.newBuilder().setSignature(ANY_HASH).build();
+    when(auditorClient.orderAsync(any(ContractExecutionRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(orderingResponse));
+    AssetProof proof =
+        AssetProof.newBuilder()
+            .setNamespace(DEFAULT_NAMESPACE)
+            .setAssetId(ASSET_ID_1)
+            .setAge(ANY_AGE)
+            .setHash(ANY_HASH)
+            .build();
+    ContractExecutionResponse response =
+        ContractExecutionResponse.newBuilder()
+            .setContractResult(ANY_CONTRACT_RESULT)
+            .addProofs(proof)
+            .build();
+    when(ledgerClient.executeAsync(any(ContractExecutionRequest.class), any()))
+        .thenAnswer(
+            invocation -> {
+              Function<ContractExecutionResponse, CompletableFuture<ContractExecutionResponse>>
+                  hook = invocation.getArgument(1);
+              return hook.apply(response)
+                  .thenApply(
+                      r -> new ContractExecutionResult(r.getContractResult(), null, null, null));
+            });
+    when(auditorClient.validateAsync(any(ExecutionValidationRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(response));
+
+    // Act
+    ContractExecutionResult result = handler.executeContractAsync(request).join();
+
+    // Assert
+    assertThat(result.getContractResult()).contains(ANY_CONTRACT_RESULT);
+    ArgumentCaptor<ContractExecutionRequest> captor =
+        ArgumentCaptor.forClass(ContractExecutionRequest.class);
+    verify(ledgerClient).executeAsync(captor.capture(), any());
+    assertThat(captor.getValue().getAuditorSignature()).isEqualTo(ANY_HASH);
+    verify(auditorClient, never()).order(any(ContractExecutionRequest.class));
+    verify(auditorClient, never()).validate(any(ExecutionValidationRequest.class));
+  }
+
+  @Test
+  public void executeContractAsync_DifferentContractResultGiven_ShouldCompleteExceptionally() {
+    // Arrange
+    ContractExecutionRequest request = ContractExecutionRequest.newBuilder().build();
+    when(auditorClient.orderAsync(any(ContractExecutionRequest.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(ExecutionOrderingResponse.getDefaultInstance()));
+    ContractExecutionResponse ledgerResponse =
+        ContractExecutionResponse.newBuilder().setContractResult(ANY_CONTRACT_RESULT).build();
+    ContractExecutionResponse auditorResponse =
+        ContractExecutionResponse.newBuilder()
+            .setContractResult("{\"result\":\"different_result\"}")
+            .build();
+    when(ledgerClient.executeAsync(any(ContractExecutionRequest.class), any()))
+        .thenAnswer(
+            invocation -> {
+              Function<ContractExecutionResponse, CompletableFuture<ContractExecutionResponse>>
+                  hook = invocation.getArgument(1);
+              return hook.apply(ledgerResponse)
+                  .thenApply(
+                      r -> new ContractExecutionResult(r.getContractResult(), null, null, null));
+            });
+    when(auditorClient.validateAsync(any(ExecutionValidationRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(auditorResponse));
+
+    // Act
+    CompletableFuture<ContractExecutionResult> future = handler.executeContractAsync(request);
+
+    // Assert
+    assertThatThrownBy(future::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(ValidationException.class);
+  }
+
+  @Test
+  public void executeContractAsync_TracerGiven_ShouldTraceOrderAndValidateAsChildSpans() {
+    // Arrange
+    InMemorySpanExporter exporter = new InMemorySpanExporter();
+    handler =
+        new DefaultClientServiceHandler(ledgerClient, auditorClient, new Tracer(1.0, exporter));
+    ContractExecutionRequest request = ContractExecutionRequest.newBuilder().build();
+    when(auditorClient.orderAsync(any(ContractExecutionRequest.class)))
+        .thenReturn(CompletableFuture.supplyAsync(ExecutionOrderingResponse::getDefaultInstance));
+    ContractExecutionResponse response =
+        ContractExecutionResponse.newBuilder().setContractResult(ANY_CONTRACT_RESULT).build();
+    when(ledgerClient.executeAsync(any(ContractExecutionRequest.class), any()))
+        .thenAnswer(
+            invocation -> {
+              Function<ContractExecutionResponse, CompletableFuture<ContractExecutionResponse>>
+                  hook = invocation.getArgument(1);
+              // The hook is called on another thread as the response of an asynchronous call
+              return CompletableFuture.supplyAsync(() -> response)
+                  .thenCompose(hook)
+                  .thenApply(
+                      r -> new ContractExecutionResult(r.getContractResult(), null, null, null));
+            });
+    when(auditorClient.validateAsync(any(ExecutionValidationRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(response));
+
+    // Act
+    handler.executeContractAsync(request).join();
+
+    // Assert
+    List<Span> spans = exporter.getSpans();
+    assertThat(spans)
+        .extracting(Span::getName)
+        .containsExactly(
+            DefaultClientServiceHandler.ORDER,
+            DefaultClientServiceHandler.VALIDATE,
+            DefaultClientServiceHandler.EXECUTE_CONTRACT);
+    Span root = spans.get(2);
+    assertThat(root.getParentSpanId()).isNull();
+    assertThat(root.getError()).isNull();
+    for (Span child : spans.subList(0, 2)) {
+      assertThat(child.getContext().getTraceId()).isEqualTo(root.getContext().getTraceId());
+      assertThat(child.getParentSpanId()).isEqualTo(root.getContext().getSpanId());
+    }
+    assertThat(Tracer.currentContext()).isNull();
+  }
+
+  @Test
+  public void executeContractAsync_CancelledDuringExecution_ShouldCancelExecutionAndNotValidate() {
+    // Arrange
+    ContractExecutionRequest request = ContractExecutionRequest.newBuilder().build();
+    when(auditorClient.orderAsync(any(ContractExecutionRequest.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(ExecutionOrderingResponse.getDefaultInstance()));
+    CompletableFuture<ContractExecutionResult> execution = new CompletableFuture<>();
+    when(ledgerClient.executeAsync(any(ContractExecutionRequest.class), any()))
+        .thenReturn(execution);
+
+    // Act
+    CompletableFuture<ContractExecutionResult> future = handler.executeContractAsync(request);
+    future.cancel(true);
+
+    // Assert
+    assertThat(future.isCancelled()).isTrue();
+    assertThat(execution.isCancelled()).isTrue();
+    verify(auditorClient, never()).validateAsync(any(ExecutionValidationRequest.class));
+  }
+
+  @Test
+  public void executeContractAsync_CancelledDuringOrdering_ShouldCancelOrderingAndNotExecute() {
+    // Arrange
+    ContractExecutionRequest request = ContractExecutionRequest.newBuilder().build();
+    CompletableFuture<ExecutionOrderingResponse> ordering = new CompletableFuture<>();
+    when(auditorClient.orderAsync(any(ContractExecutionRequest.class))).thenReturn(ordering);
+
+    // Act
+    CompletableFuture<ContractExecutionResult> future = handler.executeContractAsync(request);
+    future.cancel(true);
+
+    // Assert
+    assertThat(ordering.isCancelled()).isTrue();
+    verify(ledgerClient, never()).executeAsync(any(ContractExecutionRequest.class), any());
+  }
 }
@@ -8,6 +8,8 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
 import com.google.protobuf.ByteString;
 import com.scalar.dl.client.exception.ClientException;
 import com.scalar.dl.ledger.config.GrpcClientConfig;
@@ -25,6 +27,8 @@ import io.grpc.Metadata;
 import io.grpc.StatusRuntimeException;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,6 +43,8 @@ public class LedgerClientTest {
   private static final long ANY_DEADLINE_MILLIS = 30000;
   @Mock private LedgerGrpc.LedgerBlockingStub ledgerStub;
   @Mock private LedgerGrpc.LedgerBlockingStub anotherStub;
+  @Mock private LedgerGrpc.LedgerFutureStub futureStub;
+  @Mock private LedgerGrpc.LedgerFutureStub anotherFutureStub;
   @Mock private TargetConfig config;
   @Mock private GrpcClientConfig grpcClientConfig;
   private LedgerClient client;
@@ -151,6 +157,77 @@ public class LedgerClientTest {
     assertThat(thrown.getMessage()).isEqualTo(io.grpc.Status.INTERNAL.getCode().toString());
   }
 
+  @Test
+  public void executeAsync_CorrectContractExecutionRequestGiven_ShouldReturnFutureOfResult() {
+    // Arrange
+    client = new LedgerClient(config, ledgerStub, futureStub, null);
+    ContractExecutionRequest request = ContractExecutionRequest.newBuilder().build();
+    ContractExecutionResponse response =
+        ContractExecutionResponse.newBuilder().setContractResult(ANY_CONTRACT_RESULT).build();
+    when(futureStub.withDeadlineAfter(anyLong(), any(TimeUnit.class)))
+        .thenReturn(anotherFutureStub);
+    when(anotherFutureStub.executeContract(request)).thenReturn(Futures.immediateFuture(response));
+
+    // Act
+    ContractExecutionResult result =
+        client.executeAsync(request, AbstractLedgerClient.DEFAULT_ASYNC_AUDITING_HOOK).join();
+
+    // Assert
+    verify(futureStub).withDeadlineAfter(ANY_DEADLINE_MILLIS, TimeUnit.MILLISECONDS);
+    verify(anotherFutureStub).executeContract(request);
+    assertThat(result.getContractResult()).isEqualTo(Optional.of(ANY_CONTRACT_RESULT));
+    assertThat(result.getAuditorProofs()).isNull();
+  }
+
+  @Test
+  public void executeAsync_ExceptionWithStatusMetadataReturned_ShouldCompleteWithClientException() {
+    // Arrange
+    client = new LedgerClient(config, ledgerStub, futureStub, null);
+    ContractExecutionRequest request = ContractExecutionRequest.newBuilder().build();
+    StatusCode expected = StatusCode.CONTRACT_CONTEXTUAL_ERROR;
+    Metadata trailers = new Metadata();
+    trailers.put(
+        STATUS_TRAILER_KEY,
+        Status.newBuilder().setCode(expected.get()).setMessage(ANY_ERROR_MESSAGE).build());
+    StatusRuntimeException toThrow = new StatusRuntimeException(io.grpc.Status.INTERNAL, trailers);
+    when(futureStub.withDeadlineAfter(anyLong(), any(TimeUnit.class)))
+        .thenReturn(anotherFutureStub);
+    when(anotherFutureStub.executeContract(request))
+        .thenReturn(Futures.immediateFailedFuture(toThrow));
+
+    // Act
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                client
+                    .executeAsync(request, AbstractLedgerClient.DEFAULT_ASYNC_AUDITING_HOOK)
+                    .join());
+
+    // Assert
+    assertThat(thrown).isInstanceOf(CompletionException.class);
+    assertThat(thrown.getCause()).isInstanceOf(ClientException.class).hasCause(toThrow);
+    assertThat(((ClientException) thrown.getCause()).getStatusCode()).isEqualTo(expected);
+  }
+
+  @Test
+  public void executeAsync_ReturnedFutureCancelled_ShouldCancelCall() {
+    // Arrange
+    client = new LedgerClient(config, ledgerStub, futureStub, null);
+    ContractExecutionRequest request = ContractExecutionRequest.newBuilder().build();
+    SettableFuture<ContractExecutionResponse> call = SettableFuture.create();
+    when(futureStub.withDeadlineAfter(anyLong(), any(TimeUnit.class)))
+        .thenReturn(anotherFutureStub);
+    when(anotherFutureStub.executeContract(request)).thenReturn(call);
+    CompletableFuture<ContractExecutionResult> future =
+        client.executeAsync(request, AbstractLedgerClient.DEFAULT_ASYNC_AUDITING_HOOK);
+
+    // Act
+    future.cancel(true);
+
+    // Assert
+    assertThat(call.isCancelled()).isTrue();
+  }
+
   @Test
   public void finish_CorrectRequestGiven_ShouldCallFinishExecution() {
     // Arrange
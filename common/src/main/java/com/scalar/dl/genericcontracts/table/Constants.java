@@ -16,6 +16,18 @@ public class Constants {
   public static final String CONTRACT_GET_ASSET_ID = PACKAGE + "." + VERSION + ".GetAssetId";
   public static final String CONTRACT_SCAN = PACKAGE + "." + VERSION + ".Scan";
 
+  // Metadata of the contracts updated in v1_1_0, which write checkpoints of the index assets. The
+  // other contracts of v1_0_0 are used as they are.
+  public static final String VERSION_1_1_0 = "v1_1_0";
+  public static final String CONTRACT_INSERT_V1_1_0 = PACKAGE + "." + VERSION_1_1_0 + ".Insert";
+  public static final String CONTRACT_SELECT_V1_1_0 = PACKAGE + "." + VERSION_1_1_0 + ".Select";
+  public static final String CONTRACT_UPDATE_V1_1_0 = PACKAGE + "." + VERSION_1_1_0 + ".Update";
+  public static final String CONTRACT_SCAN_V1_1_0 = PACKAGE + "." + VERSION_1_1_0 + ".Scan";
+  public static final String CONTRACT_GET_INDEX_ENTRIES =
+      PACKAGE + "." + VERSION_1_1_0 + ".GetIndexEntries";
+  public static final String CONTRACT_GET_CHECKPOINT_INTERVAL =
+      PACKAGE + "." + VERSION_1_1_0 + ".GetCheckpointInterval";
+
   // Constants
   public static final String PREFIX_TABLE = "tbl_";
   public static final String PREFIX_INDEX = "idx_";
@@ -32,6 +44,13 @@ public class Constants {
   public static final String INDEX_KEY_TYPE = "type";
   public static final String INDEX_ASSET_ADDED_AGE = "age";
   public static final String INDEX_ASSET_DELETE_MARKER = "deleted";
+  public static final String INDEX_CHECKPOINT_INTERVAL = "checkpoint_interval";
+  public static final String INDEX_SNAPSHOT = "snapshot";
+  public static final String INDEX_ENTRIES = "entries";
+  public static final String INDEX_ENTRIES_ASSET_ID = "asset_id";
+  public static final String INDEX_ENTRIES_KEY = "key";
+  public static final int MIN_INDEX_CHECKPOINT_INTERVAL = 1;
+  public static final int DEFAULT_INDEX_CHECKPOINT_INTERVAL = 100;
   public static final String RECORD_TABLE = "table";
   public static final String RECORD_KEY = "key";
   public static final String RECORD_VALUES = "values";
@@ -75,6 +94,8 @@ public class Constants {
   // Error messages
   public static final String INVALID_CONTRACT_ARGUMENTS =
       "The specified format of the contract arguments is invalid.";
+  public static final String INVALID_CONTRACT_PROPERTIES_FORMAT =
+      "The specified format of the contract properties is invalid.";
   public static final String INVALID_TABLE_FORMAT = "The specified format of the table is invalid.";
   public static final String INVALID_INDEX_FORMAT =
       "The specified format of the indexes is invalid.";
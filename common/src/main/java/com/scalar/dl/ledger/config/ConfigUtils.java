@@ -104,6 +104,19 @@ public final class ConfigUtils {
     }
   }
 
+  public static double getDouble(Properties properties, String name, double defaultValue) {
+    String value = trimAndReplace(properties.getProperty(name));
+    if (Strings.isNullOrEmpty(value)) {
+      return defaultValue;
+    }
+    try {
+      return Double.parseDouble(value);
+    } catch (NumberFormatException ignored) {
+      throw new IllegalArgumentException(
+          CommonError.CONFIG_UTILS_INVALID_NUMBER_FORMAT.buildMessage(name, value));
+    }
+  }
+
   public static boolean getBoolean(Properties properties, String name, boolean defaultValue) {
     String value = trimAndReplace(properties.getProperty(name));
     if (Strings.isNullOrEmpty(value)) {
@@ -1,6 +1,7 @@
 package com.scalar.dl.ledger.config;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.scalar.dl.ledger.error.CommonError;
 import java.util.Objects;
@@ -8,10 +9,12 @@ import java.util.Objects;
 public class GrpcServerConfig {
   private final int maxInboundMessageSize;
   private final int maxInboundMetadataSize;
+  private final GrpcServerExecutor executor;
 
   private GrpcServerConfig(GrpcServerConfig.Builder builder) {
     this.maxInboundMessageSize = builder.maxInboundMessageSize;
     this.maxInboundMetadataSize = builder.maxInboundMetadataSize;
+    this.executor = builder.executor;
   }
 
   public int getMaxInboundMessageSize() {
@@ -22,9 +25,13 @@ public class GrpcServerConfig {
     return maxInboundMetadataSize;
   }
 
+  public GrpcServerExecutor getExecutor() {
+    return executor;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(maxInboundMessageSize, maxInboundMetadataSize);
+    return Objects.hash(maxInboundMessageSize, maxInboundMetadataSize, executor);
   }
 
   @Override
@@ -37,7 +44,8 @@ public class GrpcServerConfig {
     }
     GrpcServerConfig another = (GrpcServerConfig) o;
     return maxInboundMessageSize == another.maxInboundMessageSize
-        && maxInboundMetadataSize == another.maxInboundMetadataSize;
+        && maxInboundMetadataSize == another.maxInboundMetadataSize
+        && executor == another.executor;
   }
 
   public static GrpcServerConfig.Builder newBuilder() {
@@ -47,6 +55,7 @@ public class GrpcServerConfig {
   public static final class Builder {
     private int maxInboundMessageSize;
     private int maxInboundMetadataSize;
+    private GrpcServerExecutor executor = GrpcServerExecutor.DEFAULT;
 
     Builder() {}
 
@@ -68,6 +77,11 @@ public class GrpcServerConfig {
       return this;
     }
 
+    public GrpcServerConfig.Builder executor(GrpcServerExecutor executor) {
+      this.executor = checkNotNull(executor);
+      return this;
+    }
+
     public GrpcServerConfig build() {
       return new GrpcServerConfig(this);
     }
@@ -0,0 +1,32 @@
+package com.scalar.dl.ledger.config;
+
+import com.scalar.dl.ledger.error.CommonError;
+import java.util.Arrays;
+
+/** The executor that runs the gRPC service handlers of a server. */
+public enum GrpcServerExecutor {
+  /** The default cached thread pool of gRPC. */
+  DEFAULT("default"),
+  /** A virtual thread per call. This requires Java 21 or later. */
+  VIRTUAL_THREAD("virtual-thread");
+
+  private final String name;
+
+  GrpcServerExecutor(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public static GrpcServerExecutor get(String name) {
+    return Arrays.stream(GrpcServerExecutor.values())
+        .filter(v -> v.name.equals(name))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    CommonError.INVALID_GRPC_SERVER_EXECUTOR.buildMessage(name)));
+  }
+}
@@ -0,0 +1,125 @@
+package com.scalar.dl.ledger.config;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.scalar.dl.ledger.error.CommonError;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+public class TracingConfig {
+  private static final TracingConfig DISABLED = newBuilder().build();
+  private final boolean enabled;
+  private final double samplingRatio;
+  private final TracingExporter exporter;
+  @Nullable private final String filePath;
+
+  private TracingConfig(TracingConfig.Builder builder) {
+    this.enabled = builder.enabled;
+    this.samplingRatio = builder.samplingRatio;
+    this.exporter = builder.exporter;
+    this.filePath = builder.filePath;
+  }
+
+  public static TracingConfig disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns the ratio of the traces started at this process that are sampled. A trace continued
+   * from another process follows the sampling decision of the caller.
+   *
+   * @return the sampling ratio between 0.0 and 1.0
+   */
+  public double getSamplingRatio() {
+    return samplingRatio;
+  }
+
+  public TracingExporter getExporter() {
+    return exporter;
+  }
+
+  @Nullable
+  public String getFilePath() {
+    return filePath;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(enabled, samplingRatio, exporter, filePath);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof TracingConfig)) {
+      return false;
+    }
+    TracingConfig another = (TracingConfig) o;
+    return enabled == another.enabled
+        && Double.compare(samplingRatio, another.samplingRatio) == 0
+        && exporter == another.exporter
+        && Objects.equals(filePath, another.filePath);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("enabled", enabled)
+        .add("samplingRatio", samplingRatio)
+        .add("exporter", exporter.getName())
+        .add("filePath", filePath)
+        .toString();
+  }
+
+  public static TracingConfig.Builder newBuilder() {
+    return new TracingConfig.Builder();
+  }
+
+  public static final class Builder {
+    private boolean enabled;
+    private double samplingRatio = 1.0;
+    private TracingExporter exporter = TracingExporter.FILE;
+    @Nullable private String filePath;
+
+    Builder() {}
+
+    public TracingConfig.Builder enabled(boolean enabled) {
+      this.enabled = enabled;
+      return this;
+    }
+
+    public TracingConfig.Builder samplingRatio(double samplingRatio) {
+      checkArgument(
+          samplingRatio >= 0.0 && samplingRatio <= 1.0,
+          CommonError.TRACING_SAMPLING_RATIO_MUST_BE_BETWEEN_ZERO_AND_ONE.buildMessage(
+              samplingRatio));
+      this.samplingRatio = samplingRatio;
+      return this;
+    }
+
+    public TracingConfig.Builder exporter(TracingExporter exporter) {
+      this.exporter = checkNotNull(exporter);
+      return this;
+    }
+
+    public TracingConfig.Builder filePath(@Nullable String filePath) {
+      this.filePath = filePath;
+      return this;
+    }
+
+    public TracingConfig build() {
+      checkArgument(
+          !enabled || exporter != TracingExporter.FILE || filePath != null,
+          CommonError.TRACING_FILE_PATH_REQUIRED.buildMessage());
+      return new TracingConfig(this);
+    }
+  }
+}
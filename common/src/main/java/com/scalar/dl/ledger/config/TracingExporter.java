@@ -0,0 +1,32 @@
+package com.scalar.dl.ledger.config;
+
+import com.scalar.dl.ledger.error.CommonError;
+import java.util.Arrays;
+
+/** The exporter that the sampled spans of request tracing are written to. */
+public enum TracingExporter {
+  /** A file that each span is appended to as a line of JSON. */
+  FILE("file"),
+  /** A bounded buffer in memory that keeps the latest spans. */
+  MEMORY("memory");
+
+  private final String name;
+
+  TracingExporter(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public static TracingExporter get(String name) {
+    return Arrays.stream(TracingExporter.values())
+        .filter(v -> v.name.equals(name))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    CommonError.INVALID_TRACING_EXPORTER.buildMessage(name)));
+  }
+}
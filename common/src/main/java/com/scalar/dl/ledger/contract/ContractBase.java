@@ -20,6 +20,8 @@ abstract class ContractBase<T> {
     this.manager = checkNotNull(manager);
     this.namespace = checkNotNull(namespace);
     this.clientIdentityKey = clientIdentityKey;
+    // a pooled instance is initialized again, so the context of the previous execution is dropped
+    this.context = null;
     this.isRoot = false;
   }
 
@@ -94,11 +96,12 @@ abstract class ContractBase<T> {
 
     ContractEntry.Key key = new ContractEntry.Key(contractId, clientIdentityKey);
     ContractEntry entry = manager.get(namespace, key);
-    ContractBase<T> contract =
-        (ContractBase<T>) manager.getInstance(namespace, entry).getContractBase();
+    ContractMachine machine = manager.getInstance(namespace, entry);
+    ContractBase<T> contract = (ContractBase<T>) machine.getContractBase();
     T properties = entry.getProperties().map(this::deserialize).orElse(null);
     T result = contract.invoke(ledger, argument, properties);
     setContext(contract.getContext()); // context is propagated to the root
+    manager.release(namespace, entry, machine);
     return result;
   }
 }
@@ -1,10 +1,14 @@
 package com.scalar.dl.ledger.contract;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.inject.Inject;
+import com.scalar.dl.ledger.namespace.Namespaces;
 import java.security.ProtectionDomain;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * A class loader for a Contract from its bytecode.
@@ -12,33 +16,105 @@ import javax.annotation.concurrent.Immutable;
  * <p>The {@code defineClass} method in this class creates an instance of the {@link Contract} or
  * the {@link ContractBase} class from its corresponding bytecode. It only grants the given
  * permissions with {@code ProtectionDomain}.
+ *
+ * <p>The classes of each namespace are defined in a class loader of the namespace. The loaders of
+ * the least recently used namespaces are evicted beyond the maximum number of namespaces, so that
+ * their classes can be unloaded once no instance of them is in use. The classes of an evicted
+ * namespace are defined again in a new loader when they are needed.
  */
-@Immutable
+@ThreadSafe
 public class ContractLoader extends ClassLoader {
-  private final Map<String, Class<?>> loadedMap;
+  private static final int DEFAULT_MAX_NAMESPACES = 256;
   private final ProtectionDomain protectionDomain;
+  private final LoadingCache<String, NamespaceLoader> loaders;
 
   @Inject
   public ContractLoader(ProtectionDomain protectionDomain) {
-    this.loadedMap = new ConcurrentHashMap<>();
+    this(protectionDomain, DEFAULT_MAX_NAMESPACES);
+  }
+
+  public ContractLoader(ProtectionDomain protectionDomain, int maxNamespaces) {
     this.protectionDomain = protectionDomain;
+    this.loaders =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxNamespaces)
+            .recordStats()
+            .build(CacheLoader.from(namespace -> new NamespaceLoader(this)));
   }
 
   /**
-   * Turns the bytecode of a registered contract into an instance of class {@code Class}.
+   * Turns the bytecode of a registered contract of the default namespace into an instance of class
+   * {@code Class}.
    *
    * @param entry the entry of a {@code Contract} or a {@code ContractBase} that will be loaded
    * @return a class object of {@code Contract} or {@code ContractBase}
    */
   public Class<?> defineClass(ContractEntry entry) {
-    return loadedMap.computeIfAbsent(
-        entry.getBinaryName(),
-        k ->
-            defineClass(
-                entry.getBinaryName(),
-                entry.getByteCode(),
-                0,
-                entry.getByteCode().length,
-                protectionDomain));
+    return defineClass(Namespaces.DEFAULT, entry);
+  }
+
+  /**
+   * Turns the bytecode of a registered contract of the specified namespace into an instance of
+   * class {@code Class}.
+   *
+   * @param namespace the namespace where the contract is registered
+   * @param entry the entry of a {@code Contract} or a {@code ContractBase} that will be loaded
+   * @return a class object of {@code Contract} or {@code ContractBase}
+   */
+  public Class<?> defineClass(String namespace, ContractEntry entry) {
+    return loaders.getUnchecked(namespace).define(entry, protectionDomain);
+  }
+
+  /**
+   * Returns the number of namespaces whose class loaders are currently kept.
+   *
+   * @return the number of class loaders
+   */
+  public long getLoaderCount() {
+    return loaders.size();
+  }
+
+  /**
+   * Returns the number of contract classes defined in the class loaders currently kept.
+   *
+   * @return the number of loaded classes
+   */
+  public long getLoadedClassCount() {
+    return loaders.asMap().values().stream().mapToLong(NamespaceLoader::size).sum();
+  }
+
+  /**
+   * Returns the number of class loaders evicted so far.
+   *
+   * @return the number of evicted class loaders
+   */
+  public long getEvictedLoaderCount() {
+    return loaders.stats().evictionCount();
+  }
+
+  /** A class loader for the contracts of a namespace. */
+  private static class NamespaceLoader extends ClassLoader {
+    private final Map<String, Class<?>> loadedMap;
+
+    NamespaceLoader(ClassLoader parent) {
+      super(parent);
+      this.loadedMap = new ConcurrentHashMap<>();
+    }
+
+    Class<?> define(ContractEntry entry, ProtectionDomain protectionDomain) {
+      return loadedMap.computeIfAbsent(
+          entry.getBinaryName(),
+          k ->
+              defineClass(
+                  entry.getBinaryName(),
+                  entry.getByteCode(),
+                  0,
+                  entry.getByteCode().length,
+                  protectionDomain));
+    }
+
+    int size() {
+      return loadedMap.size();
+    }
   }
 }
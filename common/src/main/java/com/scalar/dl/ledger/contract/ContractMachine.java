@@ -11,6 +11,7 @@ import javax.annotation.concurrent.NotThreadSafe;
 @NotThreadSafe
 public class ContractMachine {
   private final ContractBase<?> contractBase;
+  private final Class<?> contractClass;
 
   @SuppressFBWarnings("EI_EXPOSE_REP2")
   public ContractMachine(Object contract) {
@@ -21,6 +22,7 @@ public class ContractMachine {
     } else {
       throw new IllegalArgumentException(CommonError.UNSUPPORTED_CONTRACT.buildMessage());
     }
+    this.contractClass = contract.getClass();
   }
 
   /**
@@ -65,6 +67,10 @@ public class ContractMachine {
     return contractBase;
   }
 
+  Class<?> getContractClass() {
+    return contractClass;
+  }
+
   public DeserializationType getDeserializationType() {
     if (contractBase instanceof DeprecatedContract) {
       return DeserializationType.DEPRECATED;
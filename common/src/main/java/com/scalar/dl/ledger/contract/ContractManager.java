@@ -16,32 +16,67 @@ import com.scalar.dl.ledger.model.ContractRegistrationRequest;
 import com.scalar.dl.ledger.namespace.Namespaces;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * A manager to store {@link ContractEntry}s in a {@link ContractRegistry}, retrieve {@link
  * ContractEntry}s, instantiate {@link ContractMachine}s from their ids, and also validate contracts
  * (i.e. check if the contract is registered with the correct signature).
+ *
+ * <p>Since a {@link ContractMachine} is not thread-safe, an instance is checked out with {@link
+ * #getInstance(String, ContractEntry)} for each execution. A new instance is created for each
+ * execution by default. If the manager is created with a positive pool size, an instance given back
+ * with {@link #release(String, ContractEntry, ContractMachine)} after the execution is pooled per
+ * namespace and contract key, and it is initialized again and handed out by a later {@code
+ * getInstance} instead of instantiating the contract again. Since a pooled instance keeps its
+ * fields from the previous execution, pooling must be enabled only if all the contracts are
+ * stateless.
  */
 @ThreadSafe
 public class ContractManager {
   private static final int CACHE_SIZE = 1048576;
   private static final int VALIDATION_WINDOW_DAYS = 7;
+  private static final int MAX_POOLED_CONTRACTS = 1024;
   private final ContractRegistry registry;
   private final ContractLoader loader;
   private final ClientKeyValidator clientKeyValidator;
   private final ConcurrentMap<String, Cache<ContractEntry.Key, Object>> recentlyValidatedCaches;
+  private final ConcurrentMap<String, Cache<ContractEntry.Key, BlockingQueue<ContractMachine>>>
+      pools;
+  private final int poolSize;
 
   @Inject
   public ContractManager(
       ContractRegistry registry, ContractLoader loader, ClientKeyValidator clientKeyValidator) {
+    this(registry, loader, clientKeyValidator, 0);
+  }
+
+  /**
+   * Constructs a {@code ContractManager} that pools the released instances of each contract up to
+   * the specified size. Pooling is disabled if the size is not positive.
+   *
+   * @param registry a {@link ContractRegistry}
+   * @param loader a {@link ContractLoader}
+   * @param clientKeyValidator a {@link ClientKeyValidator}
+   * @param poolSize the maximum number of idle instances pooled for each contract
+   */
+  public ContractManager(
+      ContractRegistry registry,
+      ContractLoader loader,
+      ClientKeyValidator clientKeyValidator,
+      int poolSize) {
     this.registry = registry;
     this.loader = loader;
     this.clientKeyValidator = clientKeyValidator;
     this.recentlyValidatedCaches = new ConcurrentHashMap<>();
+    this.pools = new ConcurrentHashMap<>();
+    this.poolSize = poolSize;
   }
 
   @VisibleForTesting
@@ -55,6 +90,8 @@ public class ContractManager {
     this.loader = loader;
     this.clientKeyValidator = clientKeyValidator;
     this.recentlyValidatedCaches = recentlyValidatedCaches;
+    this.pools = new ConcurrentHashMap<>();
+    this.poolSize = 0;
   }
 
   /**
@@ -112,7 +149,9 @@ public class ContractManager {
   }
 
   /**
-   * Instantiates a {@link ContractMachine} from the specified contract entry.
+   * Returns a {@link ContractMachine} of the specified contract entry. It is taken from the pool if
+   * pooling is enabled and a released instance of the entry is available; otherwise, it is newly
+   * instantiated. The returned instance is exclusively owned by the caller until it is released.
    *
    * @param namespace a namespace where the contract exists
    * @param entry the entry of the {@link ContractMachine} to retrieve
@@ -125,13 +164,43 @@ public class ContractManager {
       validateContract(namespace, entry);
       cache.put(entry.getKey(), new Object());
     }
-    return loadContract(namespace, entry);
+    Class<?> contractClazz = defineClass(namespace, entry);
+    ContractMachine contract = poll(namespace, entry, contractClazz);
+    if (contract == null) {
+      contract = new ContractMachine(createInstance(contractClazz));
+    }
+    contract.initialize(this, namespace, entry.getClientIdentityKey());
+    return contract;
+  }
+
+  /**
+   * Gives back a {@link ContractMachine} retrieved with {@link #getInstance(String, ContractEntry)}
+   * so that it can be reused for later executions of the same contract if pooling is enabled. It
+   * does nothing otherwise. The caller must not use the instance after releasing it. An instance
+   * whose execution has failed should not be released since it might be left in an inconsistent
+   * state.
+   *
+   * @param namespace the namespace given to {@link #getInstance(String, ContractEntry)}
+   * @param entry the entry given to {@link #getInstance(String, ContractEntry)}
+   * @param contract the {@link ContractMachine} to release
+   */
+  public void release(String namespace, ContractEntry entry, ContractMachine contract) {
+    if (poolSize <= 0) {
+      return;
+    }
+    BlockingQueue<ContractMachine> pool =
+        pools
+            .computeIfAbsent(namespace, this::createPoolCache)
+            .asMap()
+            .computeIfAbsent(entry.getKey(), k -> new ArrayBlockingQueue<>(poolSize));
+    // Discarded if the pool is full, which only happens beyond the usual concurrency
+    pool.offer(contract);
   }
 
   @VisibleForTesting
-  Class<?> defineClass(ContractEntry entry) {
+  Class<?> defineClass(String namespace, ContractEntry entry) {
     try {
-      return loader.defineClass(entry);
+      return loader.defineClass(namespace, entry);
     } catch (Exception | NoClassDefFoundError e) {
       // Errors should not be caught in general but it is necessary in our case
       // since contract creators and the loader are usually different and the loader should let
@@ -141,12 +210,24 @@ public class ContractManager {
   }
 
   private ContractMachine loadContract(String namespace, ContractEntry entry) {
-    Class<?> contractClazz = defineClass(entry);
+    Class<?> contractClazz = defineClass(namespace, entry);
     ContractMachine contract = new ContractMachine(createInstance(contractClazz));
     contract.initialize(this, namespace, entry.getClientIdentityKey());
     return contract;
   }
 
+  @Nullable
+  private ContractMachine poll(String namespace, ContractEntry entry, Class<?> contractClazz) {
+    Cache<ContractEntry.Key, BlockingQueue<ContractMachine>> poolCache = pools.get(namespace);
+    if (poolCache == null) {
+      return null;
+    }
+    BlockingQueue<ContractMachine> pool = poolCache.getIfPresent(entry.getKey());
+    ContractMachine contract = pool == null ? null : pool.poll();
+    // An instance of a class defined by an evicted loader is dropped to let the loader be unloaded
+    return contract != null && contract.getContractClass() == contractClazz ? contract : null;
+  }
+
   private Object createInstance(Class<?> clazz) {
     try {
       return clazz.getConstructor().newInstance();
@@ -183,4 +264,9 @@ public class ContractManager {
         .expireAfterWrite(VALIDATION_WINDOW_DAYS, TimeUnit.DAYS)
         .build();
   }
+
+  private Cache<ContractEntry.Key, BlockingQueue<ContractMachine>> createPoolCache(
+      String namespace) {
+    return CacheBuilder.newBuilder().maximumSize(MAX_POOLED_CONTRACTS).build();
+  }
 }
@@ -16,6 +16,9 @@ import javax.annotation.concurrent.Immutable;
  *   <li>the certificate version
  *   <li>the time in which the certificate was registered
  * </ul>
+ *
+ * <p>The certificate holds either an ECDSA P-256 key or an Ed25519 key, and the signatures of the
+ * entity are validated with SHA256withECDSA or Ed25519 respectively.
  */
 @Immutable
 public class CertificateEntry {
@@ -1,5 +1,7 @@
 package com.scalar.dl.ledger.crypto;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.scalar.dl.ledger.error.CommonError;
 import com.scalar.dl.ledger.exception.SignatureException;
 import com.scalar.dl.ledger.exception.UnloadableKeyException;
@@ -9,21 +11,24 @@ import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.Signature;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
-/** A signer for a byte array with a specified private key supplied in pem format. */
+/**
+ * A signer for a byte array with a specified private key supplied in pem format. If the algorithm
+ * is not specified, it is chosen from the key with {@link SignatureEngine#getDefaultAlgorithm}, so
+ * that an Ed25519 key signs with Ed25519 and the others with SHA256withECDSA.
+ */
 @Immutable
 public class DigitalSignatureSigner implements SignatureSigner {
-  private static final String DEFAULT_ALGORITHM = "SHA256withECDSA";
   private final PrivateKey privateKey;
   private final String algorithm;
+  private final SignatureEngine engine;
 
   public DigitalSignatureSigner(Path privateKeyPath) {
-    this(privateKeyPath, DEFAULT_ALGORITHM);
+    this(readKeyFile(privateKeyPath));
   }
 
   public DigitalSignatureSigner(Path privateKeyPath, String algorithm) {
@@ -31,16 +36,18 @@ public class DigitalSignatureSigner implements SignatureSigner {
   }
 
   public DigitalSignatureSigner(String privateKeyInPem) {
-    this(privateKeyInPem, DEFAULT_ALGORITHM);
+    this(parsePrivateKey(privateKeyInPem), null);
   }
 
   public DigitalSignatureSigner(String privateKeyInPem, String algorithm) {
-    this.algorithm = algorithm;
-    try {
-      this.privateKey = CryptoUtils.getPrivateKey(new StringReader(privateKeyInPem));
-    } catch (IOException | IllegalArgumentException e) {
-      throw new UnloadableKeyException(CommonError.LOADING_KEY_FAILED, e.getMessage());
-    }
+    this(parsePrivateKey(privateKeyInPem), checkNotNull(algorithm));
+  }
+
+  private DigitalSignatureSigner(PrivateKey privateKey, @Nullable String algorithm) {
+    this.privateKey = privateKey;
+    this.algorithm =
+        algorithm != null ? algorithm : SignatureEngine.getDefaultAlgorithm(privateKey);
+    this.engine = SignatureEngine.of(this.algorithm);
   }
 
   /**
@@ -59,13 +66,14 @@ public class DigitalSignatureSigner implements SignatureSigner {
    */
   @Override
   public byte[] sign(byte[] bytes) {
+    return engine.sign(privateKey, bytes);
+  }
+
+  private static PrivateKey parsePrivateKey(String privateKeyInPem) {
     try {
-      Signature signature = Signature.getInstance(algorithm);
-      signature.initSign(privateKey);
-      signature.update(bytes);
-      return signature.sign();
-    } catch (java.security.SignatureException | NoSuchAlgorithmException | InvalidKeyException e) {
-      throw new SignatureException(CommonError.SIGNATURE_SIGNING_FAILED, e.getMessage());
+      return CryptoUtils.getPrivateKey(new StringReader(privateKeyInPem));
+    } catch (IOException | IllegalArgumentException e) {
+      throw new UnloadableKeyException(CommonError.LOADING_KEY_FAILED, e.getMessage());
     }
   }
 
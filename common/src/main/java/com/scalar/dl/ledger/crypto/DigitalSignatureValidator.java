@@ -1,35 +1,42 @@
 package com.scalar.dl.ledger.crypto;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.scalar.dl.ledger.error.CommonError;
 import com.scalar.dl.ledger.exception.SignatureException;
 import com.scalar.dl.ledger.exception.UnloadableKeyException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
-import java.security.Signature;
+import java.security.PublicKey;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.util.List;
 import java.util.Objects;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
  * A validator used to validate that a given byte array was signed by the private key corresponding
- * to the specified certificate using the specified algorithm.
+ * to the specified certificate using the specified algorithm. If the algorithm is not specified, it
+ * is chosen from the key of the certificate with {@link SignatureEngine#getDefaultAlgorithm}, so
+ * that a certificate with an Ed25519 key is validated with Ed25519 and the others with
+ * SHA256withECDSA. The public key is extracted from the certificate once on construction.
  */
 @Immutable
 public class DigitalSignatureValidator implements SignatureValidator {
-  private static final String DEFAULT_ALGORITHM = "SHA256withECDSA";
   private final String algorithm;
   private final X509Certificate cert;
+  private final PublicKey publicKey;
+  private final SignatureEngine engine;
 
   public DigitalSignatureValidator(Path certPath) {
-    this(certPath, DEFAULT_ALGORITHM);
+    this(readKeyFile(certPath));
   }
 
   public DigitalSignatureValidator(Path certPath, String algorithm) {
@@ -37,18 +44,19 @@ public class DigitalSignatureValidator implements SignatureValidator {
   }
 
   public DigitalSignatureValidator(String certPem) {
-    this(certPem, DEFAULT_ALGORITHM);
+    this(parseCertificate(certPem), null);
   }
 
   public DigitalSignatureValidator(String certPem, String algorithm) {
-    this.algorithm = algorithm;
-    try {
-      CertificateFactory factory = CertificateFactory.getInstance("X.509");
-      InputStream input = new ByteArrayInputStream(certPem.getBytes(StandardCharsets.UTF_8));
-      this.cert = (X509Certificate) factory.generateCertificate(input);
-    } catch (CertificateException e) {
-      throw new UnloadableKeyException(CommonError.LOADING_CERTIFICATE_FAILED, e, e.getMessage());
-    }
+    this(parseCertificate(certPem), checkNotNull(algorithm));
+  }
+
+  private DigitalSignatureValidator(X509Certificate cert, @Nullable String algorithm) {
+    this.cert = cert;
+    this.publicKey = SignatureEngine.toVerificationKey(cert.getPublicKey());
+    this.algorithm =
+        algorithm != null ? algorithm : SignatureEngine.getDefaultAlgorithm(this.publicKey);
+    this.engine = SignatureEngine.of(this.algorithm);
   }
 
   /**
@@ -68,14 +76,21 @@ public class DigitalSignatureValidator implements SignatureValidator {
    */
   @Override
   public boolean validate(byte[] toBeValidated, byte[] signatureBytes) {
-    try {
-      Signature signature = Signature.getInstance(algorithm);
-      signature.initVerify(cert.getPublicKey());
-      signature.update(toBeValidated);
-      return signature.verify(signatureBytes);
-    } catch (java.security.SignatureException | NoSuchAlgorithmException | InvalidKeyException e) {
-      throw new SignatureException(CommonError.SIGNATURE_VALIDATION_FAILED, e.getMessage());
-    }
+    return engine.verify(publicKey, toBeValidated, signatureBytes);
+  }
+
+  /**
+   * Validates the signature of the bytes held in the specified buffers corresponds to the
+   * certificate without copying the bytes into an array.
+   *
+   * @param toBeValidated a list of buffers whose remaining bytes will be validated
+   * @param signatureBytes the bytes of the signature
+   * @return true if the signature corresponds to the bytes; false otherwise
+   * @throws SignatureException if it fails to validate
+   */
+  @Override
+  public boolean validateBuffers(List<ByteBuffer> toBeValidated, byte[] signatureBytes) {
+    return engine.verify(publicKey, toBeValidated, signatureBytes);
   }
 
   /**
@@ -112,6 +127,16 @@ public class DigitalSignatureValidator implements SignatureValidator {
     return this.algorithm.equals(another.algorithm) && this.cert.equals(another.cert);
   }
 
+  private static X509Certificate parseCertificate(String certPem) {
+    try {
+      CertificateFactory factory = CertificateFactory.getInstance("X.509");
+      InputStream input = new ByteArrayInputStream(certPem.getBytes(StandardCharsets.UTF_8));
+      return (X509Certificate) factory.generateCertificate(input);
+    } catch (CertificateException e) {
+      throw new UnloadableKeyException(CommonError.LOADING_CERTIFICATE_FAILED, e, e.getMessage());
+    }
+  }
+
   private static String readKeyFile(Path file) {
     try {
       return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
@@ -1,8 +1,11 @@
 package com.scalar.dl.ledger.crypto;
 
 import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Objects;
 import javax.annotation.concurrent.Immutable;
 import org.bouncycastle.util.Arrays;
@@ -32,6 +35,20 @@ public class HmacValidator implements SignatureValidator {
     return Arrays.areEqual(signature, signatureBytes);
   }
 
+  /**
+   * Validates the bytes held in the specified buffers with HMAC without copying them into an array.
+   *
+   * @param toBeValidated a list of buffers whose remaining bytes will be validated
+   * @param signatureBytes a hash (signature) derived by HMAC hashing.
+   * @return true if the signature corresponds to the bytes; false otherwise
+   */
+  @Override
+  public boolean validateBuffers(List<ByteBuffer> toBeValidated, byte[] signatureBytes) {
+    Hasher hasher = hash.newHasher();
+    toBeValidated.forEach(b -> hasher.putBytes(b.duplicate()));
+    return Arrays.areEqual(hasher.hash().asBytes(), signatureBytes);
+  }
+
   /**
    * Returns a hash code value for the object.
    *
@@ -0,0 +1,213 @@
+package com.scalar.dl.ledger.crypto;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.primitives.Bytes;
+import com.scalar.dl.ledger.error.CommonError;
+import com.scalar.dl.ledger.exception.SignatureException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An engine that signs and verifies byte arrays with a signature algorithm.
+ *
+ * <p>Looking up a {@link Signature} through the providers is much more expensive than initializing
+ * one with a key, so an engine keeps a pool of the {@link Signature} instances it has created and
+ * reuses them across calls. The pool is shared by all the threads instead of being thread-local,
+ * since requests may run on short-lived virtual threads. The instances are created from the given
+ * {@link Provider}, or from the installed providers in preference order if it is not given.
+ */
+@ThreadSafe
+public class SignatureEngine {
+  /** The default algorithm, which is used with ECDSA keys on the P-256 curve. */
+  public static final String SHA256_WITH_ECDSA = "SHA256withECDSA";
+  /** The algorithm used with Ed25519 keys, which requires Java 15 or later, or Bouncy Castle. */
+  public static final String ED25519 = "Ed25519";
+
+  private static final String ED25519_OID = "1.3.101.112";
+  // The DER encoding of the Ed25519 OID in the algorithm identifier of an encoded key
+  private static final byte[] ED25519_OID_DER = {0x06, 0x03, 0x2b, 0x65, 0x70};
+  private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 4;
+  private static final ConcurrentMap<String, SignatureEngine> ENGINES = new ConcurrentHashMap<>();
+  private final String algorithm;
+  @Nullable private final Provider provider;
+  private final BlockingQueue<Signature> pool;
+
+  /**
+   * Constructs a {@code SignatureEngine} with the specified algorithm and provider.
+   *
+   * @param algorithm the name of a signature algorithm
+   * @param provider a {@link Provider} of the algorithm, or null to use the installed providers
+   */
+  public SignatureEngine(String algorithm, @Nullable Provider provider) {
+    this.algorithm = checkNotNull(algorithm);
+    this.provider = provider;
+    this.pool = new ArrayBlockingQueue<>(POOL_SIZE);
+  }
+
+  /**
+   * Returns a shared {@code SignatureEngine} of the specified algorithm that uses the installed
+   * providers.
+   *
+   * @param algorithm the name of a signature algorithm
+   * @return a {@code SignatureEngine}
+   */
+  public static SignatureEngine of(String algorithm) {
+    return ENGINES.computeIfAbsent(algorithm, a -> new SignatureEngine(a, null));
+  }
+
+  /**
+   * Returns the name of the signature algorithm used with the specified key by default: {@link
+   * #ED25519} for Ed25519 keys and {@link #SHA256_WITH_ECDSA} for the others.
+   *
+   * @param key a public or private key
+   * @return the name of a signature algorithm
+   */
+  public static String getDefaultAlgorithm(Key key) {
+    return isEd25519(key) ? ED25519 : SHA256_WITH_ECDSA;
+  }
+
+  /**
+   * Returns the specified public key in a form that the providers of its algorithm accept. An
+   * Ed25519 key of a certificate is decoded again with the {@link KeyFactory} of the algorithm,
+   * since the certificate parser of older JDKs returns it as an opaque key.
+   *
+   * @param key a public key
+   * @return a public key that can be used for verification
+   * @throws SignatureException if the key can't be decoded
+   */
+  public static PublicKey toVerificationKey(PublicKey key) {
+    if (!key.getAlgorithm().equals(ED25519_OID)) {
+      return key;
+    }
+    try {
+      return KeyFactory.getInstance(ED25519)
+          .generatePublic(new X509EncodedKeySpec(key.getEncoded()));
+    } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+      throw new SignatureException(CommonError.SIGNATURE_VALIDATION_FAILED, e.getMessage());
+    }
+  }
+
+  /**
+   * Returns the name of the signature algorithm.
+   *
+   * @return the name of the signature algorithm
+   */
+  public String getAlgorithm() {
+    return algorithm;
+  }
+
+  /**
+   * Verifies the signature of the specified bytes with the specified public key.
+   *
+   * @param key a public key
+   * @param toBeValidated a byte array whose signature will be verified
+   * @param signatureBytes the bytes of the signature
+   * @return true if the signature corresponds to the bytes; false otherwise
+   * @throws SignatureException if it fails to verify
+   */
+  public boolean verify(PublicKey key, byte[] toBeValidated, byte[] signatureBytes) {
+    try {
+      Signature signature = borrow();
+      signature.initVerify(key);
+      signature.update(toBeValidated);
+      boolean verified = signature.verify(signatureBytes);
+      // An instance is returned to the pool only if it has been reset by completing the operation
+      release(signature);
+      return verified;
+    } catch (GeneralSecurityException e) {
+      throw new SignatureException(CommonError.SIGNATURE_VALIDATION_FAILED, e.getMessage());
+    }
+  }
+
+  /**
+   * Verifies the signature of the bytes that the specified buffers hold in order with the specified
+   * public key. The positions of the buffers are not changed.
+   *
+   * @param key a public key
+   * @param toBeValidated a list of buffers whose remaining bytes will be verified
+   * @param signatureBytes the bytes of the signature
+   * @return true if the signature corresponds to the bytes; false otherwise
+   * @throws SignatureException if it fails to verify
+   */
+  public boolean verify(PublicKey key, List<ByteBuffer> toBeValidated, byte[] signatureBytes) {
+    try {
+      Signature signature = borrow();
+      signature.initVerify(key);
+      for (ByteBuffer buffer : toBeValidated) {
+        signature.update(buffer.duplicate());
+      }
+      boolean verified = signature.verify(signatureBytes);
+      release(signature);
+      return verified;
+    } catch (GeneralSecurityException e) {
+      throw new SignatureException(CommonError.SIGNATURE_VALIDATION_FAILED, e.getMessage());
+    }
+  }
+
+  /**
+   * Signs the specified bytes with the specified private key.
+   *
+   * @param key a private key
+   * @param bytes the byte array to sign
+   * @return the signature bytes
+   * @throws SignatureException if it fails to sign
+   */
+  public byte[] sign(PrivateKey key, byte[] bytes) {
+    try {
+      Signature signature = borrow();
+      signature.initSign(key);
+      signature.update(bytes);
+      byte[] signed = signature.sign();
+      release(signature);
+      return signed;
+    } catch (GeneralSecurityException e) {
+      throw new SignatureException(CommonError.SIGNATURE_SIGNING_FAILED, e.getMessage());
+    }
+  }
+
+  private Signature borrow() throws NoSuchAlgorithmException {
+    Signature signature = pool.poll();
+    if (signature != null) {
+      return signature;
+    }
+    return provider == null
+        ? Signature.getInstance(algorithm)
+        : Signature.getInstance(algorithm, provider);
+  }
+
+  private void release(Signature signature) {
+    // Discarded if the pool is full, which only happens beyond the usual concurrency
+    pool.offer(signature);
+  }
+
+  private static boolean isEd25519(Key key) {
+    switch (key.getAlgorithm()) {
+      case ED25519:
+      case ED25519_OID:
+        return true;
+      case "EdDSA":
+        // Also used for Ed448 keys, so the curve is told by the OID in the encoded key
+        byte[] encoded = key.getEncoded();
+        return encoded != null && Bytes.indexOf(encoded, ED25519_OID_DER) >= 0;
+      default:
+        return false;
+    }
+  }
+}
@@ -1,6 +1,25 @@
 package com.scalar.dl.ledger.crypto;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+
 public interface SignatureValidator {
 
   boolean validate(byte[] toBeValidated, byte[] signatureBytes);
+
+  /**
+   * Validates the signature of the bytes that the specified buffers hold in order. It lets bytes
+   * held in separate buffers be validated without copying them into an array, though they are
+   * copied by default. The positions of the buffers are not changed.
+   *
+   * @param toBeValidated a list of buffers whose remaining bytes will be validated
+   * @param signatureBytes the bytes of the signature
+   * @return true if the signature corresponds to the bytes; false otherwise
+   */
+  default boolean validateBuffers(List<ByteBuffer> toBeValidated, byte[] signatureBytes) {
+    ByteBuffer buffer =
+        ByteBuffer.allocate(toBeValidated.stream().mapToInt(ByteBuffer::remaining).sum());
+    toBeValidated.forEach(b -> buffer.put(b.duplicate()));
+    return validate(buffer.array(), signatureBytes);
+  }
 }
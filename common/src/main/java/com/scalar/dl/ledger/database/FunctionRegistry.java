@@ -10,4 +10,17 @@ public interface FunctionRegistry {
   void unbind(String namespace, String id);
 
   Optional<FunctionEntry> lookup(String namespace, String id);
+
+  /**
+   * Returns the version (i.e. the registration time) of the specified function, which tells if the
+   * function has been registered again since it was looked up. Implementations should read it
+   * without the bytecode of the function.
+   *
+   * @param namespace a namespace of the function
+   * @param id the ID of the function
+   * @return an {@code Optional} with the version, or empty if the function is not registered
+   */
+  default Optional<Long> lookupVersion(String namespace, String id) {
+    return lookup(namespace, id).map(FunctionEntry::getRegisteredAt);
+  }
 }
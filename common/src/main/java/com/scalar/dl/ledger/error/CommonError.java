@@ -315,6 +315,42 @@ public enum CommonError implements ScalarDlError {
       "The specified namespace is reserved and cannot be created or deleted. Name: %s",
       "",
       "Use a different namespace name that is not reserved. Reserved namespaces are managed by the system and cannot be modified."),
+  INVALID_GRPC_SERVER_EXECUTOR(
+      StatusCode.INVALID_ARGUMENT,
+      "022",
+      "The gRPC server executor name is invalid. Name: %s",
+      "",
+      "Set the gRPC server executor to a valid value (like 'default' or 'virtual-thread') in your configuration."),
+  VIRTUAL_THREAD_NOT_SUPPORTED(
+      StatusCode.INVALID_ARGUMENT,
+      "023",
+      "Virtual threads are not supported in the running JVM.",
+      "",
+      "Run the server with Java 21 or later, or use the default gRPC server executor."),
+  INVALID_TRACING_EXPORTER(
+      StatusCode.INVALID_ARGUMENT,
+      "024",
+      "The tracing exporter name is invalid. Name: %s",
+      "",
+      "Set the tracing exporter to a valid value (like 'file' or 'memory') in your configuration."),
+  TRACING_SAMPLING_RATIO_MUST_BE_BETWEEN_ZERO_AND_ONE(
+      StatusCode.INVALID_ARGUMENT,
+      "025",
+      "The tracing sampling ratio must be between 0.0 and 1.0. Value: %s",
+      "",
+      "Set the tracing sampling ratio to a value between 0.0 and 1.0 in your configuration."),
+  TRACING_FILE_PATH_REQUIRED(
+      StatusCode.INVALID_ARGUMENT,
+      "026",
+      "The file path is required for the file tracing exporter.",
+      "",
+      "Set the path of the file to write the spans to in your configuration."),
+  OPENING_TRACING_FILE_FAILED(
+      StatusCode.INVALID_ARGUMENT,
+      "027",
+      "Opening the file to write the spans to failed. File: %s",
+      "",
+      "Verify that the directory of the file exists and is writable."),
 
   //
   // Errors for SECRET_NOT_FOUND(415)
@@ -0,0 +1,152 @@
+package com.scalar.dl.ledger.function;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded cache of the classes of registered functions per namespace and function ID.
+ *
+ * <p>A function can be registered again with the same ID to overwrite it, possibly on another
+ * ledger node, so each cached class is kept with the registration time of the {@link
+ * FunctionEntry} it is defined from as its version. A cached class is used without reading the
+ * registry only within the revalidation interval after it is cached or revalidated. After that, it
+ * is used only if its version still matches the one in the registry, which is read without the
+ * bytecode. An entry is invalidated when the function is registered on this node.
+ */
+@ThreadSafe
+public class FunctionCache {
+  private static final FunctionCache DISABLED = new FunctionCache(0, 0);
+  @Nullable private final Cache<Key, CachedFunction> cache;
+  private final long revalidationIntervalMillis;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Constructs a {@code FunctionCache}.
+   *
+   * @param maxSize the maximum number of functions to cache, or 0 to disable the cache
+   * @param revalidationIntervalMillis the time in milliseconds that a cached function is used
+   *     without checking its version in the registry
+   */
+  public FunctionCache(long maxSize, long revalidationIntervalMillis) {
+    this.cache = maxSize > 0 ? CacheBuilder.newBuilder().maximumSize(maxSize).build() : null;
+    this.revalidationIntervalMillis = revalidationIntervalMillis;
+  }
+
+  /**
+   * Returns a {@code FunctionCache} that caches nothing.
+   *
+   * @return a {@code FunctionCache}
+   */
+  public static FunctionCache disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return cache != null;
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long size() {
+    return cache == null ? 0 : cache.size();
+  }
+
+  @Nullable
+  CachedFunction get(String namespace, String id) {
+    return cache == null ? null : cache.getIfPresent(new Key(namespace, id));
+  }
+
+  void put(String namespace, String id, long version, Class<?> clazz) {
+    if (cache != null) {
+      cache.put(new Key(namespace, id), new CachedFunction(version, clazz, now()));
+    }
+  }
+
+  void invalidate(String namespace, String id) {
+    if (cache != null) {
+      cache.invalidate(new Key(namespace, id));
+    }
+  }
+
+  boolean needsRevalidation(CachedFunction function) {
+    return now() - function.validatedAt >= revalidationIntervalMillis;
+  }
+
+  void revalidated(CachedFunction function) {
+    function.validatedAt = now();
+  }
+
+  void recordHit() {
+    hits.increment();
+  }
+
+  void recordMiss() {
+    misses.increment();
+  }
+
+  private long now() {
+    return System.currentTimeMillis();
+  }
+
+  /** A class of a function cached with the version of its entry. */
+  @ThreadSafe
+  static class CachedFunction {
+    private final long version;
+    private final Class<?> clazz;
+    private volatile long validatedAt;
+
+    private CachedFunction(long version, Class<?> clazz, long validatedAt) {
+      this.version = version;
+      this.clazz = clazz;
+      this.validatedAt = validatedAt;
+    }
+
+    long getVersion() {
+      return version;
+    }
+
+    Class<?> getFunctionClass() {
+      return clazz;
+    }
+  }
+
+  @Immutable
+  private static class Key {
+    private final String namespace;
+    private final String id;
+
+    private Key(String namespace, String id) {
+      this.namespace = namespace;
+      this.id = id;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(namespace, id);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == this) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key another = (Key) o;
+      return namespace.equals(another.namespace) && id.equals(another.id);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.scalar.dl.ledger.function;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.hash.Hashing;
 import com.scalar.dl.ledger.model.FunctionRegistrationRequest;
 import com.scalar.dl.ledger.model.SignedFunctionRegistrationRequest;
 import com.scalar.dl.ledger.util.Time;
@@ -57,6 +58,16 @@ public class FunctionEntry {
     return byteCode;
   }
 
+  /**
+   * Returns the SHA-256 hash of the bytecode of the function contained in the {@code
+   * FunctionEntry}.
+   *
+   * @return the SHA-256 hash of the bytecode of the function
+   */
+  public byte[] getByteCodeHash() {
+    return Hashing.sha256().hashBytes(byteCode).asBytes();
+  }
+
   /**
    * Returns the registered at time of the {@code FunctionEntry}.
    *
@@ -1,10 +1,15 @@
 package com.scalar.dl.ledger.function;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.inject.Inject;
+import com.scalar.dl.ledger.namespace.Namespaces;
 import java.security.ProtectionDomain;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * A class loader for a Functioin from its bytecode.
@@ -12,33 +17,125 @@ import javax.annotation.concurrent.Immutable;
  * <p>The {@code defineClass} method in this class creates an instance of the {@link Function} or
  * the {@link FunctionBase} class from its corresponding bytecode. It only grants the given
  * permissions with {@code ProtectionDomain}.
+ *
+ * <p>The classes of each namespace are managed by a class loader of the namespace, so functions of
+ * different namespaces can have the same binary name, and a function refers only to the classes of
+ * the other functions of its namespace. Since a function can be registered again with different
+ * bytecode under the same binary name, each class is defined in a class loader of its own, and a
+ * class is defined again, replacing the previous one in the namespace loader, when it is requested
+ * with bytecode whose hash is different from the one it was defined from. The loaders of the least
+ * recently used namespaces are evicted beyond the maximum number of namespaces as in {@link
+ * com.scalar.dl.ledger.contract.ContractLoader}. A replaced or evicted class can be unloaded once
+ * no instance of it is in use, and it is defined again in a new loader when it is needed.
  */
-@Immutable
+@ThreadSafe
 public class FunctionLoader extends ClassLoader {
-  private final Map<String, Class<?>> loadedMap;
+  private static final int DEFAULT_MAX_NAMESPACES = 256;
+  private final LoadingCache<String, NamespaceLoader> loaders;
   private final ProtectionDomain protectionDomain;
 
   @Inject
   public FunctionLoader(ProtectionDomain protectionDomain) {
-    this.loadedMap = new ConcurrentHashMap<>();
+    this(protectionDomain, DEFAULT_MAX_NAMESPACES);
+  }
+
+  public FunctionLoader(ProtectionDomain protectionDomain, int maxNamespaces) {
+    this.loaders =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxNamespaces)
+            .build(CacheLoader.from(namespace -> new NamespaceLoader(this)));
     this.protectionDomain = protectionDomain;
   }
 
   /**
-   * Turns the bytecode of a registered transaction into a {@code Function} instance.
+   * Turns the bytecode of a registered function of the default namespace into a {@code Function}
+   * instance.
    *
    * @param entry the entry of a {@code Function} that will be loaded
    * @return a {@code Function}
    */
   public Class<?> defineClass(FunctionEntry entry) {
-    return loadedMap.computeIfAbsent(
-        entry.getBinaryName(),
-        k ->
-            defineClass(
-                entry.getBinaryName(),
-                entry.getByteCode(),
-                0,
-                entry.getByteCode().length,
-                protectionDomain));
+    return defineClass(Namespaces.DEFAULT, entry);
+  }
+
+  /**
+   * Turns the bytecode of a registered function of the specified namespace into a {@code Function}
+   * instance.
+   *
+   * @param namespace the namespace where the function is registered
+   * @param entry the entry of a {@code Function} that will be loaded
+   * @return a {@code Function}
+   */
+  public Class<?> defineClass(String namespace, FunctionEntry entry) {
+    return loaders.getUnchecked(namespace).define(entry, protectionDomain);
+  }
+
+  /**
+   * Returns the number of namespaces whose class loaders are currently kept.
+   *
+   * @return the number of class loaders
+   */
+  public long getLoaderCount() {
+    return loaders.size();
+  }
+
+  /** A class loader that keeps the classes of the functions of a namespace. */
+  private static class NamespaceLoader extends ClassLoader {
+    private final Map<String, DefinedClass> loadedMap;
+
+    NamespaceLoader(ClassLoader parent) {
+      super(parent);
+      this.loadedMap = new ConcurrentHashMap<>();
+    }
+
+    Class<?> define(FunctionEntry entry, ProtectionDomain protectionDomain) {
+      byte[] byteCodeHash = entry.getByteCodeHash();
+      return loadedMap
+          .compute(
+              entry.getBinaryName(),
+              (k, defined) ->
+                  defined != null && Arrays.equals(defined.byteCodeHash, byteCodeHash)
+                      ? defined
+                      : new DefinedClass(
+                          byteCodeHash, new EntryLoader(this).define(entry, protectionDomain)))
+          .clazz;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+      // Lets a function refer to the classes of the other functions of the namespace
+      DefinedClass defined = loadedMap.get(name);
+      if (defined == null) {
+        throw new ClassNotFoundException(name);
+      }
+      return defined.clazz;
+    }
+  }
+
+  private static class DefinedClass {
+    private final byte[] byteCodeHash;
+    private final Class<?> clazz;
+
+    private DefinedClass(byte[] byteCodeHash, Class<?> clazz) {
+      this.byteCodeHash = byteCodeHash;
+      this.clazz = clazz;
+    }
+  }
+
+  /** A class loader for a class of a function. */
+  private static class EntryLoader extends ClassLoader {
+
+    EntryLoader(ClassLoader parent) {
+      super(parent);
+    }
+
+    Class<?> define(FunctionEntry entry, ProtectionDomain protectionDomain) {
+      return defineClass(
+          entry.getBinaryName(),
+          entry.getByteCode(),
+          0,
+          entry.getByteCode().length,
+          protectionDomain);
+    }
   }
 }
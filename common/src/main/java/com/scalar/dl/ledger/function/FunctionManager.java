@@ -9,22 +9,39 @@ import com.scalar.dl.ledger.exception.UnloadableFunctionException;
 import java.util.Optional;
 import javax.annotation.concurrent.ThreadSafe;
 
+/**
+ * A manager to store {@link FunctionEntry}s in a {@link FunctionRegistry} and instantiate {@link
+ * FunctionMachine}s from their ids.
+ *
+ * <p>The classes of the functions are cached in a {@link FunctionCache} so that a function
+ * invocation does not have to read the entry with its bytecode from the {@link FunctionRegistry}
+ * and define the class every time. See {@link FunctionCache} for how a cached class is kept
+ * consistent with the registry.
+ */
 @ThreadSafe
 public class FunctionManager {
   private final FunctionRegistry registry;
   private final FunctionLoader loader;
+  private final FunctionCache cache;
 
-  @Inject
   public FunctionManager(FunctionRegistry registry, FunctionLoader loader) {
+    this(registry, loader, FunctionCache.disabled());
+  }
+
+  @Inject
+  public FunctionManager(FunctionRegistry registry, FunctionLoader loader, FunctionCache cache) {
     this.registry = registry;
     this.loader = loader;
+    this.cache = cache;
   }
 
   public void register(String namespace, FunctionEntry entry) {
     // verify if a specified function is loadable.
-    getInstance(entry);
+    getInstance(namespace, entry);
 
     registry.bind(namespace, entry);
+    // The other ledger nodes notice it with the version on revalidation
+    cache.invalidate(namespace, entry.getId());
   }
 
   public boolean exists(String namespace, String functionId) {
@@ -45,6 +62,13 @@ public class FunctionManager {
     return function;
   }
 
+  public FunctionMachine getInstance(String namespace, FunctionEntry entry) {
+    Class<?> functionClazz = defineClass(namespace, entry);
+    FunctionMachine function = new FunctionMachine(createInstance(functionClazz));
+    function.initialize(this, namespace);
+    return function;
+  }
+
   public FunctionMachine getInstance(String namespace, String id) {
     Class<?> functionClazz = defineClass(namespace, id);
     FunctionMachine function = new FunctionMachine(createInstance(functionClazz));
@@ -62,11 +86,34 @@ public class FunctionManager {
     }
   }
 
+  @VisibleForTesting
+  Class<?> defineClass(String namespace, FunctionEntry entry) {
+    try {
+      return loader.defineClass(namespace, entry);
+    } catch (Exception e) {
+      throw new UnloadableFunctionException(
+          CommonLedgerError.LOADING_FUNCTION_FAILED, e, e.getMessage());
+    }
+  }
+
   @VisibleForTesting
   Class<?> defineClass(String namespace, String id) {
+    FunctionCache.CachedFunction cached = cache.get(namespace, id);
+    if (cached != null && isValid(namespace, id, cached)) {
+      cache.recordHit();
+      return cached.getFunctionClass();
+    }
+    if (cache.isEnabled()) {
+      cache.recordMiss();
+    }
+
     try {
-      return loader.defineClass(get(namespace, id));
+      FunctionEntry entry = get(namespace, id);
+      Class<?> clazz = loader.defineClass(namespace, entry);
+      cache.put(namespace, id, entry.getRegisteredAt(), clazz);
+      return clazz;
     } catch (MissingFunctionException e) {
+      cache.invalidate(namespace, id);
       throw e;
     } catch (Exception e) {
       throw new UnloadableFunctionException(
@@ -74,6 +121,18 @@ public class FunctionManager {
     }
   }
 
+  private boolean isValid(String namespace, String id, FunctionCache.CachedFunction cached) {
+    if (!cache.needsRevalidation(cached)) {
+      return true;
+    }
+    Optional<Long> version = registry.lookupVersion(namespace, id);
+    if (!version.isPresent() || version.get() != cached.getVersion()) {
+      return false;
+    }
+    cache.revalidated(cached);
+    return true;
+  }
+
   private Object createInstance(Class<?> clazz) {
     try {
       return clazz.getConstructor().newInstance();
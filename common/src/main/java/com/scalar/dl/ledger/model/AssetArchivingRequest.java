@@ -0,0 +1,66 @@
+package com.scalar.dl.ledger.model;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+@Immutable
+public class AssetArchivingRequest {
+  @Nullable private final String namespace;
+  @Nonnull private final String assetId;
+
+  /**
+   * Constructs an {@code AssetArchivingRequest} with the specified namespace and asset ID.
+   *
+   * @param namespace a namespace of the asset, or null for the default namespace
+   * @param assetId an ID of the asset
+   */
+  public AssetArchivingRequest(@Nullable String namespace, String assetId) {
+    this.namespace = namespace;
+    this.assetId = checkNotNull(assetId);
+  }
+
+  /**
+   * Returns the namespace of the asset.
+   *
+   * @return the namespace of the asset
+   */
+  @Nullable
+  public String getNamespace() {
+    return namespace;
+  }
+
+  /**
+   * Returns the ID of the asset.
+   *
+   * @return the ID of the asset
+   */
+  public String getAssetId() {
+    return assetId;
+  }
+
+  /**
+   * Returns a hash code value for the object.
+   *
+   * @return a hash code value for this object.
+   */
+  @Override
+  public int hashCode() {
+    return Objects.hash(namespace, assetId);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof AssetArchivingRequest)) {
+      return false;
+    }
+    AssetArchivingRequest other = (AssetArchivingRequest) o;
+    return Objects.equals(this.namespace, other.namespace) && this.assetId.equals(other.assetId);
+  }
+}
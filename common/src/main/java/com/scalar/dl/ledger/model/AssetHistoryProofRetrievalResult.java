@@ -0,0 +1,35 @@
+package com.scalar.dl.ledger.model;
+
+import com.scalar.dl.ledger.proof.AssetHistoryConsistencyProof;
+import com.scalar.dl.ledger.proof.AssetHistoryProof;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+@Immutable
+public class AssetHistoryProofRetrievalResult {
+  private final AssetHistoryProof proof;
+  @Nullable private final AssetHistoryConsistencyProof consistencyProof;
+
+  /**
+   * Constructs an {@code AssetHistoryProofRetrievalResult} with the specified proofs, which are
+   * created from the same history of the asset.
+   *
+   * @param proof an inclusion proof of the requested age
+   * @param consistencyProof a consistency proof from the requested old size, or null if it is not
+   *     requested
+   */
+  public AssetHistoryProofRetrievalResult(
+      AssetHistoryProof proof, @Nullable AssetHistoryConsistencyProof consistencyProof) {
+    this.proof = proof;
+    this.consistencyProof = consistencyProof;
+  }
+
+  public AssetHistoryProof getProof() {
+    return proof;
+  }
+
+  public Optional<AssetHistoryConsistencyProof> getConsistencyProof() {
+    return Optional.ofNullable(consistencyProof);
+  }
+}
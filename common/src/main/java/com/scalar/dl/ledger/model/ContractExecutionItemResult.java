@@ -0,0 +1,111 @@
+package com.scalar.dl.ledger.model;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.scalar.dl.ledger.service.StatusCode;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The result of one of the contract executions requested in a batch. It contains either the {@link
+ * ContractExecutionResult} of a successful execution or the status code and message of a failed
+ * one.
+ */
+@Immutable
+public final class ContractExecutionItemResult {
+  private final StatusCode code;
+  @Nullable private final String message;
+  @Nullable private final ContractExecutionResult result;
+
+  private ContractExecutionItemResult(
+      StatusCode code, @Nullable String message, @Nullable ContractExecutionResult result) {
+    this.code = checkNotNull(code);
+    this.message = message;
+    this.result = result;
+  }
+
+  /**
+   * Returns a {@code ContractExecutionItemResult} of a successful execution.
+   *
+   * @param result a {@link ContractExecutionResult}
+   * @return a {@code ContractExecutionItemResult}
+   */
+  public static ContractExecutionItemResult succeeded(ContractExecutionResult result) {
+    return new ContractExecutionItemResult(StatusCode.OK, null, checkNotNull(result));
+  }
+
+  /**
+   * Returns a {@code ContractExecutionItemResult} of a failed execution.
+   *
+   * @param code a {@link StatusCode} other than {@link StatusCode#OK}
+   * @param message an error message
+   * @return a {@code ContractExecutionItemResult}
+   */
+  public static ContractExecutionItemResult failed(StatusCode code, @Nullable String message) {
+    checkArgument(code != StatusCode.OK);
+    return new ContractExecutionItemResult(code, message, null);
+  }
+
+  /**
+   * Returns true if the execution succeeded.
+   *
+   * @return true if the execution succeeded
+   */
+  public boolean isSucceeded() {
+    return code == StatusCode.OK;
+  }
+
+  /**
+   * Returns the status code of the execution.
+   *
+   * @return the status code of the execution
+   */
+  public StatusCode getStatusCode() {
+    return code;
+  }
+
+  /**
+   * Returns the error message if the execution failed.
+   *
+   * @return the error message if the execution failed
+   */
+  public Optional<String> getMessage() {
+    return Optional.ofNullable(message);
+  }
+
+  /**
+   * Returns the {@link ContractExecutionResult} if the execution succeeded.
+   *
+   * @return the {@link ContractExecutionResult} if the execution succeeded
+   */
+  public Optional<ContractExecutionResult> getResult() {
+    return Optional.ofNullable(result);
+  }
+
+  /**
+   * Returns a hash code value for the object.
+   *
+   * @return a hash code value for this object.
+   */
+  @Override
+  public int hashCode() {
+    return Objects.hash(code, message, result);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof ContractExecutionItemResult)) {
+      return false;
+    }
+    ContractExecutionItemResult other = (ContractExecutionItemResult) o;
+    return code == other.code
+        && Objects.equals(message, other.message)
+        && Objects.equals(result, other.result);
+  }
+}
@@ -2,6 +2,7 @@ package com.scalar.dl.ledger.model;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import com.google.common.primitives.Ints;
 import com.scalar.dl.ledger.crypto.SignatureValidator;
 import com.scalar.dl.ledger.error.CommonError;
 import com.scalar.dl.ledger.error.CommonLedgerError;
@@ -152,11 +153,17 @@ public class ContractExecutionRequest extends AbstractRequest {
   public void validateWith(SignatureValidator validator) {
     // proofs are not included in the signature because including it doesn't make much difference.
     // It assumes that nonce is appended to the argument by clients.
-    byte[] bytes =
-        serialize(
-            contractId, contractArgument, getContextNamespace(), getEntityId(), getKeyVersion());
+    // The encoded fields are given to the validator separately so that they are not copied into
+    // another array, which is not negligible for a large argument.
+    List<ByteBuffer> buffers =
+        Arrays.asList(
+            ByteBuffer.wrap(contractId.getBytes(StandardCharsets.UTF_8)),
+            ByteBuffer.wrap(contractArgument.getBytes(StandardCharsets.UTF_8)),
+            ByteBuffer.wrap(serializeContextNamespace(getContextNamespace())),
+            ByteBuffer.wrap(getEntityId().getBytes(StandardCharsets.UTF_8)),
+            ByteBuffer.wrap(Ints.toByteArray(getKeyVersion())));
 
-    if (!validator.validate(bytes, signature)) {
+    if (!validator.validateBuffers(buffers, signature)) {
       throw new SignatureException(CommonError.REQUEST_SIGNATURE_VALIDATION_FAILED);
     }
   }
@@ -168,9 +175,7 @@ public class ContractExecutionRequest extends AbstractRequest {
    * @throws SignatureException if the signature is invalid.
    */
   public void validateAuditorSignatureWith(SignatureValidator validator) {
-    ByteBuffer buffer = ByteBuffer.allocate(nonce.getBytes(StandardCharsets.UTF_8).length);
-    buffer.put(nonce.getBytes(StandardCharsets.UTF_8));
-    byte[] bytes = buffer.array();
+    byte[] bytes = nonce.getBytes(StandardCharsets.UTF_8);
 
     if (!validator.validate(bytes, auditorSignature)) {
       throw new SignatureException(CommonLedgerError.AUDITOR_SIGNATURE_VALIDATION_FAILED);
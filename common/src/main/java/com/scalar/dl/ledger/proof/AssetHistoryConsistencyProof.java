@@ -0,0 +1,137 @@
+package com.scalar.dl.ledger.proof;
+
+import com.google.common.base.MoreObjects;
+import com.scalar.dl.ledger.crypto.SignatureValidator;
+import com.scalar.dl.ledger.error.CommonError;
+import com.scalar.dl.ledger.exception.SignatureException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A proof that the history of an asset of {@code oldSize} records is a prefix of the history of
+ * {@code size} records whose root is signed by the ledger, i.e., the records the client saw before
+ * have not been changed since. A client compares {@link #getOldRoot()} with the root it kept, e.g.,
+ * from {@link AssetHistoryProof#getRoot()}.
+ */
+@Immutable
+public final class AssetHistoryConsistencyProof {
+  private final String namespace;
+  private final String id;
+  private final long oldSize;
+  private final List<byte[]> oldPeaks;
+  private final long size;
+  private final List<byte[]> peaks;
+  private final List<List<byte[]>> paths;
+  private final byte[] signature;
+
+  /**
+   * Constructs an {@code AssetHistoryConsistencyProof}.
+   *
+   * @param namespace the namespace of the asset
+   * @param id the ID of the asset
+   * @param oldSize the number of records in the old history
+   * @param oldPeaks the peaks of the old history from left to right
+   * @param size the number of records in the new history
+   * @param peaks the peaks of the new history from left to right
+   * @param paths the siblings of the nodes from each old peak up to its peak in the new history
+   * @param signature the signature of the ledger over {@link AssetHistoryProof#serializeRoot} for
+   *     the new history
+   */
+  public AssetHistoryConsistencyProof(
+      String namespace,
+      String id,
+      long oldSize,
+      List<byte[]> oldPeaks,
+      long size,
+      List<byte[]> peaks,
+      List<List<byte[]>> paths,
+      byte[] signature) {
+    this.namespace = namespace;
+    this.id = id;
+    this.oldSize = oldSize;
+    this.oldPeaks = AssetHistoryProof.copy(oldPeaks);
+    this.size = size;
+    this.peaks = AssetHistoryProof.copy(peaks);
+    List<List<byte[]>> copied = new ArrayList<>(paths.size());
+    paths.forEach(p -> copied.add(AssetHistoryProof.copy(p)));
+    this.paths = Collections.unmodifiableList(copied);
+    this.signature = Arrays.copyOf(signature, signature.length);
+  }
+
+  public String getNamespace() {
+    return namespace;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public long getOldSize() {
+    return oldSize;
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  public List<byte[]> getOldPeaks() {
+    return AssetHistoryProof.copy(oldPeaks);
+  }
+
+  public List<byte[]> getPeaks() {
+    return AssetHistoryProof.copy(peaks);
+  }
+
+  public List<List<byte[]>> getPaths() {
+    List<List<byte[]>> copied = new ArrayList<>(paths.size());
+    paths.forEach(p -> copied.add(AssetHistoryProof.copy(p)));
+    return copied;
+  }
+
+  public byte[] getOldRoot() {
+    return MerkleMountainRange.bagPeaks(oldPeaks);
+  }
+
+  public byte[] getRoot() {
+    return MerkleMountainRange.bagPeaks(peaks);
+  }
+
+  public byte[] getSignature() {
+    return Arrays.copyOf(signature, signature.length);
+  }
+
+  /**
+   * Validates that the old history is a prefix of the new history and the new history is signed by
+   * the ledger.
+   *
+   * @param validator a {@link SignatureValidator} of the ledger
+   * @throws SignatureException if the proof is not valid
+   */
+  public void validateWith(SignatureValidator validator) {
+    if (!MerkleMountainRange.verifyConsistency(oldSize, oldPeaks, size, peaks, paths)
+        || !validator.validate(
+            AssetHistoryProof.serializeRoot(namespace, id, size, getRoot()), signature)) {
+      throw new SignatureException(CommonError.PROOF_SIGNATURE_VALIDATION_FAILED);
+    }
+  }
+
+  @Override
+  public String toString() {
+    List<List<String>> encodedPaths = new ArrayList<>(paths.size());
+    paths.forEach(p -> encodedPaths.add(AssetHistoryProof.encode(p)));
+    return MoreObjects.toStringHelper(this)
+        .add("namespace", namespace)
+        .add("id", id)
+        .add("old_size", oldSize)
+        .add("old_peaks", AssetHistoryProof.encode(oldPeaks))
+        .add("size", size)
+        .add("peaks", AssetHistoryProof.encode(peaks))
+        .add("paths", encodedPaths)
+        .add("signature", Base64.getEncoder().encodeToString(signature))
+        .toString();
+  }
+}
@@ -0,0 +1,166 @@
+package com.scalar.dl.ledger.proof;
+
+import com.google.common.base.MoreObjects;
+import com.scalar.dl.ledger.crypto.SignatureValidator;
+import com.scalar.dl.ledger.error.CommonError;
+import com.scalar.dl.ledger.exception.SignatureException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A proof that a record of an asset is included in the history of the asset, i.e., in the {@link
+ * MerkleMountainRange} over the first {@code size} records of the asset, whose root is signed by
+ * the ledger. The proof consists of {@code O(log size)} hashes, so a client can verify an old
+ * record without retrieving the records after it.
+ */
+@Immutable
+public final class AssetHistoryProof {
+  private final String namespace;
+  private final String id;
+  private final int age;
+  private final byte[] hash;
+  private final long size;
+  private final List<byte[]> path;
+  private final List<byte[]> peaks;
+  private final byte[] signature;
+
+  /**
+   * Constructs an {@code AssetHistoryProof}.
+   *
+   * @param namespace the namespace of the asset
+   * @param id the ID of the asset
+   * @param age the age of the record
+   * @param hash the hash of the record
+   * @param size the number of records in the history
+   * @param path the siblings of the nodes from the leaf of the record up to its peak
+   * @param peaks the peaks of the history from left to right
+   * @param signature the signature of the ledger over {@link #serializeRoot}
+   */
+  public AssetHistoryProof(
+      String namespace,
+      String id,
+      int age,
+      byte[] hash,
+      long size,
+      List<byte[]> path,
+      List<byte[]> peaks,
+      byte[] signature) {
+    this.namespace = namespace;
+    this.id = id;
+    this.age = age;
+    this.hash = Arrays.copyOf(hash, hash.length);
+    this.size = size;
+    this.path = copy(path);
+    this.peaks = copy(peaks);
+    this.signature = Arrays.copyOf(signature, signature.length);
+  }
+
+  public String getNamespace() {
+    return namespace;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public int getAge() {
+    return age;
+  }
+
+  public byte[] getHash() {
+    return Arrays.copyOf(hash, hash.length);
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  public List<byte[]> getPath() {
+    return copy(path);
+  }
+
+  public List<byte[]> getPeaks() {
+    return copy(peaks);
+  }
+
+  public byte[] getSignature() {
+    return Arrays.copyOf(signature, signature.length);
+  }
+
+  /**
+   * Returns the root of the history. A client can keep it to check the consistency of a later
+   * history with {@link AssetHistoryConsistencyProof}.
+   *
+   * @return the root of the history
+   */
+  public byte[] getRoot() {
+    return MerkleMountainRange.bagPeaks(peaks);
+  }
+
+  /**
+   * Validates that the record is included in the history and the history is signed by the ledger.
+   *
+   * @param validator a {@link SignatureValidator} of the ledger
+   * @throws SignatureException if the proof is not valid
+   */
+  public void validateWith(SignatureValidator validator) {
+    byte[] root = MerkleMountainRange.computeRoot(hash, age, size, path, peaks);
+    if (root == null || !validator.validate(serializeRoot(namespace, id, size, root), signature)) {
+      throw new SignatureException(CommonError.PROOF_SIGNATURE_VALIDATION_FAILED);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("namespace", namespace)
+        .add("id", id)
+        .add("age", age)
+        .add("hash", Base64.getEncoder().encodeToString(hash))
+        .add("size", size)
+        .add("path", encode(path))
+        .add("peaks", encode(peaks))
+        .add("signature", Base64.getEncoder().encodeToString(signature))
+        .toString();
+  }
+
+  /**
+   * Returns the bytes that the ledger signs for the history of an asset.
+   *
+   * @param namespace the namespace of the asset
+   * @param id the ID of the asset
+   * @param size the number of records in the history
+   * @param root the root of the history
+   * @return the serialized bytes
+   */
+  public static byte[] serializeRoot(String namespace, String id, long size, byte[] root) {
+    byte[] namespaceBytes = namespace.getBytes(StandardCharsets.UTF_8);
+    byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+    return ByteBuffer.allocate(
+            Integer.BYTES * 2 + namespaceBytes.length + idBytes.length + Long.BYTES + root.length)
+        .putInt(namespaceBytes.length)
+        .put(namespaceBytes)
+        .putInt(idBytes.length)
+        .put(idBytes)
+        .putLong(size)
+        .put(root)
+        .array();
+  }
+
+  static List<byte[]> copy(List<byte[]> hashes) {
+    return Collections.unmodifiableList(
+        hashes.stream().map(b -> Arrays.copyOf(b, b.length)).collect(Collectors.toList()));
+  }
+
+  static List<String> encode(List<byte[]> hashes) {
+    return hashes.stream()
+        .map(b -> Base64.getEncoder().encodeToString(b))
+        .collect(Collectors.toList());
+  }
+}
@@ -12,13 +12,24 @@ import com.scalar.dl.ledger.namespace.Namespaces;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
-/** A proof stored in client-side to validate the server ledger states. */
+/**
+ * A proof stored in client-side to validate the server ledger states.
+ *
+ * <p>A proof is signed either on its own or, if the ledger aggregates the proofs of a request, as a
+ * leaf of a {@link MerkleTree} over all the proofs of the request. In the latter case, the proof
+ * carries its index, the number of leaves, and its inclusion path, and the signature is the one
+ * over the root of the tree, which is shared by all the proofs of the request.
+ */
 @Immutable
 public class AssetProof {
   private final String namespace;
@@ -29,6 +40,9 @@ public class AssetProof {
   private final byte[] hash;
   private final byte[] prevHash;
   private final byte[] signature;
+  private final int leafIndex;
+  private final int leafCount;
+  private final List<byte[]> merklePath;
   private final AssetProof.Key key;
 
   /**
@@ -45,6 +59,9 @@ public class AssetProof {
     this.hash = builder.hash;
     this.prevHash = builder.prevHash;
     this.signature = builder.signature;
+    this.leafIndex = builder.leafIndex;
+    this.leafCount = builder.leafCount;
+    this.merklePath = builder.merklePath;
     this.key = new AssetProof.Key(namespace, id, age);
   }
 
@@ -62,6 +79,11 @@ public class AssetProof {
     this.hash = proof.getHash().toByteArray();
     this.prevHash = proof.getPrevHash().toByteArray();
     this.signature = proof.getSignature().toByteArray();
+    this.leafIndex = proof.getMerkleLeafIndex();
+    this.leafCount = proof.getMerkleLeafCount();
+    List<byte[]> merklePath = new ArrayList<>(proof.getMerklePathCount());
+    proof.getMerklePathList().forEach(b -> merklePath.add(b.toByteArray()));
+    this.merklePath = Collections.unmodifiableList(merklePath);
     this.key = new AssetProof.Key(namespace, id, age);
   }
 
@@ -145,6 +167,42 @@ public class AssetProof {
     return Arrays.copyOf(signature, signature.length);
   }
 
+  /**
+   * Returns if the proof is signed as a leaf of a {@link MerkleTree}.
+   *
+   * @return true if the proof is signed as a leaf of a {@link MerkleTree}
+   */
+  public boolean isAggregated() {
+    return leafCount > 0;
+  }
+
+  /**
+   * Returns the index of the proof in the {@link MerkleTree} of the request.
+   *
+   * @return the index of the proof, which is meaningful only if {@link #isAggregated()}
+   */
+  public int getLeafIndex() {
+    return leafIndex;
+  }
+
+  /**
+   * Returns the number of the proofs in the {@link MerkleTree} of the request.
+   *
+   * @return the number of the proofs, or 0 if the proof is not aggregated
+   */
+  public int getLeafCount() {
+    return leafCount;
+  }
+
+  /**
+   * Returns the inclusion path of the proof in the {@link MerkleTree} of the request.
+   *
+   * @return the inclusion path, which is empty if the proof is not aggregated
+   */
+  public List<byte[]> getMerklePath() {
+    return merklePath.stream().map(b -> Arrays.copyOf(b, b.length)).collect(Collectors.toList());
+  }
+
   /**
    * Validates if the proof is not tampered.
    *
@@ -153,8 +211,11 @@ public class AssetProof {
    */
   public void validateWith(SignatureValidator validator) {
     byte[] bytes = serialize(namespace, id, age, nonce, input, hash, prevHash);
+    if (isAggregated()) {
+      bytes = MerkleTree.computeSigningBytes(bytes, leafIndex, leafCount, merklePath);
+    }
 
-    if (!validator.validate(bytes, signature)) {
+    if (bytes == null || !validator.validate(bytes, signature)) {
       throw new SignatureException(CommonError.PROOF_SIGNATURE_VALIDATION_FAILED);
     }
   }
@@ -174,7 +235,9 @@ public class AssetProof {
         input,
         Arrays.hashCode(hash),
         Arrays.hashCode(prevHash),
-        Arrays.hashCode(signature));
+        Arrays.hashCode(signature),
+        leafIndex,
+        leafCount);
   }
 
   /**
@@ -205,7 +268,10 @@ public class AssetProof {
         && this.input.equals(other.input)
         && Arrays.equals(this.hash, other.hash)
         && Arrays.equals(this.prevHash, other.prevHash)
-        && Arrays.equals(this.signature, other.signature);
+        && Arrays.equals(this.signature, other.signature)
+        && this.leafIndex == other.leafIndex
+        && this.leafCount == other.leafCount
+        && Arrays.deepEquals(this.merklePath.toArray(), other.merklePath.toArray());
   }
 
   /**
@@ -248,6 +314,13 @@ public class AssetProof {
         .add("hash", Base64.getEncoder().encodeToString(hash))
         .add("prev_hash", Base64.getEncoder().encodeToString(prevHash))
         .add("signature", Base64.getEncoder().encodeToString(signature))
+        .add("leaf_index", leafIndex)
+        .add("leaf_count", leafCount)
+        .add(
+            "merkle_path",
+            merklePath.stream()
+                .map(b -> Base64.getEncoder().encodeToString(b))
+                .collect(Collectors.toList()))
         .toString();
   }
 
@@ -303,6 +376,9 @@ public class AssetProof {
     private byte[] hash;
     private byte[] prevHash;
     private byte[] signature;
+    private int leafIndex;
+    private int leafCount;
+    private List<byte[]> merklePath;
 
     Builder() {
       this.namespace = null;
@@ -313,6 +389,9 @@ public class AssetProof {
       this.hash = null;
       this.prevHash = null;
       this.signature = null;
+      this.leafIndex = 0;
+      this.leafCount = 0;
+      this.merklePath = Collections.emptyList();
     }
 
     public Builder namespace(String namespace) {
@@ -365,6 +444,23 @@ public class AssetProof {
       return this;
     }
 
+    /**
+     * Sets the position of the proof in the {@link MerkleTree} of the request, which makes the
+     * signature the one over the root of the tree.
+     *
+     * @param leafIndex the index of the proof
+     * @param leafCount the number of the proofs in the tree
+     * @param merklePath the inclusion path of the proof
+     * @return this builder
+     */
+    public Builder merkleLeaf(int leafIndex, int leafCount, List<byte[]> merklePath) {
+      checkArgument(leafIndex >= 0 && leafIndex < leafCount && merklePath != null);
+      this.leafIndex = leafIndex;
+      this.leafCount = leafCount;
+      this.merklePath = Collections.unmodifiableList(new ArrayList<>(merklePath));
+      return this;
+    }
+
     public AssetProof build() {
       if (namespace == null
           || id == null
@@ -0,0 +1,322 @@
+package com.scalar.dl.ledger.proof;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * The algorithms of an append-only Merkle Mountain Range (MMR) over the record hashes of an asset,
+ * where the leaf of age {@code n} is the {@code n}-th leaf. An MMR of {@code n} leaves is a list of
+ * perfect binary trees (peaks) of decreasing heights, one for each bit set in {@code n}, and the
+ * root is the peaks bagged from right to left.
+ *
+ * <p>The nodes are numbered in post-order from 0, so appending a leaf only adds nodes after the
+ * existing ones and never changes them. A leaf is the SHA-256 of {@code 0x00} followed by the
+ * record hash, and an inner node is the SHA-256 of {@code 0x01} followed by its two children, in
+ * the same way as {@link MerkleTree}.
+ *
+ * <p>The inclusion of a record in an MMR of {@code n} leaves is proved with the siblings of the
+ * nodes from its leaf up to its peak and the peaks of the MMR, i.e., {@code O(log n)} hashes. The
+ * consistency of an MMR with a larger one (i.e., the smaller one is a prefix of the larger one) is
+ * proved with the inclusion of each peak of the smaller one in the larger one.
+ */
+public final class MerkleMountainRange {
+  private static final byte LEAF_PREFIX = 0x00;
+  private static final byte NODE_PREFIX = 0x01;
+
+  private MerkleMountainRange() {}
+
+  /**
+   * Returns the number of nodes of an MMR of the specified number of leaves.
+   *
+   * @param leafCount the number of leaves
+   * @return the number of nodes
+   */
+  public static long getNodeCount(long leafCount) {
+    return 2 * leafCount - Long.bitCount(leafCount);
+  }
+
+  /**
+   * Returns the number of leaves of an MMR of the specified number of nodes.
+   *
+   * @param nodeCount the number of nodes
+   * @return the number of leaves, or -1 if no MMR has the number of nodes
+   */
+  public static long getLeafCount(long nodeCount) {
+    // The number of nodes is between 2n - 64 and 2n for n leaves
+    for (long leafCount = (nodeCount + 1) / 2; leafCount <= nodeCount / 2 + 32; leafCount++) {
+      if (getNodeCount(leafCount) == nodeCount) {
+        return leafCount;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the position of the specified leaf.
+   *
+   * @param leafIndex the index of the leaf
+   * @return the position of the leaf
+   */
+  public static long getLeafPosition(long leafIndex) {
+    return getNodeCount(leafIndex);
+  }
+
+  /**
+   * Returns the positions of the peaks of an MMR of the specified number of leaves from left to
+   * right.
+   *
+   * @param leafCount the number of leaves
+   * @return the positions of the peaks
+   */
+  public static List<Long> getPeakPositions(long leafCount) {
+    List<Long> positions = new ArrayList<>();
+    for (Peak peak : getPeaks(leafCount)) {
+      positions.add(getNodePosition(peak.firstLeaf, peak.height));
+    }
+    return positions;
+  }
+
+  /**
+   * Returns the positions of the existing nodes that are merged with the new nodes when the
+   * specified leaf is appended, from the bottom. The new nodes are at the position of the leaf and
+   * the positions following it, one for each merged node.
+   *
+   * @param leafIndex the index of the appended leaf
+   * @return the positions of the merged nodes
+   */
+  public static List<Long> getMergedPositions(long leafIndex) {
+    List<Long> positions = new ArrayList<>();
+    for (int height = 0; ((leafIndex >> height) & 1) == 1; height++) {
+      positions.add(getNodePosition(((leafIndex >> height) - 1) << height, height));
+    }
+    return positions;
+  }
+
+  /**
+   * Returns the positions of the siblings of the nodes from the specified leaf up to its peak in an
+   * MMR of the specified number of leaves.
+   *
+   * @param leafIndex the index of the leaf
+   * @param leafCount the number of leaves
+   * @return the positions of the siblings from the bottom
+   */
+  public static List<Long> getPathPositions(long leafIndex, long leafCount) {
+    return getClimbingPathPositions(leafIndex, 0, leafCount);
+  }
+
+  /**
+   * Returns the positions of the siblings of the nodes from the specified peak of an MMR of {@code
+   * oldLeafCount} leaves up to its peak in an MMR of {@code leafCount} leaves.
+   *
+   * @param oldLeafCount the number of leaves of the smaller MMR
+   * @param peakIndex the index of the peak of the smaller MMR
+   * @param leafCount the number of leaves of the larger MMR
+   * @return the positions of the siblings from the bottom
+   */
+  public static List<Long> getPathPositions(long oldLeafCount, int peakIndex, long leafCount) {
+    Peak peak = getPeaks(oldLeafCount).get(peakIndex);
+    return getClimbingPathPositions(peak.firstLeaf, peak.height, leafCount);
+  }
+
+  private static List<Long> getClimbingPathPositions(long firstLeaf, int height, long leafCount) {
+    checkRange(firstLeaf, leafCount);
+    Peak peak = findPeak(getPeaks(leafCount), firstLeaf);
+    List<Long> positions = new ArrayList<>();
+    for (int h = height; h < peak.height; h++) {
+      long index = (firstLeaf - peak.firstLeaf) >> h;
+      long sibling = peak.firstLeaf + ((index ^ 1) << h);
+      positions.add(getNodePosition(sibling, h));
+    }
+    return positions;
+  }
+
+  /**
+   * Returns the hashes of the new nodes added when the specified leaf is appended, i.e., the leaf
+   * and its ancestors created by merging it with the existing nodes, from the bottom.
+   *
+   * @param recordHash the hash of the record
+   * @param leafIndex the index of the leaf, i.e., the age of the record
+   * @param merged the hashes of the nodes at {@link #getMergedPositions(long)}
+   * @return the hashes of the new nodes to be stored from the position of the leaf
+   */
+  public static List<byte[]> append(byte[] recordHash, long leafIndex, List<byte[]> merged) {
+    if (merged.size() != Long.numberOfTrailingZeros(~leafIndex)) {
+      throw new IllegalArgumentException("the merged nodes do not match the leaf index");
+    }
+    List<byte[]> nodes = new ArrayList<>(merged.size() + 1);
+    byte[] current = hashLeaf(recordHash);
+    nodes.add(current);
+    for (byte[] left : merged) {
+      current = hashNode(left, current);
+      nodes.add(current);
+    }
+    return nodes;
+  }
+
+  /**
+   * Returns the root of an MMR with the specified peaks.
+   *
+   * @param peaks the peaks from left to right, at least one
+   * @return the root
+   */
+  public static byte[] bagPeaks(List<byte[]> peaks) {
+    if (peaks.isEmpty()) {
+      throw new IllegalArgumentException("at least one peak is required");
+    }
+    byte[] root = peaks.get(peaks.size() - 1);
+    for (int i = peaks.size() - 2; i >= 0; i--) {
+      root = hashNode(peaks.get(i), root);
+    }
+    return root;
+  }
+
+  /**
+   * Returns the root of the MMR of the specified number of leaves that includes the specified
+   * record with the specified inclusion path and peaks.
+   *
+   * @param recordHash the hash of the record
+   * @param leafIndex the index of the leaf, i.e., the age of the record
+   * @param leafCount the number of leaves
+   * @param path the siblings of the nodes from the leaf up to its peak
+   * @param peaks the peaks of the MMR from left to right
+   * @return the root, or null if the path and the peaks do not match the shape of the MMR or the
+   *     path does not lead to the peak
+   */
+  @Nullable
+  public static byte[] computeRoot(
+      byte[] recordHash, long leafIndex, long leafCount, List<byte[]> path, List<byte[]> peaks) {
+    if (leafIndex < 0 || leafIndex >= leafCount) {
+      return null;
+    }
+    List<Peak> shape = getPeaks(leafCount);
+    if (peaks.size() != shape.size()) {
+      return null;
+    }
+    if (!climbsTo(hashLeaf(recordHash), leafIndex, 0, shape, path, peaks)) {
+      return null;
+    }
+    return bagPeaks(peaks);
+  }
+
+  /**
+   * Verifies that the MMR of {@code oldLeafCount} leaves with the specified peaks is a prefix of
+   * the MMR of {@code leafCount} leaves with the specified peaks.
+   *
+   * @param oldLeafCount the number of leaves of the smaller MMR
+   * @param oldPeaks the peaks of the smaller MMR from left to right
+   * @param leafCount the number of leaves of the larger MMR
+   * @param peaks the peaks of the larger MMR from left to right
+   * @param paths the siblings of the nodes from each peak of the smaller MMR up to its peak in the
+   *     larger MMR
+   * @return true if the smaller MMR is a prefix of the larger MMR
+   */
+  public static boolean verifyConsistency(
+      long oldLeafCount,
+      List<byte[]> oldPeaks,
+      long leafCount,
+      List<byte[]> peaks,
+      List<List<byte[]>> paths) {
+    if (oldLeafCount <= 0 || oldLeafCount > leafCount) {
+      return false;
+    }
+    List<Peak> oldShape = getPeaks(oldLeafCount);
+    List<Peak> shape = getPeaks(leafCount);
+    if (oldPeaks.size() != oldShape.size()
+        || paths.size() != oldShape.size()
+        || peaks.size() != shape.size()) {
+      return false;
+    }
+    for (int i = 0; i < oldShape.size(); i++) {
+      Peak peak = oldShape.get(i);
+      if (!climbsTo(oldPeaks.get(i), peak.firstLeaf, peak.height, shape, paths.get(i), peaks)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean climbsTo(
+      byte[] hash,
+      long firstLeaf,
+      int height,
+      List<Peak> shape,
+      List<byte[]> path,
+      List<byte[]> peaks) {
+    int peakIndex = findPeakIndex(shape, firstLeaf);
+    Peak peak = shape.get(peakIndex);
+    if (path.size() != peak.height - height) {
+      return false;
+    }
+    byte[] current = hash;
+    for (int h = height; h < peak.height; h++) {
+      byte[] sibling = path.get(h - height);
+      if ((((firstLeaf - peak.firstLeaf) >> h) & 1) == 0) {
+        current = hashNode(current, sibling);
+      } else {
+        current = hashNode(sibling, current);
+      }
+    }
+    return Arrays.equals(current, peaks.get(peakIndex));
+  }
+
+  private static byte[] hashLeaf(byte[] recordHash) {
+    return Hashing.sha256().newHasher().putByte(LEAF_PREFIX).putBytes(recordHash).hash().asBytes();
+  }
+
+  private static byte[] hashNode(byte[] left, byte[] right) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    return hasher.putByte(NODE_PREFIX).putBytes(left).putBytes(right).hash().asBytes();
+  }
+
+  private static long getNodePosition(long firstLeaf, int height) {
+    // A node is right after the nodes up to its last leaf and the ancestors of the last leaf below
+    // it, which are added when the last leaf is appended
+    return getLeafPosition(firstLeaf + (1L << height) - 1) + height;
+  }
+
+  private static void checkRange(long leafIndex, long leafCount) {
+    if (leafIndex < 0 || leafIndex >= leafCount) {
+      throw new IllegalArgumentException("the leaf index is out of the range");
+    }
+  }
+
+  private static Peak findPeak(List<Peak> peaks, long leafIndex) {
+    return peaks.get(findPeakIndex(peaks, leafIndex));
+  }
+
+  private static int findPeakIndex(List<Peak> peaks, long leafIndex) {
+    for (int i = 0; i < peaks.size(); i++) {
+      Peak peak = peaks.get(i);
+      if (leafIndex < peak.firstLeaf + (1L << peak.height)) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("the leaf index is out of the range");
+  }
+
+  private static List<Peak> getPeaks(long leafCount) {
+    List<Peak> peaks = new ArrayList<>();
+    long firstLeaf = 0;
+    for (int height = 63 - Long.numberOfLeadingZeros(leafCount); height >= 0; height--) {
+      if (((leafCount >> height) & 1) == 1) {
+        peaks.add(new Peak(firstLeaf, height));
+        firstLeaf += 1L << height;
+      }
+    }
+    return peaks;
+  }
+
+  private static class Peak {
+    private final long firstLeaf;
+    private final int height;
+
+    private Peak(long firstLeaf, int height) {
+      this.firstLeaf = firstLeaf;
+      this.height = height;
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.scalar.dl.ledger.proof;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A binary Merkle tree over the serialized {@link AssetProof}s of a request, which lets the ledger
+ * sign the proofs of all the assets of a request with one signature over the root.
+ *
+ * <p>A leaf is the SHA-256 of {@code 0x00} followed by the serialized proof, and an inner node is
+ * the SHA-256 of {@code 0x01} followed by its two children, so a leaf can never be taken for an
+ * inner node. The last node of a level with an odd number of nodes is promoted to the next level as
+ * it is. The signed bytes are the root followed by the number of leaves, so that the inclusion
+ * path of a proof is checked against the exact shape of the tree.
+ */
+@Immutable
+public final class MerkleTree {
+  private static final byte LEAF_PREFIX = 0x00;
+  private static final byte NODE_PREFIX = 0x01;
+  // The levels from the leaves to the root
+  private final List<List<byte[]>> levels;
+
+  /**
+   * Constructs a {@code MerkleTree} over the specified serialized proofs.
+   *
+   * @param payloads the serialized proofs, at least one
+   */
+  public MerkleTree(List<byte[]> payloads) {
+    if (payloads.isEmpty()) {
+      throw new IllegalArgumentException("at least one leaf is required");
+    }
+    List<List<byte[]>> levels = new ArrayList<>();
+    List<byte[]> level = new ArrayList<>(payloads.size());
+    payloads.forEach(p -> level.add(hashLeaf(p)));
+    levels.add(level);
+    List<byte[]> current = level;
+    while (current.size() > 1) {
+      List<byte[]> next = new ArrayList<>((current.size() + 1) / 2);
+      for (int i = 0; i < current.size(); i += 2) {
+        next.add(
+            i + 1 < current.size() ? hashNode(current.get(i), current.get(i + 1)) : current.get(i));
+      }
+      levels.add(next);
+      current = next;
+    }
+    this.levels = levels;
+  }
+
+  /**
+   * Returns the number of leaves.
+   *
+   * @return the number of leaves
+   */
+  public int getLeafCount() {
+    return levels.get(0).size();
+  }
+
+  /**
+   * Returns the bytes to be signed for the tree.
+   *
+   * @return the root followed by the number of leaves
+   */
+  public byte[] getSigningBytes() {
+    return serializeRoot(levels.get(levels.size() - 1).get(0), getLeafCount());
+  }
+
+  /**
+   * Returns the inclusion path of the specified leaf, i.e., the siblings of the nodes from the leaf
+   * up to the root. A promoted node has no sibling on its level.
+   *
+   * @param leafIndex the index of the leaf
+   * @return the inclusion path
+   */
+  public List<byte[]> getPath(int leafIndex) {
+    List<byte[]> path = new ArrayList<>();
+    int index = leafIndex;
+    for (List<byte[]> level : levels.subList(0, levels.size() - 1)) {
+      int sibling = index ^ 1;
+      if (sibling < level.size()) {
+        path.add(level.get(sibling));
+      }
+      index >>= 1;
+    }
+    return Collections.unmodifiableList(path);
+  }
+
+  /**
+   * Returns the bytes to be signed for the tree that includes the specified leaf at the specified
+   * index with the specified inclusion path.
+   *
+   * @param payload the serialized proof
+   * @param leafIndex the index of the leaf
+   * @param leafCount the number of leaves
+   * @param path the inclusion path of the leaf
+   * @return the root followed by the number of leaves, or null if the path does not match the
+   *     shape of the tree
+   */
+  @Nullable
+  public static byte[] computeSigningBytes(
+      byte[] payload, int leafIndex, int leafCount, List<byte[]> path) {
+    if (leafIndex < 0 || leafIndex >= leafCount) {
+      return null;
+    }
+    byte[] hash = hashLeaf(payload);
+    int index = leafIndex;
+    int size = leafCount;
+    int consumed = 0;
+    while (size > 1) {
+      if ((index & 1) == 1) {
+        if (consumed == path.size()) {
+          return null;
+        }
+        hash = hashNode(path.get(consumed++), hash);
+      } else if (index + 1 < size) {
+        if (consumed == path.size()) {
+          return null;
+        }
+        hash = hashNode(hash, path.get(consumed++));
+      }
+      index >>= 1;
+      size = (size + 1) / 2;
+    }
+    return consumed == path.size() ? serializeRoot(hash, leafCount) : null;
+  }
+
+  private static byte[] serializeRoot(byte[] root, int leafCount) {
+    return ByteBuffer.allocate(root.length + Integer.BYTES).put(root).putInt(leafCount).array();
+  }
+
+  private static byte[] hashLeaf(byte[] payload) {
+    return Hashing.sha256().newHasher().putByte(LEAF_PREFIX).putBytes(payload).hash().asBytes();
+  }
+
+  private static byte[] hashNode(byte[] left, byte[] right) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    return hasher.putByte(NODE_PREFIX).putBytes(left).putBytes(right).hash().asBytes();
+  }
+}
@@ -3,14 +3,22 @@ package com.scalar.dl.ledger.server;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.google.inject.Injector;
+import com.scalar.dl.ledger.config.GrpcServerExecutor;
 import com.scalar.dl.ledger.config.ServerConfig;
+import com.scalar.dl.ledger.error.CommonError;
+import com.scalar.dl.ledger.trace.TracingServerInterceptor;
 import io.grpc.BindableService;
 import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
 import io.grpc.netty.shaded.io.netty.handler.ssl.OpenSsl;
 import io.grpc.protobuf.services.ProtoReflectionService;
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,6 +30,8 @@ public class BaseServer {
   private io.grpc.Server server;
   private io.grpc.Server privilegedServer;
   private io.grpc.Server adminServer;
+  // Shared by the servers if they run the handlers on virtual threads
+  @Nullable private ExecutorService executor;
   private final HealthService serverHealthService = new HealthService();
   private final HealthService privilegedServerHealthService = new HealthService();
   private final HealthService adminServerHealthService = new HealthService();
@@ -35,12 +45,13 @@ public class BaseServer {
   public void start(Class<? extends BindableService> clazz) throws IOException {
     ServerBuilder<?> builder =
         ServerBuilder.forPort(config.getPort())
-            .addService(injector.getInstance(clazz))
+            .addService(intercept(clazz))
             .addService(serverHealthService)
             .addService(ProtoReflectionService.newInstance());
 
     configureTls(builder);
     configureDataSize(builder);
+    configureExecutor(builder);
 
     Stats stats = injector.getInstance(Stats.class);
     stats.startJmxReporter();
@@ -59,12 +70,13 @@ public class BaseServer {
   public void startPrivileged(Class<? extends BindableService> clazz) throws IOException {
     ServerBuilder<?> builder =
         ServerBuilder.forPort(config.getPrivilegedPort())
-            .addService(injector.getInstance(clazz))
+            .addService(intercept(clazz))
             .addService(privilegedServerHealthService)
             .addService(ProtoReflectionService.newInstance());
 
     configureTls(builder);
     configureDataSize(builder);
+    configureExecutor(builder);
 
     privilegedServer = builder.build().start();
     log(clazz, config.getName(), config.getPrivilegedPort(), config.isServerTlsEnabled());
@@ -77,12 +89,13 @@ public class BaseServer {
   public void startAdmin(Class<? extends BindableService> clazz) throws IOException {
     ServerBuilder<?> builder =
         ServerBuilder.forPort(config.getAdminPort())
-            .addService(injector.getInstance(clazz))
+            .addService(intercept(clazz))
             .addService(adminServerHealthService)
             .addService(ProtoReflectionService.newInstance());
 
     configureTls(builder);
     configureDataSize(builder);
+    configureExecutor(builder);
 
     adminServer = builder.build().start();
     log(clazz, config.getName(), config.getAdminPort(), config.isServerTlsEnabled());
@@ -148,6 +161,9 @@ public class BaseServer {
     if (adminServer != null) {
       adminServer.awaitTermination(0, TimeUnit.SECONDS);
     }
+    if (executor != null) {
+      executor.shutdown();
+    }
   }
 
   private void log(
@@ -173,6 +189,15 @@ public class BaseServer {
     return OpenSsl.isAvailable() ? "OpenSSL" : "JDK";
   }
 
+  /**
+   * Takes the span context of the caller from the request headers so that the spans of a request
+   * are connected to the trace started at the client.
+   */
+  private ServerServiceDefinition intercept(Class<? extends BindableService> clazz) {
+    return ServerInterceptors.intercept(
+        injector.getInstance(clazz), new TracingServerInterceptor());
+  }
+
   private void configureTls(ServerBuilder<?> builder) {
     if (config.isServerTlsEnabled()) {
       builder.useTransportSecurity(
@@ -181,6 +206,31 @@ public class BaseServer {
     }
   }
 
+  private void configureExecutor(ServerBuilder<?> builder) {
+    if (config.getGrpcServerConfig().getExecutor() != GrpcServerExecutor.VIRTUAL_THREAD) {
+      return;
+    }
+    if (executor == null) {
+      executor = newVirtualThreadPerTaskExecutor();
+    }
+    builder.executor(executor);
+  }
+
+  /**
+   * Creates an executor that runs each task on a new virtual thread. The handlers can then block on
+   * the database and the gate without occupying a platform thread each, so the number of concurrent
+   * requests is not bounded by the size of a thread pool. It is created reflectively since this
+   * module is compiled for Java 8.
+   */
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(CommonError.VIRTUAL_THREAD_NOT_SUPPORTED.buildMessage(), e);
+    }
+  }
+
   private void configureDataSize(ServerBuilder<?> builder) {
     if (config.getGrpcServerConfig().getMaxInboundMessageSize() > 0) {
       builder.maxInboundMessageSize(config.getGrpcServerConfig().getMaxInboundMessageSize());
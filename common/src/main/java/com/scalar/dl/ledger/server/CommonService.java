@@ -7,6 +7,8 @@ import com.scalar.dl.ledger.server.Stats.TimerContext;
 import com.scalar.dl.ledger.service.StatusCode;
 import com.scalar.dl.ledger.service.ThrowableConsumer;
 import com.scalar.dl.ledger.service.ThrowableFunction;
+import com.scalar.dl.ledger.trace.Span;
+import com.scalar.dl.ledger.trace.Tracer;
 import com.scalar.dl.rpc.Status;
 import io.grpc.Metadata;
 import io.grpc.StatusRuntimeException;
@@ -22,15 +24,22 @@ public class CommonService {
       ProtoUtils.keyForProto(Status.getDefaultInstance());
   private final Stats stats;
   private final GateKeeper gateKeeper;
+  private final Tracer tracer;
 
-  @Inject
   public CommonService(Stats stats, @Nonnull GateKeeper gateKeeper) {
+    this(stats, gateKeeper, Tracer.noop());
+  }
+
+  @Inject
+  public CommonService(Stats stats, @Nonnull GateKeeper gateKeeper, Tracer tracer) {
     this.stats = stats;
     this.gateKeeper = gateKeeper;
+    this.tracer = tracer;
   }
 
   public <T> void serve(ThrowableConsumer<T> f, T request, StreamObserver<Empty> responseObserver) {
     boolean isGatePassed = false;
+    Span span = tracer.startSpan(request.getClass().getSimpleName());
     try (TimerContext unused = measureTime(request.getClass().getSimpleName())) {
       gateKeeper.letIn();
       isGatePassed = true;
@@ -42,22 +51,26 @@ public class CommonService {
       responseObserver.onCompleted();
     } catch (LedgerException e) {
       LOGGER.error(e.getMessage(), e);
+      span.setError(e);
       incrementCounter(request.getClass().getSimpleName(), false);
       responseObserver.onError(getExceptionWithTrailers(e.getCode(), e.getMessage()));
     } catch (Exception e) {
       LOGGER.error(e.getMessage(), e);
+      span.setError(e);
       incrementCounter(request.getClass().getSimpleName(), false);
       responseObserver.onError(getExceptionWithTrailers(StatusCode.RUNTIME_ERROR, e.getMessage()));
     } finally {
       if (isGatePassed) {
         gateKeeper.letOut();
       }
+      span.close();
     }
   }
 
   public <T, R> void serve(
       ThrowableFunction<T, R> f, T request, StreamObserver<R> responseObserver) {
     boolean isGatePassed = false;
+    Span span = tracer.startSpan(request.getClass().getSimpleName());
 
     try (TimerContext unused = measureTime(request.getClass().getSimpleName())) {
       gateKeeper.letIn();
@@ -70,16 +83,19 @@ public class CommonService {
       responseObserver.onCompleted();
     } catch (LedgerException e) {
       LOGGER.error(e.getMessage(), e);
+      span.setError(e);
       incrementCounter(request.getClass().getSimpleName(), false);
       responseObserver.onError(getExceptionWithTrailers(e.getCode(), e.getMessage()));
     } catch (Exception e) {
       LOGGER.error(e.getMessage(), e);
+      span.setError(e);
       incrementCounter(request.getClass().getSimpleName(), false);
       responseObserver.onError(getExceptionWithTrailers(StatusCode.RUNTIME_ERROR, e.getMessage()));
     } finally {
       if (isGatePassed) {
         gateKeeper.letOut();
       }
+      span.close();
     }
   }
 
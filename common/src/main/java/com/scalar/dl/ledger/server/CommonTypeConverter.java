@@ -1,11 +1,18 @@
 package com.scalar.dl.ledger.server;
 
 import com.google.protobuf.ByteString;
+import com.scalar.dl.ledger.model.AssetHistoryProofRetrievalResult;
 import com.scalar.dl.ledger.model.ContractExecutionResult;
 import com.scalar.dl.ledger.model.LedgerValidationResult;
+import com.scalar.dl.rpc.AssetHistoryConsistencyProof;
+import com.scalar.dl.rpc.AssetHistoryProof;
+import com.scalar.dl.rpc.AssetHistoryProofRetrievalResponse;
 import com.scalar.dl.rpc.AssetProof;
 import com.scalar.dl.rpc.ContractExecutionResponse;
 import com.scalar.dl.rpc.LedgerValidationResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class CommonTypeConverter {
 
@@ -42,19 +49,107 @@ public class CommonTypeConverter {
     if (proof.getPrevHash() != null) {
       builder.setPrevHash(ByteString.copyFrom(proof.getPrevHash()));
     }
+    if (proof.isAggregated()) {
+      builder.setMerkleLeafIndex(proof.getLeafIndex()).setMerkleLeafCount(proof.getLeafCount());
+      proof.getMerklePath().forEach(p -> builder.addMerklePath(ByteString.copyFrom(p)));
+    }
     return builder.build();
   }
 
   public static com.scalar.dl.ledger.proof.AssetProof convert(AssetProof proof) {
-    return com.scalar.dl.ledger.proof.AssetProof.newBuilder()
-        .namespace(proof.getNamespace())
-        .id(proof.getAssetId())
-        .age(proof.getAge())
-        .nonce(proof.getNonce())
-        .input(proof.getInput())
-        .hash(proof.getHash().toByteArray())
-        .prevHash(proof.getPrevHash().toByteArray())
-        .signature(proof.getSignature().toByteArray())
+    com.scalar.dl.ledger.proof.AssetProof.Builder builder =
+        com.scalar.dl.ledger.proof.AssetProof.newBuilder()
+            .namespace(proof.getNamespace())
+            .id(proof.getAssetId())
+            .age(proof.getAge())
+            .nonce(proof.getNonce())
+            .input(proof.getInput())
+            .hash(proof.getHash().toByteArray())
+            .prevHash(proof.getPrevHash().toByteArray())
+            .signature(proof.getSignature().toByteArray());
+    if (proof.getMerkleLeafCount() > 0) {
+      List<byte[]> path = new ArrayList<>(proof.getMerklePathCount());
+      proof.getMerklePathList().forEach(p -> path.add(p.toByteArray()));
+      builder.merkleLeaf(proof.getMerkleLeafIndex(), proof.getMerkleLeafCount(), path);
+    }
+    return builder.build();
+  }
+
+  public static AssetHistoryProofRetrievalResponse convert(
+      AssetHistoryProofRetrievalResult result) {
+    AssetHistoryProofRetrievalResponse.Builder builder =
+        AssetHistoryProofRetrievalResponse.newBuilder().setProof(convert(result.getProof()));
+    result.getConsistencyProof().ifPresent(proof -> builder.setConsistencyProof(convert(proof)));
+    return builder.build();
+  }
+
+  public static AssetHistoryProof convert(com.scalar.dl.ledger.proof.AssetHistoryProof proof) {
+    return AssetHistoryProof.newBuilder()
+        .setNamespace(proof.getNamespace())
+        .setAssetId(proof.getId())
+        .setAge(proof.getAge())
+        .setHash(ByteString.copyFrom(proof.getHash()))
+        .setSize(proof.getSize())
+        .addAllPath(toByteStrings(proof.getPath()))
+        .addAllPeaks(toByteStrings(proof.getPeaks()))
+        .setSignature(ByteString.copyFrom(proof.getSignature()))
         .build();
   }
+
+  public static com.scalar.dl.ledger.proof.AssetHistoryProof convert(AssetHistoryProof proof) {
+    return new com.scalar.dl.ledger.proof.AssetHistoryProof(
+        proof.getNamespace(),
+        proof.getAssetId(),
+        proof.getAge(),
+        proof.getHash().toByteArray(),
+        proof.getSize(),
+        toByteArrays(proof.getPathList()),
+        toByteArrays(proof.getPeaksList()),
+        proof.getSignature().toByteArray());
+  }
+
+  public static AssetHistoryConsistencyProof convert(
+      com.scalar.dl.ledger.proof.AssetHistoryConsistencyProof proof) {
+    AssetHistoryConsistencyProof.Builder builder =
+        AssetHistoryConsistencyProof.newBuilder()
+            .setNamespace(proof.getNamespace())
+            .setAssetId(proof.getId())
+            .setOldSize(proof.getOldSize())
+            .addAllOldPeaks(toByteStrings(proof.getOldPeaks()))
+            .setSize(proof.getSize())
+            .addAllPeaks(toByteStrings(proof.getPeaks()))
+            .setSignature(ByteString.copyFrom(proof.getSignature()));
+    proof
+        .getPaths()
+        .forEach(
+            p ->
+                builder.addPaths(
+                    AssetHistoryConsistencyProof.Path.newBuilder()
+                        .addAllHashes(toByteStrings(p))
+                        .build()));
+    return builder.build();
+  }
+
+  public static com.scalar.dl.ledger.proof.AssetHistoryConsistencyProof convert(
+      AssetHistoryConsistencyProof proof) {
+    return new com.scalar.dl.ledger.proof.AssetHistoryConsistencyProof(
+        proof.getNamespace(),
+        proof.getAssetId(),
+        proof.getOldSize(),
+        toByteArrays(proof.getOldPeaksList()),
+        proof.getSize(),
+        toByteArrays(proof.getPeaksList()),
+        proof.getPathsList().stream()
+            .map(p -> toByteArrays(p.getHashesList()))
+            .collect(Collectors.toList()),
+        proof.getSignature().toByteArray());
+  }
+
+  private static List<ByteString> toByteStrings(List<byte[]> bytes) {
+    return bytes.stream().map(ByteString::copyFrom).collect(Collectors.toList());
+  }
+
+  private static List<byte[]> toByteArrays(List<ByteString> bytes) {
+    return bytes.stream().map(ByteString::toByteArray).collect(Collectors.toList());
+  }
 }
@@ -4,39 +4,53 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** A gatekeeper that manages the front gate of the server that processes requests. */
+/**
+ * A gatekeeper that manages the front gate of the server that processes requests.
+ *
+ * <p>Whether the gate is closed and the number of outstanding requests are packed into a single
+ * state word, so that {@link #letIn()} and {@link #letOut()}, which every request goes through,
+ * are a compare-and-set on it while the gate is open, and so that every decision is still made on
+ * one atomic snapshot of both. The lock is taken only on the slow paths: by requests held at a
+ * closed gate, by pause requests, and to wake up the threads waiting for the state to change. It
+ * is a {@link ReentrantLock} instead of the object monitor so that requests held at the gate do not
+ * pin their carrier threads when the server runs them on virtual threads.
+ */
 @ThreadSafe
 public class GateKeeper {
   private static final Logger LOGGER = LoggerFactory.getLogger(GateKeeper.class.getName());
-
-  @GuardedBy("this")
-  private boolean isOpen;
+  private static final long CLOSED = 1L << 32;
+  private static final long COUNT_MASK = CLOSED - 1;
+  // The CLOSED bit and the number of outstanding requests in the lower bits
+  private final AtomicLong state = new AtomicLong();
+  private final ReentrantLock lock = new ReentrantLock();
+  // Signaled whenever the gate is opened, a pause request finishes, or the requests are drained
+  // while the gate is closed. A state change that must wake a waiter is always followed by taking
+  // the lock, and waiters check the state under the lock, so no signal falls in between.
+  private final Condition stateChanged = lock.newCondition();
 
   /**
    * True while a pause request is between closing the gate and deciding whether it has to undo that
    * closure. Pause requests are serialized on this flag, so that one of them can never reach a
    * paused state and report it while another is still in a position to reopen the gate underneath
-   * it. Clearing it notifies the monitor, so a pause waiting for its turn can take the gate.
+   * it. Clearing it signals the condition, so a pause waiting for its turn can take the gate.
    */
-  @GuardedBy("this")
+  @GuardedBy("lock")
   private boolean pauseInProgress;
 
-  @GuardedBy("this")
-  private int numOutstandingRequests;
-
-  public GateKeeper() {
-    isOpen = true;
-  }
+  public GateKeeper() {}
 
   /** Opens the gate to allow incoming requests to be processed. */
-  public synchronized void open() {
-    isOpen = true;
-    notifyAll();
+  public void open() {
+    state.getAndUpdate(s -> s & ~CLOSED);
+    signalStateChanged();
   }
 
   /**
@@ -51,12 +65,17 @@ public class GateKeeper {
    * @return {@link PauseResult#PAUSED} if the gate is closed on the caller's behalf; {@link
    *     PauseResult#PAUSE_IN_PROGRESS} if another pause request is already in progress
    */
-  public synchronized PauseResult pause() {
-    if (pauseInProgress) {
-      return PauseResult.PAUSE_IN_PROGRESS;
+  public PauseResult pause() {
+    lock.lock();
+    try {
+      if (pauseInProgress) {
+        return PauseResult.PAUSE_IN_PROGRESS;
+      }
+      close();
+      return PauseResult.PAUSED;
+    } finally {
+      lock.unlock();
     }
-    close();
-    return PauseResult.PAUSED;
   }
 
   /**
@@ -88,9 +107,10 @@ public class GateKeeper {
    *     PauseResult#PAUSE_IN_PROGRESS} if another pause request was still in progress when the
    *     timeout was reached
    */
-  public synchronized PauseResult pauseAndAwaitDrained(long timeout, TimeUnit unit) {
+  public PauseResult pauseAndAwaitDrained(long timeout, TimeUnit unit) {
     long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
     boolean interrupted = false;
+    lock.lock();
     try {
       // The two waits below are indistinguishable to the caller until the call returns, yet they
       // call for different remedies: draining points at a long-running request, waiting here
@@ -106,7 +126,7 @@ public class GateKeeper {
           return PauseResult.PAUSE_IN_PROGRESS;
         }
         try {
-          NANOSECONDS.timedWait(this, remainingNanos);
+          stateChanged.awaitNanos(remainingNanos);
         } catch (InterruptedException ignored) {
           interrupted = true;
         }
@@ -134,9 +154,10 @@ public class GateKeeper {
       } finally {
         pauseInProgress = false;
         // Hand the gate over to a pause request waiting for this one to finish.
-        notifyAll();
+        stateChanged.signalAll();
       }
     } finally {
+      lock.unlock();
       if (interrupted) {
         Thread.currentThread().interrupt();
       }
@@ -148,8 +169,8 @@ public class GateKeeper {
    *
    * @return true if the gate is open
    */
-  public synchronized boolean isOpen() {
-    return isOpen;
+  public boolean isOpen() {
+    return isOpen(state.get());
   }
 
   /**
@@ -157,8 +178,8 @@ public class GateKeeper {
    *
    * @return the number of outstanding requests
    */
-  public synchronized int getNumOutstandingRequests() {
-    return numOutstandingRequests;
+  public int getNumOutstandingRequests() {
+    return count(state.get());
   }
 
   /**
@@ -168,12 +189,8 @@ public class GateKeeper {
    *     closed the gate may reopen it to undo its own closure.
    */
   @VisibleForTesting
-  synchronized boolean close() {
-    if (!isOpen) {
-      return false;
-    }
-    isOpen = false;
-    return true;
+  boolean close() {
+    return isOpen(state.getAndUpdate(s -> s | CLOSED));
   }
 
   /**
@@ -187,29 +204,33 @@ public class GateKeeper {
    *     outstanding; {@link PauseResult#GATE_OPEN} if the gate is open
    */
   @VisibleForTesting
-  synchronized PauseResult awaitDrained(long timeout, TimeUnit unit) {
+  PauseResult awaitDrained(long timeout, TimeUnit unit) {
     boolean interrupted = false;
+    lock.lock();
     try {
       long timeoutNanos = unit.toNanos(timeout);
       long endTimeNanos = System.nanoTime() + timeoutNanos;
-      while (!isOpen
-          && numOutstandingRequests > 0
+      long s = state.get();
+      while (!isOpen(s)
+          && count(s) > 0
           && (timeoutNanos = endTimeNanos - System.nanoTime()) > 0) {
         try {
-          NANOSECONDS.timedWait(this, timeoutNanos);
+          stateChanged.awaitNanos(timeoutNanos);
         } catch (InterruptedException ignored) {
           interrupted = true;
         }
+        s = state.get();
       }
-      // The outcome is decided under this synchronized method, so it is atomic w.r.t. open() /
+      // The outcome is decided on one snapshot of the state word, so it is atomic w.r.t. open() /
       // close() / letIn() / letOut(). That keeps a concurrent unpause (open()) from being mistaken
       // for a drained pause, and lets the caller report the cause it actually observed instead of
-      // re-deriving it from a later, separately-locked state snapshot.
-      if (isOpen) {
+      // re-deriving it from a later, separate state snapshot.
+      if (isOpen(s)) {
         return PauseResult.GATE_OPEN;
       }
-      return numOutstandingRequests == 0 ? PauseResult.PAUSED : PauseResult.TIMED_OUT;
+      return count(s) == 0 ? PauseResult.PAUSED : PauseResult.TIMED_OUT;
     } finally {
+      lock.unlock();
       if (interrupted) {
         Thread.currentThread().interrupt();
       }
@@ -220,38 +241,69 @@ public class GateKeeper {
    * Lets a new request in to process it in the server if the gate is open. If the gate is closed,
    * waits until the gate is open.
    */
-  public synchronized void letIn() {
-    boolean interrupted = false;
+  public void letIn() {
+    while (true) {
+      long s = state.get();
+      if (!isOpen(s)) {
+        awaitOpen();
+      } else if (state.compareAndSet(s, s + 1)) {
+        // The count is incremented only while the gate is open, so a pause that has closed the
+        // gate sees every request let in before the closure, and none after it.
+        return;
+      }
+    }
+  }
+
+  private void awaitOpen() {
+    lock.lock();
     try {
-      while (!isOpen) {
-        try {
-          wait();
-        } catch (InterruptedException ignored) {
-          interrupted = true;
-        }
+      while (!isOpen(state.get())) {
+        // An interrupt is restored on return, since the request is let in only when the gate opens
+        stateChanged.awaitUninterruptibly();
       }
-      numOutstandingRequests++;
     } finally {
-      if (interrupted) {
-        Thread.currentThread().interrupt();
-      }
+      lock.unlock();
     }
   }
 
   /** Lets a processed request out. */
-  public synchronized void letOut() {
-    // Clamped so that a call not paired with a letIn() cannot drive the count below zero. A
-    // negative count would leave the drain loop below with nothing to wait for while never
-    // satisfying its success condition either, so every later pause that waits for outstanding
-    // requests would report a timeout it never waited for, with no way back short of a restart.
-    if (numOutstandingRequests > 0) {
-      numOutstandingRequests--;
+  public void letOut() {
+    while (true) {
+      long s = state.get();
+      // Clamped so that a call not paired with a letIn() cannot drive the count below zero. A
+      // negative count would leave the drain loop with nothing to wait for while never satisfying
+      // its success condition either, so every later pause that waits for outstanding requests
+      // would report a timeout it never waited for, with no way back short of a restart.
+      if (count(s) == 0) {
+        return;
+      }
+      if (state.compareAndSet(s, s - 1)) {
+        // Only a pause waits for the requests to drain, and only while the gate is closed
+        if (s - 1 == CLOSED) {
+          signalStateChanged();
+        }
+        return;
+      }
     }
-    if (numOutstandingRequests == 0) {
-      notifyAll();
+  }
+
+  private void signalStateChanged() {
+    lock.lock();
+    try {
+      stateChanged.signalAll();
+    } finally {
+      lock.unlock();
     }
   }
 
+  private static boolean isOpen(long s) {
+    return (s & CLOSED) == 0;
+  }
+
+  private static int count(long s) {
+    return (int) (s & COUNT_MASK);
+  }
+
   /** The outcome of a pause request. */
   public enum PauseResult {
     /**
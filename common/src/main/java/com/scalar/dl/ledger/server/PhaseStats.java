@@ -0,0 +1,169 @@
+package com.scalar.dl.ledger.server;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.MetricRegistryListener;
+import com.codahale.metrics.Timer;
+import com.codahale.metrics.Timer.Context;
+import com.google.common.annotations.VisibleForTesting;
+import com.scalar.dl.ledger.server.Stats.TimerContext;
+import com.scalar.dl.ledger.trace.Span;
+import com.scalar.dl.ledger.trace.Tracer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Latency histograms of the phases of request processing, e.g., signature validation, contract
+ * loading, contract execution and commit, so that the latency of a request measured by {@link
+ * Stats} can be broken down.
+ *
+ * <p>A phase can be tagged with a namespace and a contract ID, which are put into the metric name
+ * since the metrics have no labels. A contract ID is used as a tag only after it is registered with
+ * {@link #registerTag} once the request is authenticated and the contract is found, so that
+ * requests with arbitrary contract IDs cannot use up the tags. The number of distinct tags is
+ * limited so that the number of metrics does not grow with the number of contracts, and the phases
+ * with the other tags are measured under {@link #OTHER_TAG}. The metrics are kept in their own
+ * registry, which is exported through the reporters of a {@link Stats} with {@link
+ * Stats#register(PhaseStats)}.
+ *
+ * <p>If a {@link Tracer} is given, each phase is also traced as a span with the namespace and the
+ * contract ID as its attributes, so that the latency of a single request can be broken down, too.
+ */
+@ThreadSafe
+public class PhaseStats {
+  @VisibleForTesting static final String PHASE_PREFIX = "phase";
+  @VisibleForTesting static final String OTHER_TAG = "other";
+  private static final PhaseStats DISABLED = new PhaseStats(false, 0);
+  private static final String NAMESPACE_ATTRIBUTE = "namespace";
+  private static final String CONTRACT_ID_ATTRIBUTE = "contract_id";
+  private final MetricRegistry metricRegistry = new MetricRegistry();
+  private final Set<String> tags = ConcurrentHashMap.newKeySet();
+  private final boolean enabled;
+  private final int maxTags;
+  private final Tracer tracer;
+
+  /**
+   * Constructs a {@code PhaseStats}.
+   *
+   * @param enabled true to measure phases
+   * @param maxTags the maximum number of distinct pairs of a namespace and a contract ID
+   */
+  public PhaseStats(boolean enabled, int maxTags) {
+    this(enabled, maxTags, Tracer.noop());
+  }
+
+  /**
+   * Constructs a {@code PhaseStats} that also traces phases with the specified {@link Tracer}.
+   *
+   * @param enabled true to measure phases
+   * @param maxTags the maximum number of distinct pairs of a namespace and a contract ID
+   * @param tracer a {@link Tracer}
+   */
+  public PhaseStats(boolean enabled, int maxTags, Tracer tracer) {
+    this.enabled = enabled;
+    this.maxTags = maxTags;
+    this.tracer = tracer;
+  }
+
+  /**
+   * Returns a {@code PhaseStats} that measures nothing.
+   *
+   * @return a {@code PhaseStats}
+   */
+  public static PhaseStats disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Starts measuring the specified phase.
+   *
+   * @param phase the name of a phase in snake case
+   * @return a {@link TimerContext} to be closed at the end of the phase
+   */
+  public TimerContext measure(String phase) {
+    if (!enabled && !tracer.isEnabled()) {
+      return Stats.emptyTimerContext();
+    }
+    return new TimerContext(
+        enabled ? metricRegistry.timer(name(PHASE_PREFIX, phase)).time() : null,
+        tracer.isEnabled() ? tracer.startSpan(phase) : null);
+  }
+
+  /**
+   * Starts measuring the specified phase of a request for the specified contract.
+   *
+   * @param phase the name of a phase in snake case
+   * @param namespace the namespace of the request
+   * @param contractId the contract ID of the request, or null if it is not known. It is used as a
+   *     tag only if it has been registered with {@link #registerTag}.
+   * @return a {@link TimerContext} to be closed at the end of the phase
+   */
+  public TimerContext measure(String phase, String namespace, @Nullable String contractId) {
+    if (!enabled && !tracer.isEnabled()) {
+      return Stats.emptyTimerContext();
+    }
+    Context context =
+        enabled
+            ? metricRegistry.timer(name(PHASE_PREFIX, phase, getTag(namespace, contractId))).time()
+            : null;
+    Span span = null;
+    if (tracer.isEnabled()) {
+      span =
+          tracer
+              .startSpan(phase)
+              .setAttribute(NAMESPACE_ATTRIBUTE, namespace)
+              .setAttribute(CONTRACT_ID_ATTRIBUTE, contractId);
+    }
+    return new TimerContext(context, span);
+  }
+
+  /**
+   * Registers the tag of the specified contract so that the subsequent phases of the contract are
+   * measured under its own tag. It must be called only after the request is authenticated and the
+   * contract is found. Nothing is registered if the number of the tags has reached the limit.
+   *
+   * @param namespace the namespace of the contract
+   * @param contractId the contract ID
+   */
+  public void registerTag(String namespace, String contractId) {
+    if (!enabled) {
+      return;
+    }
+    register(name(namespace, contractId));
+  }
+
+  @VisibleForTesting
+  long getCount(String name) {
+    Timer timer = metricRegistry.getTimers().get(name);
+    return timer == null ? 0 : timer.getCount();
+  }
+
+  void addListener(MetricRegistryListener listener) {
+    metricRegistry.addListener(listener);
+  }
+
+  private String getTag(String namespace, @Nullable String contractId) {
+    if (contractId == null) {
+      // A phase without a contract is measured in the server, e.g., in a validation, with a
+      // namespace that exists, so the namespace is registered as it is
+      return register(namespace) ? namespace : OTHER_TAG;
+    }
+    String tag = name(namespace, contractId);
+    return tags.contains(tag) ? tag : OTHER_TAG;
+  }
+
+  private boolean register(String tag) {
+    if (tags.contains(tag)) {
+      return true;
+    }
+    // The limit can be exceeded slightly by concurrent registrations, which is acceptable
+    if (tags.size() >= maxTags) {
+      return false;
+    }
+    tags.add(tag);
+    return true;
+  }
+}
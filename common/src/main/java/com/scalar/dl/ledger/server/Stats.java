@@ -2,16 +2,22 @@ package com.scalar.dl.ledger.server;
 
 import static com.codahale.metrics.MetricRegistry.name;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.MetricRegistryListener;
+import com.codahale.metrics.Timer;
 import com.codahale.metrics.Timer.Context;
 import com.codahale.metrics.jmx.JmxReporter;
 import com.google.common.base.CaseFormat;
 import com.scalar.dl.ledger.config.ServerConfig;
+import com.scalar.dl.ledger.trace.Span;
 import com.scalar.dl.ledger.util.CryptoUtils;
 import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.dropwizard.DropwizardExports;
 import io.prometheus.client.exporter.MetricsServlet;
 import io.prometheus.client.hotspot.DefaultExports;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
@@ -69,6 +75,27 @@ public class Stats {
     return new TimerContext(metricRegistry.timer(name(prefix, snake)).time());
   }
 
+  public void registerGauge(String name, Supplier<Long> supplier) {
+    String snake = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name);
+    metricRegistry.register(name(prefix, snake), (Gauge<Long>) supplier::get);
+  }
+
+  /**
+   * Exports the metrics of the specified {@link PhaseStats} with the metrics of this {@code Stats},
+   * including the ones created after this call.
+   *
+   * @param phaseStats a {@link PhaseStats}
+   */
+  public void register(PhaseStats phaseStats) {
+    phaseStats.addListener(
+        new MetricRegistryListener.Base() {
+          @Override
+          public void onTimerAdded(String name, Timer timer) {
+            metricRegistry.register(name(prefix, name), timer);
+          }
+        });
+  }
+
   public void startJmxReporter() {
     JmxReporter reporter = JmxReporter.forRegistry(metricRegistry).build();
     reporter.start();
@@ -135,16 +162,32 @@ public class Stats {
 
   public static class TimerContext implements AutoCloseable {
     private final Context context;
+    @Nullable private final Span span;
 
     public TimerContext(Context context) {
+      this(context, null);
+    }
+
+    /**
+     * Constructs a {@code TimerContext} that also closes the specified {@link Span} of the same
+     * operation.
+     *
+     * @param context a timer context, or null if the operation is not timed
+     * @param span a {@link Span}, or null if the operation is not traced
+     */
+    public TimerContext(@Nullable Context context, @Nullable Span span) {
       this.context = context;
+      this.span = span;
     }
 
     @Override
-    public void close() throws Exception {
+    public void close() {
       if (context != null) {
         context.close();
       }
+      if (span != null) {
+        span.close();
+      }
     }
   }
 }
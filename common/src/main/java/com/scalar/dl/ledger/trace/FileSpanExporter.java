@@ -0,0 +1,171 @@
+package com.scalar.dl.ledger.trace;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.scalar.dl.ledger.error.CommonError;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SpanExporter} that appends each span to a file as a line of JSON, so that the traces can
+ * be collected without any external services and be loaded into a trace viewer later.
+ *
+ * <p>Spans are put into a bounded queue on the request threads and written to the file by a
+ * background thread in batches, with a flush per batch, so a request never waits for the file. A
+ * span is dropped if the queue is full, and the number of dropped spans is logged.
+ */
+@ThreadSafe
+public class FileSpanExporter implements SpanExporter {
+  private static final Logger LOGGER = LoggerFactory.getLogger(FileSpanExporter.class.getName());
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  @VisibleForTesting static final int DEFAULT_QUEUE_CAPACITY = 8192;
+  private static final int MAX_BATCH_SIZE = 512;
+  private static final long POLL_TIMEOUT_MILLIS = 100;
+  private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+  private final BufferedWriter writer;
+  private final BlockingQueue<Span> queue;
+  private final ExecutorService executor;
+  private final LongAdder dropped = new LongAdder();
+  private volatile boolean closed;
+
+  public FileSpanExporter(String path) {
+    this(path, DEFAULT_QUEUE_CAPACITY);
+  }
+
+  @VisibleForTesting
+  FileSpanExporter(String path, int queueCapacity) {
+    try {
+      writer =
+          Files.newBufferedWriter(
+              Paths.get(path),
+              StandardCharsets.UTF_8,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new UncheckedIOException(CommonError.OPENING_TRACING_FILE_FAILED.buildMessage(path), e);
+    }
+    queue = new ArrayBlockingQueue<>(queueCapacity);
+    executor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("span-exporter-%d").setDaemon(true).build());
+    executor.execute(this::writeSpans);
+  }
+
+  @Override
+  public void export(Span span) {
+    if (closed || !queue.offer(span)) {
+      dropped.increment();
+    }
+  }
+
+  /**
+   * Returns the number of spans dropped since the queue was full or the exporter was closed.
+   *
+   * @return the number of dropped spans
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /** Writes the queued spans and closes the file after the spans exported so far are written. */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+        LOGGER.warn("Timed out writing the remaining spans to the file.");
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    try {
+      writer.close();
+    } catch (IOException e) {
+      LOGGER.warn("Failed to close the span file.", e);
+    }
+  }
+
+  private void writeSpans() {
+    List<Span> batch = new ArrayList<>(MAX_BATCH_SIZE);
+    long reportedDrops = 0;
+    while (!closed || !queue.isEmpty()) {
+      try {
+        Span span = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (span == null) {
+          continue;
+        }
+        batch.add(span);
+        queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+        write(batch);
+        batch.clear();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      long drops = dropped.sum();
+      if (drops > reportedDrops) {
+        LOGGER.warn("{} spans were dropped since the span queue was full.", drops - reportedDrops);
+        reportedDrops = drops;
+      }
+    }
+  }
+
+  private void write(List<Span> spans) {
+    try {
+      for (Span span : spans) {
+        writer.write(toJson(span));
+        writer.newLine();
+      }
+      writer.flush();
+    } catch (IOException | RuntimeException e) {
+      // Tracing must not stop the writer thread
+      LOGGER.warn("Failed to export spans to the file.", e);
+    }
+  }
+
+  static String toJson(Span span) {
+    // Only the spans with a context are exported
+    SpanContext context = span.getContext();
+    ObjectNode node = MAPPER.createObjectNode();
+    node.put("trace_id", context.getTraceId());
+    node.put("span_id", context.getSpanId());
+    node.put("parent_span_id", span.getParentSpanId());
+    node.put("name", span.getName());
+    node.put("start_time_micros", span.getStartTimeMicros());
+    node.put("duration_micros", TimeUnit.NANOSECONDS.toMicros(span.getDurationNanos()));
+    ObjectNode attributes = node.putObject("attributes");
+    span.getAttributes().forEach(attributes::put);
+    node.put("error", span.getError());
+    try {
+      return MAPPER.writeValueAsString(node);
+    } catch (JsonProcessingException e) {
+      // Never happens since the node consists of strings and numbers
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package com.scalar.dl.ledger.trace;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link SpanExporter} that keeps the latest spans in memory, which is useful for tests and for
+ * inspecting the traces of a process without any external services.
+ */
+@ThreadSafe
+public class InMemorySpanExporter implements SpanExporter {
+  public static final int DEFAULT_MAX_SPANS = 10000;
+  private final Deque<Span> spans = new ArrayDeque<>();
+  private final int maxSpans;
+
+  public InMemorySpanExporter() {
+    this(DEFAULT_MAX_SPANS);
+  }
+
+  public InMemorySpanExporter(int maxSpans) {
+    this.maxSpans = maxSpans;
+  }
+
+  @Override
+  public synchronized void export(Span span) {
+    if (spans.size() >= maxSpans) {
+      spans.removeFirst();
+    }
+    spans.addLast(span);
+  }
+
+  /**
+   * Returns the exported spans in the order they were closed.
+   *
+   * @return a list of {@link Span}s
+   */
+  public synchronized List<Span> getSpans() {
+    return new ArrayList<>(spans);
+  }
+
+  public synchronized void clear() {
+    spans.clear();
+  }
+}
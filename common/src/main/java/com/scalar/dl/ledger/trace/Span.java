@@ -0,0 +1,139 @@
+package com.scalar.dl.ledger.trace;
+
+import com.google.common.base.MoreObjects;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A timed operation of a trace. A span is the current span of the thread that started it until it
+ * is closed, and the spans started in the meantime on the thread become its children. It is
+ * supposed to be used with try-with-resources on the thread that started it, except for a span
+ * started by {@link Tracer#startDetachedSpan(String)}, which can be closed on another thread once
+ * the operation completes.
+ */
+@NotThreadSafe
+public class Span implements AutoCloseable {
+  static final Span NOOP = new Span(null, "noop", null, null, null, false);
+  @Nullable private final Tracer tracer;
+  private final String name;
+  @Nullable private final SpanContext context;
+  @Nullable private final String parentSpanId;
+  @Nullable private final Span previous;
+  private final boolean attached;
+  private final Map<String, String> attributes = new LinkedHashMap<>();
+  private final long startTimeMicros;
+  private final long startNanos;
+  private long durationNanos = -1;
+  @Nullable private String error;
+
+  Span(
+      @Nullable Tracer tracer,
+      String name,
+      @Nullable SpanContext context,
+      @Nullable String parentSpanId,
+      @Nullable Span previous,
+      boolean attached) {
+    this.tracer = tracer;
+    this.name = name;
+    this.context = context;
+    this.parentSpanId = parentSpanId;
+    this.previous = previous;
+    this.attached = attached;
+    this.startTimeMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    this.startNanos = System.nanoTime();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the context of this span, which is null if tracing is disabled.
+   *
+   * @return a {@link SpanContext}
+   */
+  @Nullable
+  public SpanContext getContext() {
+    return context;
+  }
+
+  @Nullable
+  public String getParentSpanId() {
+    return parentSpanId;
+  }
+
+  public Map<String, String> getAttributes() {
+    return Collections.unmodifiableMap(attributes);
+  }
+
+  public long getStartTimeMicros() {
+    return startTimeMicros;
+  }
+
+  /**
+   * Returns the duration of this span, or -1 if it is not closed yet.
+   *
+   * @return the duration in nanoseconds
+   */
+  public long getDurationNanos() {
+    return durationNanos;
+  }
+
+  @Nullable
+  public String getError() {
+    return error;
+  }
+
+  public Span setAttribute(String key, @Nullable String value) {
+    if (isRecording() && value != null) {
+      attributes.put(key, value);
+    }
+    return this;
+  }
+
+  public Span setError(Throwable throwable) {
+    if (isRecording()) {
+      error = throwable.getClass().getSimpleName() + ": " + throwable.getMessage();
+    }
+    return this;
+  }
+
+  @Override
+  public void close() {
+    if (tracer == null || durationNanos >= 0) {
+      return;
+    }
+    durationNanos = System.nanoTime() - startNanos;
+    tracer.end(this);
+  }
+
+  @Nullable
+  Span getPrevious() {
+    return previous;
+  }
+
+  boolean isAttached() {
+    return attached;
+  }
+
+  private boolean isRecording() {
+    return context != null && context.isSampled();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("name", name)
+        .add("context", context)
+        .add("parentSpanId", parentSpanId)
+        .add("attributes", attributes)
+        .add("startTimeMicros", startTimeMicros)
+        .add("durationNanos", durationNanos)
+        .add("error", error)
+        .toString();
+  }
+}
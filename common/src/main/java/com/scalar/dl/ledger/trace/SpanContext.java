@@ -0,0 +1,127 @@
+package com.scalar.dl.ledger.trace;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The identifiers of a span that are propagated to other processes, in the format of the {@code
+ * traceparent} header of W3C Trace Context, i.e., {@code 00-<trace-id>-<span-id>-<flags>}, so that
+ * the spans of a request across a client, Auditor and Ledger belong to the same trace.
+ */
+@Immutable
+public final class SpanContext {
+  /** The name of the gRPC metadata that carries a span context. */
+  public static final String HEADER = "traceparent";
+
+  private static final String VERSION = "00";
+  private static final String SAMPLED = "01";
+  private static final String NOT_SAMPLED = "00";
+  private static final int TRACE_ID_LENGTH = 32;
+  private static final int SPAN_ID_LENGTH = 16;
+  private final String traceId;
+  private final String spanId;
+  private final boolean sampled;
+
+  SpanContext(String traceId, String spanId, boolean sampled) {
+    this.traceId = traceId;
+    this.spanId = spanId;
+    this.sampled = sampled;
+  }
+
+  public String getTraceId() {
+    return traceId;
+  }
+
+  public String getSpanId() {
+    return spanId;
+  }
+
+  public boolean isSampled() {
+    return sampled;
+  }
+
+  public String toHeader() {
+    return VERSION + "-" + traceId + "-" + spanId + "-" + (sampled ? SAMPLED : NOT_SAMPLED);
+  }
+
+  /**
+   * Parses the specified value of the {@link #HEADER} metadata.
+   *
+   * @param header a value of the header
+   * @return a {@code SpanContext}, or null if the value is malformed
+   */
+  @Nullable
+  public static SpanContext fromHeader(@Nullable String header) {
+    if (header == null) {
+      return null;
+    }
+    String[] parts = header.split("-", -1);
+    if (parts.length != 4
+        || !parts[0].equals(VERSION)
+        || !isHex(parts[1], TRACE_ID_LENGTH)
+        || !isHex(parts[2], SPAN_ID_LENGTH)
+        || !isHex(parts[3], 2)) {
+      return null;
+    }
+    return new SpanContext(parts[1], parts[2], (Integer.parseInt(parts[3], 16) & 0x01) != 0);
+  }
+
+  static SpanContext newRoot(boolean sampled) {
+    return new SpanContext(newId() + newId(), newId(), sampled);
+  }
+
+  SpanContext newChild() {
+    return new SpanContext(traceId, newId(), sampled);
+  }
+
+  private static String newId() {
+    long id;
+    do {
+      id = ThreadLocalRandom.current().nextLong();
+    } while (id == 0);
+    return String.format("%016x", id);
+  }
+
+  private static boolean isHex(String value, int length) {
+    if (value.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (Character.digit(value.charAt(i), 16) < 0 || Character.isUpperCase(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(traceId, spanId, sampled);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof SpanContext)) {
+      return false;
+    }
+    SpanContext another = (SpanContext) o;
+    return traceId.equals(another.traceId)
+        && spanId.equals(another.spanId)
+        && sampled == another.sampled;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("traceId", traceId)
+        .add("spanId", spanId)
+        .add("sampled", sampled)
+        .toString();
+  }
+}
@@ -0,0 +1,13 @@
+package com.scalar.dl.ledger.trace;
+
+/**
+ * An exporter that the sampled spans are written to when they are closed. An exporter is called
+ * on the request threads, so it should not block for long and should not throw.
+ */
+public interface SpanExporter extends AutoCloseable {
+
+  void export(Span span);
+
+  @Override
+  default void close() {}
+}
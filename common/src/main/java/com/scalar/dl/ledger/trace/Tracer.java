@@ -0,0 +1,189 @@
+package com.scalar.dl.ledger.trace;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.scalar.dl.ledger.config.TracingConfig;
+import com.scalar.dl.ledger.config.TracingExporter;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A tracer that starts spans and exports the sampled ones when they are closed.
+ *
+ * <p>A span started by {@link #startSpan(String)} is a child of the current span of the thread. If
+ * there is no current span, it is a child of the span of the caller that is propagated through
+ * {@link TracingServerInterceptor}, or the root of a new trace otherwise. Only the root decides
+ * whether a trace is sampled with the sampling ratio, and the other spans follow the decision, so a
+ * trace is either exported entirely or not at all across the processes.
+ */
+@ThreadSafe
+public class Tracer implements AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(Tracer.class.getName());
+  private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+  private static final Tracer NOOP = new Tracer(0.0, null);
+  private final double samplingRatio;
+  @Nullable private final SpanExporter exporter;
+
+  /**
+   * Constructs a {@code Tracer}.
+   *
+   * @param samplingRatio the ratio of the new traces to be sampled
+   * @param exporter a {@link SpanExporter} that the sampled spans are exported to, or null to
+   *     disable tracing
+   */
+  public Tracer(double samplingRatio, @Nullable SpanExporter exporter) {
+    this.samplingRatio = samplingRatio;
+    this.exporter = exporter;
+  }
+
+  /**
+   * Returns a {@code Tracer} that traces nothing.
+   *
+   * @return a {@code Tracer}
+   */
+  public static Tracer noop() {
+    return NOOP;
+  }
+
+  public static Tracer create(TracingConfig config) {
+    if (!config.isEnabled()) {
+      return NOOP;
+    }
+    SpanExporter exporter =
+        config.getExporter() == TracingExporter.FILE
+            ? new FileSpanExporter(config.getFilePath())
+            : new InMemorySpanExporter();
+    return new Tracer(config.getSamplingRatio(), exporter);
+  }
+
+  public boolean isEnabled() {
+    return exporter != null;
+  }
+
+  @Nullable
+  public SpanExporter getExporter() {
+    return exporter;
+  }
+
+  /**
+   * Starts a span with the specified name, which becomes the current span of the thread until it is
+   * closed.
+   *
+   * @param name the name of the span
+   * @return a {@link Span}
+   */
+  public Span startSpan(String name) {
+    if (exporter == null) {
+      return Span.NOOP;
+    }
+    Span span = start(name, true);
+    CURRENT.set(span);
+    return span;
+  }
+
+  /**
+   * Starts a span with the specified name without making it the current span of the thread, for an
+   * operation that completes on another thread such as an asynchronous call. The span can be closed
+   * on any thread, and {@link #withSpan(Span)} makes it the parent of the spans and the outgoing
+   * calls started on a thread.
+   *
+   * @param name the name of the span
+   * @return a {@link Span}
+   */
+  public Span startDetachedSpan(String name) {
+    if (exporter == null) {
+      return Span.NOOP;
+    }
+    return start(name, false);
+  }
+
+  /**
+   * Makes the specified span the current span of the thread until the returned scope is closed, so
+   * that the spans and the outgoing calls started in the scope belong to it.
+   *
+   * @param span a {@link Span}, typically started by {@link #startDetachedSpan(String)}
+   * @return a {@link Scope} to be closed on the same thread
+   */
+  public Scope withSpan(Span span) {
+    if (exporter == null || span.getContext() == null) {
+      return Scope.NOOP;
+    }
+    Span previous = CURRENT.get();
+    CURRENT.set(span);
+    return () -> {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    };
+  }
+
+  /**
+   * Returns the context of the current span of the thread to propagate it to another process.
+   *
+   * @return a {@link SpanContext}, or null if there is no current span
+   */
+  @Nullable
+  public static SpanContext currentContext() {
+    Span current = CURRENT.get();
+    return current == null ? null : current.getContext();
+  }
+
+  @Override
+  public void close() {
+    if (exporter != null) {
+      exporter.close();
+    }
+  }
+
+  void end(Span span) {
+    if (span.isAttached() && CURRENT.get() == span) {
+      if (span.getPrevious() == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(span.getPrevious());
+      }
+    }
+    SpanContext context = span.getContext();
+    if (exporter == null || context == null || !context.isSampled()) {
+      return;
+    }
+    try {
+      exporter.export(span);
+    } catch (RuntimeException e) {
+      // Tracing must not fail the request
+      LOGGER.warn("Failed to export a span.", e);
+    }
+  }
+
+  @VisibleForTesting
+  boolean sample() {
+    return samplingRatio >= 1.0 || ThreadLocalRandom.current().nextDouble() < samplingRatio;
+  }
+
+  private Span start(String name, boolean attached) {
+    Span current = CURRENT.get();
+    SpanContext parent =
+        current != null ? current.getContext() : TracingServerInterceptor.getRemoteParent();
+    SpanContext context = parent == null ? SpanContext.newRoot(sample()) : parent.newChild();
+    return new Span(
+        this,
+        name,
+        context,
+        parent == null ? null : parent.getSpanId(),
+        attached ? current : null,
+        attached);
+  }
+
+  /** A scope in which a span is the current span of the thread. */
+  @FunctionalInterface
+  public interface Scope extends AutoCloseable {
+    Scope NOOP = () -> {};
+
+    @Override
+    void close();
+  }
+}
@@ -0,0 +1,35 @@
+package com.scalar.dl.ledger.trace;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ServerInterceptor} that takes the span context of the caller from the {@link
+ * SpanContext#HEADER} metadata, so that the spans of the call become its children.
+ */
+public class TracingServerInterceptor implements ServerInterceptor {
+  private static final Metadata.Key<String> KEY =
+      Metadata.Key.of(SpanContext.HEADER, Metadata.ASCII_STRING_MARSHALLER);
+  private static final Context.Key<SpanContext> REMOTE_PARENT = Context.key(SpanContext.HEADER);
+
+  @Override
+  public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+      ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+    SpanContext parent = SpanContext.fromHeader(headers.get(KEY));
+    if (parent == null) {
+      return next.startCall(call, headers);
+    }
+    return Contexts.interceptCall(
+        Context.current().withValue(REMOTE_PARENT, parent), call, headers, next);
+  }
+
+  @Nullable
+  static SpanContext getRemoteParent() {
+    return REMOTE_PARENT.get();
+  }
+}
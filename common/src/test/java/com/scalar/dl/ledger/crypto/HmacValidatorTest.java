@@ -2,7 +2,10 @@ package com.scalar.dl.ledger.crypto;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -84,4 +87,38 @@ public class HmacValidatorTest {
     // Assert
     assertThat(actual).isFalse();
   }
+
+  @Test
+  public void validateBuffers_BuffersOfCorrectBytesGiven_ShouldReturnTrueWithoutMovingPositions() {
+    // Arrange
+    byte[] signature = signer.sign("any_bytes".getBytes(StandardCharsets.UTF_8));
+    List<ByteBuffer> buffers =
+        Arrays.asList(
+            ByteBuffer.wrap("any_".getBytes(StandardCharsets.UTF_8)),
+            ByteBuffer.wrap("bytes".getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer());
+
+    // Act
+    boolean actual = validator.validateBuffers(buffers, signature);
+
+    // Assert
+    assertThat(actual).isTrue();
+    assertThat(buffers.get(0).position()).isEqualTo(0);
+    assertThat(buffers.get(1).position()).isEqualTo(0);
+  }
+
+  @Test
+  public void validateBuffers_BuffersOfIncorrectBytesGiven_ShouldReturnFalse() {
+    // Arrange
+    byte[] signature = signer.sign("any_bytes".getBytes(StandardCharsets.UTF_8));
+    List<ByteBuffer> buffers =
+        Arrays.asList(
+            ByteBuffer.wrap("any_".getBytes(StandardCharsets.UTF_8)),
+            ByteBuffer.wrap("bites".getBytes(StandardCharsets.UTF_8)));
+
+    // Act
+    boolean actual = validator.validateBuffers(buffers, signature);
+
+    // Assert
+    assertThat(actual).isFalse();
+  }
 }
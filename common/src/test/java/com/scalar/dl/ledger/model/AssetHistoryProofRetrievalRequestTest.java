@@ -0,0 +1,148 @@
+package com.scalar.dl.ledger.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.scalar.dl.ledger.crypto.SignatureValidator;
+import com.scalar.dl.ledger.exception.SignatureException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class AssetHistoryProofRetrievalRequestTest {
+  private static final String NAMESPACE = "namespace";
+  private static final String ASSET_ID = "asset_id";
+  private static final int AGE = 1;
+  private static final long OLD_SIZE = 2L;
+  private static final String ENTITY_ID = "entity_id";
+  private static final int KEY_VERSION = 1;
+  private static final byte[] SIGNATURE = "signature".getBytes(StandardCharsets.UTF_8);
+
+  private AssetHistoryProofRetrievalRequest createRequest() {
+    return new AssetHistoryProofRetrievalRequest(
+        NAMESPACE, ASSET_ID, AGE, OLD_SIZE, ENTITY_ID, KEY_VERSION, SIGNATURE);
+  }
+
+  @Test
+  public void constructor_NullNamespaceGiven_ShouldInstantiate() {
+    // Arrange
+
+    // Act Assert
+    assertThatCode(
+            () ->
+                new AssetHistoryProofRetrievalRequest(
+                    null, ASSET_ID, AGE, OLD_SIZE, ENTITY_ID, KEY_VERSION, SIGNATURE))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  public void constructor_NullAssetIdGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+
+    // Act Assert
+    assertThatThrownBy(
+            () ->
+                new AssetHistoryProofRetrievalRequest(
+                    NAMESPACE, null, AGE, OLD_SIZE, ENTITY_ID, KEY_VERSION, SIGNATURE))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_NegativeAgeGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+
+    // Act Assert
+    assertThatThrownBy(
+            () ->
+                new AssetHistoryProofRetrievalRequest(
+                    NAMESPACE, ASSET_ID, -1, OLD_SIZE, ENTITY_ID, KEY_VERSION, SIGNATURE))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_NegativeOldSizeGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+
+    // Act Assert
+    assertThatThrownBy(
+            () ->
+                new AssetHistoryProofRetrievalRequest(
+                    NAMESPACE, ASSET_ID, AGE, -1L, ENTITY_ID, KEY_VERSION, SIGNATURE))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void get_ProperRequestGiven_ShouldReturnWhatsSet() {
+    // Arrange
+    AssetHistoryProofRetrievalRequest request = createRequest();
+
+    // Act Assert
+    assertThat(request.getNamespace()).isEqualTo(NAMESPACE);
+    assertThat(request.getAssetId()).isEqualTo(ASSET_ID);
+    assertThat(request.getAge()).isEqualTo(AGE);
+    assertThat(request.getOldSize()).isEqualTo(OLD_SIZE);
+    assertThat(request.getEntityId()).isEqualTo(ENTITY_ID);
+    assertThat(request.getKeyVersion()).isEqualTo(KEY_VERSION);
+    assertThat(request.getSignature()).isEqualTo(SIGNATURE);
+  }
+
+  @Test
+  public void equals_OnTheSameData_ShouldReturnTrue() {
+    // Arrange
+    AssetHistoryProofRetrievalRequest request = createRequest();
+    AssetHistoryProofRetrievalRequest other = createRequest();
+
+    // Act
+    boolean result = request.equals(other);
+
+    // Assert
+    assertThat(result).isTrue();
+    assertThat(request.hashCode()).isEqualTo(other.hashCode());
+  }
+
+  @Test
+  public void equals_OnDifferentOldSize_ShouldReturnFalse() {
+    // Arrange
+    AssetHistoryProofRetrievalRequest request = createRequest();
+    AssetHistoryProofRetrievalRequest other =
+        new AssetHistoryProofRetrievalRequest(
+            NAMESPACE, ASSET_ID, AGE, OLD_SIZE + 1, ENTITY_ID, KEY_VERSION, SIGNATURE);
+
+    // Act
+    boolean result = request.equals(other);
+
+    // Assert
+    assertThat(result).isFalse();
+  }
+
+  @Test
+  public void validateWith_InvalidSignatureGiven_ShouldThrowSignatureException() {
+    // Arrange
+    AssetHistoryProofRetrievalRequest request = createRequest();
+    SignatureValidator validator = mock(SignatureValidator.class);
+    when(validator.validate(any(byte[].class), any(byte[].class))).thenReturn(false);
+
+    // Act Assert
+    assertThatThrownBy(() -> request.validateWith(validator))
+        .isInstanceOf(SignatureException.class);
+  }
+
+  @Test
+  public void serialize_WithDifferentOldSize_ShouldReturnDifferentBytes() {
+    // Arrange
+
+    // Act
+    byte[] serialized1 =
+        AssetHistoryProofRetrievalRequest.serialize(
+            NAMESPACE, ASSET_ID, AGE, OLD_SIZE, ENTITY_ID, KEY_VERSION);
+    byte[] serialized2 =
+        AssetHistoryProofRetrievalRequest.serialize(
+            NAMESPACE, ASSET_ID, AGE, OLD_SIZE + 1, ENTITY_ID, KEY_VERSION);
+
+    // Assert
+    assertThat(serialized1).isNotEqualTo(serialized2);
+  }
+}
@@ -4,6 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.scalar.dl.ledger.crypto.HmacSigner;
+import com.scalar.dl.ledger.crypto.HmacValidator;
+import com.scalar.dl.ledger.exception.SignatureException;
 import com.scalar.dl.ledger.util.Argument;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
@@ -390,4 +393,58 @@ public class ContractExecutionRequestTest {
     assertThat(signature).isEqualTo(SIGNATURE);
     assertThat(auditorSignature).isEqualTo(AUDITOR_SIGNATURE);
   }
+
+  @Test
+  public void validateWith_SignatureOfSerializedBytesGiven_ShouldNotThrowAnyException() {
+    // Arrange
+    String secretKey = "secret_key";
+    byte[] signature =
+        new HmacSigner(secretKey)
+            .sign(
+                ContractExecutionRequest.serialize(
+                    CONTRACT_ID, CONTRACT_ARGUMENT, CONTEXT_NAMESPACE, ENTITY_ID, KEY_VERSION));
+    ContractExecutionRequest request =
+        new ContractExecutionRequest(
+            NONCE,
+            CONTRACT_ID,
+            CONTRACT_ARGUMENT,
+            Collections.singletonList(FUNCTION_ID),
+            FUNCTION_ARGUMENT,
+            CONTEXT_NAMESPACE,
+            ENTITY_ID,
+            KEY_VERSION,
+            signature,
+            AUDITOR_SIGNATURE);
+
+    // Act Assert
+    assertThatCode(() -> request.validateWith(new HmacValidator(secretKey)))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  public void validateWith_SignatureOfAnotherArgumentGiven_ShouldThrowSignatureException() {
+    // Arrange
+    String secretKey = "secret_key";
+    byte[] signature =
+        new HmacSigner(secretKey)
+            .sign(
+                ContractExecutionRequest.serialize(
+                    CONTRACT_ID, "another_argument", CONTEXT_NAMESPACE, ENTITY_ID, KEY_VERSION));
+    ContractExecutionRequest request =
+        new ContractExecutionRequest(
+            NONCE,
+            CONTRACT_ID,
+            CONTRACT_ARGUMENT,
+            Collections.singletonList(FUNCTION_ID),
+            FUNCTION_ARGUMENT,
+            CONTEXT_NAMESPACE,
+            ENTITY_ID,
+            KEY_VERSION,
+            signature,
+            AUDITOR_SIGNATURE);
+
+    // Act Assert
+    assertThatThrownBy(() -> request.validateWith(new HmacValidator(secretKey)))
+        .isInstanceOf(SignatureException.class);
+  }
 }
@@ -1,10 +1,17 @@
 package com.scalar.dl.ledger.proof;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.scalar.dl.ledger.crypto.SignatureValidator;
 import com.scalar.dl.ledger.namespace.Namespaces;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 public class AssetProofTest {
@@ -115,4 +122,33 @@ public class AssetProofTest {
     assertThat(defaultResult.length + nonDefaultNamespace.length())
         .isEqualTo(nonDefaultResult.length);
   }
+
+  @Test
+  public void validateWith_AggregatedProofGiven_ShouldValidateSignatureOverMerkleRoot() {
+    // Arrange
+    byte[] hash = new byte[] {0x01, 0x02, 0x03, 0x04};
+    byte[] signature = new byte[] {0x09};
+    List<byte[]> payloads =
+        Arrays.asList(
+            AssetProof.serialize(Namespaces.DEFAULT, "id0", 0, "nonce", "{}", hash, null),
+            AssetProof.serialize(Namespaces.DEFAULT, "id1", 0, "nonce", "{}", hash, null));
+    MerkleTree tree = new MerkleTree(payloads);
+    AssetProof proof =
+        AssetProof.newBuilder()
+            .namespace(Namespaces.DEFAULT)
+            .id("id1")
+            .age(0)
+            .nonce("nonce")
+            .input("{}")
+            .hash(hash)
+            .signature(signature)
+            .merkleLeaf(1, 2, tree.getPath(1))
+            .build();
+    SignatureValidator validator = mock(SignatureValidator.class);
+    when(validator.validate(tree.getSigningBytes(), signature)).thenReturn(true);
+
+    // Act Assert
+    assertThatCode(() -> proof.validateWith(validator)).doesNotThrowAnyException();
+    verify(validator).validate(tree.getSigningBytes(), signature);
+  }
 }
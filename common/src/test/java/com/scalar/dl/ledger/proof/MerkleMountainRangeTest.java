@@ -0,0 +1,151 @@
+package com.scalar.dl.ledger.proof;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class MerkleMountainRangeTest {
+
+  private byte[] createRecordHash(int age) {
+    return ("record" + age).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private List<byte[]> createNodes(int leafCount) {
+    List<byte[]> nodes = new ArrayList<>();
+    for (int age = 0; age < leafCount; age++) {
+      List<byte[]> merged = read(nodes, MerkleMountainRange.getMergedPositions(age));
+      nodes.addAll(MerkleMountainRange.append(createRecordHash(age), age, merged));
+    }
+    return nodes;
+  }
+
+  private List<byte[]> read(List<byte[]> nodes, List<Long> positions) {
+    List<byte[]> hashes = new ArrayList<>();
+    positions.forEach(p -> hashes.add(nodes.get(p.intValue())));
+    return hashes;
+  }
+
+  private List<byte[]> getPeaks(List<byte[]> nodes, long leafCount) {
+    return read(nodes, MerkleMountainRange.getPeakPositions(leafCount));
+  }
+
+  @Test
+  public void append_LeavesGiven_ShouldAddNodesAtLeafPositions() {
+    List<byte[]> nodes = new ArrayList<>();
+    for (int age = 0; age < 20; age++) {
+      // Arrange
+      List<byte[]> merged = read(nodes, MerkleMountainRange.getMergedPositions(age));
+
+      // Act
+      List<byte[]> added = MerkleMountainRange.append(createRecordHash(age), age, merged);
+
+      // Assert
+      assertThat((long) nodes.size()).isEqualTo(MerkleMountainRange.getLeafPosition(age));
+      nodes.addAll(added);
+      assertThat((long) nodes.size()).isEqualTo(MerkleMountainRange.getNodeCount(age + 1));
+      assertThat(MerkleMountainRange.getLeafCount(nodes.size())).isEqualTo(age + 1);
+    }
+  }
+
+  @Test
+  public void computeRoot_PathsOfAllLeavesGiven_ShouldReturnRootOfRange() {
+    for (int count = 1; count <= 17; count++) {
+      // Arrange
+      List<byte[]> nodes = createNodes(count);
+      List<byte[]> peaks = getPeaks(nodes, count);
+
+      for (int age = 0; age < count; age++) {
+        List<byte[]> path = read(nodes, MerkleMountainRange.getPathPositions(age, count));
+
+        // Act
+        byte[] actual =
+            MerkleMountainRange.computeRoot(createRecordHash(age), age, count, path, peaks);
+
+        // Assert
+        assertThat(actual).isEqualTo(MerkleMountainRange.bagPeaks(peaks));
+        assertThat(path.size()).isLessThanOrEqualTo(32 - Integer.numberOfLeadingZeros(count));
+      }
+    }
+  }
+
+  @Test
+  public void computeRoot_TamperedRecordHashGiven_ShouldReturnNull() {
+    // Arrange
+    List<byte[]> nodes = createNodes(11);
+    List<byte[]> peaks = getPeaks(nodes, 11);
+    List<byte[]> path = read(nodes, MerkleMountainRange.getPathPositions(5, 11));
+    byte[] tampered = "tampered".getBytes(StandardCharsets.UTF_8);
+
+    // Act
+    byte[] actual = MerkleMountainRange.computeRoot(tampered, 5, 11, path, peaks);
+
+    // Assert
+    assertThat(actual).isNull();
+  }
+
+  @Test
+  public void computeRoot_PeaksOfAnotherLeafCountGiven_ShouldReturnNull() {
+    // Arrange
+    List<byte[]> nodes = createNodes(11);
+    List<byte[]> path = read(nodes, MerkleMountainRange.getPathPositions(5, 11));
+
+    // Act
+    byte[] actual =
+        MerkleMountainRange.computeRoot(createRecordHash(5), 5, 11, path, getPeaks(nodes, 10));
+
+    // Assert
+    assertThat(actual).isNull();
+  }
+
+  @Test
+  public void verifyConsistency_PrefixesGiven_ShouldReturnTrue() {
+    // Arrange
+    List<byte[]> nodes = createNodes(13);
+
+    for (int count = 1; count <= 13; count++) {
+      for (int oldCount = 1; oldCount <= count; oldCount++) {
+        List<byte[]> oldPeaks = getPeaks(nodes, oldCount);
+        List<List<byte[]>> paths = new ArrayList<>();
+        for (int i = 0; i < oldPeaks.size(); i++) {
+          paths.add(read(nodes, MerkleMountainRange.getPathPositions(oldCount, i, count)));
+        }
+
+        // Act
+        boolean actual =
+            MerkleMountainRange.verifyConsistency(
+                oldCount, oldPeaks, count, getPeaks(nodes, count), paths);
+
+        // Assert
+        assertThat(actual).isTrue();
+      }
+    }
+  }
+
+  @Test
+  public void verifyConsistency_RewrittenHistoryGiven_ShouldReturnFalse() {
+    // Arrange
+    List<byte[]> nodes = createNodes(13);
+    List<byte[]> rewritten = new ArrayList<>();
+    for (int age = 0; age < 13; age++) {
+      byte[] recordHash =
+          age == 2 ? "rewritten".getBytes(StandardCharsets.UTF_8) : createRecordHash(age);
+      List<byte[]> merged = read(rewritten, MerkleMountainRange.getMergedPositions(age));
+      rewritten.addAll(MerkleMountainRange.append(recordHash, age, merged));
+    }
+    List<byte[]> oldPeaks = getPeaks(nodes, 5);
+    List<List<byte[]>> paths = new ArrayList<>();
+    for (int i = 0; i < oldPeaks.size(); i++) {
+      paths.add(read(rewritten, MerkleMountainRange.getPathPositions(5, i, 13)));
+    }
+
+    // Act
+    boolean actual =
+        MerkleMountainRange.verifyConsistency(5, oldPeaks, 13, getPeaks(rewritten, 13), paths);
+
+    // Assert
+    assertThat(actual).isFalse();
+  }
+}
@@ -0,0 +1,76 @@
+package com.scalar.dl.ledger.proof;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class MerkleTreeTest {
+
+  private List<byte[]> createPayloads(int count) {
+    List<byte[]> payloads = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      payloads.add(("payload" + i).getBytes(StandardCharsets.UTF_8));
+    }
+    return payloads;
+  }
+
+  @Test
+  public void computeSigningBytes_PathsOfAllLeavesGiven_ShouldReturnSigningBytesOfTree() {
+    for (int count = 1; count <= 9; count++) {
+      // Arrange
+      List<byte[]> payloads = createPayloads(count);
+      MerkleTree tree = new MerkleTree(payloads);
+
+      for (int i = 0; i < count; i++) {
+        // Act
+        byte[] actual = MerkleTree.computeSigningBytes(payloads.get(i), i, count, tree.getPath(i));
+
+        // Assert
+        assertThat(actual).isEqualTo(tree.getSigningBytes());
+      }
+    }
+  }
+
+  @Test
+  public void computeSigningBytes_TamperedPayloadGiven_ShouldReturnDifferentBytes() {
+    // Arrange
+    List<byte[]> payloads = createPayloads(5);
+    MerkleTree tree = new MerkleTree(payloads);
+    byte[] tampered = "tampered".getBytes(StandardCharsets.UTF_8);
+
+    // Act
+    byte[] actual = MerkleTree.computeSigningBytes(tampered, 2, 5, tree.getPath(2));
+
+    // Assert
+    assertThat(actual).isNotEqualTo(tree.getSigningBytes());
+  }
+
+  @Test
+  public void computeSigningBytes_PathOfAnotherLeafCountGiven_ShouldReturnNull() {
+    // Arrange
+    List<byte[]> payloads = createPayloads(5);
+    MerkleTree tree = new MerkleTree(payloads);
+
+    // Act
+    byte[] actual = MerkleTree.computeSigningBytes(payloads.get(4), 4, 8, tree.getPath(4));
+
+    // Assert
+    assertThat(actual).isNull();
+  }
+
+  @Test
+  public void computeSigningBytes_IndexOutOfRangeGiven_ShouldReturnNull() {
+    // Arrange
+    List<byte[]> payloads = createPayloads(2);
+    MerkleTree tree = new MerkleTree(payloads);
+
+    // Act
+    byte[] actual = MerkleTree.computeSigningBytes(payloads.get(1), 2, 2, tree.getPath(1));
+
+    // Assert
+    assertThat(actual).isNull();
+  }
+}
@@ -0,0 +1,93 @@
+package com.scalar.dl.ledger.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.scalar.dl.ledger.server.Stats.TimerContext;
+import org.junit.jupiter.api.Test;
+
+public class PhaseStatsTest {
+  private static final String ANY_PHASE = "phase";
+  private static final String ANY_NAMESPACE = "namespace";
+  private static final String ANY_CONTRACT_ID = "contract_id";
+
+  @Test
+  public void measure_EnabledGiven_ShouldMeasurePhaseWithAndWithoutTags() {
+    // Arrange
+    PhaseStats stats = new PhaseStats(true, 10);
+    stats.registerTag(ANY_NAMESPACE, ANY_CONTRACT_ID);
+
+    // Act
+    try (TimerContext unused = stats.measure(ANY_PHASE)) {
+      // do nothing
+    }
+    try (TimerContext unused = stats.measure(ANY_PHASE, ANY_NAMESPACE, ANY_CONTRACT_ID)) {
+      // do nothing
+    }
+    try (TimerContext unused = stats.measure(ANY_PHASE, ANY_NAMESPACE, null)) {
+      // do nothing
+    }
+
+    // Assert
+    assertThat(stats.getCount("phase." + ANY_PHASE)).isEqualTo(1);
+    assertThat(stats.getCount("phase." + ANY_PHASE + ".namespace.contract_id")).isEqualTo(1);
+    assertThat(stats.getCount("phase." + ANY_PHASE + ".namespace")).isEqualTo(1);
+  }
+
+  @Test
+  public void measure_DisabledGiven_ShouldMeasureNothing() {
+    // Arrange
+    PhaseStats stats = PhaseStats.disabled();
+
+    // Act
+    try (TimerContext unused = stats.measure(ANY_PHASE, ANY_NAMESPACE, ANY_CONTRACT_ID)) {
+      // do nothing
+    }
+
+    // Assert
+    assertThat(stats.getCount("phase." + ANY_PHASE + ".namespace.contract_id")).isEqualTo(0);
+  }
+
+  @Test
+  public void measure_MoreTagsThanMaxTagsGiven_ShouldMeasureExceedingTagsAsOther() {
+    // Arrange
+    PhaseStats stats = new PhaseStats(true, 2);
+
+    // Act
+    for (int i = 0; i < 4; i++) {
+      stats.registerTag(ANY_NAMESPACE, "contract" + i);
+      try (TimerContext unused = stats.measure(ANY_PHASE, ANY_NAMESPACE, "contract" + i)) {
+        // do nothing
+      }
+    }
+    try (TimerContext unused = stats.measure(ANY_PHASE, ANY_NAMESPACE, "contract0")) {
+      // do nothing
+    }
+
+    // Assert
+    assertThat(stats.getCount("phase." + ANY_PHASE + ".namespace.contract0")).isEqualTo(2);
+    assertThat(stats.getCount("phase." + ANY_PHASE + ".namespace.contract1")).isEqualTo(1);
+    assertThat(stats.getCount("phase." + ANY_PHASE + "." + PhaseStats.OTHER_TAG)).isEqualTo(2);
+  }
+
+  @Test
+  public void measure_UnregisteredContractIdGiven_ShouldMeasureAsOtherWithoutUsingUpTags() {
+    // Arrange
+    PhaseStats stats = new PhaseStats(true, 1);
+
+    // Act
+    for (int i = 0; i < 3; i++) {
+      try (TimerContext unused = stats.measure(ANY_PHASE, ANY_NAMESPACE, "fake" + i)) {
+        // do nothing
+      }
+    }
+    stats.registerTag(ANY_NAMESPACE, ANY_CONTRACT_ID);
+    try (TimerContext unused = stats.measure(ANY_PHASE, ANY_NAMESPACE, ANY_CONTRACT_ID)) {
+      // do nothing
+    }
+
+    // Assert
+    assertThat(stats.getCount("phase." + ANY_PHASE + "." + PhaseStats.OTHER_TAG)).isEqualTo(3);
+    assertThat(stats.getCount("phase." + ANY_PHASE + ".namespace.fake0")).isEqualTo(0);
+    assertThat(stats.getCount("phase." + ANY_PHASE + ".namespace.contract_id")).isEqualTo(1);
+  }
+}
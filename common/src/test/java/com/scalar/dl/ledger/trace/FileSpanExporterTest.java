@@ -0,0 +1,67 @@
+package com.scalar.dl.ledger.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileSpanExporterTest {
+  private static final String ANY_NAME = "name";
+  private static final String ANY_CHILD_NAME = "child";
+  private static final String ANY_FILE_NAME = "spans.json";
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @Test
+  public void close_SpansExportedGiven_ShouldWriteThemAsJsonLines(@TempDir Path dir)
+      throws IOException {
+    // Arrange
+    Path path = dir.resolve(ANY_FILE_NAME);
+    FileSpanExporter exporter = new FileSpanExporter(path.toString());
+    Tracer tracer = new Tracer(1.0, exporter);
+    try (Span parent = tracer.startSpan(ANY_NAME)) {
+      parent.setAttribute("contract_id", "contract \"quoted\"");
+      tracer.startSpan(ANY_CHILD_NAME).close();
+    }
+
+    // Act
+    tracer.close();
+
+    // Assert
+    List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+    assertThat(lines).hasSize(2);
+    JsonNode child = MAPPER.readTree(lines.get(0));
+    JsonNode parent = MAPPER.readTree(lines.get(1));
+    assertThat(child.get("name").asText()).isEqualTo(ANY_CHILD_NAME);
+    assertThat(child.get("trace_id").asText()).isEqualTo(parent.get("trace_id").asText());
+    assertThat(child.get("parent_span_id").asText()).isEqualTo(parent.get("span_id").asText());
+    assertThat(parent.get("parent_span_id").isNull()).isTrue();
+    assertThat(parent.get("attributes").get("contract_id").asText())
+        .isEqualTo("contract \"quoted\"");
+    assertThat(parent.get("error").isNull()).isTrue();
+    assertThat(exporter.getDroppedCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void export_ClosedExporterGiven_ShouldDropSpan(@TempDir Path dir) throws IOException {
+    // Arrange
+    Path path = dir.resolve(ANY_FILE_NAME);
+    FileSpanExporter exporter = new FileSpanExporter(path.toString());
+    Tracer tracer = new Tracer(1.0, exporter);
+    Span span = tracer.startSpan(ANY_NAME);
+    exporter.close();
+
+    // Act
+    span.close();
+
+    // Assert
+    assertThat(Files.readAllLines(path, StandardCharsets.UTF_8)).isEmpty();
+    assertThat(exporter.getDroppedCount()).isEqualTo(1);
+  }
+}
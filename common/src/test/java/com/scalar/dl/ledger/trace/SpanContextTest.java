@@ -0,0 +1,48 @@
+package com.scalar.dl.ledger.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class SpanContextTest {
+
+  @Test
+  public void fromHeader_HeaderOfSpanContextGiven_ShouldReturnSameSpanContext() {
+    // Arrange
+    SpanContext context = SpanContext.newRoot(true).newChild();
+
+    // Act
+    SpanContext actual = SpanContext.fromHeader(context.toHeader());
+
+    // Assert
+    assertThat(actual).isEqualTo(context);
+    assertThat(actual.isSampled()).isTrue();
+  }
+
+  @Test
+  public void fromHeader_NotSampledHeaderGiven_ShouldReturnNotSampledSpanContext() {
+    // Arrange
+    String header = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-00";
+
+    // Act
+    SpanContext actual = SpanContext.fromHeader(header);
+
+    // Assert
+    assertThat(actual).isNotNull();
+    assertThat(actual.getTraceId()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+    assertThat(actual.getSpanId()).isEqualTo("b7ad6b7169203331");
+    assertThat(actual.isSampled()).isFalse();
+  }
+
+  @Test
+  public void fromHeader_MalformedHeadersGiven_ShouldReturnNull() {
+    // Act Assert
+    assertThat(SpanContext.fromHeader(null)).isNull();
+    assertThat(SpanContext.fromHeader("")).isNull();
+    assertThat(SpanContext.fromHeader("00-abc-def-01")).isNull();
+    assertThat(SpanContext.fromHeader("01-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01"))
+        .isNull();
+    assertThat(SpanContext.fromHeader("00-0AF7651916CD43DD8448EB211C80319C-b7ad6b7169203331-01"))
+        .isNull();
+  }
+}
@@ -0,0 +1,123 @@
+package com.scalar.dl.ledger.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TracerTest {
+  private static final String ANY_NAME = "name";
+  private static final String ANY_CHILD_NAME = "child";
+  private InMemorySpanExporter exporter;
+
+  @BeforeEach
+  public void setUp() {
+    exporter = new InMemorySpanExporter();
+  }
+
+  @Test
+  public void startSpan_NestedSpansGiven_ShouldExportChildWithParentInSameTrace() {
+    // Arrange
+    Tracer tracer = new Tracer(1.0, exporter);
+
+    // Act
+    try (Span parent = tracer.startSpan(ANY_NAME)) {
+      try (Span child = tracer.startSpan(ANY_CHILD_NAME)) {
+        assertThat(Tracer.currentContext()).isEqualTo(child.getContext());
+      }
+      assertThat(Tracer.currentContext()).isEqualTo(parent.getContext());
+    }
+
+    // Assert
+    assertThat(Tracer.currentContext()).isNull();
+    List<Span> spans = exporter.getSpans();
+    assertThat(spans).hasSize(2);
+    Span child = spans.get(0);
+    Span parent = spans.get(1);
+    assertThat(child.getName()).isEqualTo(ANY_CHILD_NAME);
+    assertThat(parent.getName()).isEqualTo(ANY_NAME);
+    assertThat(child.getContext().getTraceId()).isEqualTo(parent.getContext().getTraceId());
+    assertThat(child.getParentSpanId()).isEqualTo(parent.getContext().getSpanId());
+    assertThat(parent.getParentSpanId()).isNull();
+    assertThat(child.getDurationNanos()).isGreaterThanOrEqualTo(0);
+  }
+
+  @Test
+  public void startSpan_ZeroSamplingRatioGiven_ShouldPropagateButNotExport() {
+    // Arrange
+    Tracer tracer = new Tracer(0.0, exporter);
+
+    // Act
+    try (Span parent = tracer.startSpan(ANY_NAME);
+        Span child = tracer.startSpan(ANY_CHILD_NAME)) {
+      // Assert
+      assertThat(Tracer.currentContext()).isNotNull();
+      assertThat(Tracer.currentContext().isSampled()).isFalse();
+      assertThat(child.getContext().getTraceId()).isEqualTo(parent.getContext().getTraceId());
+    }
+    assertThat(exporter.getSpans()).isEmpty();
+  }
+
+  @Test
+  public void startSpan_NoopTracerGiven_ShouldNotChangeCurrentContext() {
+    // Arrange
+    Tracer tracer = Tracer.noop();
+
+    // Act
+    try (Span span = tracer.startSpan(ANY_NAME)) {
+      // Assert
+      assertThat(span.getContext()).isNull();
+      assertThat(Tracer.currentContext()).isNull();
+    }
+  }
+
+  @Test
+  public void startDetachedSpan_ChildStartedWithSpanGiven_ShouldExportChildOfDetachedSpan()
+      throws Exception {
+    // Arrange
+    Tracer tracer = new Tracer(1.0, exporter);
+
+    // Act
+    Span detached = tracer.startDetachedSpan(ANY_NAME);
+    assertThat(Tracer.currentContext()).isNull();
+    CompletableFuture.runAsync(
+            () -> {
+              try (Tracer.Scope unused = tracer.withSpan(detached)) {
+                tracer.startSpan(ANY_CHILD_NAME).close();
+                assertThat(Tracer.currentContext()).isEqualTo(detached.getContext());
+              }
+              assertThat(Tracer.currentContext()).isNull();
+              detached.close();
+            })
+        .get();
+
+    // Assert
+    assertThat(Tracer.currentContext()).isNull();
+    List<Span> spans = exporter.getSpans();
+    assertThat(spans).hasSize(2);
+    assertThat(spans.get(0).getName()).isEqualTo(ANY_CHILD_NAME);
+    assertThat(spans.get(0).getParentSpanId()).isEqualTo(detached.getContext().getSpanId());
+    assertThat(spans.get(1)).isSameAs(detached);
+  }
+
+  @Test
+  public void close_ErrorAndAttributesGiven_ShouldExportThem() {
+    // Arrange
+    Tracer tracer = new Tracer(1.0, exporter);
+
+    // Act
+    try (Span span = tracer.startSpan(ANY_NAME)) {
+      span.setAttribute("contract_id", "contract").setError(new IllegalStateException("failed"));
+    }
+
+    // Assert
+    Span span = exporter.getSpans().get(0);
+    assertThat(span.getAttributes()).containsEntry("contract_id", "contract");
+    assertThat(span.getError()).isEqualTo("IllegalStateException: failed");
+    assertThat(FileSpanExporter.toJson(span))
+        .contains("\"name\":\"" + ANY_NAME + "\"")
+        .contains("\"attributes\":{\"contract_id\":\"contract\"}");
+  }
+}
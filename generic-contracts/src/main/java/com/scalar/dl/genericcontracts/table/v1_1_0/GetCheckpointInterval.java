@@ -0,0 +1,37 @@
+package com.scalar.dl.genericcontracts.table.v1_1_0;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.scalar.dl.genericcontracts.table.Constants;
+import com.scalar.dl.ledger.contract.JacksonBasedContract;
+import com.scalar.dl.ledger.exception.ContractContextException;
+import com.scalar.dl.ledger.statemachine.Ledger;
+import javax.annotation.Nullable;
+
+/**
+ * `GetCheckpointInterval` is a generic contract for internal use and is invoked by the
+ * `GetIndexEntries` contract. It returns the interval of the ages at which an index asset is
+ * written as a checkpoint. The interval can be specified with the `checkpoint_interval` contract
+ * property.
+ * The interval should not be changed after index assets are written with it; otherwise, the index
+ * assets are read by replaying their entire history until they reach the next checkpoint.
+ */
+public class GetCheckpointInterval extends JacksonBasedContract {
+
+  @Nullable
+  @Override
+  public JsonNode invoke(
+      Ledger<JsonNode> ledger, JsonNode arguments, @Nullable JsonNode properties) {
+    int interval = Constants.DEFAULT_INDEX_CHECKPOINT_INTERVAL;
+
+    if (properties != null && properties.has(Constants.INDEX_CHECKPOINT_INTERVAL)) {
+      if (!properties.get(Constants.INDEX_CHECKPOINT_INTERVAL).isInt()
+          || properties.get(Constants.INDEX_CHECKPOINT_INTERVAL).asInt()
+              < Constants.MIN_INDEX_CHECKPOINT_INTERVAL) {
+        throw new ContractContextException(Constants.INVALID_CONTRACT_PROPERTIES_FORMAT);
+      }
+      interval = properties.get(Constants.INDEX_CHECKPOINT_INTERVAL).asInt();
+    }
+
+    return getObjectMapper().createObjectNode().put(Constants.INDEX_CHECKPOINT_INTERVAL, interval);
+  }
+}
@@ -0,0 +1,189 @@
+package com.scalar.dl.genericcontracts.table.v1_1_0;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.scalar.dl.genericcontracts.table.Constants;
+import com.scalar.dl.ledger.contract.JacksonBasedContract;
+import com.scalar.dl.ledger.database.AssetFilter;
+import com.scalar.dl.ledger.database.AssetFilter.AgeOrder;
+import com.scalar.dl.ledger.exception.ContractContextException;
+import com.scalar.dl.ledger.statemachine.Asset;
+import com.scalar.dl.ledger.statemachine.Ledger;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * `GetIndexEntries` is a generic contract for internal use and is invoked by `Insert`, `Update`,
+ * and `Scan` contracts to read and write index assets, which are written as checkpoints every
+ * `checkpoint_interval` ages (see `GetCheckpointInterval`). A checkpoint is an object that has a
+ * snapshot of the index entries that are live before it and the index entries added in it, so that
+ * the live index entries can be read from the latest checkpoint instead of the entire history.
+ */
+public class GetIndexEntries extends JacksonBasedContract {
+
+  /**
+   * Returns the live index entries of the specified index asset if the index entries to add are not
+   * specified. Otherwise, returns the data to put to the index asset to add the specified index
+   * entries, which is a checkpoint if the next age of the index asset is a checkpoint age, or the
+   * array of the specified index entries otherwise.
+   *
+   * @param ledger ledger
+   * @param arguments contract argument that includes the index asset ID, the index key column
+   *     name, and optionally an array of the index entries to add
+   * @param properties pre-registered contract properties
+   * @return {@code ArrayNode} of the live index entries or {@code JsonNode} of the data to put
+   */
+  @Override
+  public JsonNode invoke(
+      Ledger<JsonNode> ledger, JsonNode arguments, @Nullable JsonNode properties) {
+    if (!arguments.has(Constants.INDEX_ENTRIES_ASSET_ID)
+        || !arguments.get(Constants.INDEX_ENTRIES_ASSET_ID).isTextual()
+        || !arguments.has(Constants.INDEX_ENTRIES_KEY)
+        || !arguments.get(Constants.INDEX_ENTRIES_KEY).isTextual()
+        || (arguments.has(Constants.INDEX_ENTRIES)
+            && !arguments.get(Constants.INDEX_ENTRIES).isArray())) {
+      throw new ContractContextException(Constants.ILLEGAL_ARGUMENT);
+    }
+
+    String indexAssetId = arguments.get(Constants.INDEX_ENTRIES_ASSET_ID).asText();
+    String keyColumnName = arguments.get(Constants.INDEX_ENTRIES_KEY).asText();
+    Optional<Asset<JsonNode>> latest = ledger.get(indexAssetId);
+
+    if (!arguments.has(Constants.INDEX_ENTRIES)) {
+      ArrayNode liveEntries = getObjectMapper().createArrayNode();
+      if (latest.isPresent()) {
+        getLiveEntries(
+                ledger, indexAssetId, latest.get(), getCheckpointInterval(ledger), keyColumnName)
+            .values()
+            .forEach(liveEntries::add);
+      }
+      return liveEntries;
+    }
+
+    JsonNode indexEntries = arguments.get(Constants.INDEX_ENTRIES);
+    if (!latest.isPresent()) {
+      return indexEntries;
+    }
+
+    int checkpointInterval = getCheckpointInterval(ledger);
+    if ((latest.get().age() + 1) % checkpointInterval != 0) {
+      return indexEntries;
+    }
+
+    ArrayNode snapshot = getObjectMapper().createArrayNode();
+    getLiveEntries(ledger, indexAssetId, latest.get(), checkpointInterval, keyColumnName)
+        .values()
+        .forEach(snapshot::add);
+    ObjectNode checkpoint = getObjectMapper().createObjectNode();
+    checkpoint.put(Constants.INDEX_CHECKPOINT_INTERVAL, checkpointInterval);
+    checkpoint.set(Constants.INDEX_SNAPSHOT, snapshot);
+    checkpoint.set(Constants.INDEX_ENTRIES, indexEntries);
+    return checkpoint;
+  }
+
+  /**
+   * Returns the live index entries of the specified index asset by replaying its history from the
+   * latest checkpoint. The history is replayed from the beginning if the index asset does not have
+   * a checkpoint at the expected age, e.g., it has been written by v1_0_0 contracts.
+   */
+  private Map<String, JsonNode> getLiveEntries(
+      Ledger<JsonNode> ledger,
+      String indexAssetId,
+      Asset<JsonNode> latest,
+      int checkpointInterval,
+      String keyColumnName) {
+    int age = latest.age();
+    int checkpointAge = age - age % checkpointInterval;
+    if (checkpointAge > 0) {
+      if (checkpointAge == age && latest.data().isObject()) {
+        return replay(Collections.singletonList(latest), keyColumnName);
+      }
+      AssetFilter filter =
+          new AssetFilter(indexAssetId)
+              .withStartAge(checkpointAge, true)
+              .withEndAge(age, true)
+              .withAgeOrder(AgeOrder.ASC);
+      List<Asset<JsonNode>> indexAssets = ledger.scan(filter);
+      if (!indexAssets.isEmpty() && indexAssets.get(0).data().isObject()) {
+        return replay(indexAssets, keyColumnName);
+      }
+    }
+
+    AssetFilter filter = new AssetFilter(indexAssetId).withAgeOrder(AgeOrder.ASC);
+    return replay(ledger.scan(filter), keyColumnName);
+  }
+
+  private Map<String, JsonNode> replay(List<Asset<JsonNode>> indexAssets, String keyColumnName) {
+    Map<String, JsonNode> indexEntries = new LinkedHashMap<>();
+
+    for (Asset<JsonNode> indexAsset : indexAssets) {
+      JsonNode data = indexAsset.data();
+      if (data.isObject()) {
+        // A checkpoint has the snapshot of the live entries in addition to the entries added in it
+        if (!data.has(Constants.INDEX_SNAPSHOT)
+            || !data.get(Constants.INDEX_SNAPSHOT).isArray()
+            || !data.has(Constants.INDEX_ENTRIES)
+            || !data.get(Constants.INDEX_ENTRIES).isArray()) {
+          throw new ContractContextException(Constants.ILLEGAL_INDEX_STATE);
+        }
+        indexEntries.clear();
+        apply(indexEntries, data.get(Constants.INDEX_SNAPSHOT), keyColumnName);
+        apply(indexEntries, data.get(Constants.INDEX_ENTRIES), keyColumnName);
+      } else if (data.isArray()) {
+        apply(indexEntries, data, keyColumnName);
+      } else {
+        throw new ContractContextException(Constants.ILLEGAL_INDEX_STATE);
+      }
+    }
+
+    return indexEntries;
+  }
+
+  private void apply(Map<String, JsonNode> indexEntries, JsonNode entries, String keyColumnName) {
+    for (JsonNode indexEntry : entries) {
+      if (!indexEntry.has(keyColumnName)) {
+        throw new ContractContextException(Constants.ILLEGAL_INDEX_STATE);
+      }
+
+      String key = toStringFrom(indexEntry.get(keyColumnName));
+      if (indexEntry.has(Constants.INDEX_ASSET_DELETE_MARKER)
+          && indexEntry.get(Constants.INDEX_ASSET_DELETE_MARKER).asBoolean()) {
+        indexEntries.remove(key);
+      } else {
+        indexEntries.put(key, indexEntry);
+      }
+    }
+  }
+
+  // The same conversion as the one for the record asset ID of the key value
+  private String toStringFrom(JsonNode value) {
+    if (value.canConvertToExactIntegral()) {
+      return value.bigIntegerValue().toString();
+    } else if (value.isNumber()) {
+      return value.decimalValue().toString();
+    } else {
+      return value.asText();
+    }
+  }
+
+  private int getCheckpointInterval(Ledger<JsonNode> ledger) {
+    JsonNode interval =
+        invokeSubContract(
+            Constants.CONTRACT_GET_CHECKPOINT_INTERVAL,
+            ledger,
+            getObjectMapper().createObjectNode());
+    assert interval != null;
+    return interval.get(Constants.INDEX_CHECKPOINT_INTERVAL).asInt();
+  }
+
+  @VisibleForTesting
+  JsonNode invokeSubContract(String contractId, Ledger<JsonNode> ledger, JsonNode arguments) {
+    return invoke(contractId, ledger, arguments);
+  }
+}
@@ -0,0 +1,75 @@
+package com.scalar.dl.genericcontracts.table.v1_1_0;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scalar.dl.genericcontracts.table.Constants;
+import com.scalar.dl.ledger.exception.ContractContextException;
+import com.scalar.dl.ledger.statemachine.Ledger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class GetCheckpointIntervalTest {
+  private static final ObjectMapper mapper = new ObjectMapper();
+  private static final int SOME_CHECKPOINT_INTERVAL = 20;
+
+  private final GetCheckpointInterval getCheckpointInterval = new GetCheckpointInterval();
+  @Mock private Ledger<JsonNode> ledger;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this).close();
+  }
+
+  @Test
+  public void invoke_CorrectPropertiesGiven_ShouldReturnSpecifiedInterval() {
+    // Arrange
+    JsonNode properties =
+        mapper
+            .createObjectNode()
+            .put(Constants.INDEX_CHECKPOINT_INTERVAL, SOME_CHECKPOINT_INTERVAL);
+
+    // Act
+    JsonNode actual = getCheckpointInterval.invoke(ledger, mapper.createObjectNode(), properties);
+
+    // Assert
+    assertThat(actual).isEqualTo(properties);
+  }
+
+  @Test
+  public void invoke_PropertiesNotGiven_ShouldReturnDefaultInterval() {
+    // Arrange
+    JsonNode expected =
+        mapper
+            .createObjectNode()
+            .put(Constants.INDEX_CHECKPOINT_INTERVAL, Constants.DEFAULT_INDEX_CHECKPOINT_INTERVAL);
+
+    // Act
+    JsonNode actual = getCheckpointInterval.invoke(ledger, mapper.createObjectNode(), null);
+
+    // Assert
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public void invoke_InvalidPropertiesGiven_ShouldThrowContractContextException() {
+    // Arrange
+    JsonNode properties1 = mapper.createObjectNode().put(Constants.INDEX_CHECKPOINT_INTERVAL, "20");
+    JsonNode properties2 = mapper.createObjectNode().put(Constants.INDEX_CHECKPOINT_INTERVAL, 0);
+
+    // Act Assert
+    validatePropertiesAndAssert(properties1);
+    validatePropertiesAndAssert(properties2);
+  }
+
+  private void validatePropertiesAndAssert(JsonNode properties) {
+    assertThatThrownBy(
+            () -> getCheckpointInterval.invoke(ledger, mapper.createObjectNode(), properties))
+        .isExactlyInstanceOf(ContractContextException.class)
+        .hasMessage(Constants.INVALID_CONTRACT_PROPERTIES_FORMAT);
+  }
+}
@@ -0,0 +1,320 @@
+package com.scalar.dl.genericcontracts.table.v1_1_0;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableList;
+import com.scalar.dl.genericcontracts.table.Constants;
+import com.scalar.dl.ledger.database.AssetFilter;
+import com.scalar.dl.ledger.database.AssetFilter.AgeOrder;
+import com.scalar.dl.ledger.exception.ContractContextException;
+import com.scalar.dl.ledger.statemachine.Asset;
+import com.scalar.dl.ledger.statemachine.Ledger;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+public class GetIndexEntriesTest {
+  private static final ObjectMapper mapper = new ObjectMapper();
+  private static final String SOME_INDEX_ASSET_ID = "tbl_tbl_idx_val";
+  private static final String SOME_KEY_COLUMN = "GovId";
+  private static final String SOME_KEY_VALUE_1 = "001";
+  private static final String SOME_KEY_VALUE_2 = "002";
+  private static final String SOME_KEY_VALUE_3 = "003";
+  private static final int SOME_CHECKPOINT_INTERVAL = 4;
+
+  @Spy private final GetIndexEntries getIndexEntries = new GetIndexEntries();
+  @Mock private Ledger<JsonNode> ledger;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this).close();
+    doReturn(
+            mapper
+                .createObjectNode()
+                .put(Constants.INDEX_CHECKPOINT_INTERVAL, SOME_CHECKPOINT_INTERVAL))
+        .when(getIndexEntries)
+        .invokeSubContract(
+            Constants.CONTRACT_GET_CHECKPOINT_INTERVAL, ledger, mapper.createObjectNode());
+  }
+
+  private ArrayNode createIndexEntries(List<String> values, boolean deleted) {
+    ArrayNode indexEntries = mapper.createArrayNode();
+    values.forEach(
+        value -> {
+          ObjectNode indexEntry =
+              mapper
+                  .createObjectNode()
+                  .put(SOME_KEY_COLUMN, value)
+                  .put(Constants.INDEX_ASSET_ADDED_AGE, 0);
+          if (deleted) {
+            indexEntry.put(Constants.INDEX_ASSET_DELETE_MARKER, true);
+          }
+          indexEntries.add(indexEntry);
+        });
+    return indexEntries;
+  }
+
+  private ObjectNode createCheckpoint(List<String> snapshot, List<String> added) {
+    ObjectNode checkpoint =
+        mapper
+            .createObjectNode()
+            .put(Constants.INDEX_CHECKPOINT_INTERVAL, SOME_CHECKPOINT_INTERVAL);
+    checkpoint.set(Constants.INDEX_SNAPSHOT, createIndexEntries(snapshot, false));
+    checkpoint.set(Constants.INDEX_ENTRIES, createIndexEntries(added, false));
+    return checkpoint;
+  }
+
+  private Asset<JsonNode> createAsset(JsonNode data, int age) {
+    Asset<JsonNode> asset = (Asset<JsonNode>) mock(Asset.class);
+    when(asset.data()).thenReturn(data);
+    when(asset.age()).thenReturn(age);
+    return asset;
+  }
+
+  private AssetFilter createAssetFilter() {
+    return new AssetFilter(SOME_INDEX_ASSET_ID).withAgeOrder(AgeOrder.ASC);
+  }
+
+  private AssetFilter createAssetFilter(int startAge, int endAge) {
+    return new AssetFilter(SOME_INDEX_ASSET_ID)
+        .withStartAge(startAge, true)
+        .withEndAge(endAge, true)
+        .withAgeOrder(AgeOrder.ASC);
+  }
+
+  private ObjectNode createArguments() {
+    return mapper
+        .createObjectNode()
+        .put(Constants.INDEX_ENTRIES_ASSET_ID, SOME_INDEX_ASSET_ID)
+        .put(Constants.INDEX_ENTRIES_KEY, SOME_KEY_COLUMN);
+  }
+
+  private ObjectNode createArguments(JsonNode indexEntries) {
+    ObjectNode arguments = createArguments();
+    arguments.set(Constants.INDEX_ENTRIES, indexEntries);
+    return arguments;
+  }
+
+  @Test
+  public void invoke_NonExistingIndexAssetGiven_ShouldReturnEmptyArray() {
+    // Arrange
+    when(ledger.get(SOME_INDEX_ASSET_ID)).thenReturn(Optional.empty());
+
+    // Act
+    JsonNode actual = getIndexEntries.invoke(ledger, createArguments(), null);
+
+    // Assert
+    assertThat(actual).isEqualTo(mapper.createArrayNode());
+    verify(ledger, never()).scan(any());
+  }
+
+  @Test
+  public void invoke_IndexAssetWithoutCheckpointGiven_ShouldReplayEntireHistory() {
+    // Arrange
+    Asset<JsonNode> index1 =
+        createAsset(createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_1), false), 0);
+    Asset<JsonNode> index2 =
+        createAsset(createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_2), false), 1);
+    Asset<JsonNode> latest =
+        createAsset(createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_1), true), 2);
+    when(ledger.get(SOME_INDEX_ASSET_ID)).thenReturn(Optional.of(latest));
+    when(ledger.scan(createAssetFilter())).thenReturn(ImmutableList.of(index1, index2, latest));
+
+    // Act
+    JsonNode actual = getIndexEntries.invoke(ledger, createArguments(), null);
+
+    // Assert
+    assertThat(actual).isEqualTo(createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_2), false));
+    verify(ledger).scan(createAssetFilter());
+  }
+
+  @Test
+  public void invoke_IndexAssetWithCheckpointGiven_ShouldReplayIndexEntriesFromCheckpoint() {
+    // Arrange
+    int latestAge = SOME_CHECKPOINT_INTERVAL + 1;
+    Asset<JsonNode> checkpoint =
+        createAsset(
+            createCheckpoint(
+                ImmutableList.of(SOME_KEY_VALUE_1), ImmutableList.of(SOME_KEY_VALUE_2)),
+            SOME_CHECKPOINT_INTERVAL);
+    Asset<JsonNode> latest =
+        createAsset(createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_1), true), latestAge);
+    when(ledger.get(SOME_INDEX_ASSET_ID)).thenReturn(Optional.of(latest));
+    when(ledger.scan(createAssetFilter(SOME_CHECKPOINT_INTERVAL, latestAge)))
+        .thenReturn(ImmutableList.of(checkpoint, latest));
+
+    // Act
+    JsonNode actual = getIndexEntries.invoke(ledger, createArguments(), null);
+
+    // Assert
+    assertThat(actual).isEqualTo(createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_2), false));
+    verify(ledger, never()).scan(createAssetFilter());
+  }
+
+  @Test
+  public void invoke_IndexAssetAtCheckpointAgeGiven_ShouldUseLatestCheckpointOnly() {
+    // Arrange
+    Asset<JsonNode> checkpoint =
+        createAsset(
+            createCheckpoint(ImmutableList.of(), ImmutableList.of(SOME_KEY_VALUE_1)),
+            SOME_CHECKPOINT_INTERVAL);
+    when(ledger.get(SOME_INDEX_ASSET_ID)).thenReturn(Optional.of(checkpoint));
+
+    // Act
+    JsonNode actual = getIndexEntries.invoke(ledger, createArguments(), null);
+
+    // Assert
+    assertThat(actual).isEqualTo(createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_1), false));
+    verify(ledger, never()).scan(any());
+  }
+
+  @Test
+  public void invoke_IndexAssetWrittenByPreviousVersionGiven_ShouldReplayEntireHistory() {
+    // Arrange
+    int latestAge = SOME_CHECKPOINT_INTERVAL + 1;
+    Asset<JsonNode> index1 =
+        createAsset(createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_1), false), 0);
+    Asset<JsonNode> index2 =
+        createAsset(
+            createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_2), false),
+            SOME_CHECKPOINT_INTERVAL);
+    Asset<JsonNode> latest =
+        createAsset(createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_1), true), latestAge);
+    when(ledger.get(SOME_INDEX_ASSET_ID)).thenReturn(Optional.of(latest));
+    when(ledger.scan(createAssetFilter(SOME_CHECKPOINT_INTERVAL, latestAge)))
+        .thenReturn(ImmutableList.of(index2, latest));
+    when(ledger.scan(createAssetFilter())).thenReturn(ImmutableList.of(index1, index2, latest));
+
+    // Act
+    JsonNode actual = getIndexEntries.invoke(ledger, createArguments(), null);
+
+    // Assert
+    assertThat(actual).isEqualTo(createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_2), false));
+    verify(ledger).scan(createAssetFilter());
+  }
+
+  @Test
+  public void invoke_IndexEntriesGivenForNonExistingIndexAsset_ShouldReturnIndexEntries() {
+    // Arrange
+    ArrayNode indexEntries = createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_1), false);
+    when(ledger.get(SOME_INDEX_ASSET_ID)).thenReturn(Optional.empty());
+
+    // Act
+    JsonNode actual = getIndexEntries.invoke(ledger, createArguments(indexEntries), null);
+
+    // Assert
+    assertThat(actual).isEqualTo(indexEntries);
+    verify(ledger, never()).scan(any());
+  }
+
+  @Test
+  public void invoke_IndexEntriesGivenBeforeCheckpointAge_ShouldReturnIndexEntries() {
+    // Arrange
+    ArrayNode indexEntries = createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_3), false);
+    Asset<JsonNode> latest =
+        createAsset(
+            createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_1), false),
+            SOME_CHECKPOINT_INTERVAL - 3);
+    when(ledger.get(SOME_INDEX_ASSET_ID)).thenReturn(Optional.of(latest));
+
+    // Act
+    JsonNode actual = getIndexEntries.invoke(ledger, createArguments(indexEntries), null);
+
+    // Assert
+    assertThat(actual).isEqualTo(indexEntries);
+    verify(ledger, never()).scan(any());
+  }
+
+  @Test
+  public void invoke_IndexEntriesGivenAtCheckpointAge_ShouldReturnCheckpoint() {
+    // Arrange
+    int latestAge = SOME_CHECKPOINT_INTERVAL - 1;
+    ArrayNode indexEntries = createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_3), false);
+    Asset<JsonNode> index1 =
+        createAsset(
+            createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_1, SOME_KEY_VALUE_2), false), 0);
+    Asset<JsonNode> latest =
+        createAsset(createIndexEntries(ImmutableList.of(SOME_KEY_VALUE_1), true), latestAge);
+    when(ledger.get(SOME_INDEX_ASSET_ID)).thenReturn(Optional.of(latest));
+    when(ledger.scan(createAssetFilter())).thenReturn(ImmutableList.of(index1, latest));
+    ObjectNode expected =
+        createCheckpoint(ImmutableList.of(SOME_KEY_VALUE_2), ImmutableList.of(SOME_KEY_VALUE_3));
+
+    // Act
+    JsonNode actual = getIndexEntries.invoke(ledger, createArguments(indexEntries), null);
+
+    // Assert
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public void invoke_InvalidArgumentsGiven_ShouldThrowContractContextException() {
+    // Arrange
+    JsonNode arguments1 =
+        mapper.createObjectNode().put(Constants.INDEX_ENTRIES_KEY, SOME_KEY_COLUMN);
+    JsonNode arguments2 =
+        mapper.createObjectNode().put(Constants.INDEX_ENTRIES_ASSET_ID, SOME_INDEX_ASSET_ID);
+    JsonNode arguments3 =
+        mapper
+            .createObjectNode()
+            .put(Constants.INDEX_ENTRIES_ASSET_ID, 1)
+            .put(Constants.INDEX_ENTRIES_KEY, SOME_KEY_COLUMN);
+    JsonNode arguments4 = createArguments(mapper.createObjectNode());
+
+    // Act Assert
+    assertThatThrownBy(() -> getIndexEntries.invoke(ledger, arguments1, null))
+        .isExactlyInstanceOf(ContractContextException.class)
+        .hasMessage(Constants.ILLEGAL_ARGUMENT);
+    assertThatThrownBy(() -> getIndexEntries.invoke(ledger, arguments2, null))
+        .isExactlyInstanceOf(ContractContextException.class)
+        .hasMessage(Constants.ILLEGAL_ARGUMENT);
+    assertThatThrownBy(() -> getIndexEntries.invoke(ledger, arguments3, null))
+        .isExactlyInstanceOf(ContractContextException.class)
+        .hasMessage(Constants.ILLEGAL_ARGUMENT);
+    assertThatThrownBy(() -> getIndexEntries.invoke(ledger, arguments4, null))
+        .isExactlyInstanceOf(ContractContextException.class)
+        .hasMessage(Constants.ILLEGAL_ARGUMENT);
+    verify(ledger, never()).get(any());
+  }
+
+  @Test
+  public void invoke_IndexEntryWithoutKeyFound_ShouldThrowContractContextException() {
+    // Arrange
+    Asset<JsonNode> index = createAsset(mapper.createArrayNode().add(mapper.createObjectNode()), 0);
+    when(ledger.get(SOME_INDEX_ASSET_ID)).thenReturn(Optional.of(index));
+    when(ledger.scan(createAssetFilter())).thenReturn(ImmutableList.of(index));
+
+    // Act Assert
+    assertThatThrownBy(() -> getIndexEntries.invoke(ledger, createArguments(), null))
+        .isExactlyInstanceOf(ContractContextException.class)
+        .hasMessage(Constants.ILLEGAL_INDEX_STATE);
+  }
+
+  @Test
+  public void invoke_MalformedIndexAssetFound_ShouldThrowContractContextException() {
+    // Arrange
+    Asset<JsonNode> index = createAsset(mapper.createObjectNode(), 0);
+    when(ledger.get(SOME_INDEX_ASSET_ID)).thenReturn(Optional.of(index));
+    when(ledger.scan(createAssetFilter())).thenReturn(ImmutableList.of(index));
+
+    // Act Assert
+    assertThatThrownBy(() -> getIndexEntries.invoke(ledger, createArguments(), null))
+        .isExactlyInstanceOf(ContractContextException.class)
+        .hasMessage(Constants.ILLEGAL_INDEX_STATE);
+  }
+}
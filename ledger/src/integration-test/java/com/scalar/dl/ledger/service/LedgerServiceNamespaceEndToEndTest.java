@@ -78,7 +78,8 @@ public class LedgerServiceNamespaceEndToEndTest extends LedgerServiceEndToEndTes
           "secret",
           "contract",
           "contract_class",
-          "function");
+          "function",
+          "validation_watermark");
   private static final ObjectMapper mapper = new ObjectMapper();
   private static final JacksonSerDe jacksonSerDe = new JacksonSerDe(mapper);
   private static final JsonpSerDe jsonpSerDe = new JsonpSerDe();
@@ -0,0 +1,88 @@
+package com.scalar.dl.ledger.asset;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.scalar.dl.ledger.error.CommonError;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An encoder of the asset records written by a contract execution. The fields that all the records
+ * of an execution share, i.e., the input, the contract ID, the argument and the signature, are
+ * encoded to UTF-8 only once, and the hash of each record is computed in a single pass that feeds
+ * the encoded fields into SHA-256. The hash is the same as the one computed by {@link AssetHasher}.
+ */
+@Immutable
+public class AssetRecordEncoder {
+  private final String input;
+  private final String contractId;
+  private final String argument;
+  private final byte[] encodedInput;
+  private final byte[] encodedContractId;
+  private final byte[] encodedArgument;
+  private final byte[] signature;
+
+  /**
+   * Constructs an {@code AssetRecordEncoder} with the fields shared by the records.
+   *
+   * @param input the input of the execution, i.e., the serialized ages of the read assets
+   * @param contractId the serialized key of the executed contract
+   * @param argument the argument of the execution
+   * @param signature the signature of the execution request
+   */
+  public AssetRecordEncoder(String input, String contractId, String argument, byte[] signature) {
+    if (input == null || contractId == null || argument == null || signature == null) {
+      throw new IllegalArgumentException(CommonError.REQUIRED_FIELDS_ARE_NOT_GIVEN.buildMessage());
+    }
+    this.input = input;
+    this.contractId = contractId;
+    this.argument = argument;
+    this.encodedInput = input.getBytes(Charsets.UTF_8);
+    this.encodedContractId = contractId.getBytes(Charsets.UTF_8);
+    this.encodedArgument = argument.getBytes(Charsets.UTF_8);
+    this.signature = signature.clone();
+  }
+
+  public String getInput() {
+    return input;
+  }
+
+  public String getContractId() {
+    return contractId;
+  }
+
+  public String getArgument() {
+    return argument;
+  }
+
+  /**
+   * Computes the hash of the record of the specified asset.
+   *
+   * @param id the ID of the asset
+   * @param age the age of the record
+   * @param output the data of the record
+   * @param prevHash the hash of the previous record, which can be null only if the age is 0
+   * @return the hash of the record
+   */
+  public byte[] hash(String id, int age, String output, @Nullable byte[] prevHash) {
+    if (id == null || age < 0 || output == null || (age > 0 && prevHash == null)) {
+      throw new IllegalArgumentException(CommonError.REQUIRED_FIELDS_ARE_NOT_GIVEN.buildMessage());
+    }
+    // The fields are fed in the same order as AssetHasher
+    Hasher hasher =
+        Hashing.sha256()
+            .newHasher()
+            .putString(id, Charsets.UTF_8)
+            .putInt(age)
+            .putBytes(encodedInput)
+            .putString(output, Charsets.UTF_8)
+            .putBytes(encodedContractId)
+            .putBytes(encodedArgument)
+            .putBytes(signature);
+    if (prevHash != null) {
+      hasher.putBytes(prevHash);
+    }
+    return hasher.hash().asBytes();
+  }
+}
@@ -41,6 +41,7 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
   @VisibleForTesting static final int DEFAULT_DECOMMISSIONING_DURATION_SECS = 30;
   @VisibleForTesting static final boolean DEFAULT_TLS_ENABLED = false;
   @VisibleForTesting static final boolean DEFAULT_PROOF_ENABLED = false;
+  @VisibleForTesting static final boolean DEFAULT_PROOF_AGGREGATION_ENABLED = false;
   @VisibleForTesting static final boolean DEFAULT_FUNCTION_ENABLED = true;
   @VisibleForTesting static final boolean DEFAULT_AUDITOR_ENABLED = false;
   @VisibleForTesting static final String DEFAULT_AUDITOR_CERT_HOLDER_ID = "auditor";
@@ -48,6 +49,42 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
   @VisibleForTesting static final boolean DEFAULT_DIRECT_ASSET_ACCESS_ENABLED = false;
   @VisibleForTesting static final boolean DEFAULT_TX_STATE_MANAGEMENT_ENABLED = false;
   @VisibleForTesting static final boolean DEFAULT_TRANSACTION_STATE_PURGE_ENABLED = false;
+  @VisibleForTesting static final boolean DEFAULT_GROUP_COMMIT_ENABLED = false;
+  @VisibleForTesting static final int DEFAULT_GROUP_COMMIT_MAX_SIZE = 32;
+  @VisibleForTesting static final long DEFAULT_GROUP_COMMIT_WINDOW_MILLIS = 5;
+  @VisibleForTesting static final long DEFAULT_GROUP_COMMIT_TIMEOUT_MILLIS = 10000;
+  @VisibleForTesting static final boolean DEFAULT_ASSET_CACHE_ENABLED = false;
+  @VisibleForTesting static final long DEFAULT_ASSET_CACHE_MAX_SIZE = 10000;
+  @VisibleForTesting static final int DEFAULT_CONTRACT_LOADER_MAX_NAMESPACES = 256;
+  @VisibleForTesting static final boolean DEFAULT_CONTRACT_POOL_ENABLED = false;
+  @VisibleForTesting static final boolean DEFAULT_FUNCTION_CACHE_ENABLED = true;
+  @VisibleForTesting static final long DEFAULT_FUNCTION_CACHE_MAX_SIZE = 1000;
+  @VisibleForTesting static final long DEFAULT_FUNCTION_CACHE_REVALIDATION_INTERVAL_MILLIS = 0;
+  @VisibleForTesting static final boolean DEFAULT_CONTENTION_MANAGER_ENABLED = false;
+  @VisibleForTesting static final int DEFAULT_CONTENTION_MANAGER_HOT_THRESHOLD = 3;
+  @VisibleForTesting static final long DEFAULT_CONTENTION_MANAGER_WINDOW_MILLIS = 1000;
+  @VisibleForTesting static final long DEFAULT_CONTENTION_MANAGER_MAX_WAIT_MILLIS = 1000;
+  @VisibleForTesting static final long DEFAULT_CONTENTION_MANAGER_MAX_SIZE = 10000;
+  @VisibleForTesting static final boolean DEFAULT_ASSET_COMPRESSION_ENABLED = false;
+  @VisibleForTesting static final int DEFAULT_ASSET_COMPRESSION_MIN_SIZE = 512;
+  @VisibleForTesting static final int DEFAULT_VALIDATION_PAGE_SIZE = 1000;
+  @VisibleForTesting static final int DEFAULT_VALIDATION_INPUT_CACHE_SIZE = 10000;
+  @VisibleForTesting static final boolean DEFAULT_VALIDATION_WATERMARK_ENABLED = false;
+  @VisibleForTesting static final boolean DEFAULT_ARCHIVE_ENABLED = false;
+  @VisibleForTesting static final int DEFAULT_ARCHIVE_RETAINED_AGES = 1000;
+  @VisibleForTesting static final boolean DEFAULT_HISTORY_INDEX_ENABLED = false;
+  @VisibleForTesting static final boolean DEFAULT_PHASE_STATS_ENABLED = false;
+  @VisibleForTesting static final int DEFAULT_PHASE_STATS_MAX_TAGS = 100;
+  @VisibleForTesting static final boolean DEFAULT_TRACING_ENABLED = false;
+  @VisibleForTesting static final double DEFAULT_TRACING_SAMPLING_RATIO = 0.01;
+  @VisibleForTesting static final String DEFAULT_TRACING_EXPORTER = "file";
+  @VisibleForTesting static final String DEFAULT_TRACING_FILE_PATH = "ledger-traces.jsonl";
+
+  @VisibleForTesting
+  static final int DEFAULT_CONTRACT_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+  @VisibleForTesting
+  static final int DEFAULT_VALIDATION_PARALLELISM = Runtime.getRuntime().availableProcessors();
 
   @VisibleForTesting
   static final AuthenticationMethod DEFAULT_AUTHENTICATION_METHOD =
@@ -62,6 +99,19 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
   private static final String PREFIX = "scalar.dl.ledger.";
   private static final String SERVER_PREFIX = PREFIX + "server.";
   private static final String TRANSACTION_STATE_PURGE_PREFIX = PREFIX + "transaction_state_purge.";
+  private static final String GROUP_COMMIT_PREFIX = PREFIX + "group_commit.";
+  private static final String ASSET_CACHE_PREFIX = PREFIX + "asset_cache.";
+  private static final String CONTRACT_LOADER_PREFIX = PREFIX + "contract_loader.";
+  private static final String CONTRACT_POOL_PREFIX = PREFIX + "contract_pool.";
+  private static final String FUNCTION_CACHE_PREFIX = PREFIX + "function_cache.";
+  private static final String CONTENTION_MANAGER_PREFIX = PREFIX + "contention_manager.";
+  private static final String ASSET_COMPRESSION_PREFIX = PREFIX + "asset_compression.";
+  private static final String VALIDATION_PREFIX = PREFIX + "validation.";
+  private static final String VALIDATION_WATERMARK_PREFIX = VALIDATION_PREFIX + "watermark.";
+  private static final String ARCHIVE_PREFIX = PREFIX + "archive.";
+  private static final String HISTORY_INDEX_PREFIX = PREFIX + "history_index.";
+  private static final String PHASE_STATS_PREFIX = PREFIX + "phase_stats.";
+  private static final String TRACING_PREFIX = PREFIX + "tracing.";
 
   /**
    * <code>scalar.dl.ledger.name</code> (Optional)<br>
@@ -161,6 +211,14 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
   public static final String SERVER_GRPC_MAX_INBOUND_METADATA_SIZE =
       SERVER_PREFIX + "grpc.max_inbound_metadata_size";
 
+  /**
+   * <code>scalar.dl.ledger.server.grpc.executor</code> (Optional)<br>
+   * The executor that runs the gRPC service handlers ("default" by default). "default" uses the
+   * cached thread pool of gRPC. "virtual-thread" runs each call on a virtual thread so that the
+   * calls blocked on the database do not occupy platform threads. It requires Java 21 or later.
+   */
+  public static final String SERVER_GRPC_EXECUTOR = SERVER_PREFIX + "grpc.executor";
+
   /**
    * <code>scalar.dl.ledger.proof.enabled</code><br>
    * A flag to enable asset proof that is used to verify assets (false by default). This feature
@@ -187,6 +245,15 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
    */
   public static final String PROOF_PRIVATE_KEY_PEM = PREFIX + "proof.private_key_pem";
 
+  /**
+   * <code>scalar.dl.ledger.proof.aggregation_enabled</code><br>
+   * A flag to sign the proofs of all the assets of a request with one signature over the root of a
+   * Merkle tree of them instead of signing each proof (false by default). Each proof then carries
+   * its inclusion path in the tree. It requires the components that validate the proofs to support
+   * the aggregated proofs.
+   */
+  public static final String PROOF_AGGREGATION_ENABLED = PREFIX + "proof.aggregation_enabled";
+
   /**
    * <code>scalar.dl.ledger.function.enabled</code><br>
    * A flag to enable function for mutable database (true by default).
@@ -290,6 +357,279 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
   public static final String TRANSACTION_STATE_PURGE_ENABLED =
       TRANSACTION_STATE_PURGE_PREFIX + "enabled";
 
+  /**
+   * <code>scalar.dl.ledger.group_commit.enabled</code> (Optional)<br>
+   * A flag to commit concurrent contract executions that do not touch the same assets together in
+   * one ScalarDB transaction (false by default). Each execution still gets its own result and asset
+   * proofs, but the storage round trips of the commit are shared by the group. An execution that
+   * reads or writes an asset written by another member of its group fails with a conflict and has
+   * to be retried. Since the group transaction is not identified by the nonce of each request, the
+   * nonces of the members are recorded in the group_commit_nonce table to reject replayed requests.
+   * It is applied only to executions without functions, and it is not supported when Auditor or
+   * transaction state management is enabled because they identify a transaction with the nonce of
+   * its request. This is different from the Coordinator group commit of ScalarDB, which is not
+   * supported.
+   */
+  public static final String GROUP_COMMIT_ENABLED = GROUP_COMMIT_PREFIX + "enabled";
+
+  /**
+   * <code>scalar.dl.ledger.group_commit.max_size</code> (Optional)<br>
+   * The maximum number of contract executions committed together in a group (32 by default).
+   */
+  public static final String GROUP_COMMIT_MAX_SIZE = GROUP_COMMIT_PREFIX + "max_size";
+
+  /**
+   * <code>scalar.dl.ledger.group_commit.window_millis</code> (Optional)<br>
+   * The time in milliseconds during which a group accepts new contract executions (5 by default).
+   * A group is committed when all of its members have finished their execution, so each execution
+   * waits for the slowest member of its group, and a longer window makes larger groups at the cost
+   * of that wait.
+   */
+  public static final String GROUP_COMMIT_WINDOW_MILLIS = GROUP_COMMIT_PREFIX + "window_millis";
+
+  /**
+   * <code>scalar.dl.ledger.group_commit.timeout_millis</code> (Optional)<br>
+   * The maximum time in milliseconds that a finished execution waits for the other members of its
+   * group (10000 by default). If some member has not finished by then, the group transaction is
+   * aborted and all the members of the group fail with a conflict so that they can be retried.
+   */
+  public static final String GROUP_COMMIT_TIMEOUT_MILLIS = GROUP_COMMIT_PREFIX + "timeout_millis";
+
+  /**
+   * <code>scalar.dl.ledger.asset_cache.enabled</code> (Optional)<br>
+   * A flag to cache the latest asset records in Ledger (false by default). The latest age of an
+   * asset is still read from asset_metadata in each transaction, and a cached record is used only
+   * if its age matches, so it is safe with multiple Ledger nodes. It saves the lookup of the asset
+   * table for assets that are read more often than written. It has no effect when {@code
+   * scalar.dl.ledger.direct_asset_access.enabled} is true.
+   */
+  public static final String ASSET_CACHE_ENABLED = ASSET_CACHE_PREFIX + "enabled";
+
+  /**
+   * <code>scalar.dl.ledger.asset_cache.max_size</code> (Optional)<br>
+   * The maximum number of assets whose latest records are cached (10000 by default).
+   */
+  public static final String ASSET_CACHE_MAX_SIZE = ASSET_CACHE_PREFIX + "max_size";
+
+  /**
+   * <code>scalar.dl.ledger.contract_loader.max_namespaces</code> (Optional)<br>
+   * The maximum number of namespaces whose contract classes are kept loaded (256 by default). Each
+   * namespace has its own class loader, and the least recently used one is evicted beyond this
+   * number so that its classes can be unloaded. The classes of an evicted namespace are loaded
+   * again on the next execution of its contracts.
+   */
+  public static final String CONTRACT_LOADER_MAX_NAMESPACES =
+      CONTRACT_LOADER_PREFIX + "max_namespaces";
+
+  /**
+   * <code>scalar.dl.ledger.contract_pool.enabled</code> (Optional)<br>
+   * A flag to reuse the instances of a contract across its executions and validations (false by
+   * default). A new instance is created for each execution by default. Enable it only if all the
+   * registered contracts are stateless, i.e., they do not keep anything in their fields across
+   * invocations, since a pooled instance keeps its fields from the previous execution, which can
+   * change the results of the contracts and make their validations fail.
+   */
+  public static final String CONTRACT_POOL_ENABLED = CONTRACT_POOL_PREFIX + "enabled";
+
+  /**
+   * <code>scalar.dl.ledger.contract_pool.size</code> (Optional)<br>
+   * The maximum number of idle instances pooled for each contract (twice the number of available
+   * processors by default).
+   */
+  public static final String CONTRACT_POOL_SIZE = CONTRACT_POOL_PREFIX + "size";
+
+  /**
+   * <code>scalar.dl.ledger.function_cache.enabled</code> (Optional)<br>
+   * A flag to cache the classes of the registered functions in Ledger (true by default). A cached
+   * class is used only if its registration time matches the one in the function table, so that a
+   * function registered again on any Ledger node is reloaded. It saves the lookup of the bytecode
+   * and the definition of the class on each function invocation.
+   */
+  public static final String FUNCTION_CACHE_ENABLED = FUNCTION_CACHE_PREFIX + "enabled";
+
+  /**
+   * <code>scalar.dl.ledger.function_cache.max_size</code> (Optional)<br>
+   * The maximum number of functions whose classes are cached (1000 by default).
+   */
+  public static final String FUNCTION_CACHE_MAX_SIZE = FUNCTION_CACHE_PREFIX + "max_size";
+
+  /**
+   * <code>scalar.dl.ledger.function_cache.revalidation_interval_millis</code> (Optional)<br>
+   * The time in milliseconds that a cached function class is used without checking its registration
+   * time in the function table (0 by default). With 0, the registration time is read on every
+   * function invocation. A larger value saves the read, but a function registered again on another
+   * Ledger node might not be used by this node until the interval has elapsed.
+   */
+  public static final String FUNCTION_CACHE_REVALIDATION_INTERVAL_MILLIS =
+      FUNCTION_CACHE_PREFIX + "revalidation_interval_millis";
+
+  /**
+   * <code>scalar.dl.ledger.contention_manager.enabled</code> (Optional)<br>
+   * A flag to serialize the executions of contracts on hot assets in each Ledger node (false by
+   * default). An asset becomes hot when transactions conflict on it frequently, and the executions
+   * that read or write the asset while it is hot wait for each other in a queue of the asset,
+   * instead of conflicting and being retried by the clients.
+   */
+  public static final String CONTENTION_MANAGER_ENABLED = CONTENTION_MANAGER_PREFIX + "enabled";
+
+  /**
+   * <code>scalar.dl.ledger.contention_manager.hot_threshold</code> (Optional)<br>
+   * The number of conflicts on an asset within a window that makes the asset hot (3 by default).
+   */
+  public static final String CONTENTION_MANAGER_HOT_THRESHOLD =
+      CONTENTION_MANAGER_PREFIX + "hot_threshold";
+
+  /**
+   * <code>scalar.dl.ledger.contention_manager.window_millis</code> (Optional)<br>
+   * The length in milliseconds of the window in which conflicts are counted (1000 by default). An
+   * asset stays hot for this length after its conflicts reach the threshold, and it is no longer
+   * tracked after two windows without conflicts.
+   */
+  public static final String CONTENTION_MANAGER_WINDOW_MILLIS =
+      CONTENTION_MANAGER_PREFIX + "window_millis";
+
+  /**
+   * <code>scalar.dl.ledger.contention_manager.max_wait_millis</code> (Optional)<br>
+   * The maximum time in milliseconds that an execution waits in the queue of a hot asset (1000 by
+   * default). An execution that waits longer proceeds without the queue.
+   */
+  public static final String CONTENTION_MANAGER_MAX_WAIT_MILLIS =
+      CONTENTION_MANAGER_PREFIX + "max_wait_millis";
+
+  /**
+   * <code>scalar.dl.ledger.contention_manager.max_size</code> (Optional)<br>
+   * The maximum number of assets whose conflicts are tracked (10000 by default).
+   */
+  public static final String CONTENTION_MANAGER_MAX_SIZE = CONTENTION_MANAGER_PREFIX + "max_size";
+
+  /**
+   * <code>scalar.dl.ledger.asset_compression.enabled</code> (Optional)<br>
+   * A flag to compress the input, the output and the argument of asset records when they are
+   * written (false by default). The hash of a record is always computed over the uncompressed
+   * values, and compressed values are decompressed transparently when they are read, so records
+   * written with and without compression can coexist and this flag can be changed at any time.
+   */
+  public static final String ASSET_COMPRESSION_ENABLED = ASSET_COMPRESSION_PREFIX + "enabled";
+
+  /**
+   * <code>scalar.dl.ledger.asset_compression.min_size</code> (Optional)<br>
+   * The minimum size in characters of a value to be compressed (512 by default). Smaller values
+   * rarely get smaller with compression, so they are written as they are.
+   */
+  public static final String ASSET_COMPRESSION_MIN_SIZE = ASSET_COMPRESSION_PREFIX + "min_size";
+
+  /**
+   * <code>scalar.dl.ledger.validation.page_size</code> (Optional)<br>
+   * The number of asset records read in one transaction when validating the history of an asset
+   * (1000 by default). A long history is validated page by page so that the memory usage and the
+   * transaction duration of the validation stay bounded.
+   */
+  public static final String VALIDATION_PAGE_SIZE = VALIDATION_PREFIX + "page_size";
+
+  /**
+   * <code>scalar.dl.ledger.validation.input_cache_size</code> (Optional)<br>
+   * The maximum number of the input assets of validated records that are cached across validations
+   * (10000 by default). The least recently used ones are evicted when the cache is full.
+   */
+  public static final String VALIDATION_INPUT_CACHE_SIZE = VALIDATION_PREFIX + "input_cache_size";
+
+  /**
+   * <code>scalar.dl.ledger.validation.parallelism</code> (Optional)<br>
+   * The maximum number of threads used to validate the assets of a bulk validation request (the
+   * number of available processors by default).
+   */
+  public static final String VALIDATION_PARALLELISM = VALIDATION_PREFIX + "parallelism";
+
+  /**
+   * <code>scalar.dl.ledger.validation.watermark.enabled</code> (Optional)<br>
+   * A flag to persist a signed watermark, i.e., the last validated age and its hash, for each asset
+   * validated from its first age (false by default). A subsequent validation of the asset checks
+   * only the ages above the watermark and that the hash chain links to it. Note that the nonces of
+   * the records above the watermark are checked for duplicates only among themselves.
+   */
+  public static final String VALIDATION_WATERMARK_ENABLED = VALIDATION_WATERMARK_PREFIX + "enabled";
+
+  /**
+   * <code>scalar.dl.ledger.validation.watermark.secret_key</code><br>
+   * A secret key to sign the validation watermarks with HMAC. It must be set if {@code
+   * scalar.dl.ledger.validation.watermark.enabled} is true and must be shared by all the Ledger
+   * nodes.
+   */
+  public static final String VALIDATION_WATERMARK_SECRET_KEY =
+      VALIDATION_WATERMARK_PREFIX + "secret_key";
+
+  /**
+   * <code>scalar.dl.ledger.archive.enabled</code> (Optional)<br>
+   * A flag to move old asset records from the asset table to the asset_archive table (false by
+   * default). The records of an asset are archived by the privileged ArchiveAsset operation, which
+   * validates the asset first, so only validated records are archived, and a summary with the hash
+   * of the last archived record is left to link the hash chain of the two tables. Scans of asset
+   * records span both tables transparently.
+   */
+  public static final String ARCHIVE_ENABLED = ARCHIVE_PREFIX + "enabled";
+
+  /**
+   * <code>scalar.dl.ledger.archive.retained_ages</code> (Optional)<br>
+   * The number of the latest ages of each asset that are kept in the asset table when the older
+   * ones are archived (1000 by default).
+   */
+  public static final String ARCHIVE_RETAINED_AGES = ARCHIVE_PREFIX + "retained_ages";
+
+  /**
+   * <code>scalar.dl.ledger.history_index.enabled</code> (Optional)<br>
+   * A flag to maintain a Merkle Mountain Range over the record hashes of each asset in the
+   * asset_history table (false by default). It lets the ledger return signed inclusion and
+   * consistency proofs of the history of an asset in a logarithmic number of hashes. The history is
+   * indexed for the assets created after it is enabled. Proof must be enabled to sign the proofs.
+   */
+  public static final String HISTORY_INDEX_ENABLED = HISTORY_INDEX_PREFIX + "enabled";
+
+  /**
+   * <code>scalar.dl.ledger.phase_stats.enabled</code> (Optional)<br>
+   * A flag to measure the latency of each phase of contract execution, such as signature
+   * validation, contract loading, contract execution, asset reads, commit and proof signing (false
+   * by default). The histograms are tagged with the namespace and the contract ID of the request
+   * and exported with the other stats through JMX and Prometheus.
+   */
+  public static final String PHASE_STATS_ENABLED = PHASE_STATS_PREFIX + "enabled";
+
+  /**
+   * <code>scalar.dl.ledger.phase_stats.max_tags</code> (Optional)<br>
+   * The maximum number of distinct pairs of a namespace and a contract ID that the phase latency
+   * histograms are tagged with (100 by default). The phases of the other pairs are measured under
+   * a shared tag.
+   */
+  public static final String PHASE_STATS_MAX_TAGS = PHASE_STATS_PREFIX + "max_tags";
+
+  /**
+   * <code>scalar.dl.ledger.tracing.enabled</code> (Optional)<br>
+   * A flag to trace requests as spans (false by default). A request from a client that traces it
+   * continues the trace of the client, which is propagated in the gRPC metadata, so the spans of a
+   * request across the client, Auditor and Ledger can be put together.
+   */
+  public static final String TRACING_ENABLED = TRACING_PREFIX + "enabled";
+
+  /**
+   * <code>scalar.dl.ledger.tracing.sampling_ratio</code> (Optional)<br>
+   * The ratio of the traces started at Ledger that are sampled, between 0.0 and 1.0 (0.01 by
+   * default). The traces continued from a client follow the sampling decision of the client.
+   */
+  public static final String TRACING_SAMPLING_RATIO = TRACING_PREFIX + "sampling_ratio";
+
+  /**
+   * <code>scalar.dl.ledger.tracing.exporter</code> (Optional)<br>
+   * The exporter of the sampled spans ("file" by default). "file" appends each span to {@link
+   * #TRACING_FILE_PATH} as a line of JSON, and "memory" keeps the latest spans in memory.
+   */
+  public static final String TRACING_EXPORTER = TRACING_PREFIX + "exporter";
+
+  /**
+   * <code>scalar.dl.ledger.tracing.file_path</code> (Optional)<br>
+   * The path of the file that the "file" exporter writes the spans to ("ledger-traces.jsonl" by
+   * default).
+   */
+  public static final String TRACING_FILE_PATH = TRACING_PREFIX + "file_path";
+
   private final Properties props;
   private String name;
   private String namespace;
@@ -306,6 +646,7 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
   private GrpcServerConfig grpcServerConfig;
   private boolean isProofEnabled;
   private String proofPrivateKey;
+  private boolean isProofAggregationEnabled;
   private boolean isFunctionEnabled;
   private boolean isNonPrivilegedPortFunctionRegistrationEnabled;
   private boolean isNonPrivilegedPortFunctionOverwriteEnabled;
@@ -317,6 +658,36 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
   private boolean isDirectAssetAccessEnabled;
   private boolean isTxStateManagementEnabled;
   private boolean isTransactionStatePurgeEnabled;
+  private boolean isGroupCommitEnabled;
+  private int groupCommitMaxSize;
+  private long groupCommitWindowMillis;
+  private long groupCommitTimeoutMillis;
+  private boolean isAssetCacheEnabled;
+  private long assetCacheMaxSize;
+  private int contractLoaderMaxNamespaces;
+  private boolean isContractPoolEnabled;
+  private int contractPoolSize;
+  private boolean isFunctionCacheEnabled;
+  private long functionCacheMaxSize;
+  private long functionCacheRevalidationIntervalMillis;
+  private boolean isContentionManagerEnabled;
+  private int contentionManagerHotThreshold;
+  private long contentionManagerWindowMillis;
+  private long contentionManagerMaxWaitMillis;
+  private long contentionManagerMaxSize;
+  private boolean isAssetCompressionEnabled;
+  private int assetCompressionMinSize;
+  private int validationPageSize;
+  private int validationInputCacheSize;
+  private int validationParallelism;
+  private boolean isValidationWatermarkEnabled;
+  private String validationWatermarkSecretKey;
+  private boolean isArchiveEnabled;
+  private int archiveRetainedAges;
+  private boolean isHistoryIndexEnabled;
+  private boolean isPhaseStatsEnabled;
+  private int phaseStatsMaxTags;
+  private TracingConfig tracingConfig;
 
   public LedgerConfig(File propertiesFile) throws IOException {
     try (FileInputStream stream = new FileInputStream(propertiesFile)) {
@@ -423,6 +794,10 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
     return proofPrivateKey;
   }
 
+  public boolean isProofAggregationEnabled() {
+    return isProofAggregationEnabled;
+  }
+
   public boolean isFunctionEnabled() {
     return isFunctionEnabled;
   }
@@ -472,6 +847,126 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
     return isTransactionStatePurgeEnabled;
   }
 
+  public boolean isGroupCommitEnabled() {
+    return isGroupCommitEnabled;
+  }
+
+  public int getGroupCommitMaxSize() {
+    return groupCommitMaxSize;
+  }
+
+  public long getGroupCommitWindowMillis() {
+    return groupCommitWindowMillis;
+  }
+
+  public long getGroupCommitTimeoutMillis() {
+    return groupCommitTimeoutMillis;
+  }
+
+  public boolean isAssetCacheEnabled() {
+    return isAssetCacheEnabled;
+  }
+
+  public long getAssetCacheMaxSize() {
+    return assetCacheMaxSize;
+  }
+
+  public int getContractLoaderMaxNamespaces() {
+    return contractLoaderMaxNamespaces;
+  }
+
+  public boolean isContractPoolEnabled() {
+    return isContractPoolEnabled;
+  }
+
+  public int getContractPoolSize() {
+    return contractPoolSize;
+  }
+
+  public boolean isFunctionCacheEnabled() {
+    return isFunctionCacheEnabled;
+  }
+
+  public long getFunctionCacheMaxSize() {
+    return functionCacheMaxSize;
+  }
+
+  public long getFunctionCacheRevalidationIntervalMillis() {
+    return functionCacheRevalidationIntervalMillis;
+  }
+
+  public boolean isContentionManagerEnabled() {
+    return isContentionManagerEnabled;
+  }
+
+  public int getContentionManagerHotThreshold() {
+    return contentionManagerHotThreshold;
+  }
+
+  public long getContentionManagerWindowMillis() {
+    return contentionManagerWindowMillis;
+  }
+
+  public long getContentionManagerMaxWaitMillis() {
+    return contentionManagerMaxWaitMillis;
+  }
+
+  public long getContentionManagerMaxSize() {
+    return contentionManagerMaxSize;
+  }
+
+  public boolean isAssetCompressionEnabled() {
+    return isAssetCompressionEnabled;
+  }
+
+  public int getAssetCompressionMinSize() {
+    return assetCompressionMinSize;
+  }
+
+  public int getValidationPageSize() {
+    return validationPageSize;
+  }
+
+  public int getValidationInputCacheSize() {
+    return validationInputCacheSize;
+  }
+
+  public int getValidationParallelism() {
+    return validationParallelism;
+  }
+
+  public boolean isValidationWatermarkEnabled() {
+    return isValidationWatermarkEnabled;
+  }
+
+  public String getValidationWatermarkSecretKey() {
+    return validationWatermarkSecretKey;
+  }
+
+  public boolean isArchiveEnabled() {
+    return isArchiveEnabled;
+  }
+
+  public int getArchiveRetainedAges() {
+    return archiveRetainedAges;
+  }
+
+  public boolean isHistoryIndexEnabled() {
+    return isHistoryIndexEnabled;
+  }
+
+  public boolean isPhaseStatsEnabled() {
+    return isPhaseStatsEnabled;
+  }
+
+  public int getPhaseStatsMaxTags() {
+    return phaseStatsMaxTags;
+  }
+
+  public TracingConfig getTracingConfig() {
+    return tracingConfig;
+  }
+
   private void load() {
     name = ConfigUtils.getString(props, NAME, DEFAULT_NAME);
     namespace = ConfigUtils.getString(props, NAMESPACE, DEFAULT_NAMESPACE);
@@ -507,6 +1002,10 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
                 ConfigUtils.getInt(props, SERVER_GRPC_MAX_INBOUND_MESSAGE_SIZE, 0))
             .maxInboundMetadataSize(
                 ConfigUtils.getInt(props, SERVER_GRPC_MAX_INBOUND_METADATA_SIZE, 0))
+            .executor(
+                GrpcServerExecutor.get(
+                    ConfigUtils.getString(
+                        props, SERVER_GRPC_EXECUTOR, GrpcServerExecutor.DEFAULT.getName())))
             .build();
     isProofEnabled = ConfigUtils.getBoolean(props, PROOF_ENABLED, DEFAULT_PROOF_ENABLED);
     if (isProofEnabled) {
@@ -515,6 +1014,8 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
         proofPrivateKey = ConfigUtils.getStringFromFilePath(props, PROOF_PRIVATE_KEY_PATH, null);
       }
     }
+    isProofAggregationEnabled =
+        ConfigUtils.getBoolean(props, PROOF_AGGREGATION_ENABLED, DEFAULT_PROOF_AGGREGATION_ENABLED);
     isFunctionEnabled = ConfigUtils.getBoolean(props, FUNCTION_ENABLED, DEFAULT_FUNCTION_ENABLED);
     isNonPrivilegedPortFunctionRegistrationEnabled =
         ConfigUtils.getBoolean(
@@ -571,6 +1072,158 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
     isTransactionStatePurgeEnabled =
         ConfigUtils.getBoolean(
             props, TRANSACTION_STATE_PURGE_ENABLED, DEFAULT_TRANSACTION_STATE_PURGE_ENABLED);
+    isGroupCommitEnabled =
+        ConfigUtils.getBoolean(props, GROUP_COMMIT_ENABLED, DEFAULT_GROUP_COMMIT_ENABLED);
+    groupCommitMaxSize =
+        ConfigUtils.getInt(props, GROUP_COMMIT_MAX_SIZE, DEFAULT_GROUP_COMMIT_MAX_SIZE);
+    groupCommitWindowMillis =
+        ConfigUtils.getLong(props, GROUP_COMMIT_WINDOW_MILLIS, DEFAULT_GROUP_COMMIT_WINDOW_MILLIS);
+    groupCommitTimeoutMillis =
+        ConfigUtils.getLong(
+            props, GROUP_COMMIT_TIMEOUT_MILLIS, DEFAULT_GROUP_COMMIT_TIMEOUT_MILLIS);
+    validateGroupCommit();
+    isAssetCacheEnabled =
+        ConfigUtils.getBoolean(props, ASSET_CACHE_ENABLED, DEFAULT_ASSET_CACHE_ENABLED);
+    assetCacheMaxSize =
+        ConfigUtils.getLong(props, ASSET_CACHE_MAX_SIZE, DEFAULT_ASSET_CACHE_MAX_SIZE);
+    if (isAssetCacheEnabled) {
+      checkArgument(
+          assetCacheMaxSize > 0,
+          LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(ASSET_CACHE_MAX_SIZE));
+    }
+    contractLoaderMaxNamespaces =
+        ConfigUtils.getInt(
+            props, CONTRACT_LOADER_MAX_NAMESPACES, DEFAULT_CONTRACT_LOADER_MAX_NAMESPACES);
+    checkArgument(
+        contractLoaderMaxNamespaces > 0,
+        LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(CONTRACT_LOADER_MAX_NAMESPACES));
+    isContractPoolEnabled =
+        ConfigUtils.getBoolean(props, CONTRACT_POOL_ENABLED, DEFAULT_CONTRACT_POOL_ENABLED);
+    contractPoolSize = ConfigUtils.getInt(props, CONTRACT_POOL_SIZE, DEFAULT_CONTRACT_POOL_SIZE);
+    if (isContractPoolEnabled) {
+      checkArgument(
+          contractPoolSize > 0,
+          LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(CONTRACT_POOL_SIZE));
+    }
+    isFunctionCacheEnabled =
+        ConfigUtils.getBoolean(props, FUNCTION_CACHE_ENABLED, DEFAULT_FUNCTION_CACHE_ENABLED);
+    functionCacheMaxSize =
+        ConfigUtils.getLong(props, FUNCTION_CACHE_MAX_SIZE, DEFAULT_FUNCTION_CACHE_MAX_SIZE);
+    functionCacheRevalidationIntervalMillis =
+        ConfigUtils.getLong(
+            props,
+            FUNCTION_CACHE_REVALIDATION_INTERVAL_MILLIS,
+            DEFAULT_FUNCTION_CACHE_REVALIDATION_INTERVAL_MILLIS);
+    if (isFunctionCacheEnabled) {
+      checkArgument(
+          functionCacheMaxSize > 0,
+          LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(FUNCTION_CACHE_MAX_SIZE));
+      checkArgument(
+          functionCacheRevalidationIntervalMillis >= 0,
+          LedgerError.CONFIG_VALUE_MUST_NOT_BE_NEGATIVE.buildMessage(
+              FUNCTION_CACHE_REVALIDATION_INTERVAL_MILLIS));
+    }
+    isContentionManagerEnabled =
+        ConfigUtils.getBoolean(
+            props, CONTENTION_MANAGER_ENABLED, DEFAULT_CONTENTION_MANAGER_ENABLED);
+    contentionManagerHotThreshold =
+        ConfigUtils.getInt(
+            props, CONTENTION_MANAGER_HOT_THRESHOLD, DEFAULT_CONTENTION_MANAGER_HOT_THRESHOLD);
+    contentionManagerWindowMillis =
+        ConfigUtils.getLong(
+            props, CONTENTION_MANAGER_WINDOW_MILLIS, DEFAULT_CONTENTION_MANAGER_WINDOW_MILLIS);
+    contentionManagerMaxWaitMillis =
+        ConfigUtils.getLong(
+            props, CONTENTION_MANAGER_MAX_WAIT_MILLIS, DEFAULT_CONTENTION_MANAGER_MAX_WAIT_MILLIS);
+    contentionManagerMaxSize =
+        ConfigUtils.getLong(
+            props, CONTENTION_MANAGER_MAX_SIZE, DEFAULT_CONTENTION_MANAGER_MAX_SIZE);
+    if (isContentionManagerEnabled) {
+      checkArgument(
+          contentionManagerHotThreshold > 0,
+          LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(CONTENTION_MANAGER_HOT_THRESHOLD));
+      checkArgument(
+          contentionManagerWindowMillis > 0,
+          LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(CONTENTION_MANAGER_WINDOW_MILLIS));
+      checkArgument(
+          contentionManagerMaxWaitMillis >= 0,
+          LedgerError.CONFIG_VALUE_MUST_NOT_BE_NEGATIVE.buildMessage(
+              CONTENTION_MANAGER_MAX_WAIT_MILLIS));
+      checkArgument(
+          contentionManagerMaxSize > 0,
+          LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(CONTENTION_MANAGER_MAX_SIZE));
+    }
+    isAssetCompressionEnabled =
+        ConfigUtils.getBoolean(props, ASSET_COMPRESSION_ENABLED, DEFAULT_ASSET_COMPRESSION_ENABLED);
+    assetCompressionMinSize =
+        ConfigUtils.getInt(props, ASSET_COMPRESSION_MIN_SIZE, DEFAULT_ASSET_COMPRESSION_MIN_SIZE);
+    if (isAssetCompressionEnabled) {
+      checkArgument(
+          assetCompressionMinSize > 0,
+          LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(ASSET_COMPRESSION_MIN_SIZE));
+    }
+    validationPageSize =
+        ConfigUtils.getInt(props, VALIDATION_PAGE_SIZE, DEFAULT_VALIDATION_PAGE_SIZE);
+    checkArgument(
+        validationPageSize > 0,
+        LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(VALIDATION_PAGE_SIZE));
+    validationInputCacheSize =
+        ConfigUtils.getInt(
+            props, VALIDATION_INPUT_CACHE_SIZE, DEFAULT_VALIDATION_INPUT_CACHE_SIZE);
+    checkArgument(
+        validationInputCacheSize > 0,
+        LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(VALIDATION_INPUT_CACHE_SIZE));
+    validationParallelism =
+        ConfigUtils.getInt(props, VALIDATION_PARALLELISM, DEFAULT_VALIDATION_PARALLELISM);
+    checkArgument(
+        validationParallelism > 0,
+        LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(VALIDATION_PARALLELISM));
+    isValidationWatermarkEnabled =
+        ConfigUtils.getBoolean(
+            props, VALIDATION_WATERMARK_ENABLED, DEFAULT_VALIDATION_WATERMARK_ENABLED);
+    validationWatermarkSecretKey =
+        ConfigUtils.getString(props, VALIDATION_WATERMARK_SECRET_KEY, null);
+    if (isValidationWatermarkEnabled) {
+      checkArgument(
+          validationWatermarkSecretKey != null,
+          LedgerError.CONFIG_VALIDATION_WATERMARK_SECRET_KEY_REQUIRED.buildMessage(
+              VALIDATION_WATERMARK_SECRET_KEY));
+    }
+    isArchiveEnabled = ConfigUtils.getBoolean(props, ARCHIVE_ENABLED, DEFAULT_ARCHIVE_ENABLED);
+    archiveRetainedAges =
+        ConfigUtils.getInt(props, ARCHIVE_RETAINED_AGES, DEFAULT_ARCHIVE_RETAINED_AGES);
+    if (isArchiveEnabled) {
+      checkArgument(
+          archiveRetainedAges > 0,
+          LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(ARCHIVE_RETAINED_AGES));
+    }
+    isHistoryIndexEnabled =
+        ConfigUtils.getBoolean(props, HISTORY_INDEX_ENABLED, DEFAULT_HISTORY_INDEX_ENABLED);
+    if (isHistoryIndexEnabled) {
+      checkArgument(
+          isProofEnabled,
+          LedgerError.CONFIG_PROOF_MUST_BE_ENABLED_FOR_HISTORY_INDEX.buildMessage(PROOF_ENABLED));
+    }
+    isPhaseStatsEnabled =
+        ConfigUtils.getBoolean(props, PHASE_STATS_ENABLED, DEFAULT_PHASE_STATS_ENABLED);
+    phaseStatsMaxTags =
+        ConfigUtils.getInt(props, PHASE_STATS_MAX_TAGS, DEFAULT_PHASE_STATS_MAX_TAGS);
+    if (isPhaseStatsEnabled) {
+      checkArgument(
+          phaseStatsMaxTags > 0,
+          LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(PHASE_STATS_MAX_TAGS));
+    }
+    tracingConfig =
+        TracingConfig.newBuilder()
+            .enabled(ConfigUtils.getBoolean(props, TRACING_ENABLED, DEFAULT_TRACING_ENABLED))
+            .samplingRatio(
+                ConfigUtils.getDouble(
+                    props, TRACING_SAMPLING_RATIO, DEFAULT_TRACING_SAMPLING_RATIO))
+            .exporter(
+                TracingExporter.get(
+                    ConfigUtils.getString(props, TRACING_EXPORTER, DEFAULT_TRACING_EXPORTER)))
+            .filePath(ConfigUtils.getString(props, TRACING_FILE_PATH, DEFAULT_TRACING_FILE_PATH))
+            .build();
     validateTransactionManager();
 
     LOGGER.info(name + " is configured with " + this + " (credential information is omitted)");
@@ -663,6 +1316,31 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
     }
   }
 
+  // Ledger-level group commit shares one ScalarDB transaction among the members of a group, so the
+  // transaction ID is no longer the nonce of each request. Auditor (abort and getState by nonce) and
+  // transaction state management (states keyed by the transaction ID) rely on that mapping.
+  private void validateGroupCommit() {
+    if (!isGroupCommitEnabled) {
+      return;
+    }
+    if (isAuditorEnabled) {
+      throw new IllegalArgumentException(
+          LedgerError.CONFIG_LEDGER_GROUP_COMMIT_NOT_SUPPORTED.buildMessage(
+              GROUP_COMMIT_ENABLED, AUDITOR_ENABLED));
+    }
+    if (isTxStateManagementEnabled) {
+      throw new IllegalArgumentException(
+          LedgerError.CONFIG_LEDGER_GROUP_COMMIT_NOT_SUPPORTED.buildMessage(
+              GROUP_COMMIT_ENABLED, TX_STATE_MANAGEMENT_ENABLED));
+    }
+    checkArgument(
+        groupCommitMaxSize > 0,
+        LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(GROUP_COMMIT_MAX_SIZE));
+    checkArgument(
+        groupCommitTimeoutMillis > 0,
+        LedgerError.CONFIG_VALUE_MUST_BE_POSITIVE.buildMessage(GROUP_COMMIT_TIMEOUT_MILLIS));
+  }
+
   @Override
   public String toString() {
     // Credential information (e.g., private keys) is omitted for security reasons.
@@ -678,7 +1356,9 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
         .add(SERVER_TLS_CERT_CHAIN_PATH, getServerTlsCertChainPath())
         .add(SERVER_GRPC_MAX_INBOUND_MESSAGE_SIZE, grpcServerConfig.getMaxInboundMessageSize())
         .add(SERVER_GRPC_MAX_INBOUND_METADATA_SIZE, grpcServerConfig.getMaxInboundMetadataSize())
+        .add(SERVER_GRPC_EXECUTOR, grpcServerConfig.getExecutor().getName())
         .add(PROOF_ENABLED, isProofEnabled())
+        .add(PROOF_AGGREGATION_ENABLED, isProofAggregationEnabled())
         .add(FUNCTION_ENABLED, isFunctionEnabled())
         .add(
             NON_PRIVILEGED_PORT_FUNCTION_REGISTRATION_ENABLED,
@@ -693,6 +1373,40 @@ public final class LedgerConfig implements ServerConfig, ServersHmacAuthenticata
         .add(DIRECT_ASSET_ACCESS_ENABLED, isDirectAssetAccessEnabled())
         .add(TX_STATE_MANAGEMENT_ENABLED, isTxStateManagementEnabled())
         .add(TRANSACTION_STATE_PURGE_ENABLED, isTransactionStatePurgeEnabled())
+        .add(GROUP_COMMIT_ENABLED, isGroupCommitEnabled())
+        .add(GROUP_COMMIT_MAX_SIZE, getGroupCommitMaxSize())
+        .add(GROUP_COMMIT_WINDOW_MILLIS, getGroupCommitWindowMillis())
+        .add(GROUP_COMMIT_TIMEOUT_MILLIS, getGroupCommitTimeoutMillis())
+        .add(ASSET_CACHE_ENABLED, isAssetCacheEnabled())
+        .add(ASSET_CACHE_MAX_SIZE, getAssetCacheMaxSize())
+        .add(CONTRACT_LOADER_MAX_NAMESPACES, getContractLoaderMaxNamespaces())
+        .add(CONTRACT_POOL_ENABLED, isContractPoolEnabled())
+        .add(CONTRACT_POOL_SIZE, getContractPoolSize())
+        .add(FUNCTION_CACHE_ENABLED, isFunctionCacheEnabled())
+        .add(FUNCTION_CACHE_MAX_SIZE, getFunctionCacheMaxSize())
+        .add(
+            FUNCTION_CACHE_REVALIDATION_INTERVAL_MILLIS,
+            getFunctionCacheRevalidationIntervalMillis())
+        .add(CONTENTION_MANAGER_ENABLED, isContentionManagerEnabled())
+        .add(CONTENTION_MANAGER_HOT_THRESHOLD, getContentionManagerHotThreshold())
+        .add(CONTENTION_MANAGER_WINDOW_MILLIS, getContentionManagerWindowMillis())
+        .add(CONTENTION_MANAGER_MAX_WAIT_MILLIS, getContentionManagerMaxWaitMillis())
+        .add(CONTENTION_MANAGER_MAX_SIZE, getContentionManagerMaxSize())
+        .add(ASSET_COMPRESSION_ENABLED, isAssetCompressionEnabled())
+        .add(ASSET_COMPRESSION_MIN_SIZE, getAssetCompressionMinSize())
+        .add(VALIDATION_PAGE_SIZE, getValidationPageSize())
+        .add(VALIDATION_INPUT_CACHE_SIZE, getValidationInputCacheSize())
+        .add(VALIDATION_PARALLELISM, getValidationParallelism())
+        .add(VALIDATION_WATERMARK_ENABLED, isValidationWatermarkEnabled())
+        .add(ARCHIVE_ENABLED, isArchiveEnabled())
+        .add(ARCHIVE_RETAINED_AGES, getArchiveRetainedAges())
+        .add(HISTORY_INDEX_ENABLED, isHistoryIndexEnabled())
+        .add(PHASE_STATS_ENABLED, isPhaseStatsEnabled())
+        .add(PHASE_STATS_MAX_TAGS, getPhaseStatsMaxTags())
+        .add(TRACING_ENABLED, tracingConfig.isEnabled())
+        .add(TRACING_SAMPLING_RATIO, tracingConfig.getSamplingRatio())
+        .add(TRACING_EXPORTER, tracingConfig.getExporter().getName())
+        .add(TRACING_FILE_PATH, tracingConfig.getFilePath())
         .toString();
   }
 }
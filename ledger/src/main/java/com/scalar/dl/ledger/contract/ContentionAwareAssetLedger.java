@@ -0,0 +1,73 @@
+package com.scalar.dl.ledger.contract;
+
+import com.scalar.dl.ledger.database.AssetFilter;
+import com.scalar.dl.ledger.database.TamperEvidentAssetLedger;
+import com.scalar.dl.ledger.proof.AssetProof;
+import com.scalar.dl.ledger.statemachine.AssetKey;
+import com.scalar.dl.ledger.statemachine.InternalAsset;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A decorator for {@link TamperEvidentAssetLedger} that enters the queue of an asset with a {@link
+ * ContentionManager.Permit} before the asset is read or written for the first time in an
+ * execution, so that the executions on a hot asset are serialized.
+ *
+ * <p>Operations without namespace specification are applied to the context namespace.
+ */
+@NotThreadSafe
+class ContentionAwareAssetLedger implements TamperEvidentAssetLedger {
+  private final TamperEvidentAssetLedger delegate;
+  private final String contextNamespace;
+  private final ContentionManager.Permit permit;
+
+  ContentionAwareAssetLedger(
+      TamperEvidentAssetLedger delegate,
+      String contextNamespace,
+      ContentionManager.Permit permit) {
+    this.delegate = delegate;
+    this.contextNamespace = contextNamespace;
+    this.permit = permit;
+  }
+
+  @Override
+  public Optional<InternalAsset> get(String assetId) {
+    permit.enter(AssetKey.of(contextNamespace, assetId));
+    return delegate.get(assetId);
+  }
+
+  @Override
+  public Optional<InternalAsset> get(String namespace, String assetId) {
+    permit.enter(AssetKey.of(namespace, assetId));
+    return delegate.get(namespace, assetId);
+  }
+
+  @Override
+  public List<InternalAsset> scan(AssetFilter filter) {
+    permit.enter(AssetKey.of(filter.getNamespace().orElse(contextNamespace), filter.getId()));
+    return delegate.scan(filter);
+  }
+
+  @Override
+  public void put(String assetId, String data) {
+    permit.enter(AssetKey.of(contextNamespace, assetId));
+    delegate.put(assetId, data);
+  }
+
+  @Override
+  public void put(String namespace, String assetId, String data) {
+    permit.enter(AssetKey.of(namespace, assetId));
+    delegate.put(namespace, assetId, data);
+  }
+
+  @Override
+  public List<AssetProof> commit() {
+    return delegate.commit();
+  }
+
+  @Override
+  public void abort() {
+    delegate.abort();
+  }
+}
@@ -0,0 +1,239 @@
+package com.scalar.dl.ledger.contract;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.scalar.dl.ledger.statemachine.AssetKey;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A manager that serializes the executions of contracts on hot assets in this node, so that they
+ * do not keep conflicting with each other.
+ *
+ * <p>An asset becomes hot when the transactions that touch it conflict the specified number of
+ * times within a window, and it stays hot for a window after that, regardless of how many
+ * executions are waiting for it. Each hot asset has a fair queue, and an execution enters the queue
+ * of a hot asset when it first reads or writes the asset, and leaves it after its transaction is
+ * committed or aborted. Thus, the executions on a hot asset run one by one instead of aborting each
+ * other and being retried by the clients, while the executions of the same contract on the other
+ * assets are not affected. Since the assets are entered in the order that a contract accesses them,
+ * an execution waits in a queue only up to the specified time and then proceeds without it, so
+ * that neither a slow execution nor two executions entering the same assets in different orders
+ * block the others for long.
+ *
+ * <p>The states of at most the specified number of assets are tracked, and the state of an asset
+ * expires when it has not conflicted for two windows.
+ */
+@ThreadSafe
+public class ContentionManager {
+  private static final ContentionManager DISABLED = new ContentionManager(0, 0, 0, 0);
+  private final int hotThreshold;
+  private final long windowMillis;
+  private final long maxWaitMillis;
+  @Nullable private final Cache<AssetKey, KeyState> keys;
+  private final LongAdder timeouts = new LongAdder();
+
+  /**
+   * Constructs a {@code ContentionManager}.
+   *
+   * @param hotThreshold the number of conflicts within a window that makes an asset hot
+   * @param windowMillis the length of a window in milliseconds
+   * @param maxWaitMillis the maximum time in milliseconds that an execution waits for an asset
+   * @param maxSize the maximum number of assets to track, or 0 to disable the manager
+   */
+  public ContentionManager(int hotThreshold, long windowMillis, long maxWaitMillis, long maxSize) {
+    this.hotThreshold = hotThreshold;
+    this.windowMillis = windowMillis;
+    this.maxWaitMillis = maxWaitMillis;
+    if (maxSize > 0) {
+      // A state is written only when a conflict is recorded, so waiting does not keep it alive
+      this.keys =
+          CacheBuilder.newBuilder()
+              .maximumSize(maxSize)
+              .expireAfterWrite(windowMillis * 2, TimeUnit.MILLISECONDS)
+              .build();
+    } else {
+      this.keys = null;
+    }
+  }
+
+  /**
+   * Returns a {@code ContentionManager} that serializes nothing.
+   *
+   * @return a {@code ContentionManager}
+   */
+  public static ContentionManager disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return keys != null;
+  }
+
+  /**
+   * Returns a new {@link Permit} for an execution, which enters the queues of the hot assets that
+   * the execution touches. It must be closed after the transaction of the execution is committed or
+   * aborted.
+   *
+   * @return a {@link Permit}
+   */
+  public Permit newPermit() {
+    return keys == null ? Permit.EMPTY : new Permit(this);
+  }
+
+  /**
+   * Records that an execution conflicted on the specified assets.
+   *
+   * @param conflicted the keys of the assets that the execution conflicted on
+   */
+  public void recordConflict(Collection<AssetKey> conflicted) {
+    if (keys == null || conflicted.isEmpty()) {
+      return;
+    }
+    long now = now();
+    for (AssetKey key : conflicted) {
+      // Replacing the state through the map resets the expiration of the key
+      keys.asMap()
+          .compute(
+              key,
+              (k, state) -> {
+                KeyState updated = state == null ? new KeyState() : state;
+                updated.recordConflict(now, hotThreshold, windowMillis);
+                return updated;
+              });
+    }
+  }
+
+  /**
+   * Returns the number of the assets that are hot.
+   *
+   * @return the number of the hot assets
+   */
+  public long getHotKeyCount() {
+    if (keys == null) {
+      return 0;
+    }
+    long now = now();
+    return keys.asMap().values().stream().filter(s -> s.isHot(now)).count();
+  }
+
+  /**
+   * Returns the number of the executions that are waiting in the queues of the hot assets.
+   *
+   * @return the total depth of the queues
+   */
+  public long getQueueDepth() {
+    if (keys == null) {
+      return 0;
+    }
+    return keys.asMap().values().stream().mapToLong(s -> s.queue.getQueueLength()).sum();
+  }
+
+  /**
+   * Returns the number of the waits that timed out and proceeded without the queue.
+   *
+   * @return the number of the timed-out waits
+   */
+  public long getTimeoutCount() {
+    return timeouts.sum();
+  }
+
+  @VisibleForTesting
+  long now() {
+    return System.currentTimeMillis();
+  }
+
+  @Nullable
+  private KeyState getHotState(AssetKey key) {
+    assert keys != null;
+    KeyState state = keys.getIfPresent(key);
+    return state != null && state.isHot(now()) ? state : null;
+  }
+
+  /**
+   * The queues of the hot assets that an execution entered, which are left when it is closed. A
+   * permit is used by one execution at a time.
+   */
+  @NotThreadSafe
+  public static class Permit implements AutoCloseable {
+    private static final Permit EMPTY = new Permit(null);
+    @Nullable private final ContentionManager manager;
+    private final Set<AssetKey> entered = new HashSet<>();
+    private final List<KeyState> acquired = new ArrayList<>();
+
+    private Permit(@Nullable ContentionManager manager) {
+      this.manager = manager;
+    }
+
+    /**
+     * Enters the queue of the specified asset if it is hot and has not been entered by this permit,
+     * waiting up to the maximum wait time.
+     *
+     * @param key the key of the asset that the execution is about to read or write
+     */
+    public void enter(AssetKey key) {
+      if (manager == null || !entered.add(key)) {
+        return;
+      }
+      KeyState state = manager.getHotState(key);
+      if (state == null) {
+        return;
+      }
+      try {
+        if (state.queue.tryAcquire(manager.maxWaitMillis, TimeUnit.MILLISECONDS)) {
+          acquired.add(state);
+        } else {
+          manager.timeouts.increment();
+        }
+      } catch (InterruptedException e) {
+        // Proceed without the queue and let the execution handle the interruption
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @VisibleForTesting
+    int size() {
+      return acquired.size();
+    }
+
+    @Override
+    public void close() {
+      for (int i = acquired.size() - 1; i >= 0; i--) {
+        acquired.get(i).queue.release();
+      }
+      acquired.clear();
+    }
+  }
+
+  @ThreadSafe
+  private static class KeyState {
+    private final Semaphore queue = new Semaphore(1, true);
+    private long windowStart;
+    private int conflicts;
+    private long hotUntil;
+
+    synchronized void recordConflict(long now, int threshold, long windowMillis) {
+      if (now - windowStart >= windowMillis) {
+        windowStart = now;
+        conflicts = 0;
+      }
+      if (++conflicts >= threshold) {
+        hotUntil = now + windowMillis;
+      }
+    }
+
+    synchronized boolean isHot(long now) {
+      return now < hotUntil;
+    }
+  }
+}
@@ -11,6 +11,8 @@ import com.scalar.dl.ledger.function.FunctionManager;
 import com.scalar.dl.ledger.model.ContractExecutionRequest;
 import com.scalar.dl.ledger.model.ContractExecutionResult;
 import com.scalar.dl.ledger.proof.AssetProof;
+import com.scalar.dl.ledger.server.PhaseStats;
+import com.scalar.dl.ledger.server.Stats.TimerContext;
 import com.scalar.dl.ledger.util.Argument;
 import java.util.Collections;
 import java.util.List;
@@ -21,67 +23,129 @@ import javax.annotation.concurrent.Immutable;
 
 @Immutable
 public class ContractExecutor {
+  private static final String CONTRACT_LOADING = "contract_loading";
+  private static final String CONTRACT_EXECUTION = "contract_execution";
+  private static final String FUNCTION_EXECUTION = "function_execution";
+  private static final String COMMIT = "commit";
   private final LedgerConfig config;
   private final ContractManager contractManager;
   private final FunctionManager functionManager;
   private final TransactionManager transactionManager;
+  private final PhaseStats phaseStats;
+  private final ContentionManager contentionManager;
 
-  @Inject
   public ContractExecutor(
       LedgerConfig config,
       ContractManager contractManager,
       FunctionManager functionManager,
       TransactionManager transactionManager) {
+    this(config, contractManager, functionManager, transactionManager, PhaseStats.disabled());
+  }
+
+  public ContractExecutor(
+      LedgerConfig config,
+      ContractManager contractManager,
+      FunctionManager functionManager,
+      TransactionManager transactionManager,
+      PhaseStats phaseStats) {
+    this(
+        config,
+        contractManager,
+        functionManager,
+        transactionManager,
+        phaseStats,
+        ContentionManager.disabled());
+  }
+
+  @Inject
+  public ContractExecutor(
+      LedgerConfig config,
+      ContractManager contractManager,
+      FunctionManager functionManager,
+      TransactionManager transactionManager,
+      PhaseStats phaseStats,
+      ContentionManager contentionManager) {
     this.config = config;
     this.contractManager = contractManager;
     this.functionManager = functionManager;
     this.transactionManager = transactionManager;
+    this.phaseStats = phaseStats;
+    this.contentionManager = contentionManager;
   }
 
   public ContractExecutionResult execute(ContractExecutionRequest request) {
     String namespace = request.getContextNamespaceOrDefault();
-    ContractEntry.Key key = ContractEntry.Key.from(request);
-    ContractEntry entry = contractManager.get(namespace, key);
-    ContractMachine contract = contractManager.getInstance(namespace, entry);
-    List<FunctionMachine> functions = getFunctions(namespace, request.getFunctionIds());
+    String contractId = request.getContractId();
+    ContractEntry entry;
+    ContractMachine contract;
+    List<FunctionMachine> functions;
+    try (TimerContext unused = phaseStats.measure(CONTRACT_LOADING, namespace, contractId)) {
+      ContractEntry.Key key = ContractEntry.Key.from(request);
+      entry = contractManager.get(namespace, key);
+      contract = contractManager.getInstance(namespace, entry);
+      functions = getFunctions(namespace, request.getFunctionIds());
+    }
+    // The request has been authenticated and the contract has been found
+    phaseStats.registerTag(namespace, contractId);
     Optional<String> properties = entry.getProperties();
     String contractArgument = Argument.getContractArgument(request.getContractArgument());
 
-    Transaction transaction = transactionManager.startWith(request);
-    try {
-      // Execute the contract
-      String contractResult =
-          contract.invoke(
-              transaction.getLedger(contract.getDeserializationType()),
-              contractArgument,
-              properties.orElse(null));
+    try (ContentionManager.Permit permit = contentionManager.newPermit()) {
+      Transaction started = transactionManager.startWith(request);
+      // Executions on hot assets wait for each other when they touch the assets instead of
+      // conflicting in the transaction
+      Transaction transaction =
+          contentionManager.isEnabled()
+              ? started.withLedger(
+                  new ContentionAwareAssetLedger(started.getLedger(), namespace, permit))
+              : started;
+      try {
+        // Execute the contract
+        String contractResult;
+        try (TimerContext unused = phaseStats.measure(CONTRACT_EXECUTION, namespace, contractId)) {
+          contractResult =
+              contract.invoke(
+                  transaction.getLedger(contract.getDeserializationType()),
+                  contractArgument,
+                  properties.orElse(null));
+        }
 
-      // Execute the functions
-      String functionResult = null;
-      if (transaction.getDatabase() != null) {
-        AtomicReference<String> result = new AtomicReference<>(null);
-        functions.forEach(
-            f -> {
-              f.setContractContext(contract.getContext());
-              result.set(
-                  f.invoke(
-                      transaction.getDatabase(),
-                      request.getFunctionArgument().orElse(null),
-                      contractArgument,
-                      properties.orElse(null)));
-            });
-        functionResult = result.get();
-      }
+        // Execute the functions
+        String functionResult = null;
+        if (transaction.getDatabase() != null) {
+          AtomicReference<String> result = new AtomicReference<>(null);
+          try (TimerContext unused =
+              phaseStats.measure(FUNCTION_EXECUTION, namespace, contractId)) {
+            functions.forEach(
+                f -> {
+                  f.setContractContext(contract.getContext());
+                  result.set(
+                      f.invoke(
+                          transaction.getDatabase(),
+                          request.getFunctionArgument().orElse(null),
+                          contractArgument,
+                          properties.orElse(null)));
+                });
+          }
+          functionResult = result.get();
+        }
+        // The contract and its context are no longer used, so it can be reused by later requests
+        contractManager.release(namespace, entry, contract);
 
-      List<AssetProof> proofs = transaction.commit();
-      return new ContractExecutionResult(contractResult, functionResult, proofs, null);
-    } catch (ConflictException e) {
-      transaction.abort();
-      transactionManager.recover(e.getKeys());
-      throw e;
-    } catch (Exception e) {
-      transaction.abort();
-      throw e;
+        List<AssetProof> proofs;
+        try (TimerContext unused = phaseStats.measure(COMMIT, namespace, contractId)) {
+          proofs = transaction.commit();
+        }
+        return new ContractExecutionResult(contractResult, functionResult, proofs, null);
+      } catch (ConflictException e) {
+        transaction.abort();
+        transactionManager.recover(e.getKeys());
+        contentionManager.recordConflict(e.getKeys().keySet());
+        throw e;
+      } catch (Exception e) {
+        transaction.abort();
+        throw e;
+      }
     }
   }
 
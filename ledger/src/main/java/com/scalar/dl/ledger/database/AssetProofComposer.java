@@ -2,19 +2,38 @@ package com.scalar.dl.ledger.database;
 
 import com.google.inject.Inject;
 import com.scalar.dl.ledger.crypto.SignatureSigner;
+import com.scalar.dl.ledger.proof.AssetHistoryProof;
 import com.scalar.dl.ledger.proof.AssetProof;
+import com.scalar.dl.ledger.proof.MerkleMountainRange;
+import com.scalar.dl.ledger.proof.MerkleTree;
 import com.scalar.dl.ledger.statemachine.InternalAsset;
 import com.scalar.dl.ledger.util.Argument;
+import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
 
 @Immutable
 public class AssetProofComposer {
   private final SignatureSigner signer;
+  private final boolean aggregationEnabled;
 
   @Inject
   public AssetProofComposer(@Nullable SignatureSigner signer) {
+    this(signer, false);
+  }
+
+  /**
+   * Constructs an {@code AssetProofComposer} with the specified signer.
+   *
+   * @param signer a {@link SignatureSigner} to sign proofs, or null if proofs are disabled
+   * @param aggregationEnabled true to sign the proofs created by a {@link Batch} together over a
+   *     {@link MerkleTree} instead of one by one
+   */
+  public AssetProofComposer(@Nullable SignatureSigner signer, boolean aggregationEnabled) {
     this.signer = signer;
+    this.aggregationEnabled = aggregationEnabled;
   }
 
   public AssetProof create(String namespace, InternalAsset asset) {
@@ -56,4 +75,105 @@ public class AssetProofComposer {
         .signature(signature)
         .build();
   }
+
+  /**
+   * Signs the root of the history of an asset, i.e., the {@link MerkleMountainRange} over its
+   * records.
+   *
+   * @param namespace the namespace of the asset
+   * @param id the ID of the asset
+   * @param size the number of records in the history
+   * @param root the root of the history
+   * @return the signature, or null if proofs are disabled
+   */
+  @Nullable
+  public byte[] signHistory(String namespace, String id, long size, byte[] root) {
+    if (signer == null) {
+      return null;
+    }
+    return signer.sign(AssetHistoryProof.serializeRoot(namespace, id, size, root));
+  }
+
+  /**
+   * Returns a new {@link Batch} to create the proofs of the assets of a request.
+   *
+   * @return a {@link Batch}
+   */
+  public Batch newBatch() {
+    return new Batch();
+  }
+
+  /**
+   * A set of proofs of the assets of a request. If the aggregation is enabled, the proofs are
+   * signed with one signature over the root of a {@link MerkleTree} of them, so that the cost of
+   * signing does not grow with the number of assets of the request. Otherwise, each proof is
+   * signed on its own as with {@link #create}.
+   */
+  @NotThreadSafe
+  public class Batch {
+    private final List<AssetProof.Builder> builders = new ArrayList<>();
+    private final List<byte[]> payloads = new ArrayList<>();
+
+    private Batch() {}
+
+    public Batch add(String namespace, InternalAsset asset, String nonce) {
+      if (nonce == null) {
+        nonce = Argument.getNonce(asset.argument());
+      }
+      return add(
+          namespace, asset.id(), asset.age(), nonce, asset.input(), asset.hash(), asset.prevHash());
+    }
+
+    public Batch add(
+        String namespace,
+        String id,
+        int age,
+        String nonce,
+        String input,
+        byte[] hash,
+        byte[] prevHash) {
+      builders.add(
+          AssetProof.newBuilder()
+              .namespace(namespace)
+              .id(id)
+              .age(age)
+              .nonce(nonce)
+              .input(input)
+              .hash(hash)
+              .prevHash(prevHash));
+      payloads.add(AssetProof.serialize(namespace, id, age, nonce, input, hash, prevHash));
+      return this;
+    }
+
+    /**
+     * Signs the proofs added to the batch.
+     *
+     * @return the signed proofs in the order they were added, or an empty list if proofs are
+     *     disabled
+     */
+    public List<AssetProof> sign() {
+      List<AssetProof> proofs = new ArrayList<>(builders.size());
+      if (signer == null || builders.isEmpty()) {
+        return proofs;
+      }
+      if (!aggregationEnabled) {
+        for (int i = 0; i < builders.size(); i++) {
+          proofs.add(builders.get(i).signature(signer.sign(payloads.get(i))).build());
+        }
+        return proofs;
+      }
+
+      MerkleTree tree = new MerkleTree(payloads);
+      byte[] signature = signer.sign(tree.getSigningBytes());
+      for (int i = 0; i < builders.size(); i++) {
+        proofs.add(
+            builders
+                .get(i)
+                .signature(signature)
+                .merkleLeaf(i, tree.getLeafCount(), tree.getPath(i))
+                .build());
+      }
+      return proofs;
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package com.scalar.dl.ledger.database;
 
+import com.scalar.dl.ledger.statemachine.AssetInput;
 import com.scalar.dl.ledger.statemachine.InternalAsset;
 import java.util.List;
 
@@ -16,4 +17,14 @@ public interface AssetScanner {
     }
     return assets.get(0);
   }
+
+  /**
+   * Retrieves the assets listed in the specified inputs in advance so that the subsequent {@link
+   * #doGet(String, String, int)} calls for them do not have to access the database one by one. It
+   * does nothing by default.
+   *
+   * @param namespace the namespace of the assets whose namespace is not specified in the inputs
+   * @param inputs a list of {@link AssetInput}s
+   */
+  default void prefetch(String namespace, List<AssetInput> inputs) {}
 }
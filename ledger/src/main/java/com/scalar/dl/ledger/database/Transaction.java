@@ -36,6 +36,23 @@ public class Transaction {
     this.database = database;
   }
 
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  private Transaction(TamperEvidentAssetLedger ledger, Database<?, ?, ?, ?, ?> database) {
+    this.ledger = ledger;
+    this.database = database;
+  }
+
+  /**
+   * Returns a {@code Transaction} that has the specified ledger, which decorates the ledger of this
+   * transaction, and the same database as this transaction.
+   *
+   * @param ledger a {@link TamperEvidentAssetLedger} that decorates the ledger of this transaction
+   * @return a {@code Transaction}
+   */
+  public Transaction withLedger(TamperEvidentAssetLedger ledger) {
+    return new Transaction(ledger, database);
+  }
+
   @SuppressFBWarnings("EI_EXPOSE_REP")
   public TamperEvidentAssetLedger getLedger() {
     return ledger;
@@ -0,0 +1,11 @@
+package com.scalar.dl.ledger.database;
+
+import com.scalar.dl.ledger.validation.ValidationWatermark;
+import java.util.Optional;
+
+public interface ValidationWatermarkRegistry {
+
+  void bind(String namespace, ValidationWatermark watermark);
+
+  Optional<ValidationWatermark> lookup(String namespace, String assetId);
+}
@@ -0,0 +1,248 @@
+package com.scalar.dl.ledger.database.scalardb;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Inject;
+import com.scalar.db.api.Consistency;
+import com.scalar.db.api.Delete;
+import com.scalar.db.api.DistributedTransaction;
+import com.scalar.db.api.DistributedTransactionManager;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.exception.transaction.AbortException;
+import com.scalar.db.exception.transaction.CrudException;
+import com.scalar.db.exception.transaction.TransactionException;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.Key;
+import com.scalar.dl.ledger.config.LedgerConfig;
+import com.scalar.dl.ledger.database.AssetRecord;
+import com.scalar.dl.ledger.error.LedgerError;
+import com.scalar.dl.ledger.exception.DatabaseException;
+import com.scalar.dl.ledger.exception.ValidationException;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An archiver that moves the old records of an asset from the asset table to the asset_archive
+ * table, which has the same schema, so that the asset table does not grow with the length of the
+ * histories.
+ *
+ * <p>The records of an asset are archived from the oldest one, up to the age that leaves {@code
+ * scalar.dl.ledger.archive.retained_ages} latest ages in the asset table. Each page of records is
+ * moved in a transaction that also updates the archive summary of the asset, i.e., the last
+ * archived age and its hash. A record is archived only if it links to the summary (or the record
+ * archived before it in the page) with its previous hash, so the archived records always form an
+ * unbroken hash chain that the first record in the asset table links to. {@link
+ * ScalarTamperEvidentAssetLedger} uses the summary to find the ages to be scanned in the archive.
+ */
+@ThreadSafe
+public class AssetArchiver {
+  private static final Logger LOGGER = LoggerFactory.getLogger(AssetArchiver.class.getName());
+  static final String TABLE = "asset_archive";
+  static final String SUMMARY_TABLE = "asset_archive_summary";
+  static final TableMetadata SUMMARY_TABLE_METADATA =
+      TableMetadata.newBuilder()
+          .addColumn(AssetRecord.ID, DataType.TEXT)
+          .addColumn(AssetRecord.AGE, DataType.INT)
+          .addColumn(AssetRecord.HASH, DataType.BLOB)
+          .addPartitionKey(AssetRecord.ID)
+          .build();
+  private static final int PAGE_SIZE = 100;
+  private final DistributedTransactionManager manager;
+  private final ScalarNamespaceResolver namespaceResolver;
+  private final LedgerConfig config;
+
+  @Inject
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public AssetArchiver(
+      DistributedTransactionManager manager,
+      ScalarNamespaceResolver namespaceResolver,
+      LedgerConfig config) {
+    this.manager = manager;
+    this.namespaceResolver = namespaceResolver;
+    this.config = config;
+  }
+
+  public boolean isEnabled() {
+    return config.isArchiveEnabled();
+  }
+
+  static Map<String, TableMetadata> getArchiveTables() {
+    return ImmutableMap.of(
+        TABLE,
+        ScalarTamperEvidentAssetLedger.TABLE_METADATA,
+        SUMMARY_TABLE,
+        SUMMARY_TABLE_METADATA);
+  }
+
+  /**
+   * Archives the records of the specified asset up to the specified age, leaving {@code
+   * scalar.dl.ledger.archive.retained_ages} latest ages in the asset table.
+   *
+   * @param namespace a namespace of the asset
+   * @param assetId an ID of the asset
+   * @param maxAge the maximum age to be archived, e.g., the last validated age
+   * @return the number of the archived records
+   * @throws ValidationException if the records to be archived do not form a hash chain
+   * @throws DatabaseException if archiving the records fails
+   */
+  public int archive(String namespace, String assetId, int maxAge) {
+    int archived = 0;
+    while (true) {
+      int count = archivePage(namespace, assetId, maxAge);
+      archived += count;
+      if (count < PAGE_SIZE) {
+        break;
+      }
+    }
+    if (archived > 0) {
+      LOGGER.info(archived + " records of " + assetId + " in " + namespace + " are archived");
+    }
+    return archived;
+  }
+
+  static Get createSummaryGet(String namespace, String assetId) {
+    return Get.newBuilder()
+        .namespace(namespace)
+        .table(SUMMARY_TABLE)
+        .partitionKey(Key.ofText(AssetRecord.ID, assetId))
+        .consistency(Consistency.LINEARIZABLE)
+        .build();
+  }
+
+  private int archivePage(String namespace, String assetId, int maxAge) {
+    DistributedTransaction transaction;
+    try {
+      transaction = manager.start();
+    } catch (TransactionException e) {
+      throw new DatabaseException(LedgerError.STARTING_TRANSACTION_FAILED, e, e.getMessage());
+    }
+
+    try {
+      String resolved = namespaceResolver.resolve(namespace);
+      int archived = archivePage(transaction, resolved, assetId, maxAge);
+      transaction.commit();
+      return archived;
+    } catch (TransactionException e) {
+      abort(transaction);
+      throw new DatabaseException(LedgerError.ARCHIVING_ASSET_FAILED, e, e.getMessage());
+    } catch (RuntimeException e) {
+      abort(transaction);
+      throw e;
+    }
+  }
+
+  private int archivePage(
+      DistributedTransaction transaction, String namespace, String assetId, int maxAge)
+      throws CrudException {
+    Optional<Result> summary = transaction.get(createSummaryGet(namespace, assetId));
+    int startAge = summary.map(r -> r.getInt(AssetRecord.AGE) + 1).orElse(0);
+    byte[] prevHash = summary.map(r -> r.getBlobAsBytes(AssetRecord.HASH)).orElse(null);
+
+    Optional<Integer> latestAge = getLatestAge(transaction, namespace, assetId);
+    if (!latestAge.isPresent()) {
+      return 0;
+    }
+    int endAge = Math.min(maxAge, latestAge.get() - config.getArchiveRetainedAges());
+    if (startAge > endAge) {
+      return 0;
+    }
+
+    Scan scan =
+        Scan.newBuilder()
+            .namespace(namespace)
+            .table(ScalarTamperEvidentAssetLedger.TABLE)
+            .partitionKey(Key.ofText(AssetRecord.ID, assetId))
+            .start(Key.ofInt(AssetRecord.AGE, startAge))
+            .end(Key.ofInt(AssetRecord.AGE, endAge))
+            .ordering(Scan.Ordering.asc(AssetRecord.AGE))
+            .limit(PAGE_SIZE)
+            .consistency(Consistency.LINEARIZABLE)
+            .build();
+    List<Result> results = transaction.scan(scan);
+
+    int age = startAge;
+    for (Result result : results) {
+      byte[] recordPrevHash = result.getBlobAsBytes(AssetRecord.PREV_HASH);
+      if (result.getInt(AssetRecord.AGE) != age || !Arrays.equals(prevHash, recordPrevHash)) {
+        throw new ValidationException(
+            LedgerError.ARCHIVED_ASSET_CHAIN_BROKEN, assetId, result.getInt(AssetRecord.AGE));
+      }
+      transaction.put(toArchivePut(namespace, assetId, age, result, recordPrevHash));
+      transaction.delete(
+          Delete.newBuilder()
+              .namespace(namespace)
+              .table(ScalarTamperEvidentAssetLedger.TABLE)
+              .partitionKey(Key.ofText(AssetRecord.ID, assetId))
+              .clusteringKey(Key.ofInt(AssetRecord.AGE, age))
+              .build());
+      prevHash = result.getBlobAsBytes(AssetRecord.HASH);
+      age++;
+    }
+
+    if (!results.isEmpty()) {
+      transaction.put(
+          Put.newBuilder()
+              .namespace(namespace)
+              .table(SUMMARY_TABLE)
+              .partitionKey(Key.ofText(AssetRecord.ID, assetId))
+              .intValue(AssetRecord.AGE, age - 1)
+              .blobValue(AssetRecord.HASH, prevHash)
+              .build());
+    }
+    return results.size();
+  }
+
+  private Optional<Integer> getLatestAge(
+      DistributedTransaction transaction, String namespace, String assetId) throws CrudException {
+    Scan scan =
+        Scan.newBuilder()
+            .namespace(namespace)
+            .table(ScalarTamperEvidentAssetLedger.TABLE)
+            .partitionKey(Key.ofText(AssetRecord.ID, assetId))
+            .projection(AssetRecord.AGE)
+            .ordering(Scan.Ordering.desc(AssetRecord.AGE))
+            .limit(1)
+            .consistency(Consistency.LINEARIZABLE)
+            .build();
+    List<Result> results = transaction.scan(scan);
+    return results.isEmpty()
+        ? Optional.empty()
+        : Optional.of(results.get(0).getInt(AssetRecord.AGE));
+  }
+
+  private Put toArchivePut(
+      String namespace, String assetId, int age, Result result, @Nullable byte[] prevHash) {
+    // The text values are copied as they are stored, i.e., compressed or not
+    return Put.newBuilder()
+        .namespace(namespace)
+        .table(TABLE)
+        .partitionKey(Key.ofText(AssetRecord.ID, assetId))
+        .clusteringKey(Key.ofInt(AssetRecord.AGE, age))
+        .textValue(AssetRecord.ARGUMENT, result.getText(AssetRecord.ARGUMENT))
+        .textValue(AssetRecord.CONTRACT_ID, result.getText(AssetRecord.CONTRACT_ID))
+        .blobValue(AssetRecord.HASH, result.getBlobAsBytes(AssetRecord.HASH))
+        .textValue(AssetRecord.INPUT, result.getText(AssetRecord.INPUT))
+        .textValue(AssetRecord.OUTPUT, result.getText(AssetRecord.OUTPUT))
+        .blobValue(AssetRecord.PREV_HASH, prevHash)
+        .blobValue(AssetRecord.SIGNATURE, result.getBlobAsBytes(AssetRecord.SIGNATURE))
+        .build();
+  }
+
+  private void abort(DistributedTransaction transaction) {
+    try {
+      transaction.abort();
+    } catch (AbortException e) {
+      LOGGER.warn("aborting the archiving transaction failed", e);
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package com.scalar.dl.ledger.database.scalardb;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Inject;
+import com.scalar.dl.ledger.config.LedgerConfig;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A codec of the text columns of asset records, i.e., the input, the output and the argument.
+ *
+ * <p>When compression is enabled, a value of at least the minimum size is compressed with Deflate
+ * and written as a versioned prefix followed by the compressed bytes in Base64, so that it still
+ * fits in a TEXT column. A value is compressed only if it gets smaller, and the other values are
+ * written as they are. Decoding does not depend on the configuration, so records written with and
+ * without compression can be read alike. Hashes are always computed over the decoded values.
+ */
+@ThreadSafe
+public class AssetColumnCodec {
+  // The prefix starts with a control character that neither a JSON document nor a usual text
+  // starts with. A value that starts with the prefix anyway is always encoded so that it is
+  // decoded as it was.
+  @VisibleForTesting static final String DEFLATE_V1_PREFIX = "\u0001DZ1:";
+  private static final int BUFFER_SIZE = 4096;
+  private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 4;
+  // Shared pools instead of thread locals since a request may run on a new virtual thread, and the
+  // native memory of an instance is released only when it is ended
+  private static final BlockingQueue<Deflater> DEFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+  private static final BlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+  private final boolean enabled;
+  private final int minSize;
+
+  @Inject
+  public AssetColumnCodec(LedgerConfig config) {
+    this(config.isAssetCompressionEnabled(), config.getAssetCompressionMinSize());
+  }
+
+  public AssetColumnCodec(boolean enabled, int minSize) {
+    this.enabled = enabled;
+    this.minSize = minSize;
+  }
+
+  /**
+   * Returns a codec that never compresses values.
+   *
+   * @return an {@code AssetColumnCodec}
+   */
+  public static AssetColumnCodec uncompressed() {
+    return new AssetColumnCodec(false, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Encodes the specified value to be written to a text column.
+   *
+   * @param value a value
+   * @return the compressed value, or the value itself if it is not compressed
+   */
+  public String encode(String value) {
+    boolean prefixed = value.startsWith(DEFLATE_V1_PREFIX);
+    if (!prefixed && (!enabled || value.length() < minSize)) {
+      return value;
+    }
+    byte[] compressed = deflate(value.getBytes(StandardCharsets.UTF_8));
+    String encoded = DEFLATE_V1_PREFIX + Base64.getEncoder().encodeToString(compressed);
+    return prefixed || encoded.length() < value.length() ? encoded : value;
+  }
+
+  /**
+   * Decodes the specified value read from a text column.
+   *
+   * @param value a value written with {@link #encode(String)}
+   * @return the decompressed value, or the value itself if it is not compressed
+   * @throws IllegalArgumentException if the value is not correctly compressed
+   */
+  public static String decode(String value) {
+    if (!value.startsWith(DEFLATE_V1_PREFIX)) {
+      return value;
+    }
+    byte[] compressed = Base64.getDecoder().decode(value.substring(DEFLATE_V1_PREFIX.length()));
+    return new String(inflate(compressed), StandardCharsets.UTF_8);
+  }
+
+  private static byte[] deflate(byte[] bytes) {
+    Deflater deflater = DEFLATERS.poll();
+    if (deflater == null) {
+      deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    }
+    boolean completed = false;
+    try {
+      deflater.setInput(bytes);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(bytes.length, BUFFER_SIZE));
+      byte[] buffer = new byte[BUFFER_SIZE];
+      while (!deflater.finished()) {
+        int length = deflater.deflate(buffer);
+        out.write(buffer, 0, length);
+      }
+      completed = true;
+      return out.toByteArray();
+    } finally {
+      release(deflater, completed);
+    }
+  }
+
+  private static byte[] inflate(byte[] bytes) {
+    Inflater inflater = INFLATERS.poll();
+    if (inflater == null) {
+      inflater = new Inflater();
+    }
+    boolean completed = false;
+    try {
+      inflater.setInput(bytes);
+      ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+      byte[] buffer = new byte[BUFFER_SIZE];
+      while (!inflater.finished()) {
+        int length = inflater.inflate(buffer);
+        if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new IllegalArgumentException("the compressed value is truncated");
+        }
+        out.write(buffer, 0, length);
+      }
+      completed = true;
+      return out.toByteArray();
+    } catch (DataFormatException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
+    } finally {
+      release(inflater, completed);
+    }
+  }
+
+  private static void release(Deflater deflater, boolean completed) {
+    // Ended if it failed or the pool is full, which only happens beyond the usual concurrency
+    if (completed) {
+      deflater.reset();
+      if (DEFLATERS.offer(deflater)) {
+        return;
+      }
+    }
+    deflater.end();
+  }
+
+  private static void release(Inflater inflater, boolean completed) {
+    if (completed) {
+      inflater.reset();
+      if (INFLATERS.offer(inflater)) {
+        return;
+      }
+    }
+    inflater.end();
+  }
+}
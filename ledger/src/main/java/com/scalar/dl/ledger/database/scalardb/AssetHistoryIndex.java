@@ -0,0 +1,464 @@
+package com.scalar.dl.ledger.database.scalardb;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Inject;
+import com.scalar.db.api.Consistency;
+import com.scalar.db.api.DistributedTransaction;
+import com.scalar.db.api.DistributedTransactionManager;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.exception.transaction.AbortException;
+import com.scalar.db.exception.transaction.CrudException;
+import com.scalar.db.exception.transaction.TransactionException;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.Key;
+import com.scalar.dl.ledger.config.LedgerConfig;
+import com.scalar.dl.ledger.database.AssetProofComposer;
+import com.scalar.dl.ledger.database.AssetRecord;
+import com.scalar.dl.ledger.error.LedgerError;
+import com.scalar.dl.ledger.exception.DatabaseException;
+import com.scalar.dl.ledger.exception.LedgerException;
+import com.scalar.dl.ledger.model.AssetHistoryProofRetrievalResult;
+import com.scalar.dl.ledger.proof.AssetHistoryConsistencyProof;
+import com.scalar.dl.ledger.proof.AssetHistoryProof;
+import com.scalar.dl.ledger.proof.MerkleMountainRange;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index of the histories of assets, which keeps a {@link MerkleMountainRange} over the record
+ * hashes of each asset in the asset_history table, one row for each node at its position.
+ *
+ * <p>The nodes for a new record are written with the record in the same transaction by {@link
+ * ScalarTamperEvidentAssetLedger}, so the index always covers all the committed ages of an asset.
+ * An asset created before the index is enabled is not indexed until {@link #index} appends the
+ * nodes of its existing history, because its history cannot be appended to without the nodes of
+ * its older ages. The proofs of the index are signed with the proof key of the ledger and can be
+ * verified on the client side with {@link AssetHistoryProof#validateWith} and {@link
+ * AssetHistoryConsistencyProof#validateWith}.
+ */
+@ThreadSafe
+public class AssetHistoryIndex {
+  private static final Logger LOGGER = LoggerFactory.getLogger(AssetHistoryIndex.class.getName());
+  static final String TABLE = "asset_history";
+  static final String POSITION = "position";
+  static final TableMetadata TABLE_METADATA =
+      TableMetadata.newBuilder()
+          .addColumn(AssetRecord.ID, DataType.TEXT)
+          .addColumn(POSITION, DataType.BIGINT)
+          .addColumn(AssetRecord.HASH, DataType.BLOB)
+          .addPartitionKey(AssetRecord.ID)
+          .addClusteringKey(POSITION)
+          .build();
+  private final DistributedTransactionManager manager;
+  private final ScalarNamespaceResolver namespaceResolver;
+  private final AssetProofComposer proofComposer;
+  private final LedgerConfig config;
+
+  @Inject
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public AssetHistoryIndex(
+      DistributedTransactionManager manager,
+      ScalarNamespaceResolver namespaceResolver,
+      AssetProofComposer proofComposer,
+      LedgerConfig config) {
+    this.manager = manager;
+    this.namespaceResolver = namespaceResolver;
+    this.proofComposer = proofComposer;
+    this.config = config;
+  }
+
+  static Map<String, TableMetadata> getIndexTables() {
+    return ImmutableMap.of(TABLE, TABLE_METADATA);
+  }
+
+  /** A reader of the nodes in the transaction that writes the new nodes. */
+  @FunctionalInterface
+  interface Reader {
+    Optional<Result> get(Get get) throws CrudException;
+  }
+
+  @FunctionalInterface
+  private interface NodeReader {
+    Optional<byte[]> read(long position) throws CrudException;
+  }
+
+  /**
+   * Returns the puts of the nodes added to the history of the specified asset when the specified
+   * record is appended.
+   *
+   * @param namespace a resolved namespace of the asset
+   * @param assetId an ID of the asset
+   * @param age the age of the record
+   * @param recordHash the hash of the record
+   * @param reader a {@link Reader} to read the existing nodes
+   * @return the puts of the new nodes, or an empty list if the asset is not indexed
+   * @throws CrudException if reading the existing nodes fails
+   */
+  static List<Put> createPuts(
+      String namespace, String assetId, int age, byte[] recordHash, Reader reader)
+      throws CrudException {
+    List<byte[]> nodes =
+        append(age, recordHash, position -> read(reader, namespace, assetId, position));
+    List<Put> puts = new ArrayList<>(nodes.size());
+    long position = MerkleMountainRange.getLeafPosition(age);
+    for (byte[] node : nodes) {
+      puts.add(createPut(namespace, assetId, position++, node));
+    }
+    return puts;
+  }
+
+  private static List<byte[]> append(int age, byte[] recordHash, NodeReader reader)
+      throws CrudException {
+    long position = MerkleMountainRange.getLeafPosition(age);
+    if (age > 0 && !reader.read(position - 1).isPresent()) {
+      // The asset was created before the index was enabled
+      return Collections.emptyList();
+    }
+
+    List<byte[]> merged = new ArrayList<>();
+    for (long mergedPosition : MerkleMountainRange.getMergedPositions(age)) {
+      Optional<byte[]> node = reader.read(mergedPosition);
+      if (!node.isPresent()) {
+        return Collections.emptyList();
+      }
+      merged.add(node.get());
+    }
+    return MerkleMountainRange.append(recordHash, age, merged);
+  }
+
+  private static Put createPut(String namespace, String assetId, long position, byte[] node) {
+    return Put.newBuilder()
+        .namespace(namespace)
+        .table(TABLE)
+        .partitionKey(Key.ofText(AssetRecord.ID, assetId))
+        .clusteringKey(Key.ofBigInt(POSITION, position))
+        .blobValue(AssetRecord.HASH, node)
+        .build();
+  }
+
+  /**
+   * Returns a proof that the record of the specified age is included in the current history of
+   * the specified asset, and optionally a proof that the history of the specified old size is a
+   * prefix of the current history. Both proofs are created from the same history.
+   *
+   * @param namespace a namespace of the asset
+   * @param assetId an ID of the asset
+   * @param age an age of the record
+   * @param oldSize the number of records in the old history, or 0 if the consistency proof is not
+   *     needed
+   * @return an {@link AssetHistoryProofRetrievalResult}
+   * @throws LedgerException if the index is disabled or the age or the old size is not indexed
+   * @throws DatabaseException if reading the index fails
+   */
+  public AssetHistoryProofRetrievalResult getProofs(
+      String namespace, String assetId, int age, long oldSize) {
+    checkEnabled();
+    return executeInTransaction(
+        namespace,
+        LedgerError.RETRIEVING_ASSET_FAILED,
+        (transaction, resolved) -> {
+          long size = getSize(transaction, resolved, assetId);
+          AssetHistoryProof proof =
+              createProof(transaction, namespace, resolved, assetId, age, size);
+          AssetHistoryConsistencyProof consistencyProof = null;
+          if (oldSize > 0) {
+            consistencyProof =
+                createConsistencyProof(transaction, namespace, resolved, assetId, oldSize, size);
+          }
+          return new AssetHistoryProofRetrievalResult(proof, consistencyProof);
+        });
+  }
+
+  /**
+   * Appends the nodes of the records of the specified asset that are not indexed yet, i.e., the
+   * records committed before the index was enabled. The records are read and indexed page by page,
+   * each in its own transaction, until all the records are indexed. It can be called again to
+   * resume the indexing if it fails halfway.
+   *
+   * @param namespace a namespace of the asset
+   * @param assetId an ID of the asset
+   * @return the number of the indexed records
+   * @throws LedgerException if the index is disabled
+   * @throws DatabaseException if reading the records or writing the index fails
+   */
+  public long index(String namespace, String assetId) {
+    checkEnabled();
+    long size = -1;
+    while (true) {
+      long indexed =
+          executeInTransaction(
+              namespace,
+              LedgerError.INDEXING_ASSET_HISTORY_FAILED,
+              (transaction, resolved) -> indexPage(transaction, resolved, assetId));
+      if (indexed == size) {
+        return size;
+      }
+      size = indexed;
+    }
+  }
+
+  private long indexPage(DistributedTransaction transaction, String namespace, String assetId)
+      throws CrudException {
+    long size = getSize(transaction, namespace, assetId);
+    List<Result> records = scanRecords(transaction, namespace, assetId, (int) size);
+
+    // The nodes written in this page are read from the map since they are not committed yet
+    Map<Long, byte[]> written = new HashMap<>();
+    NodeReader reader =
+        position -> {
+          byte[] node = written.get(position);
+          if (node != null) {
+            return Optional.of(node);
+          }
+          return read(transaction::get, namespace, assetId, position);
+        };
+    for (Result record : records) {
+      int age = record.getInt(AssetRecord.AGE);
+      if (age != size) {
+        // The ages of a page are expected to be contiguous
+        break;
+      }
+      List<byte[]> nodes = append(age, record.getBlobAsBytes(AssetRecord.HASH), reader);
+      if (nodes.isEmpty()) {
+        break;
+      }
+      long position = MerkleMountainRange.getLeafPosition(age);
+      for (byte[] node : nodes) {
+        written.put(position, node);
+        transaction.put(createPut(namespace, assetId, position++, node));
+      }
+      size++;
+    }
+    return size;
+  }
+
+  private List<Result> scanRecords(
+      DistributedTransaction transaction, String namespace, String assetId, int startAge)
+      throws CrudException {
+    if (config.isArchiveEnabled()) {
+      // The archived records are the oldest ones, so they are read first
+      List<Result> archived =
+          transaction.scan(createRecordScan(namespace, AssetArchiver.TABLE, assetId, startAge));
+      if (!archived.isEmpty()) {
+        return archived;
+      }
+    }
+    return transaction.scan(
+        createRecordScan(namespace, ScalarTamperEvidentAssetLedger.TABLE, assetId, startAge));
+  }
+
+  private Scan createRecordScan(String namespace, String table, String assetId, int startAge) {
+    return Scan.newBuilder()
+        .namespace(namespace)
+        .table(table)
+        .partitionKey(Key.ofText(AssetRecord.ID, assetId))
+        .start(Key.ofInt(AssetRecord.AGE, startAge))
+        .projections(AssetRecord.AGE, AssetRecord.HASH)
+        .ordering(Scan.Ordering.asc(AssetRecord.AGE))
+        .limit(config.getValidationPageSize())
+        .consistency(Consistency.LINEARIZABLE)
+        .build();
+  }
+
+  private AssetHistoryProof createProof(
+      DistributedTransaction transaction,
+      String namespace,
+      String resolved,
+      String assetId,
+      int age,
+      long size)
+      throws CrudException {
+    if (age < 0 || age >= size) {
+      throw new LedgerException(LedgerError.ASSET_HISTORY_NOT_INDEXED, assetId, age + 1L);
+    }
+    byte[] recordHash = getRecordHash(transaction, resolved, assetId, age);
+    List<Long> positions = MerkleMountainRange.getPathPositions(age, size);
+    List<byte[]> path = readAll(transaction, resolved, assetId, size, positions);
+    List<byte[]> peaks = getPeaks(transaction, resolved, assetId, size);
+    return new AssetHistoryProof(
+        namespace,
+        assetId,
+        age,
+        recordHash,
+        size,
+        path,
+        peaks,
+        sign(namespace, assetId, size, peaks));
+  }
+
+  private AssetHistoryConsistencyProof createConsistencyProof(
+      DistributedTransaction transaction,
+      String namespace,
+      String resolved,
+      String assetId,
+      long oldSize,
+      long size)
+      throws CrudException {
+    if (oldSize <= 0 || oldSize > size) {
+      throw new LedgerException(LedgerError.ASSET_HISTORY_NOT_INDEXED, assetId, oldSize);
+    }
+    List<byte[]> oldPeaks = getPeaks(transaction, resolved, assetId, oldSize);
+    List<List<byte[]>> paths = new ArrayList<>(oldPeaks.size());
+    for (int i = 0; i < oldPeaks.size(); i++) {
+      List<Long> positions = MerkleMountainRange.getPathPositions(oldSize, i, size);
+      paths.add(readAll(transaction, resolved, assetId, size, positions));
+    }
+    List<byte[]> peaks = getPeaks(transaction, resolved, assetId, size);
+    return new AssetHistoryConsistencyProof(
+        namespace,
+        assetId,
+        oldSize,
+        oldPeaks,
+        size,
+        peaks,
+        paths,
+        sign(namespace, assetId, size, peaks));
+  }
+
+  private void checkEnabled() {
+    if (!config.isHistoryIndexEnabled()) {
+      throw new LedgerException(LedgerError.ASSET_HISTORY_INDEX_DISABLED);
+    }
+  }
+
+  private byte[] sign(String namespace, String assetId, long size, List<byte[]> peaks) {
+    byte[] root = MerkleMountainRange.bagPeaks(peaks);
+    byte[] signature = proofComposer.signHistory(namespace, assetId, size, root);
+    if (signature == null) {
+      // It is not expected since the index requires proof to be enabled
+      throw new LedgerException(LedgerError.ASSET_HISTORY_INDEX_DISABLED);
+    }
+    return signature;
+  }
+
+  @FunctionalInterface
+  private interface Operation<T> {
+    T execute(DistributedTransaction transaction, String resolvedNamespace) throws CrudException;
+  }
+
+  private <T> T executeInTransaction(
+      String namespace, LedgerError error, Operation<T> operation) {
+    DistributedTransaction transaction;
+    try {
+      transaction = manager.start();
+    } catch (TransactionException e) {
+      throw new DatabaseException(LedgerError.STARTING_TRANSACTION_FAILED, e, e.getMessage());
+    }
+
+    try {
+      T result = operation.execute(transaction, namespaceResolver.resolve(namespace));
+      transaction.commit();
+      return result;
+    } catch (TransactionException e) {
+      abort(transaction);
+      throw new DatabaseException(error, e, e.getMessage());
+    } catch (RuntimeException e) {
+      abort(transaction);
+      throw e;
+    }
+  }
+
+  private long getSize(DistributedTransaction transaction, String namespace, String assetId)
+      throws CrudException {
+    Scan scan =
+        Scan.newBuilder()
+            .namespace(namespace)
+            .table(TABLE)
+            .partitionKey(Key.ofText(AssetRecord.ID, assetId))
+            .projection(POSITION)
+            .ordering(Scan.Ordering.desc(POSITION))
+            .limit(1)
+            .consistency(Consistency.LINEARIZABLE)
+            .build();
+    List<Result> results = transaction.scan(scan);
+    if (results.isEmpty()) {
+      return 0;
+    }
+    return MerkleMountainRange.getLeafCount(results.get(0).getBigInt(POSITION) + 1);
+  }
+
+  private byte[] getRecordHash(
+      DistributedTransaction transaction, String namespace, String assetId, int age)
+      throws CrudException {
+    Optional<Result> record =
+        transaction.get(
+            createRecordGet(namespace, ScalarTamperEvidentAssetLedger.TABLE, assetId, age));
+    if (!record.isPresent() && config.isArchiveEnabled()) {
+      record = transaction.get(createRecordGet(namespace, AssetArchiver.TABLE, assetId, age));
+    }
+    if (!record.isPresent()) {
+      throw new LedgerException(LedgerError.ASSET_HISTORY_NOT_INDEXED, assetId, age + 1L);
+    }
+    return record.get().getBlobAsBytes(AssetRecord.HASH);
+  }
+
+  private List<byte[]> getPeaks(
+      DistributedTransaction transaction, String namespace, String assetId, long size)
+      throws CrudException {
+    List<Long> positions = MerkleMountainRange.getPeakPositions(size);
+    return readAll(transaction, namespace, assetId, size, positions);
+  }
+
+  private List<byte[]> readAll(
+      DistributedTransaction transaction,
+      String namespace,
+      String assetId,
+      long size,
+      List<Long> positions)
+      throws CrudException {
+    List<byte[]> nodes = new ArrayList<>(positions.size());
+    for (long position : positions) {
+      Optional<byte[]> node = read(transaction::get, namespace, assetId, position);
+      if (!node.isPresent()) {
+        // Not expected since the nodes of the history are written together with the records
+        throw new LedgerException(LedgerError.ASSET_HISTORY_NOT_INDEXED, assetId, size);
+      }
+      nodes.add(node.get());
+    }
+    return nodes;
+  }
+
+  private static Optional<byte[]> read(
+      Reader reader, String namespace, String assetId, long position) throws CrudException {
+    Get get =
+        Get.newBuilder()
+            .namespace(namespace)
+            .table(TABLE)
+            .partitionKey(Key.ofText(AssetRecord.ID, assetId))
+            .clusteringKey(Key.ofBigInt(POSITION, position))
+            .consistency(Consistency.LINEARIZABLE)
+            .build();
+    return reader.get(get).map(r -> r.getBlobAsBytes(AssetRecord.HASH));
+  }
+
+  private static Get createRecordGet(String namespace, String table, String assetId, int age) {
+    return Get.newBuilder()
+        .namespace(namespace)
+        .table(table)
+        .partitionKey(Key.ofText(AssetRecord.ID, assetId))
+        .clusteringKey(Key.ofInt(AssetRecord.AGE, age))
+        .projection(AssetRecord.HASH)
+        .consistency(Consistency.LINEARIZABLE)
+        .build();
+  }
+
+  private void abort(DistributedTransaction transaction) {
+    try {
+      transaction.abort();
+    } catch (AbortException e) {
+      LOGGER.warn("aborting the history index transaction failed", e);
+    }
+  }
+}
@@ -46,7 +46,8 @@ public class AssetLedgerUtility {
       AssetRecord.Builder builder = AssetRecord.newBuilder();
       builder.id(result.getValue(ID).get().getAsString().get());
       builder.age(result.getValue(AGE).get().getAsInt());
-      String argument = result.getValue(ARGUMENT).get().getAsString().get();
+      String argument =
+          AssetColumnCodec.decode(result.getValue(ARGUMENT).get().getAsString().get());
       builder.argument(argument);
       if (result.getValue(NONCE).isPresent()) {
         builder.nonce(result.getValue(NONCE).get().getAsString().get());
@@ -54,8 +55,10 @@ public class AssetLedgerUtility {
         builder.nonce(Argument.getNonce(argument));
       }
       builder.contractId(result.getValue(CONTRACT_ID).get().getAsString().get());
-      builder.input(result.getValue(AssetRecord.INPUT).get().getAsString().get());
-      builder.data(result.getValue(AssetRecord.OUTPUT).get().getAsString().get());
+      builder.input(
+          AssetColumnCodec.decode(result.getValue(AssetRecord.INPUT).get().getAsString().get()));
+      builder.data(
+          AssetColumnCodec.decode(result.getValue(AssetRecord.OUTPUT).get().getAsString().get()));
       builder.signature(result.getValue(SIGNATURE).get().getAsBytes().get());
       builder.prevHash(result.getValue(PREV_HASH).get().getAsBytes().orElse(null));
       builder.hash(result.getValue(HASH).get().getAsBytes().get());
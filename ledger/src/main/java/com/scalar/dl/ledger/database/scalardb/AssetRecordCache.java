@@ -0,0 +1,51 @@
+package com.scalar.dl.ledger.database.scalardb;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.scalar.dl.ledger.database.AssetRecord;
+import com.scalar.dl.ledger.statemachine.AssetKey;
+import java.util.Collection;
+import java.util.Optional;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded cache of the latest {@link AssetRecord} of each asset.
+ *
+ * <p>An asset record is immutable once it is committed, so a cached record can be used as long as
+ * its age is the latest one. The latest age is always read from the asset_metadata table in the
+ * transaction, and a cached record is returned only if its age matches it, which keeps the cache
+ * consistent with the records written by the other ledger nodes. Only records that have been read
+ * from the database are cached, and the entries of written assets are invalidated on commit.
+ */
+@ThreadSafe
+class AssetRecordCache {
+  private final Cache<AssetKey, AssetRecord> cache;
+
+  AssetRecordCache(long maxSize) {
+    this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+  }
+
+  /**
+   * Returns the cached record of the specified asset if it is at the specified age.
+   *
+   * @param key an {@link AssetKey}
+   * @param age the latest age of the asset
+   * @return an {@code Optional} with the cached record
+   */
+  Optional<AssetRecord> get(AssetKey key, int age) {
+    AssetRecord record = cache.getIfPresent(key);
+    if (record == null || record.age() != age) {
+      return Optional.empty();
+    }
+    return Optional.of(record);
+  }
+
+  void put(AssetKey key, AssetRecord record) {
+    // Do not overwrite a newer record with an older one read by a concurrent transaction
+    cache.asMap().merge(key, record, (old, given) -> given.age() >= old.age() ? given : old);
+  }
+
+  void invalidate(Collection<AssetKey> keys) {
+    cache.invalidateAll(keys);
+  }
+}
@@ -1,11 +1,12 @@
 package com.scalar.dl.ledger.database.scalardb;
 
-import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
 import com.scalar.db.api.Put;
+import com.scalar.db.io.BlobValue;
 import com.scalar.db.io.Key;
-import com.scalar.dl.ledger.asset.AssetHasher;
+import com.scalar.db.io.TextValue;
+import com.scalar.dl.ledger.asset.AssetRecordEncoder;
 import com.scalar.dl.ledger.contract.ContractEntry;
 import com.scalar.dl.ledger.crypto.CertificateEntry;
 import com.scalar.dl.ledger.database.Snapshot;
@@ -19,10 +20,17 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 public class DefaultTamperEvidentAssetComposer implements TamperEvidentAssetComposer {
   private final ScalarNamespaceResolver namespaceResolver;
+  private final AssetColumnCodec codec;
 
-  @Inject
   public DefaultTamperEvidentAssetComposer(ScalarNamespaceResolver namespaceResolver) {
+    this(namespaceResolver, AssetColumnCodec.uncompressed());
+  }
+
+  @Inject
+  public DefaultTamperEvidentAssetComposer(
+      ScalarNamespaceResolver namespaceResolver, AssetColumnCodec codec) {
     this.namespaceResolver = namespaceResolver;
+    this.codec = codec;
   }
 
   @Override
@@ -30,70 +38,52 @@ public class DefaultTamperEvidentAssetComposer implements TamperEvidentAssetComp
     ImmutableMap.Builder<AssetKey, Put> builder = ImmutableMap.builder();
     Map<AssetKey, InternalAsset> readSet = snapshot.getReadSet();
     Map<AssetKey, InternalAsset> writeSet = snapshot.getWriteSet();
+    if (writeSet.isEmpty()) {
+      return builder.build();
+    }
+
+    // The input, the contract and the argument are the same for all the assets written by the
+    // request, so they are serialized and encoded once. The hashes are computed over the values
+    // before they are compressed.
+    ContractEntry.Key contractKey =
+        new ContractEntry.Key(
+            request.getContractId(),
+            new CertificateEntry.Key(request.getEntityId(), request.getKeyVersion()));
+    AssetRecordEncoder encoder =
+        new AssetRecordEncoder(
+            new AssetInput(readSet).toString(),
+            contractKey.serialize(),
+            request.getContractArgument(),
+            request.getSignature());
+    TextValue inputValue = AssetAttribute.toInputValue(codec.encode(encoder.getInput()));
+    TextValue contractIdValue = AssetAttribute.toContactIdValue(encoder.getContractId());
+    TextValue argumentValue = AssetAttribute.toArgumentValue(codec.encode(encoder.getArgument()));
+    BlobValue signatureValue = AssetAttribute.toSignatureValue(request.getSignature());
 
     writeSet.forEach(
         (key, uncommitted) -> {
           InternalAsset committed = readSet.get(key);
           int age = uncommitted.age();
-
-          String input = new AssetInput(readSet).toString();
           String output = uncommitted.data();
-          String argument = request.getContractArgument();
-          byte[] signature = request.getSignature();
           byte[] prevHash = committed == null ? null : committed.hash();
-          ContractEntry.Key contractKey =
-              new ContractEntry.Key(
-                  request.getContractId(),
-                  new CertificateEntry.Key(request.getEntityId(), request.getKeyVersion()));
 
           Put put =
               new Put(
                       new Key(AssetAttribute.toIdValue(key.assetId())),
                       new Key(AssetAttribute.toAgeValue(age)))
-                  .withValue(AssetAttribute.toInputValue(input))
-                  .withValue(AssetAttribute.toOutputValue(output))
-                  .withValue(AssetAttribute.toContactIdValue(contractKey.serialize()))
-                  .withValue(AssetAttribute.toArgumentValue(argument))
-                  .withValue(AssetAttribute.toSignatureValue(signature))
+                  .withValue(inputValue)
+                  .withValue(AssetAttribute.toOutputValue(codec.encode(output)))
+                  .withValue(contractIdValue)
+                  .withValue(argumentValue)
+                  .withValue(signatureValue)
                   .withValue(AssetAttribute.toPrevHashValue(prevHash))
                   .withValue(
                       AssetAttribute.toHashValue(
-                          hashWith(
-                              key.assetId(),
-                              age,
-                              input,
-                              output,
-                              contractKey.serialize(),
-                              argument,
-                              signature,
-                              prevHash)))
+                          encoder.hash(key.assetId(), age, output, prevHash)))
                   .forNamespace(namespaceResolver.resolve(key.namespace()))
                   .forTable(ScalarTamperEvidentAssetLedger.TABLE);
           builder.put(key, put);
         });
     return builder.build();
   }
-
-  @VisibleForTesting
-  byte[] hashWith(
-      String id,
-      int age,
-      String input,
-      String output,
-      String contractId,
-      String argument,
-      byte[] signature,
-      byte[] prevHash) {
-    return new AssetHasher.Builder()
-        .id(id)
-        .age(age)
-        .input(input)
-        .output(output)
-        .contractId(contractId)
-        .argument(argument)
-        .signature(signature)
-        .prevHash(prevHash)
-        .build()
-        .get();
-  }
 }
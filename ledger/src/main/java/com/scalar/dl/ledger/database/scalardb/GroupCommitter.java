@@ -0,0 +1,443 @@
+package com.scalar.dl.ledger.database.scalardb;
+
+import com.google.common.collect.ImmutableMap;
+import com.scalar.db.api.Consistency;
+import com.scalar.db.api.DistributedTransaction;
+import com.scalar.db.api.DistributedTransactionManager;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.api.TransactionState;
+import com.scalar.db.exception.transaction.AbortException;
+import com.scalar.db.exception.transaction.CrudConflictException;
+import com.scalar.db.exception.transaction.CrudException;
+import com.scalar.db.exception.transaction.TransactionException;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.Key;
+import com.scalar.dl.ledger.error.LedgerError;
+import com.scalar.dl.ledger.exception.ConflictException;
+import com.scalar.dl.ledger.statemachine.AssetKey;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Commits the asset records of concurrent contract executions together in one ScalarDB transaction
+ * so that they share the storage round trips of the commit.
+ *
+ * <p>Each execution joins the current {@link Group} and runs its reads on the transaction of the
+ * group. When it commits, its puts are added to the group only if the assets it read and wrote do
+ * not overlap with the ones written by the other members, and with the ones read by the other
+ * members for its writes; otherwise it fails with a {@link ConflictException} so that the client
+ * can retry it. The group stops accepting new members when it becomes full, when its window has
+ * elapsed, or when all of its members have committed or aborted, and the last member to finish
+ * commits the transaction on behalf of the group. If a member has not finished within the timeout
+ * while another member is waiting for it, the group transaction is aborted and all the members fail
+ * with a {@link ConflictException}.
+ *
+ * <p>The group transaction is not identified by the nonce of each request, so this cannot be used
+ * with Auditor. Instead, the nonce of each member is checked against the nonce table and the
+ * Coordinator states when it joins, and it is put to the nonce table in the group transaction, so
+ * that a replayed request is rejected as it was when the nonce was used as the transaction ID.
+ */
+@ThreadSafe
+class GroupCommitter {
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitter.class.getName());
+  static final String NONCE_TABLE = "group_commit_nonce";
+  static final String NONCE = "nonce";
+  static final String TRANSACTION_ID = "transaction_id";
+  static final String CREATED_AT = "created_at";
+  static final TableMetadata NONCE_TABLE_METADATA =
+      TableMetadata.newBuilder()
+          .addColumn(NONCE, DataType.TEXT)
+          .addColumn(TRANSACTION_ID, DataType.TEXT)
+          .addColumn(CREATED_AT, DataType.BIGINT)
+          .addPartitionKey(NONCE)
+          .build();
+  private final DistributedTransactionManager manager;
+  private final String namespace;
+  private final int maxSize;
+  private final long windowNanos;
+  private final long timeoutMillis;
+  private final ReentrantLock lock = new ReentrantLock();
+  @Nullable private Group current; // guarded by lock
+
+  /**
+   * Constructs a {@code GroupCommitter}.
+   *
+   * @param manager a {@link DistributedTransactionManager}
+   * @param namespace a physical namespace where the nonce table is
+   * @param maxSize the maximum number of members in a group
+   * @param windowMillis the time in milliseconds during which a group accepts new members
+   * @param timeoutMillis the maximum time in milliseconds that a member waits for the others
+   */
+  GroupCommitter(
+      DistributedTransactionManager manager,
+      String namespace,
+      int maxSize,
+      long windowMillis,
+      long timeoutMillis) {
+    this.manager = manager;
+    this.namespace = namespace;
+    this.maxSize = maxSize;
+    this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  static Map<String, TableMetadata> getNonceTables() {
+    return ImmutableMap.of(NONCE_TABLE, NONCE_TABLE_METADATA);
+  }
+
+  /**
+   * Joins the current group, or starts a new group if the current one no longer accepts members,
+   * after checking that the specified nonce has not been used.
+   *
+   * @param nonce the nonce of the request
+   * @return a {@link Member} of the group
+   * @throws ConflictException if the nonce has already been used
+   * @throws TransactionException if starting the transaction of a new group or checking the nonce
+   *     fails
+   */
+  Member join(String nonce) throws TransactionException {
+    Member member = register(nonce);
+    try {
+      if (isUsed(member, nonce)) {
+        throw new ConflictException(LedgerError.GROUP_COMMIT_NONCE_ALREADY_USED, nonce);
+      }
+    } catch (TransactionException | RuntimeException e) {
+      member.leave();
+      throw e;
+    }
+    return member;
+  }
+
+  private Member register(String nonce) throws TransactionException {
+    lock.lock();
+    try {
+      if (current != null) {
+        Member member = current.register(nonce);
+        if (member != null) {
+          return member;
+        }
+      }
+      current = new Group(manager.start(), System.nanoTime() + windowNanos);
+      Member member = current.register(nonce);
+      assert member != null;
+      return member;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean isUsed(Member member, String nonce) throws TransactionException {
+    // The nonce was used as the transaction ID before group commit was enabled
+    TransactionState state = manager.getState(nonce);
+    if (state == TransactionState.COMMITTED || state == TransactionState.ABORTED) {
+      return true;
+    }
+    // Reading the nonce in the group transaction also makes it conflict with another group that
+    // puts the same nonce concurrently
+    Get get =
+        Get.newBuilder()
+            .namespace(namespace)
+            .table(NONCE_TABLE)
+            .partitionKey(Key.ofText(NONCE, nonce))
+            .consistency(Consistency.LINEARIZABLE)
+            .build();
+    return member.crud(() -> member.getTransaction().get(get)).isPresent();
+  }
+
+  private Put createNoncePut(String nonce, String transactionId) {
+    return Put.newBuilder()
+        .namespace(namespace)
+        .table(NONCE_TABLE)
+        .partitionKey(Key.ofText(NONCE, nonce))
+        .textValue(TRANSACTION_ID, transactionId)
+        .bigIntValue(CREATED_AT, System.currentTimeMillis())
+        .build();
+  }
+
+  final class Group {
+    private final DistributedTransaction transaction;
+    private final long deadlineNanos;
+    // Serializes the operations on the transaction since it is shared by the members
+    private final ReentrantLock transactionLock = new ReentrantLock();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition finished = lock.newCondition();
+    // The fields below are guarded by lock
+    private final Set<AssetKey> readKeys = new HashSet<>();
+    private final Set<AssetKey> writeKeys = new HashSet<>();
+    private final Set<String> nonces = new HashSet<>();
+    private final List<Put> puts = new ArrayList<>();
+    private int registered;
+    private int arrived;
+    private int committing;
+    private boolean closed;
+    private boolean flushing;
+    private boolean aborted;
+    private boolean done;
+    @Nullable private TransactionException failure;
+
+    private Group(DistributedTransaction transaction, long deadlineNanos) {
+      this.transaction = transaction;
+      this.deadlineNanos = deadlineNanos;
+    }
+
+    @Nullable
+    private Member register(String nonce) {
+      lock.lock();
+      try {
+        if (!closed && (registered >= maxSize || System.nanoTime() - deadlineNanos >= 0)) {
+          closed = true;
+        }
+        if (closed) {
+          return null;
+        }
+        if (!nonces.add(nonce)) {
+          throw new ConflictException(LedgerError.GROUP_COMMIT_NONCE_ALREADY_USED, nonce);
+        }
+        registered++;
+        return new Member(this, nonce);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private <T> T crud(Privileged.TransactionCrud<T> operation) throws CrudException {
+      transactionLock.lock();
+      try {
+        if (isAborted()) {
+          throw new CrudConflictException(
+              LedgerError.GROUP_COMMIT_ABORTED_DUE_TO_TIMEOUT.buildMessage(timeoutMillis),
+              transaction.getId());
+        }
+        return Privileged.transactionCrud(operation);
+      } finally {
+        transactionLock.unlock();
+      }
+    }
+
+    private void commit(
+        String nonce,
+        Collection<Put> memberPuts,
+        Set<AssetKey> memberReadKeys,
+        Set<AssetKey> memberWriteKeys)
+        throws TransactionException {
+      boolean accepted;
+      lock.lock();
+      try {
+        accepted =
+            !aborted
+                && Collections.disjoint(memberWriteKeys, readKeys)
+                && Collections.disjoint(memberWriteKeys, writeKeys)
+                && Collections.disjoint(memberReadKeys, writeKeys);
+        if (accepted) {
+          readKeys.addAll(memberReadKeys);
+          writeKeys.addAll(memberWriteKeys);
+          puts.addAll(memberPuts);
+          puts.add(createNoncePut(nonce, transaction.getId()));
+          committing++;
+        }
+      } finally {
+        lock.unlock();
+      }
+
+      if (!accepted) {
+        arrive();
+        throwIfAborted();
+        throw new ConflictException(
+            LedgerError.GROUP_COMMIT_FAILED_DUE_TO_CONFLICT, Collections.emptyMap());
+      }
+
+      if (!arrive()) {
+        awaitFinished();
+      }
+      throwIfAborted();
+      if (failure != null) {
+        throw failure;
+      }
+    }
+
+    private boolean isAborted() {
+      lock.lock();
+      try {
+        return aborted;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void throwIfAborted() {
+      if (isAborted()) {
+        throw new ConflictException(LedgerError.GROUP_COMMIT_ABORTED_DUE_TO_TIMEOUT, timeoutMillis);
+      }
+    }
+
+    /**
+     * Marks a member as arrived and commits the group if it is the last one.
+     *
+     * @return true if the group has been finished by this call
+     */
+    private boolean arrive() {
+      lock.lock();
+      try {
+        arrived++;
+        if (arrived < registered || aborted) {
+          return false;
+        }
+        closed = true;
+        flushing = true;
+      } finally {
+        lock.unlock();
+      }
+
+      // All the members have arrived and no member can join anymore, so the transaction is
+      // accessed only by this thread from here.
+      TransactionException exception = flush();
+
+      lock.lock();
+      try {
+        failure = exception;
+        done = true;
+        finished.signalAll();
+      } finally {
+        lock.unlock();
+      }
+      return true;
+    }
+
+    @Nullable
+    private TransactionException flush() {
+      if (committing == 0) {
+        try {
+          transaction.abort();
+        } catch (AbortException e) {
+          LOGGER.warn("can't abort the group transaction: " + transaction.getId(), e);
+        }
+        return null;
+      }
+
+      try {
+        if (!puts.isEmpty()) {
+          transaction.put(puts);
+        }
+        transaction.commit();
+        return null;
+      } catch (TransactionException e) {
+        return e;
+      }
+    }
+
+    private void awaitFinished() {
+      boolean timedOut = false;
+      boolean interrupted = false;
+      lock.lock();
+      try {
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (!done) {
+          if (remainingNanos <= 0) {
+            if (flushing) {
+              // All the members have arrived, and the commit is bounded by the storage timeouts
+              finished.awaitUninterruptibly();
+              continue;
+            }
+            LOGGER.warn(
+                "aborting the group transaction "
+                    + transaction.getId()
+                    + " since "
+                    + (registered - arrived)
+                    + " members did not finish in time");
+            closed = true;
+            aborted = true;
+            done = true;
+            finished.signalAll();
+            timedOut = true;
+            break;
+          }
+          try {
+            remainingNanos = finished.awaitNanos(remainingNanos);
+          } catch (InterruptedException e) {
+            interrupted = true;
+            remainingNanos = 0;
+          }
+        }
+      } finally {
+        lock.unlock();
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+
+      if (timedOut) {
+        transactionLock.lock();
+        try {
+          transaction.abort();
+        } catch (AbortException e) {
+          LOGGER.warn("can't abort the group transaction: " + transaction.getId(), e);
+        } finally {
+          transactionLock.unlock();
+        }
+      }
+    }
+  }
+
+  /**
+   * A contract execution that belongs to a {@link Group}. A member is used by one execution at a
+   * time, and it must finish with either {@link #commit} or {@link #leave}.
+   */
+  final class Member {
+    private final Group group;
+    private final String nonce;
+    private boolean arrived;
+
+    private Member(Group group, String nonce) {
+      this.group = group;
+      this.nonce = nonce;
+    }
+
+    DistributedTransaction getTransaction() {
+      return group.transaction;
+    }
+
+    <T> T crud(Privileged.TransactionCrud<T> operation) throws CrudException {
+      return group.crud(operation);
+    }
+
+    /**
+     * Adds the specified puts and the nonce of the member to the group and waits until the group
+     * is committed.
+     *
+     * @param puts the puts of the asset records and their metadata
+     * @param readKeys the keys of the assets read by the execution
+     * @param writeKeys the keys of the assets written by the execution
+     * @throws ConflictException if the assets overlap with the ones of the other members, or if the
+     *     group is aborted because some member did not finish in time
+     * @throws TransactionException if putting or committing the group transaction fails
+     */
+    void commit(Collection<Put> puts, Set<AssetKey> readKeys, Set<AssetKey> writeKeys)
+        throws TransactionException {
+      arrived = true;
+      group.commit(nonce, puts, readKeys, writeKeys);
+    }
+
+    /** Leaves the group without adding anything to it. */
+    void leave() {
+      if (arrived) {
+        return;
+      }
+      arrived = true;
+      group.arrive();
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package com.scalar.dl.ledger.database.scalardb;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.scalar.dl.ledger.database.AssetFilter;
+import com.scalar.dl.ledger.database.AssetScanner;
+import com.scalar.dl.ledger.database.Transaction;
+import com.scalar.dl.ledger.database.TransactionManager;
+import com.scalar.dl.ledger.error.LedgerError;
+import com.scalar.dl.ledger.exception.DatabaseException;
+import com.scalar.dl.ledger.exception.LedgerException;
+import com.scalar.dl.ledger.statemachine.AssetInput;
+import com.scalar.dl.ledger.statemachine.AssetInput.AssetInputEntry;
+import com.scalar.dl.ledger.statemachine.InternalAsset;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An {@link AssetScanner} that retrieves the input dependencies of asset records in batches.
+ *
+ * <p>{@link #prefetch(String, List)} retrieves all the assets of the given {@link AssetInput}s in
+ * one transaction instead of a transaction for each of them. The retrieved assets are kept in a
+ * bounded cache, from which the least recently used ones are evicted, and are returned by {@link
+ * #doGet(String, String, int)} without accessing the database. An asset of a specific age never
+ * changes once it is committed, so a cached asset can also be used for the later validations of the
+ * other assets that depend on it. Scans with arbitrary filters are not cached and are done in their
+ * own transactions as in {@link TransactionAssetScanner}.
+ */
+@ThreadSafe
+public class PrefetchingAssetScanner implements AssetScanner {
+  private final TransactionManager manager;
+  private final TransactionAssetScanner scanner;
+  private final Cache<Key, InternalAsset> cache;
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public PrefetchingAssetScanner(TransactionManager manager, long maxSize) {
+    this.manager = manager;
+    this.scanner = new TransactionAssetScanner(manager);
+    this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+  }
+
+  @Nonnull
+  @Override
+  public List<InternalAsset> doScan(AssetFilter filter) {
+    return scanner.doScan(filter);
+  }
+
+  @Nullable
+  @Override
+  public InternalAsset doGet(String namespace, String assetId, int age) {
+    Key key = new Key(namespace, assetId, age);
+    InternalAsset asset = cache.getIfPresent(key);
+    if (asset != null) {
+      return asset;
+    }
+    asset = AssetScanner.super.doGet(namespace, assetId, age);
+    if (asset != null) {
+      cache.put(key, asset);
+    }
+    return asset;
+  }
+
+  @Override
+  public void prefetch(String namespace, List<AssetInput> inputs) {
+    Set<Key> keys = new LinkedHashSet<>();
+    for (AssetInput input : inputs) {
+      for (AssetInputEntry entry : input) {
+        String inputNamespace = entry.namespace() == null ? namespace : entry.namespace();
+        Key key = new Key(inputNamespace, entry.id(), entry.age());
+        if (cache.getIfPresent(key) == null) {
+          keys.add(key);
+        }
+      }
+    }
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    Map<Key, InternalAsset> fetched = new HashMap<>();
+    Transaction transaction = manager.startWith();
+    try {
+      for (Key key : keys) {
+        List<InternalAsset> assets = transaction.getLedger().scan(key.toFilter());
+        if (!assets.isEmpty()) {
+          fetched.put(key, assets.get(0));
+        }
+      }
+      transaction.commit();
+    } catch (LedgerException e) {
+      // e.g., a ValidationException for a tampered record or a ConflictException
+      transaction.abort();
+      throw e;
+    } catch (Exception e) {
+      transaction.abort();
+      throw new DatabaseException(LedgerError.RETRIEVING_ASSET_FAILED, e, e.getMessage());
+    }
+    // The assets that are not found are left to doGet so that they are reported there
+    cache.putAll(fetched);
+  }
+
+  @Immutable
+  private static class Key {
+    private final String namespace;
+    private final String id;
+    private final int age;
+
+    private Key(String namespace, String id, int age) {
+      this.namespace = namespace;
+      this.id = id;
+      this.age = age;
+    }
+
+    private AssetFilter toFilter() {
+      return new AssetFilter(namespace, id).withStartAge(age, true).withEndAge(age, true);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(namespace, id, age);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == this) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key another = (Key) o;
+      return namespace.equals(another.namespace) && id.equals(another.id) && age == another.age;
+    }
+  }
+}
@@ -28,13 +28,13 @@ import java.security.PrivilegedExceptionAction;
  * <p>Every ScalarDB call that is synchronously reachable from {@code Contract.invoke()} or {@code
  * Function.invoke()} must go through here. That includes the obvious direct reads and writes on the
  * ledger, and also the less obvious reads that fire on cache miss during nested contract invocation
- * (looking up the callee contract, its signing certificate, or its HMAC secret) and the read that
- * fires on every function invocation (since {@code FunctionManager} has no cache). Framework paths
- * where no contract or function is on the stack (registration, execution-path commit/abort,
- * recovery, background workers) do not need wrapping. The one exception is the commit in {@code
- * TransactionAssetScanner}, which the validation path runs from within {@code contract.invoke()}:
- * it is left unwrapped because it immediately follows a privileged scan on the same connection
- * pool.
+ * (looking up the callee contract, its signing certificate, or its HMAC secret) and the reads that
+ * fire on function invocation (on cache miss or revalidation in {@code FunctionManager}).
+ * Framework paths where no contract or function is on the stack (registration, execution-path
+ * commit/abort, recovery, background workers) do not need wrapping. The one exception is the commit
+ * in {@code TransactionAssetScanner}, which the validation path runs from within {@code
+ * contract.invoke()}: it is left unwrapped because it immediately follows a privileged scan on the
+ * same connection pool.
  */
 public final class Privileged {
   private Privileged() {}
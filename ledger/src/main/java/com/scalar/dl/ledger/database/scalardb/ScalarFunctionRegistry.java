@@ -96,15 +96,33 @@ public class ScalarFunctionRegistry implements FunctionRegistry, TableMetadataPr
             .forTable(FUNCTION_TABLE);
 
     try {
-      // Reached on every function invocation during contract execution (FunctionManager has no
-      // cache), so this read runs in the contract's restricted ProtectionDomain; see the Privileged
-      // class for details.
+      // Reached on a cache miss of FunctionManager during contract execution, so this read runs in
+      // the contract's restricted ProtectionDomain; see the Privileged class for details.
       return Privileged.storageCrud(() -> storage.get(get)).map(this::toFunctionEntry);
     } catch (ExecutionException e) {
       throw new DatabaseException(LedgerError.GETTING_FUNCTION_FAILED, e, e.getMessage());
     }
   }
 
+  @Override
+  public Optional<Long> lookupVersion(String namespace, String id) {
+    String resolvedNamespace = namespaceResolver.resolve(namespace);
+    Get get =
+        new Get(new Key(FunctionEntry.ID, id))
+            .withProjection(FunctionEntry.REGISTERED_AT)
+            .withConsistency(Consistency.SEQUENTIAL)
+            .forNamespace(resolvedNamespace)
+            .forTable(FUNCTION_TABLE);
+
+    try {
+      // Reached on the revalidation of a cached function during contract execution, so this read
+      // runs in the contract's restricted ProtectionDomain as well.
+      return Privileged.storageCrud(() -> storage.get(get)).map(this::getRegisteredAtFrom);
+    } catch (ExecutionException e) {
+      throw new DatabaseException(LedgerError.GETTING_FUNCTION_FAILED, e, e.getMessage());
+    }
+  }
+
   private String getIdFrom(Result result) {
     return result.getValue(FunctionEntry.ID).get().getAsString().get();
   }
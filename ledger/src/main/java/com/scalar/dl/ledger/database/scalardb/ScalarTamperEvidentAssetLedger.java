@@ -16,6 +16,7 @@ import com.scalar.db.exception.transaction.CommitConflictException;
 import com.scalar.db.exception.transaction.CommitException;
 import com.scalar.db.exception.transaction.CrudConflictException;
 import com.scalar.db.exception.transaction.CrudException;
+import com.scalar.db.exception.transaction.TransactionException;
 import com.scalar.db.io.DataType;
 import com.scalar.db.io.IntValue;
 import com.scalar.db.io.Key;
@@ -37,6 +38,8 @@ import com.scalar.dl.ledger.exception.ValidationException;
 import com.scalar.dl.ledger.model.ContractExecutionRequest;
 import com.scalar.dl.ledger.namespace.Namespaces;
 import com.scalar.dl.ledger.proof.AssetProof;
+import com.scalar.dl.ledger.server.PhaseStats;
+import com.scalar.dl.ledger.server.Stats.TimerContext;
 import com.scalar.dl.ledger.statemachine.AssetKey;
 import com.scalar.dl.ledger.statemachine.Context;
 import com.scalar.dl.ledger.statemachine.InternalAsset;
@@ -44,10 +47,12 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -60,11 +65,19 @@ import javax.annotation.concurrent.ThreadSafe;
  * Privileged} for details. Writes are buffered on the snapshot and flushed by {@link #commit()},
  * which does not need a privileged block; see {@link Privileged} for the one path that commits from
  * within a contract.
+ *
+ * <p>When it is created with a {@link GroupCommitter.Member}, it shares the transaction with the
+ * other members of the group, and {@link #commit()} hands its puts over to the group instead of
+ * committing the transaction by itself.
  */
 @ThreadSafe
 public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger {
   static final String TABLE = "asset";
-  private static final TableMetadata TABLE_METADATA =
+  static final String ASSET_READ = "asset_read";
+  static final String ASSET_COMPOSITION = "asset_composition";
+  static final String DATABASE_COMMIT = "database_commit";
+  static final String PROOF_SIGNING = "proof_signing";
+  static final TableMetadata TABLE_METADATA =
       TableMetadata.newBuilder()
           .addColumn(AssetRecord.ID, DataType.TEXT)
           .addColumn(AssetRecord.AGE, DataType.INT)
@@ -94,6 +107,9 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
   private final ScalarNamespaceResolver namespaceResolver;
   private final LedgerConfig config;
   private final Context context;
+  @Nullable private final GroupCommitter.Member member;
+  @Nullable private final AssetRecordCache recordCache;
+  private final PhaseStats phaseStats;
 
   @SuppressFBWarnings("EI_EXPOSE_REP2")
   public ScalarTamperEvidentAssetLedger(
@@ -106,6 +122,62 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
       TransactionStateManager stateManager,
       ScalarNamespaceResolver namespaceResolver,
       LedgerConfig config) {
+    this(
+        transaction,
+        metadata,
+        snapshot,
+        request,
+        assetComposer,
+        proofComposer,
+        stateManager,
+        namespaceResolver,
+        config,
+        null,
+        null);
+  }
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  ScalarTamperEvidentAssetLedger(
+      DistributedTransaction transaction,
+      Metadata metadata,
+      Snapshot snapshot,
+      @Nullable ContractExecutionRequest request,
+      TamperEvidentAssetComposer assetComposer,
+      AssetProofComposer proofComposer,
+      TransactionStateManager stateManager,
+      ScalarNamespaceResolver namespaceResolver,
+      LedgerConfig config,
+      @Nullable GroupCommitter.Member member,
+      @Nullable AssetRecordCache recordCache) {
+    this(
+        transaction,
+        metadata,
+        snapshot,
+        request,
+        assetComposer,
+        proofComposer,
+        stateManager,
+        namespaceResolver,
+        config,
+        member,
+        recordCache,
+        PhaseStats.disabled());
+  }
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  ScalarTamperEvidentAssetLedger(
+      DistributedTransaction transaction,
+      Metadata metadata,
+      Snapshot snapshot,
+      @Nullable ContractExecutionRequest request,
+      TamperEvidentAssetComposer assetComposer,
+      AssetProofComposer proofComposer,
+      TransactionStateManager stateManager,
+      ScalarNamespaceResolver namespaceResolver,
+      LedgerConfig config,
+      @Nullable GroupCommitter.Member member,
+      @Nullable AssetRecordCache recordCache,
+      PhaseStats phaseStats) {
     this.transaction = transaction;
     this.metadata = metadata;
     this.snapshot = snapshot;
@@ -115,6 +187,9 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
     this.stateManager = stateManager;
     this.namespaceResolver = namespaceResolver;
     this.config = config;
+    this.member = member;
+    this.recordCache = recordCache;
+    this.phaseStats = phaseStats;
     // When initialized without a ContractExecutionRequest (request is null), it means
     // the ledger is used for retrieving assets independent of context (e.g., validation),
     // so the default namespace is used.
@@ -140,12 +215,12 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
       return recordInSnapshot;
     }
 
-    Optional<Result> result;
-    try {
+    Optional<AssetRecord> record;
+    try (TimerContext unused = measure(ASSET_READ)) {
       if (config.isDirectAssetAccessEnabled()) {
-        result = getLatestWithScan(namespace, assetId);
+        record = getLatestWithScan(namespace, assetId).map(AssetLedgerUtility::getAssetRecordFrom);
       } else {
-        result = getLatestWithTwoLookups(namespace, assetId);
+        record = getLatestWithTwoLookups(namespace, assetId);
       }
     } catch (IllegalArgumentException e) {
       if (e.getMessage() != null
@@ -156,14 +231,13 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
       }
     }
 
-    if (!result.isPresent()) {
+    if (!record.isPresent()) {
       return Optional.empty();
     }
 
-    AssetRecord record = AssetLedgerUtility.getAssetRecordFrom(result.get());
-    snapshot.put(key, record);
+    snapshot.put(key, record.get());
 
-    return Optional.of(record);
+    return Optional.of(record.get());
   }
 
   @Override
@@ -176,13 +250,13 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
             .forTable(TABLE);
 
     List<InternalAsset> records = new ArrayList<>();
-    try {
-      scan(scan)
-          .forEach(
-              r -> {
-                AssetRecord record = AssetLedgerUtility.getAssetRecordFrom(r);
-                records.add(record);
-              });
+    try (TimerContext unused = measure(ASSET_READ)) {
+      List<Result> results = config.isArchiveEnabled() ? scanWithArchive(filter, scan) : scan(scan);
+      results.forEach(
+          r -> {
+            AssetRecord record = AssetLedgerUtility.getAssetRecordFrom(r);
+            records.add(record);
+          });
     } catch (IllegalArgumentException e) {
       if (e.getMessage() != null
           && e.getMessage().startsWith(CoreError.TABLE_NOT_FOUND.buildCode())) {
@@ -215,23 +289,45 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
   @Override
   public List<AssetProof> commit() {
     ImmutableMap<AssetKey, Put> puts = ImmutableMap.of();
+    List<Put> historyPuts = Collections.emptyList();
+
+    if (recordCache != null && snapshot.hasWriteSet()) {
+      // Cached records are validated by age anyway, but drop the ones that are being replaced
+      recordCache.invalidate(snapshot.getWriteSet().keySet());
+    }
 
     try {
       if (snapshot.hasWriteSet()) {
-        puts = ImmutableMap.copyOf(assetComposer.compose(snapshot, request));
-
-        transaction.put(new ArrayList<>(puts.values()));
-
-        if (!config.isDirectAssetAccessEnabled()) {
-          metadata.put(snapshot.getWriteSet());
+        try (TimerContext unused = measure(ASSET_COMPOSITION)) {
+          puts = ImmutableMap.copyOf(assetComposer.compose(snapshot, request));
+          if (config.isHistoryIndexEnabled()) {
+            historyPuts = createHistoryPuts(puts);
+          }
         }
       }
 
-      if (config.isTxStateManagementEnabled()) {
-        stateManager.putCommit(transaction, transaction.getId());
-      }
+      try (TimerContext unused = measure(DATABASE_COMMIT)) {
+        if (member != null) {
+          commitInGroup(puts, historyPuts);
+        } else {
+          if (snapshot.hasWriteSet()) {
+            transaction.put(new ArrayList<>(puts.values()));
+            if (!historyPuts.isEmpty()) {
+              transaction.put(historyPuts);
+            }
+
+            if (!config.isDirectAssetAccessEnabled()) {
+              metadata.put(snapshot.getWriteSet());
+            }
+          }
+
+          if (config.isTxStateManagementEnabled()) {
+            stateManager.putCommit(transaction, transaction.getId());
+          }
 
-      transaction.commit();
+          transaction.commit();
+        }
+      }
     } catch (CrudConflictException e) {
       throw new ConflictException(
           LedgerError.PUTTING_ASSET_FAILED_DUE_TO_CONFLICT,
@@ -251,16 +347,25 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
       }
     } catch (CrudException | CommitException e) {
       throw new DatabaseException(LedgerError.PUTTING_OR_COMMITTING_FAILED, e, e.getMessage());
+    } catch (TransactionException e) {
+      throw new DatabaseException(LedgerError.PUTTING_OR_COMMITTING_FAILED, e, e.getMessage());
     }
 
     if (config.isProofEnabled() && request != null) {
-      return createProofs(puts, snapshot.getReadSet(), request.getNonce());
+      try (TimerContext unused = measure(PROOF_SIGNING)) {
+        return createProofs(puts, snapshot.getReadSet(), request.getNonce());
+      }
     }
     return Collections.emptyList();
   }
 
   @Override
   public void abort() {
+    if (member != null) {
+      // The group transaction is committed or aborted by the group
+      member.leave();
+      return;
+    }
     try {
       transaction.abort();
     } catch (AbortException e) {
@@ -271,27 +376,70 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
     }
   }
 
+  private void commitInGroup(Map<AssetKey, Put> puts, List<Put> historyPuts)
+      throws TransactionException {
+    List<Put> groupPuts = new ArrayList<>(puts.values());
+    groupPuts.addAll(historyPuts);
+    if (snapshot.hasWriteSet() && !config.isDirectAssetAccessEnabled()) {
+      groupPuts.addAll(metadata.createPuts(snapshot.getWriteSet()));
+    }
+    member.commit(groupPuts, snapshot.getReadSet().keySet(), snapshot.getWriteSet().keySet());
+  }
+
+  private List<Put> createHistoryPuts(Map<AssetKey, Put> puts) throws CrudException {
+    // The nodes are appended in the same transaction as the records so that the history index
+    // never misses or gets ahead of the committed records
+    List<Put> historyPuts = new ArrayList<>();
+    for (Put put : puts.values()) {
+      if (!put.forTable().get().equals(TABLE)) {
+        continue;
+      }
+      historyPuts.addAll(
+          AssetHistoryIndex.createPuts(
+              put.forNamespace().get(),
+              put.getPartitionKey().getColumns().get(0).getTextValue(),
+              put.getClusteringKey().get().getColumns().get(0).getIntValue(),
+              put.getBlobValueAsBytes(AssetAttribute.HASH),
+              get -> crud(member, () -> transaction.get(get))));
+    }
+    return historyPuts;
+  }
+
   private Map<AssetKey, Integer> getAssetKeys() {
     Map<AssetKey, Integer> ids = new HashMap<>();
     snapshot.getWriteSet().forEach((key, uncommitted) -> ids.put(key, uncommitted.age()));
     return ids;
   }
 
-  private Optional<Result> getLatestWithTwoLookups(String namespace, String assetId) {
+  private Optional<AssetRecord> getLatestWithTwoLookups(String namespace, String assetId) {
     // Get the latest entry with the following two lookups:
     // 1. Get the latest age from asset_metadata table
     // 2. Get the latest asset entry from asset table with the retrieved age above
+    // The second lookup is skipped if the record at the latest age is cached.
     Optional<AssetMetadata> assetMetadata = metadata.get(namespace, assetId);
     if (!assetMetadata.isPresent()) {
       return Optional.empty();
     }
 
-    Optional<Result> result = get(namespace, assetId, assetMetadata.get().getAge());
+    AssetKey key = AssetKey.of(namespace, assetId);
+    int age = assetMetadata.get().getAge();
+    if (recordCache != null) {
+      Optional<AssetRecord> cached = recordCache.get(key, age);
+      if (cached.isPresent()) {
+        return cached;
+      }
+    }
+
+    Optional<Result> result = get(namespace, assetId, age);
     if (!result.isPresent()) {
       throw new ValidationException(LedgerError.INCONSISTENT_ASSET_METADATA);
     }
 
-    return result;
+    AssetRecord record = AssetLedgerUtility.getAssetRecordFrom(result.get());
+    if (recordCache != null) {
+      recordCache.put(key, record);
+    }
+    return Optional.of(record);
   }
 
   private Optional<Result> get(String namespace, String assetId, int age) {
@@ -302,7 +450,7 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
                   new Key(AssetAttribute.toAgeValue(age)))
               .forNamespace(namespaceResolver.resolve(namespace))
               .forTable(TABLE);
-      return Privileged.transactionCrud(() -> transaction.get(get));
+      return crud(member, () -> transaction.get(get));
     } catch (CrudConflictException e) {
       throw new ConflictException(
           LedgerError.RETRIEVING_ASSET_FAILED_DUE_TO_CONFLICT, e, e.getMessage());
@@ -319,7 +467,7 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
               .withLimit(1)
               .forNamespace(namespaceResolver.resolve(namespace))
               .forTable(TABLE);
-      List<Result> results = Privileged.transactionCrud(() -> transaction.scan(scan));
+      List<Result> results = crud(member, () -> transaction.scan(scan));
       if (results.isEmpty()) {
         return Optional.empty();
       }
@@ -332,9 +480,48 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
     }
   }
 
+  private List<Result> scanWithArchive(AssetFilter filter, Scan scan) {
+    // The archive has the ages up to the archived age and the asset table has the rest, so the
+    // results of the two tables are concatenated in the order of the ages
+    String namespace = scan.forNamespace().get();
+    Optional<Result> summary;
+    try {
+      Get get = AssetArchiver.createSummaryGet(namespace, filter.getId());
+      summary = crud(member, () -> transaction.get(get));
+    } catch (CrudConflictException e) {
+      throw new ConflictException(
+          LedgerError.RETRIEVING_ASSET_FAILED_DUE_TO_CONFLICT, e, e.getMessage());
+    } catch (CrudException e) {
+      throw new DatabaseException(LedgerError.RETRIEVING_ASSET_FAILED, e, e.getMessage());
+    }
+    if (!summary.isPresent()
+        || filter.getStartAge().orElse(0) > summary.get().getInt(AssetRecord.AGE)) {
+      return scan(scan);
+    }
+
+    Scan archiveScan =
+        AssetLedgerUtility.getScanFrom(filter)
+            .withConsistency(Consistency.LINEARIZABLE)
+            .forNamespace(namespace)
+            .forTable(AssetArchiver.TABLE);
+    boolean ascending =
+        filter.getAgeOrder().orElse(AssetFilter.AgeOrder.DESC) == AssetFilter.AgeOrder.ASC;
+    List<Result> results = new ArrayList<>(scan(ascending ? archiveScan : scan));
+    int limit = Math.max(filter.getLimit(), 0);
+    if (limit > 0 && results.size() >= limit) {
+      return results;
+    }
+    Scan next = ascending ? scan : archiveScan;
+    if (limit > 0) {
+      next.withLimit(limit - results.size());
+    }
+    results.addAll(scan(next));
+    return results;
+  }
+
   private List<Result> scan(Scan scan) {
     try {
-      return Privileged.transactionCrud(() -> transaction.scan(scan));
+      return crud(member, () -> transaction.scan(scan));
     } catch (CrudConflictException e) {
       throw new ConflictException(
           LedgerError.RETRIEVING_ASSET_FAILED_DUE_TO_CONFLICT, e, e.getMessage());
@@ -343,56 +530,75 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
     }
   }
 
+  private TimerContext measure(String phase) {
+    return phaseStats.measure(
+        phase, context.getNamespace(), request == null ? null : request.getContractId());
+  }
+
+  private static <T> T crud(
+      @Nullable GroupCommitter.Member member, Privileged.TransactionCrud<T> operation)
+      throws CrudException {
+    return member == null ? Privileged.transactionCrud(operation) : member.crud(operation);
+  }
+
   private List<AssetProof> createProofs(
       Map<AssetKey, Put> puts, Map<AssetKey, InternalAsset> readSet, String nonce) {
-    Map<AssetKey, AssetProof> proofs = new HashMap<>();
+    AssetProofComposer.Batch batch = proofComposer.newBatch();
+    Set<AssetKey> written = new HashSet<>();
 
     // For written assets
     puts.forEach(
         (key, put) -> {
           // proofs are created with only asset tables
           if (put.forTable().get().equals(ScalarTamperEvidentAssetLedger.TABLE)) {
-            AssetProof proof = createProofFrom(key, put, nonce);
-            proofs.put(key, proof);
+            addProofFrom(batch, key, put, nonce);
+            written.add(key);
           }
         });
 
     // For read assets that are not written
-    readSet.forEach((k, v) -> proofs.putIfAbsent(k, proofComposer.create(k.namespace(), v)));
+    readSet.forEach(
+        (k, v) -> {
+          if (!written.contains(k)) {
+            batch.add(k.namespace(), v, null);
+          }
+        });
 
-    return new ArrayList<>(proofs.values());
+    return batch.sign();
   }
 
-  private AssetProof createProofFrom(AssetKey key, Put p, String nonce) {
+  private void addProofFrom(AssetProofComposer.Batch batch, AssetKey key, Put p, String nonce) {
     String namespace = key.namespace();
     String id = p.getPartitionKey().getColumns().get(0).getTextValue();
     int age = p.getClusteringKey().get().getColumns().get(0).getIntValue();
-    String input = p.getTextValue(AssetAttribute.INPUT);
+    String input = AssetColumnCodec.decode(p.getTextValue(AssetAttribute.INPUT));
     byte[] hash = p.getBlobValueAsBytes(AssetAttribute.HASH);
     byte[] prevHash = p.getBlobValueAsBytes(AssetAttribute.PREV_HASH);
-    return proofComposer.create(namespace, id, age, nonce, input, hash, prevHash);
+    batch.add(namespace, id, age, nonce, input, hash, prevHash);
   }
 
   static class Metadata {
     private static final String TABLE = "asset_metadata";
     private final DistributedTransaction transaction;
     private final ScalarNamespaceResolver namespaceResolver;
+    @Nullable private final GroupCommitter.Member member;
 
     protected Metadata(DistributedTransaction transaction, ScalarNamespaceResolver resolver) {
+      this(transaction, resolver, null);
+    }
+
+    Metadata(
+        DistributedTransaction transaction,
+        ScalarNamespaceResolver resolver,
+        @Nullable GroupCommitter.Member member) {
       this.transaction = transaction;
       this.namespaceResolver = resolver;
+      this.member = member;
     }
 
     public void put(Map<AssetKey, InternalAsset> writeSet) {
       try {
-        for (Entry<AssetKey, InternalAsset> entry : writeSet.entrySet()) {
-          AssetKey assetKey = entry.getKey();
-          InternalAsset asset = entry.getValue();
-          Put put =
-              new Put(new Key(AssetMetadata.toIdValue(asset.id())))
-                  .withValue(AssetMetadata.toAgeValue(asset.age()))
-                  .forNamespace(namespaceResolver.resolve(assetKey.namespace()))
-                  .forTable(TABLE);
+        for (Put put : createPuts(writeSet)) {
           transaction.put(put);
         }
       } catch (CrudConflictException e) {
@@ -403,6 +609,20 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
       }
     }
 
+    public List<Put> createPuts(Map<AssetKey, InternalAsset> writeSet) {
+      List<Put> puts = new ArrayList<>(writeSet.size());
+      for (Entry<AssetKey, InternalAsset> entry : writeSet.entrySet()) {
+        AssetKey assetKey = entry.getKey();
+        InternalAsset asset = entry.getValue();
+        puts.add(
+            new Put(new Key(AssetMetadata.toIdValue(asset.id())))
+                .withValue(AssetMetadata.toAgeValue(asset.age()))
+                .forNamespace(namespaceResolver.resolve(assetKey.namespace()))
+                .forTable(TABLE));
+      }
+      return puts;
+    }
+
     public Optional<AssetMetadata> get(String namespace, String assetId) {
       Get get =
           new Get(new Key(AssetMetadata.ID, assetId))
@@ -411,7 +631,7 @@ public class ScalarTamperEvidentAssetLedger implements TamperEvidentAssetLedger
 
       Optional<Result> result;
       try {
-        result = Privileged.transactionCrud(() -> transaction.get(get));
+        result = crud(member, () -> transaction.get(get));
       } catch (CrudConflictException e) {
         throw new ConflictException(
             LedgerError.RETRIEVING_ASSET_METADATA_FAILED_DUE_TO_CONFLICT, e, e.getMessage());
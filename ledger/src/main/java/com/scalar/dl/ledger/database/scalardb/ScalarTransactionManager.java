@@ -1,5 +1,6 @@
 package com.scalar.dl.ledger.database.scalardb;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
 import com.scalar.db.api.Delete;
 import com.scalar.db.api.DistributedTransaction;
@@ -26,6 +27,7 @@ import com.scalar.dl.ledger.exception.DatabaseException;
 import com.scalar.dl.ledger.exception.LedgerException;
 import com.scalar.dl.ledger.model.ContractExecutionRequest;
 import com.scalar.dl.ledger.namespace.Namespaces;
+import com.scalar.dl.ledger.server.PhaseStats;
 import com.scalar.dl.ledger.statemachine.AssetKey;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.Map;
@@ -44,8 +46,10 @@ public class ScalarTransactionManager implements TransactionManager, TableMetada
   private final TransactionStateManager stateManager;
   private final ScalarNamespaceResolver namespaceResolver;
   private final LedgerConfig config;
+  private final PhaseStats phaseStats;
+  @Nullable private final GroupCommitter groupCommitter;
+  @Nullable private final AssetRecordCache recordCache;
 
-  @Inject
   @SuppressFBWarnings("EI_EXPOSE_REP2")
   public ScalarTransactionManager(
       DistributedTransactionManager manager,
@@ -54,21 +58,73 @@ public class ScalarTransactionManager implements TransactionManager, TableMetada
       TransactionStateManager stateManager,
       ScalarNamespaceResolver namespaceResolver,
       LedgerConfig config) {
+    this(
+        manager,
+        assetComposer,
+        proofComposer,
+        stateManager,
+        namespaceResolver,
+        config,
+        PhaseStats.disabled());
+  }
+
+  @Inject
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public ScalarTransactionManager(
+      DistributedTransactionManager manager,
+      TamperEvidentAssetComposer assetComposer,
+      AssetProofComposer proofComposer,
+      TransactionStateManager stateManager,
+      ScalarNamespaceResolver namespaceResolver,
+      LedgerConfig config,
+      PhaseStats phaseStats) {
     this.manager = manager;
     this.assetComposer = assetComposer;
     this.proofComposer = proofComposer;
     this.stateManager = stateManager;
     this.namespaceResolver = namespaceResolver;
     this.config = config;
+    this.phaseStats = phaseStats;
+    this.groupCommitter =
+        config.isGroupCommitEnabled()
+            ? new GroupCommitter(
+                manager,
+                namespaceResolver.resolve(Namespaces.DEFAULT),
+                config.getGroupCommitMaxSize(),
+                config.getGroupCommitWindowMillis(),
+                config.getGroupCommitTimeoutMillis())
+            : null;
+    // The cache relies on the latest age read from asset_metadata, so it is not used with direct
+    // asset access, where the latest record is retrieved with a single scan anyway.
+    this.recordCache =
+        config.isAssetCacheEnabled() && !config.isDirectAssetAccessEnabled()
+            ? new AssetRecordCache(config.getAssetCacheMaxSize())
+            : null;
   }
 
   @Override
   public Map<String, TableMetadata> getTransactionTables() {
-    return ScalarTamperEvidentAssetLedger.getTransactionTables();
+    ImmutableMap.Builder<String, TableMetadata> builder =
+        ImmutableMap.<String, TableMetadata>builder()
+            .putAll(ScalarTamperEvidentAssetLedger.getTransactionTables());
+    if (config.isArchiveEnabled()) {
+      builder.putAll(AssetArchiver.getArchiveTables());
+    }
+    if (config.isHistoryIndexEnabled()) {
+      builder.putAll(AssetHistoryIndex.getIndexTables());
+    }
+    if (config.isGroupCommitEnabled()) {
+      builder.putAll(GroupCommitter.getNonceTables());
+    }
+    return builder.build();
   }
 
   @Override
   public Transaction startWith(@Nullable ContractExecutionRequest request) {
+    if (request != null && isGroupCommittable(request)) {
+      return startInGroup(request);
+    }
+
     DistributedTransaction transaction;
     try {
       if (request == null) {
@@ -91,25 +147,51 @@ public class ScalarTransactionManager implements TransactionManager, TableMetada
     }
 
     TamperEvidentAssetLedger ledger =
-        createTamperEvidentAssetLedger(request, transaction, contextNamespace);
+        createTamperEvidentAssetLedger(request, transaction, contextNamespace, null);
     return new Transaction(ledger, database);
   }
 
+  private boolean isGroupCommittable(ContractExecutionRequest request) {
+    // Functions write to arbitrary tables through the transaction, which the group cannot check
+    // for overlaps, so executions with functions always run in their own transaction.
+    return groupCommitter != null
+        && (!config.isFunctionEnabled() || request.getFunctionIds().isEmpty());
+  }
+
+  private Transaction startInGroup(ContractExecutionRequest request) {
+    assert groupCommitter != null;
+    GroupCommitter.Member member;
+    try {
+      member = groupCommitter.join(request.getNonce());
+    } catch (TransactionException e) {
+      throw new DatabaseException(LedgerError.STARTING_TRANSACTION_FAILED, e, e.getMessage());
+    }
+
+    TamperEvidentAssetLedger ledger =
+        createTamperEvidentAssetLedger(
+            request, member.getTransaction(), request.getContextNamespaceOrDefault(), member);
+    return new Transaction(ledger, null);
+  }
+
   private TamperEvidentAssetLedger createTamperEvidentAssetLedger(
       ContractExecutionRequest request,
       DistributedTransaction transaction,
-      String contextNamespace) {
+      String contextNamespace,
+      @Nullable GroupCommitter.Member member) {
     TamperEvidentAssetLedger ledger =
         new ScalarTamperEvidentAssetLedger(
             transaction,
-            new ScalarTamperEvidentAssetLedger.Metadata(transaction, namespaceResolver),
+            new ScalarTamperEvidentAssetLedger.Metadata(transaction, namespaceResolver, member),
             new Snapshot(),
             request,
             assetComposer,
             proofComposer,
             stateManager,
             namespaceResolver,
-            config);
+            config,
+            member,
+            recordCache,
+            phaseStats);
     if (!contextNamespace.equals(Namespaces.DEFAULT)) {
       ledger = new NamespaceRestrictedAssetLedger(ledger, contextNamespace);
     }
@@ -0,0 +1,108 @@
+package com.scalar.dl.ledger.database.scalardb;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Inject;
+import com.scalar.db.api.Consistency;
+import com.scalar.db.api.DistributedStorage;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.Key;
+import com.scalar.dl.ledger.database.ValidationWatermarkRegistry;
+import com.scalar.dl.ledger.error.CommonError;
+import com.scalar.dl.ledger.error.LedgerError;
+import com.scalar.dl.ledger.exception.DatabaseException;
+import com.scalar.dl.ledger.exception.UnexpectedValueException;
+import com.scalar.dl.ledger.validation.ValidationWatermark;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.concurrent.Immutable;
+
+@Immutable
+public class ScalarValidationWatermarkRegistry
+    implements ValidationWatermarkRegistry, TableMetadataProvider {
+  static final String TABLE = "validation_watermark";
+  static final TableMetadata TABLE_METADATA =
+      TableMetadata.newBuilder()
+          .addColumn(ValidationWatermark.ASSET_ID, DataType.TEXT)
+          .addColumn(ValidationWatermark.AGE, DataType.INT)
+          .addColumn(ValidationWatermark.HASH, DataType.BLOB)
+          .addColumn(ValidationWatermark.SIGNATURE, DataType.BLOB)
+          .addPartitionKey(ValidationWatermark.ASSET_ID)
+          .build();
+  private final DistributedStorage storage;
+  private final ScalarNamespaceResolver namespaceResolver;
+
+  @Inject
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public ScalarValidationWatermarkRegistry(
+      DistributedStorage storage, ScalarNamespaceResolver namespaceResolver) {
+    this.storage = checkNotNull(storage);
+    this.namespaceResolver = checkNotNull(namespaceResolver);
+  }
+
+  @Override
+  public Map<String, TableMetadata> getStorageTables() {
+    return ImmutableMap.of(TABLE, TABLE_METADATA);
+  }
+
+  @Override
+  public void bind(String namespace, ValidationWatermark watermark) {
+    // A concurrent validation of the same asset might overwrite the watermark with an older one,
+    // but it is still a validated age, so it only makes the next validation check a few more ages.
+    Put put =
+        Put.newBuilder()
+            .namespace(namespaceResolver.resolve(namespace))
+            .table(TABLE)
+            .partitionKey(Key.ofText(ValidationWatermark.ASSET_ID, watermark.getAssetId()))
+            .intValue(ValidationWatermark.AGE, watermark.getAge())
+            .blobValue(ValidationWatermark.HASH, watermark.getHash())
+            .blobValue(ValidationWatermark.SIGNATURE, watermark.getSignature())
+            .consistency(Consistency.SEQUENTIAL)
+            .build();
+
+    try {
+      storage.put(put);
+    } catch (ExecutionException e) {
+      throw new DatabaseException(
+          LedgerError.PUTTING_VALIDATION_WATERMARK_FAILED, e, e.getMessage());
+    }
+  }
+
+  @Override
+  public Optional<ValidationWatermark> lookup(String namespace, String assetId) {
+    Get get =
+        Get.newBuilder()
+            .namespace(namespaceResolver.resolve(namespace))
+            .table(TABLE)
+            .partitionKey(Key.ofText(ValidationWatermark.ASSET_ID, assetId))
+            .consistency(Consistency.SEQUENTIAL)
+            .build();
+
+    try {
+      return storage.get(get).map(this::toValidationWatermark);
+    } catch (ExecutionException e) {
+      throw new DatabaseException(
+          LedgerError.GETTING_VALIDATION_WATERMARK_FAILED, e, e.getMessage());
+    }
+  }
+
+  private ValidationWatermark toValidationWatermark(Result result) {
+    try {
+      return new ValidationWatermark(
+          result.getText(ValidationWatermark.ASSET_ID),
+          result.getInt(ValidationWatermark.AGE),
+          result.getBlobAsBytes(ValidationWatermark.HASH),
+          result.getBlobAsBytes(ValidationWatermark.SIGNATURE));
+    } catch (Exception e) {
+      throw new UnexpectedValueException(
+          CommonError.UNEXPECTED_RECORD_VALUE_OBSERVED, e, e.getMessage());
+    }
+  }
+}
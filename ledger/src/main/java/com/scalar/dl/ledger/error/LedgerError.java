@@ -69,6 +69,30 @@ public enum LedgerError implements ScalarDlError {
       "The asset specified by input dependencies is not found.",
       "",
       "Data or program tampering, or a software bug, may have occurred. Contact your system administrator to check for any signs of malicious activity."),
+  INVALID_VALIDATION_WATERMARK(
+      StatusCode.INCONSISTENT_STATES,
+      "003",
+      "The signature of the validation watermark is invalid. Asset ID: %s",
+      "",
+      "Data tampering or a misconfigured watermark secret key may have occurred. Contact your system administrator to check for any signs of malicious activity."),
+  VALIDATION_WATERMARK_NOT_MATCHED(
+      StatusCode.INCONSISTENT_STATES,
+      "004",
+      "The validation watermark does not match the asset record. Asset ID: %s; Age: %d",
+      "",
+      "Data or program tampering, or a software bug, may have occurred. Contact your system administrator to check for any signs of malicious activity."),
+  ARCHIVED_ASSET_CHAIN_BROKEN(
+      StatusCode.INCONSISTENT_STATES,
+      "005",
+      "The asset records to be archived do not form a hash chain. Asset ID: %s; Age: %d",
+      "",
+      "Data or program tampering, or a software bug, may have occurred. Contact your system administrator to check for any signs of malicious activity."),
+  ARCHIVING_UNVALIDATED_ASSET(
+      StatusCode.INCONSISTENT_STATES,
+      "006",
+      "The asset cannot be archived since its validation failed. Asset ID: %s; Status: %s",
+      "",
+      "Validate the asset with ValidateLedger to find the age that failed. Contact your system administrator to check for any signs of malicious activity."),
 
   //
   // Errors for INVALID_REQUEST(407)
@@ -115,6 +139,18 @@ public enum LedgerError implements ScalarDlError {
       "Transaction state purge is disabled.",
       "",
       "Set 'scalar.dl.ledger.transaction_state_purge.enabled' to true in the Ledger configuration (for example, ledger.properties) and restart Ledger to allow purge."),
+  ASSET_HISTORY_INDEX_DISABLED(
+      StatusCode.INVALID_REQUEST,
+      "008",
+      "The asset history index is disabled.",
+      "",
+      "Set 'scalar.dl.ledger.history_index.enabled' to true in the Ledger configuration (for example, ledger.properties) and restart Ledger to allow history proofs."),
+  ASSET_ARCHIVE_DISABLED(
+      StatusCode.INVALID_REQUEST,
+      "009",
+      "The asset archive is disabled.",
+      "",
+      "Set 'scalar.dl.ledger.archive.enabled' to true in the Ledger configuration (for example, ledger.properties) and restart Ledger to allow archiving."),
 
   //
   // Errors for ASSET_NOT_FOUND(409)
@@ -125,6 +161,12 @@ public enum LedgerError implements ScalarDlError {
       "The specified asset is not found.",
       "",
       "Verify the asset ID and namespace are correct and the asset has been created."),
+  ASSET_HISTORY_NOT_INDEXED(
+      StatusCode.ASSET_NOT_FOUND,
+      "002",
+      "The history of the specified asset is not indexed up to the specified size. Asset ID: %s; Size: %d",
+      "",
+      "Verify the size is not larger than the number of the asset records. The history of an asset created before the history index is enabled needs to be indexed with the IndexAssetHistory operation."),
 
   //
   // Errors for INVALID_FUNCTION(412)
@@ -217,6 +259,36 @@ public enum LedgerError implements ScalarDlError {
       "The transaction manager '%s' is not supported. The supported transaction managers are: %s.",
       "",
       "Set the transaction manager configuration property to one of the supported values."),
+  CONFIG_LEDGER_GROUP_COMMIT_NOT_SUPPORTED(
+      StatusCode.INVALID_ARGUMENT,
+      "012",
+      "%s is not supported when %s is enabled.",
+      "",
+      "Disable the group commit of Ledger, or disable the other configuration property."),
+  CONFIG_VALUE_MUST_BE_POSITIVE(
+      StatusCode.INVALID_ARGUMENT,
+      "013",
+      "%s must be a positive value.",
+      "",
+      "Set the configuration property to a positive value."),
+  CONFIG_VALIDATION_WATERMARK_SECRET_KEY_REQUIRED(
+      StatusCode.INVALID_ARGUMENT,
+      "014",
+      "%s must be set if the validation watermark is enabled.",
+      "",
+      "Set the secret key configuration property for signing validation watermarks."),
+  CONFIG_PROOF_MUST_BE_ENABLED_FOR_HISTORY_INDEX(
+      StatusCode.INVALID_ARGUMENT,
+      "015",
+      "%s must be set to true if the asset history index is enabled.",
+      "",
+      "Set the proof configuration property to true so that the history proofs are signed."),
+  CONFIG_VALUE_MUST_NOT_BE_NEGATIVE(
+      StatusCode.INVALID_ARGUMENT,
+      "016",
+      "%s must not be a negative value.",
+      "",
+      "Set the configuration property to zero or a positive value."),
 
   //
   // Errors for DATABASE_ERROR(500)
@@ -293,6 +365,30 @@ public enum LedgerError implements ScalarDlError {
       "Finishing the transaction failed. Details: %s",
       "",
       "Check the error details in the logs and verify your database configuration and connection."),
+  GETTING_VALIDATION_WATERMARK_FAILED(
+      StatusCode.DATABASE_ERROR,
+      "013",
+      "Getting the validation watermark failed. Details: %s",
+      "",
+      "Check the error details in the logs and verify your database configuration and connection."),
+  PUTTING_VALIDATION_WATERMARK_FAILED(
+      StatusCode.DATABASE_ERROR,
+      "014",
+      "Putting the validation watermark failed. Details: %s",
+      "",
+      "Check the error details in the logs and verify your database configuration and connection."),
+  ARCHIVING_ASSET_FAILED(
+      StatusCode.DATABASE_ERROR,
+      "015",
+      "Archiving the asset records failed. Details: %s",
+      "",
+      "Check the error details in the logs and verify your database configuration and connection."),
+  INDEXING_ASSET_HISTORY_FAILED(
+      StatusCode.DATABASE_ERROR,
+      "016",
+      "Indexing the asset history failed. Details: %s",
+      "",
+      "Check the error details in the logs and verify your database configuration and connection."),
 
   //
   // Errors for UNKNOWN_TRANSACTION_STATUS(501)
@@ -349,6 +445,24 @@ public enum LedgerError implements ScalarDlError {
       "The database operation in the function failed due to a conflict. Details: %s",
       "",
       "Retry the operation."),
+  GROUP_COMMIT_FAILED_DUE_TO_CONFLICT(
+      StatusCode.CONFLICT,
+      "008",
+      "The asset records cannot be committed together with the other executions in the group because they access the same assets.",
+      "",
+      "Retry the operation."),
+  GROUP_COMMIT_NONCE_ALREADY_USED(
+      StatusCode.CONFLICT,
+      "009",
+      "The nonce of the request has already been used. Nonce: %s",
+      "",
+      "Use a new nonce if it is a new request. Otherwise, the request has already been processed."),
+  GROUP_COMMIT_ABORTED_DUE_TO_TIMEOUT(
+      StatusCode.CONFLICT,
+      "010",
+      "The group transaction was aborted because some execution in the group did not finish within %d milliseconds.",
+      "",
+      "Retry the operation."),
   ;
 
   private static final String COMPONENT_NAME = "DL-LEDGER";
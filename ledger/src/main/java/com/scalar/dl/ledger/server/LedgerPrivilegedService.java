@@ -6,7 +6,13 @@ import com.google.inject.Inject;
 import com.google.protobuf.Empty;
 import com.scalar.dl.ledger.model.StateRetrievalResult;
 import com.scalar.dl.ledger.service.LedgerService;
+import com.scalar.dl.ledger.service.LedgerValidationService;
 import com.scalar.dl.ledger.service.ThrowableConsumer;
+import com.scalar.dl.ledger.service.ThrowableFunction;
+import com.scalar.dl.rpc.AssetArchivingRequest;
+import com.scalar.dl.rpc.AssetArchivingResponse;
+import com.scalar.dl.rpc.AssetHistoryIndexingRequest;
+import com.scalar.dl.rpc.AssetHistoryIndexingResponse;
 import com.scalar.dl.rpc.CertificateRegistrationRequest;
 import com.scalar.dl.rpc.FunctionRegistrationRequest;
 import com.scalar.dl.rpc.LedgerPrivilegedGrpc;
@@ -29,11 +35,14 @@ public class LedgerPrivilegedService extends LedgerPrivilegedGrpc.LedgerPrivileg
   private static final Logger LOGGER =
       LoggerFactory.getLogger(LedgerPrivilegedService.class.getName());
   private final com.scalar.dl.ledger.service.LedgerService ledger;
+  private final LedgerValidationService validation;
   private final CommonService commonService;
 
   @Inject
-  public LedgerPrivilegedService(LedgerService ledger, CommonService commonService) {
+  public LedgerPrivilegedService(
+      LedgerService ledger, LedgerValidationService validation, CommonService commonService) {
     this.ledger = ledger;
+    this.validation = validation;
     this.commonService = commonService;
   }
 
@@ -106,4 +115,27 @@ public class LedgerPrivilegedService extends LedgerPrivilegedGrpc.LedgerPrivileg
       responseObserver.onError(e);
     }
   }
+
+  @Override
+  public void indexAssetHistory(
+      AssetHistoryIndexingRequest request,
+      StreamObserver<AssetHistoryIndexingResponse> responseObserver) {
+    ThrowableFunction<AssetHistoryIndexingRequest, AssetHistoryIndexingResponse> f =
+        r -> {
+          long size = validation.index(convert(r));
+          return AssetHistoryIndexingResponse.newBuilder().setSize(size).build();
+        };
+    commonService.serve(f, request, responseObserver);
+  }
+
+  @Override
+  public void archiveAsset(
+      AssetArchivingRequest request, StreamObserver<AssetArchivingResponse> responseObserver) {
+    ThrowableFunction<AssetArchivingRequest, AssetArchivingResponse> f =
+        r -> {
+          int archived = validation.archive(convert(r));
+          return AssetArchivingResponse.newBuilder().setArchived(archived).build();
+        };
+    commonService.serve(f, request, responseObserver);
+  }
 }
@@ -6,9 +6,13 @@ import com.google.inject.Injector;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.scalar.dl.ledger.config.LedgerConfig;
+import com.scalar.dl.ledger.contract.ContentionManager;
+import com.scalar.dl.ledger.contract.ContractLoader;
+import com.scalar.dl.ledger.function.FunctionCache;
 import com.scalar.dl.ledger.service.LedgerModule;
 import com.scalar.dl.ledger.service.LedgerService;
 import com.scalar.dl.ledger.service.LedgerValidationService;
+import com.scalar.dl.ledger.trace.Tracer;
 
 public class LedgerServerModule extends AbstractModule {
   private final LedgerConfig config;
@@ -34,13 +38,35 @@ public class LedgerServerModule extends AbstractModule {
   @Provides
   @Singleton
   LedgerValidationService provideLedgerValidationService() {
-    return injector.getInstance(LedgerValidationService.class);
+    LedgerValidationService service = injector.getInstance(LedgerValidationService.class);
+    Runtime.getRuntime().addShutdownHook(new Thread(service::close));
+    return service;
   }
 
   @Provides
   @Singleton
   Stats provideStats() {
-    return new Stats(config.getProductName(), config.getServiceName());
+    Stats stats = new Stats(config.getProductName(), config.getServiceName());
+    ContractLoader loader = injector.getInstance(ContractLoader.class);
+    stats.registerGauge("ContractLoaders", loader::getLoaderCount);
+    stats.registerGauge("ContractLoadedClasses", loader::getLoadedClassCount);
+    stats.registerGauge("ContractLoadersEvicted", loader::getEvictedLoaderCount);
+    FunctionCache functionCache = injector.getInstance(FunctionCache.class);
+    stats.registerGauge("FunctionCacheHits", functionCache::getHitCount);
+    stats.registerGauge("FunctionCacheMisses", functionCache::getMissCount);
+    stats.registerGauge("FunctionCacheSize", functionCache::size);
+    ContentionManager contentionManager = injector.getInstance(ContentionManager.class);
+    stats.registerGauge("ContentionHotAssets", contentionManager::getHotKeyCount);
+    stats.registerGauge("ContentionQueueDepth", contentionManager::getQueueDepth);
+    stats.registerGauge("ContentionWaitTimeouts", contentionManager::getTimeoutCount);
+    stats.register(injector.getInstance(PhaseStats.class));
+    return stats;
+  }
+
+  @Provides
+  @Singleton
+  Tracer provideTracer() {
+    return injector.getInstance(Tracer.class);
   }
 
   @Provides
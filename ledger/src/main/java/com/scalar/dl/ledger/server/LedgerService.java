@@ -6,18 +6,24 @@ import com.google.inject.Inject;
 import com.google.protobuf.Empty;
 import com.scalar.dl.ledger.config.LedgerConfig;
 import com.scalar.dl.ledger.contract.ContractEntry;
+import com.scalar.dl.ledger.exception.LedgerException;
 import com.scalar.dl.ledger.model.ContractExecutionResult;
 import com.scalar.dl.ledger.model.ExecutionAbortResult;
 import com.scalar.dl.ledger.model.LedgerValidationResult;
 import com.scalar.dl.ledger.proof.AssetProof;
 import com.scalar.dl.ledger.service.LedgerValidationService;
+import com.scalar.dl.ledger.service.StatusCode;
 import com.scalar.dl.ledger.service.ThrowableConsumer;
 import com.scalar.dl.ledger.service.ThrowableFunction;
+import com.scalar.dl.rpc.AssetHistoryProofRetrievalRequest;
+import com.scalar.dl.rpc.AssetHistoryProofRetrievalResponse;
 import com.scalar.dl.rpc.AssetProofRetrievalRequest;
 import com.scalar.dl.rpc.AssetProofRetrievalResponse;
 import com.scalar.dl.rpc.ContractExecutionRequest;
 import com.scalar.dl.rpc.ContractExecutionResponse;
 import com.scalar.dl.rpc.ContractRegistrationRequest;
+import com.scalar.dl.rpc.ContractsExecutionRequest;
+import com.scalar.dl.rpc.ContractsExecutionResponse;
 import com.scalar.dl.rpc.ContractsListingRequest;
 import com.scalar.dl.rpc.ContractsListingResponse;
 import com.scalar.dl.rpc.ExecutionAbortRequest;
@@ -26,12 +32,21 @@ import com.scalar.dl.rpc.ExecutionFinishRequest;
 import com.scalar.dl.rpc.LedgerGrpc;
 import com.scalar.dl.rpc.LedgerValidationRequest;
 import com.scalar.dl.rpc.LedgerValidationResponse;
+import com.scalar.dl.rpc.LedgersValidationRequest;
+import com.scalar.dl.rpc.LedgersValidationResponse;
 import com.scalar.dl.rpc.SignedFunctionRegistrationRequest;
+import com.scalar.dl.rpc.Status;
 import com.scalar.dl.rpc.TransactionState;
 import io.grpc.stub.StreamObserver;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class LedgerService extends LedgerGrpc.LedgerImplBase {
+  private static final Logger LOGGER = LoggerFactory.getLogger(LedgerService.class.getName());
   private final com.scalar.dl.ledger.service.LedgerService ledger;
   private final LedgerValidationService validation;
   private final CommonService commonService;
@@ -91,6 +106,21 @@ public class LedgerService extends LedgerGrpc.LedgerImplBase {
     commonService.serve(f, request, responseObserver);
   }
 
+  @Override
+  public void executeContracts(
+      ContractsExecutionRequest request,
+      StreamObserver<ContractsExecutionResponse> responseObserver) {
+
+    ThrowableFunction<ContractsExecutionRequest, ContractsExecutionResponse> f =
+        r -> {
+          ContractsExecutionResponse.Builder builder = ContractsExecutionResponse.newBuilder();
+          r.getRequestsList().forEach(each -> builder.addResults(executeEach(each)));
+          return builder.build();
+        };
+
+    commonService.serve(f, request, responseObserver);
+  }
+
   @Override
   public void validateLedger(
       LedgerValidationRequest request, StreamObserver<LedgerValidationResponse> responseObserver) {
@@ -103,6 +133,40 @@ public class LedgerService extends LedgerGrpc.LedgerImplBase {
     commonService.serve(f, request, responseObserver);
   }
 
+  @Override
+  public void validateLedgerWithProgress(
+      LedgerValidationRequest request, StreamObserver<LedgerValidationResponse> responseObserver) {
+    ThrowableFunction<LedgerValidationRequest, LedgerValidationResponse> f =
+        r -> {
+          LedgerValidationResult result =
+              validation.validate(
+                  convert(r),
+                  progress -> responseObserver.onNext(CommonTypeConverter.convert(progress)));
+          return CommonTypeConverter.convert(result);
+        };
+
+    commonService.serve(f, request, responseObserver);
+  }
+
+  @Override
+  public void validateLedgers(
+      LedgersValidationRequest request,
+      StreamObserver<LedgersValidationResponse> responseObserver) {
+    ThrowableFunction<LedgersValidationRequest, LedgersValidationResponse> f =
+        r -> {
+          List<CompletableFuture<LedgerValidationResult>> futures =
+              validation.validate(
+                  r.getRequestsList().stream()
+                      .map(each -> convert(each))
+                      .collect(Collectors.toList()));
+          LedgersValidationResponse.Builder builder = LedgersValidationResponse.newBuilder();
+          futures.forEach(future -> builder.addResults(getValidationResult(future)));
+          return builder.build();
+        };
+
+    commonService.serve(f, request, responseObserver);
+  }
+
   @Override
   public void retrieveAssetProof(
       AssetProofRetrievalRequest request,
@@ -119,6 +183,16 @@ public class LedgerService extends LedgerGrpc.LedgerImplBase {
     commonService.serve(f, request, responseObserver);
   }
 
+  @Override
+  public void retrieveAssetHistoryProof(
+      AssetHistoryProofRetrievalRequest request,
+      StreamObserver<AssetHistoryProofRetrievalResponse> responseObserver) {
+    ThrowableFunction<AssetHistoryProofRetrievalRequest, AssetHistoryProofRetrievalResponse> f =
+        r -> CommonTypeConverter.convert(validation.retrieve(convert(r)));
+
+    commonService.serve(f, request, responseObserver);
+  }
+
   @Override
   public void abortExecution(
       ExecutionAbortRequest request, StreamObserver<ExecutionAbortResponse> responseObserver) {
@@ -140,4 +214,61 @@ public class LedgerService extends LedgerGrpc.LedgerImplBase {
 
     commonService.serve(f, request, responseObserver);
   }
+
+  /**
+   * Executes one of the requests in a batch. A failure is reported in the result of the request so
+   * that it doesn't affect the other requests in the same batch.
+   */
+  private ContractsExecutionResponse.Result executeEach(ContractExecutionRequest request) {
+    try {
+      ContractExecutionResult result = ledger.execute(convert(request));
+      return ContractsExecutionResponse.Result.newBuilder()
+          .setStatus(Status.newBuilder().setCode(StatusCode.OK.get()))
+          .setResponse(CommonTypeConverter.convert(result))
+          .build();
+    } catch (LedgerException e) {
+      LOGGER.error(e.getMessage(), e);
+      return createResult(e.getCode(), e.getMessage());
+    } catch (Exception e) {
+      LOGGER.error(e.getMessage(), e);
+      return createResult(StatusCode.RUNTIME_ERROR, e.getMessage());
+    }
+  }
+
+  /**
+   * Waits for one of the validations in a batch. A failure is reported in the result of the
+   * validation so that it doesn't affect the other validations in the same batch.
+   */
+  private LedgersValidationResponse.Result getValidationResult(
+      CompletableFuture<LedgerValidationResult> future) {
+    LedgersValidationResponse.Result.Builder builder = LedgersValidationResponse.Result.newBuilder();
+    try {
+      LedgerValidationResult result = future.join();
+      return builder
+          .setStatus(Status.newBuilder().setCode(StatusCode.OK.get()))
+          .setResponse(CommonTypeConverter.convert(result))
+          .build();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      LOGGER.error(cause.getMessage(), cause);
+      Status.Builder status = Status.newBuilder();
+      if (cause instanceof LedgerException) {
+        status.setCode(((LedgerException) cause).getCode().get());
+      } else {
+        status.setCode(StatusCode.RUNTIME_ERROR.get());
+      }
+      if (cause.getMessage() != null) {
+        status.setMessage(cause.getMessage());
+      }
+      return builder.setStatus(status).build();
+    }
+  }
+
+  private ContractsExecutionResponse.Result createResult(StatusCode code, String message) {
+    Status.Builder status = Status.newBuilder().setCode(code.get());
+    if (message != null) {
+      status.setMessage(message);
+    }
+    return ContractsExecutionResponse.Result.newBuilder().setStatus(status).build();
+  }
 }
@@ -5,6 +5,9 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.scalar.dl.ledger.contract.ContractEntry;
 import com.scalar.dl.ledger.util.JacksonSerDe;
+import com.scalar.dl.rpc.AssetArchivingRequest;
+import com.scalar.dl.rpc.AssetHistoryIndexingRequest;
+import com.scalar.dl.rpc.AssetHistoryProofRetrievalRequest;
 import com.scalar.dl.rpc.AssetProofRetrievalRequest;
 import com.scalar.dl.rpc.CertificateRegistrationRequest;
 import com.scalar.dl.rpc.ContractExecutionRequest;
@@ -124,6 +127,30 @@ public class TypeConverter {
         req.getSignature().toByteArray());
   }
 
+  public static com.scalar.dl.ledger.model.AssetHistoryProofRetrievalRequest convert(
+      AssetHistoryProofRetrievalRequest req) {
+    return new com.scalar.dl.ledger.model.AssetHistoryProofRetrievalRequest(
+        req.getNamespace().isEmpty() ? null : req.getNamespace(),
+        req.getAssetId(),
+        req.getAge(),
+        req.getOldSize(),
+        req.getEntityId(),
+        req.getKeyVersion(),
+        req.getSignature().toByteArray());
+  }
+
+  public static com.scalar.dl.ledger.model.AssetHistoryIndexingRequest convert(
+      AssetHistoryIndexingRequest req) {
+    return new com.scalar.dl.ledger.model.AssetHistoryIndexingRequest(
+        req.getNamespace().isEmpty() ? null : req.getNamespace(), req.getAssetId());
+  }
+
+  public static com.scalar.dl.ledger.model.AssetArchivingRequest convert(
+      AssetArchivingRequest req) {
+    return new com.scalar.dl.ledger.model.AssetArchivingRequest(
+        req.getNamespace().isEmpty() ? null : req.getNamespace(), req.getAssetId());
+  }
+
   public static com.scalar.dl.ledger.model.StateRetrievalRequest convert(
       StateRetrievalRequest req) {
     return new com.scalar.dl.ledger.model.StateRetrievalRequest(req.getTransactionId());
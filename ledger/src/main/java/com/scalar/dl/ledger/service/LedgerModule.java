@@ -16,6 +16,7 @@ import com.scalar.dl.ledger.config.AuthenticationMethod;
 import com.scalar.dl.ledger.config.LedgerConfig;
 import com.scalar.dl.ledger.config.ServerConfig;
 import com.scalar.dl.ledger.config.ServersHmacAuthenticatable;
+import com.scalar.dl.ledger.contract.ContentionManager;
 import com.scalar.dl.ledger.contract.ContractLoader;
 import com.scalar.dl.ledger.contract.ContractManager;
 import com.scalar.dl.ledger.crypto.AuditorKeyValidator;
@@ -27,12 +28,16 @@ import com.scalar.dl.ledger.crypto.DigitalSignatureSigner;
 import com.scalar.dl.ledger.crypto.HmacSigner;
 import com.scalar.dl.ledger.crypto.SecretManager;
 import com.scalar.dl.ledger.crypto.SignatureSigner;
+import com.scalar.dl.ledger.database.AssetProofComposer;
 import com.scalar.dl.ledger.database.CertificateRegistry;
 import com.scalar.dl.ledger.database.ContractRegistry;
 import com.scalar.dl.ledger.database.FunctionRegistry;
 import com.scalar.dl.ledger.database.NamespaceRegistry;
 import com.scalar.dl.ledger.database.SecretRegistry;
 import com.scalar.dl.ledger.database.TransactionManager;
+import com.scalar.dl.ledger.database.ValidationWatermarkRegistry;
+import com.scalar.dl.ledger.database.scalardb.AssetArchiver;
+import com.scalar.dl.ledger.database.scalardb.AssetHistoryIndex;
 import com.scalar.dl.ledger.database.scalardb.DefaultTamperEvidentAssetComposer;
 import com.scalar.dl.ledger.database.scalardb.LedgerNamespaceRegistry;
 import com.scalar.dl.ledger.database.scalardb.ScalarCertificateRegistry;
@@ -41,12 +46,17 @@ import com.scalar.dl.ledger.database.scalardb.ScalarFunctionRegistry;
 import com.scalar.dl.ledger.database.scalardb.ScalarNamespaceResolver;
 import com.scalar.dl.ledger.database.scalardb.ScalarSecretRegistry;
 import com.scalar.dl.ledger.database.scalardb.ScalarTransactionManager;
+import com.scalar.dl.ledger.database.scalardb.ScalarValidationWatermarkRegistry;
 import com.scalar.dl.ledger.database.scalardb.TableMetadataProvider;
 import com.scalar.dl.ledger.database.scalardb.TamperEvidentAssetComposer;
 import com.scalar.dl.ledger.database.scalardb.TransactionStateManager;
+import com.scalar.dl.ledger.function.FunctionCache;
 import com.scalar.dl.ledger.function.FunctionLoader;
 import com.scalar.dl.ledger.function.FunctionManager;
 import com.scalar.dl.ledger.namespace.NamespaceManager;
+import com.scalar.dl.ledger.server.PhaseStats;
+import com.scalar.dl.ledger.trace.Tracer;
+import com.scalar.dl.ledger.validation.ValidationWatermarkManager;
 import java.security.PermissionCollection;
 import java.security.Permissions;
 import java.security.ProtectionDomain;
@@ -70,9 +80,7 @@ public class LedgerModule extends AbstractModule {
     bind(CertificateRegistry.class).to(ScalarCertificateRegistry.class).in(Singleton.class);
     bind(SecretManager.class).in(Singleton.class);
     bind(SecretRegistry.class).to(ScalarSecretRegistry.class).in(Singleton.class);
-    bind(ContractManager.class).in(Singleton.class);
     bind(ContractRegistry.class).to(ScalarContractRegistry.class).in(Singleton.class);
-    bind(ContractLoader.class).in(Singleton.class);
     bind(FunctionManager.class).in(Singleton.class);
     bind(FunctionRegistry.class).to(ScalarFunctionRegistry.class).in(Singleton.class);
     bind(FunctionLoader.class).in(Singleton.class);
@@ -84,6 +92,13 @@ public class LedgerModule extends AbstractModule {
     bind(NamespaceManager.class).in(Singleton.class);
     bind(NamespaceRegistry.class).to(LedgerNamespaceRegistry.class).in(Singleton.class);
     bind(ScalarNamespaceResolver.class).in(Singleton.class);
+    bind(ValidationWatermarkManager.class).in(Singleton.class);
+    bind(AssetArchiver.class).in(Singleton.class);
+    bind(AssetHistoryIndex.class).in(Singleton.class);
+    bind(LedgerValidationService.class).in(Singleton.class);
+    bind(ValidationWatermarkRegistry.class)
+        .to(ScalarValidationWatermarkRegistry.class)
+        .in(Singleton.class);
 
     // to manage the list of transaction and storage tables for a namespace in Ledger
     Multibinder<TableMetadataProvider> binder =
@@ -93,6 +108,7 @@ public class LedgerModule extends AbstractModule {
     binder.addBinding().to(ScalarSecretRegistry.class);
     binder.addBinding().to(ScalarContractRegistry.class);
     binder.addBinding().to(ScalarFunctionRegistry.class);
+    binder.addBinding().to(ScalarValidationWatermarkRegistry.class);
   }
 
   @Provides
@@ -134,6 +150,26 @@ public class LedgerModule extends AbstractModule {
     }
   }
 
+  @Provides
+  @Singleton
+  AssetProofComposer provideAssetProofComposer(@Nullable SignatureSigner signer) {
+    return new AssetProofComposer(signer, config.isProofAggregationEnabled());
+  }
+
+  @Provides
+  @Singleton
+  Tracer provideTracer() {
+    Tracer tracer = Tracer.create(config.getTracingConfig());
+    Runtime.getRuntime().addShutdownHook(new Thread(tracer::close));
+    return tracer;
+  }
+
+  @Provides
+  @Singleton
+  PhaseStats providePhaseStats(Tracer tracer) {
+    return new PhaseStats(config.isPhaseStatsEnabled(), config.getPhaseStatsMaxTags(), tracer);
+  }
+
   @Provides
   @Singleton
   StorageFactory provideStorageFactory() {
@@ -180,6 +216,46 @@ public class LedgerModule extends AbstractModule {
     return getProtectionDomain();
   }
 
+  @Provides
+  @Singleton
+  ContractLoader provideContractLoader(ProtectionDomain protectionDomain) {
+    return new ContractLoader(protectionDomain, config.getContractLoaderMaxNamespaces());
+  }
+
+  @Provides
+  @Singleton
+  ContractManager provideContractManager(
+      ContractRegistry registry, ContractLoader loader, ClientKeyValidator clientKeyValidator) {
+    return new ContractManager(
+        registry,
+        loader,
+        clientKeyValidator,
+        config.isContractPoolEnabled() ? config.getContractPoolSize() : 0);
+  }
+
+  @Provides
+  @Singleton
+  FunctionCache provideFunctionCache() {
+    if (!config.isFunctionCacheEnabled()) {
+      return FunctionCache.disabled();
+    }
+    return new FunctionCache(
+        config.getFunctionCacheMaxSize(), config.getFunctionCacheRevalidationIntervalMillis());
+  }
+
+  @Provides
+  @Singleton
+  ContentionManager provideContentionManager() {
+    if (!config.isContentionManagerEnabled()) {
+      return ContentionManager.disabled();
+    }
+    return new ContentionManager(
+        config.getContentionManagerHotThreshold(),
+        config.getContentionManagerWindowMillis(),
+        config.getContentionManagerMaxWaitMillis(),
+        config.getContentionManagerMaxSize());
+  }
+
   @Provides
   @Singleton
   @Named("SecretRegistry")
@@ -31,19 +31,23 @@ import com.scalar.dl.ledger.model.SignedFunctionRegistrationRequest;
 import com.scalar.dl.ledger.model.StateRetrievalRequest;
 import com.scalar.dl.ledger.model.StateRetrievalResult;
 import com.scalar.dl.ledger.namespace.Namespaces;
+import com.scalar.dl.ledger.server.PhaseStats;
+import com.scalar.dl.ledger.server.Stats.TimerContext;
 import java.util.List;
 import javax.annotation.concurrent.Immutable;
 
 @Immutable
 public class LedgerService {
+  private static final String SIGNATURE_VALIDATION = "signature_validation";
+  private static final String AUDITOR_SIGNATURE_VALIDATION = "auditor_signature_validation";
   private final BaseService base;
   private final LedgerConfig config;
   private final ClientKeyValidator clientKeyValidator;
   private final AuditorKeyValidator auditorKeyValidator;
   private final ContractExecutor executor;
   private final FunctionManager functionManager;
+  private final PhaseStats phaseStats;
 
-  @Inject
   public LedgerService(
       BaseService base,
       LedgerConfig config,
@@ -51,12 +55,32 @@ public class LedgerService {
       AuditorKeyValidator auditorKeyValidator,
       ContractExecutor executor,
       FunctionManager functionManager) {
+    this(
+        base,
+        config,
+        clientKeyValidator,
+        auditorKeyValidator,
+        executor,
+        functionManager,
+        PhaseStats.disabled());
+  }
+
+  @Inject
+  public LedgerService(
+      BaseService base,
+      LedgerConfig config,
+      ClientKeyValidator clientKeyValidator,
+      AuditorKeyValidator auditorKeyValidator,
+      ContractExecutor executor,
+      FunctionManager functionManager,
+      PhaseStats phaseStats) {
     this.base = base;
     this.config = config;
     this.clientKeyValidator = clientKeyValidator;
     this.auditorKeyValidator = auditorKeyValidator;
     this.executor = executor;
     this.functionManager = functionManager;
+    this.phaseStats = phaseStats;
   }
 
   public void register(CertificateRegistrationRequest request) {
@@ -107,16 +131,23 @@ public class LedgerService {
   }
 
   public ContractExecutionResult execute(ContractExecutionRequest request) {
-    SignatureValidator validator =
-        clientKeyValidator.getValidator(
-            request.getContextNamespaceOrDefault(), request.getEntityId(), request.getKeyVersion());
-    request.validateWith(validator);
+    String namespace = request.getContextNamespaceOrDefault();
+    try (TimerContext unused =
+        phaseStats.measure(SIGNATURE_VALIDATION, namespace, request.getContractId())) {
+      SignatureValidator validator =
+          clientKeyValidator.getValidator(
+              namespace, request.getEntityId(), request.getKeyVersion());
+      request.validateWith(validator);
+    }
 
     if (config.isAuditorEnabled()) {
       checkArgument(
           request.getAuditorSignature() != null,
           LedgerError.AUDITOR_SIGNATURE_REQUIRED.buildMessage());
-      validateSignatureFromAuditor(request);
+      try (TimerContext unused =
+          phaseStats.measure(AUDITOR_SIGNATURE_VALIDATION, namespace, request.getContractId())) {
+        validateSignatureFromAuditor(request);
+      }
     } else { // Auditor is disabled
       checkArgument(
           request.getAuditorSignature() == null,
@@ -1,6 +1,9 @@
 package com.scalar.dl.ledger.service;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.scalar.dl.ledger.config.LedgerConfig;
 import com.scalar.dl.ledger.contract.ContractManager;
@@ -10,10 +13,16 @@ import com.scalar.dl.ledger.database.AssetFilter;
 import com.scalar.dl.ledger.database.AssetProofComposer;
 import com.scalar.dl.ledger.database.Transaction;
 import com.scalar.dl.ledger.database.TransactionManager;
+import com.scalar.dl.ledger.database.scalardb.AssetArchiver;
+import com.scalar.dl.ledger.database.scalardb.AssetHistoryIndex;
 import com.scalar.dl.ledger.error.CommonError;
 import com.scalar.dl.ledger.error.LedgerError;
 import com.scalar.dl.ledger.exception.LedgerException;
 import com.scalar.dl.ledger.exception.ValidationException;
+import com.scalar.dl.ledger.model.AssetArchivingRequest;
+import com.scalar.dl.ledger.model.AssetHistoryIndexingRequest;
+import com.scalar.dl.ledger.model.AssetHistoryProofRetrievalRequest;
+import com.scalar.dl.ledger.model.AssetHistoryProofRetrievalResult;
 import com.scalar.dl.ledger.model.AssetProofRetrievalRequest;
 import com.scalar.dl.ledger.model.LedgerValidationRequest;
 import com.scalar.dl.ledger.model.LedgerValidationResult;
@@ -22,8 +31,19 @@ import com.scalar.dl.ledger.proof.AssetProof;
 import com.scalar.dl.ledger.statemachine.Context;
 import com.scalar.dl.ledger.statemachine.InternalAsset;
 import com.scalar.dl.ledger.validation.LedgerValidator;
+import com.scalar.dl.ledger.validation.PrevHashValidator;
+import com.scalar.dl.ledger.validation.ValidationWatermark;
+import com.scalar.dl.ledger.validation.ValidationWatermarkManager;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import org.slf4j.Logger;
@@ -35,6 +55,11 @@ public class LedgerValidationService extends ValidationService {
   private final LedgerConfig config;
   private final TransactionManager transactionManager;
   private final List<LedgerValidator> givenValidators;
+  @Nullable private final ValidationWatermarkManager watermarkManager;
+  @Nullable private final AssetArchiver archiver;
+  @Nullable private final AssetHistoryIndex historyIndex;
+  // Shared by all the bulk validations so that the number of threads is bounded by the parallelism
+  private final Supplier<ExecutorService> executor;
 
   @Inject
   public LedgerValidationService(
@@ -42,11 +67,23 @@ public class LedgerValidationService extends ValidationService {
       TransactionManager transactionManager,
       ClientKeyValidator clientKeyValidator,
       ContractManager contractManager,
-      AssetProofComposer proofComposer) {
-    super(clientKeyValidator, contractManager, transactionManager, proofComposer);
+      AssetProofComposer proofComposer,
+      ValidationWatermarkManager watermarkManager,
+      AssetArchiver archiver,
+      AssetHistoryIndex historyIndex) {
+    super(
+        clientKeyValidator,
+        contractManager,
+        transactionManager,
+        proofComposer,
+        config.getValidationInputCacheSize());
     this.config = config;
     this.transactionManager = transactionManager;
     this.givenValidators = null;
+    this.watermarkManager = watermarkManager;
+    this.archiver = archiver;
+    this.historyIndex = historyIndex;
+    this.executor = Suppliers.memoize(this::createExecutor);
   }
 
   @VisibleForTesting
@@ -57,10 +94,82 @@ public class LedgerValidationService extends ValidationService {
       ContractManager contractManager,
       AssetProofComposer proofComposer,
       List<LedgerValidator> validators) {
-    super(clientKeyValidator, contractManager, transactionManager, proofComposer);
+    this(
+        config,
+        transactionManager,
+        clientKeyValidator,
+        contractManager,
+        proofComposer,
+        validators,
+        null);
+  }
+
+  @VisibleForTesting
+  LedgerValidationService(
+      LedgerConfig config,
+      TransactionManager transactionManager,
+      ClientKeyValidator clientKeyValidator,
+      ContractManager contractManager,
+      AssetProofComposer proofComposer,
+      List<LedgerValidator> validators,
+      @Nullable ValidationWatermarkManager watermarkManager) {
+    this(
+        config,
+        transactionManager,
+        clientKeyValidator,
+        contractManager,
+        proofComposer,
+        validators,
+        watermarkManager,
+        null);
+  }
+
+  @VisibleForTesting
+  LedgerValidationService(
+      LedgerConfig config,
+      TransactionManager transactionManager,
+      ClientKeyValidator clientKeyValidator,
+      ContractManager contractManager,
+      AssetProofComposer proofComposer,
+      List<LedgerValidator> validators,
+      @Nullable ValidationWatermarkManager watermarkManager,
+      @Nullable AssetArchiver archiver) {
+    this(
+        config,
+        transactionManager,
+        clientKeyValidator,
+        contractManager,
+        proofComposer,
+        validators,
+        watermarkManager,
+        archiver,
+        null);
+  }
+
+  @VisibleForTesting
+  LedgerValidationService(
+      LedgerConfig config,
+      TransactionManager transactionManager,
+      ClientKeyValidator clientKeyValidator,
+      ContractManager contractManager,
+      AssetProofComposer proofComposer,
+      List<LedgerValidator> validators,
+      @Nullable ValidationWatermarkManager watermarkManager,
+      @Nullable AssetArchiver archiver,
+      @Nullable AssetHistoryIndex historyIndex) {
+    super(
+        clientKeyValidator,
+        contractManager,
+        transactionManager,
+        proofComposer,
+        config.getValidationInputCacheSize());
     this.config = config;
     this.transactionManager = transactionManager;
     this.givenValidators = validators;
+    this.watermarkManager = watermarkManager;
+    this.archiver = archiver;
+    this.historyIndex = historyIndex;
+    this.executor = Suppliers.memoize(this::createExecutor);
   }
 
   @Override
@@ -83,6 +192,94 @@ public class LedgerValidationService extends ValidationService {
     }
   }
 
+  /**
+   * Validates the specified asset in the same way as {@link #validate(LedgerValidationRequest)},
+   * but reports the progress to the given consumer every time a page of the asset history has been
+   * validated. The reported result has {@link StatusCode#OK} and the proof of the last validated
+   * asset, so the validation can be resumed later from the next age of the proof. When it is
+   * resumed (i.e., the start age is greater than 0), the previous hash of the first asset is also
+   * validated against the hash of the asset at the preceding age.
+   *
+   * @param request a {@link LedgerValidationRequest}
+   * @param progress a consumer of the progress
+   * @return the final {@link LedgerValidationResult}
+   */
+  public LedgerValidationResult validate(
+      LedgerValidationRequest request, Consumer<LedgerValidationResult> progress) {
+    SignatureValidator validator =
+        clientKeyValidator.getValidator(
+            request.getContextNamespaceOrDefault(), request.getEntityId(), request.getKeyVersion());
+    request.validateWith(validator);
+
+    if (config.isAuditorEnabled()) {
+      // With Auditor, we only provide linearizable validation by executing the contract.
+      throw new LedgerException(LedgerError.INVALID_AUDITOR_CONFIGURATION);
+    }
+
+    return validate(
+        Context.withNamespace(request.getContextNamespaceOrDefault()),
+        request.getNamespace(),
+        request.getAssetId(),
+        request.getStartAge(),
+        request.getEndAge(),
+        true,
+        progress);
+  }
+
+  /**
+   * Validates the assets specified by the given requests in parallel with the executor shared by
+   * all the calls, which has {@code scalar.dl.ledger.validation.parallelism} threads. Each worker
+   * validates one asset at a time.
+   *
+   * @param requests a list of {@link LedgerValidationRequest}s
+   * @return a list of futures of the {@link LedgerValidationResult}s in the same order as the
+   *     requests. A future completes exceptionally if the corresponding validation fails with an
+   *     exception.
+   */
+  public List<CompletableFuture<LedgerValidationResult>> validate(
+      List<LedgerValidationRequest> requests) {
+    List<CompletableFuture<LedgerValidationResult>> futures = new ArrayList<>(requests.size());
+    requests.forEach(r -> futures.add(new CompletableFuture<>()));
+    if (requests.isEmpty()) {
+      return futures;
+    }
+
+    int workers = Math.min(config.getValidationParallelism(), requests.size());
+    AtomicInteger next = new AtomicInteger();
+    try {
+      for (int i = 0; i < workers; i++) {
+        executor
+            .get()
+            .execute(
+                () -> {
+                  int index;
+                  while ((index = next.getAndIncrement()) < requests.size()) {
+                    try {
+                      futures.get(index).complete(validate(requests.get(index)));
+                    } catch (Throwable e) {
+                      futures.get(index).completeExceptionally(e);
+                    }
+                  }
+                });
+      }
+    } catch (RejectedExecutionException e) {
+      // The service has been closed, so the requests not taken by the workers are failed
+      int index;
+      while ((index = next.getAndIncrement()) < requests.size()) {
+        futures.get(index).completeExceptionally(e);
+      }
+    }
+    return futures;
+  }
+
+  /**
+   * Shuts down the executor for the bulk validations. The validations in progress are completed,
+   * but no more bulk validations are accepted.
+   */
+  public void close() {
+    executor.get().shutdown();
+  }
+
   public AssetProof retrieve(AssetProofRetrievalRequest request) {
     // always use the default namespace to authenticate Auditor
     SignatureValidator validator =
@@ -95,9 +292,101 @@ public class LedgerValidationService extends ValidationService {
     return proofComposer.create(namespace, asset);
   }
 
+  /**
+   * Returns a proof that the specified age is included in the history of the specified asset, and
+   * a proof that the history of the specified old size is a prefix of the current history if the
+   * old size is specified. The proofs are created from the history index, so they consist of
+   * {@code O(log n)} hashes and can be verified without replaying the history.
+   *
+   * @param request an {@link AssetHistoryProofRetrievalRequest}
+   * @return an {@link AssetHistoryProofRetrievalResult}
+   * @throws LedgerException if the history index is disabled or the history is not indexed
+   */
+  public AssetHistoryProofRetrievalResult retrieve(AssetHistoryProofRetrievalRequest request) {
+    SignatureValidator validator =
+        clientKeyValidator.getValidator(
+            Namespaces.DEFAULT, request.getEntityId(), request.getKeyVersion());
+    request.validateWith(validator);
+
+    String namespace = request.getNamespace() == null ? Namespaces.DEFAULT : request.getNamespace();
+    return getHistoryIndex()
+        .getProofs(namespace, request.getAssetId(), request.getAge(), request.getOldSize());
+  }
+
+  /**
+   * Indexes the history of the specified asset that was created before the history index was
+   * enabled, so that the proofs of its history can be retrieved. This is a privileged operation.
+   *
+   * @param request an {@link AssetHistoryIndexingRequest}
+   * @return the number of the indexed records
+   * @throws LedgerException if the history index is disabled
+   */
+  public long index(AssetHistoryIndexingRequest request) {
+    String namespace = request.getNamespace() == null ? Namespaces.DEFAULT : request.getNamespace();
+    return getHistoryIndex().index(namespace, request.getAssetId());
+  }
+
+  /**
+   * Validates the specified asset from its first age (or from its validation watermark) and moves
+   * the validated records except for {@code scalar.dl.ledger.archive.retained_ages} latest ones
+   * to the asset_archive table. This is a privileged operation, and the validation itself (e.g.,
+   * {@link #validate(LedgerValidationRequest)}) never archives records.
+   *
+   * @param request an {@link AssetArchivingRequest}
+   * @return the number of the archived records
+   * @throws LedgerException if the archive is disabled
+   * @throws ValidationException if the validation of the asset fails
+   */
+  public int archive(AssetArchivingRequest request) {
+    if (archiver == null || !archiver.isEnabled()) {
+      throw new LedgerException(LedgerError.ASSET_ARCHIVE_DISABLED);
+    }
+    if (config.isAuditorEnabled()) {
+      // The ages are not validated by Ledger alone with Auditor
+      throw new LedgerException(LedgerError.INVALID_AUDITOR_CONFIGURATION);
+    }
+
+    String namespace = request.getNamespace() == null ? Namespaces.DEFAULT : request.getNamespace();
+    LedgerValidationResult result =
+        validate(
+            Context.withNamespace(Namespaces.DEFAULT),
+            namespace,
+            request.getAssetId(),
+            0,
+            Integer.MAX_VALUE);
+    if (result.getCode() != StatusCode.OK || !result.getLedgerProof().isPresent()) {
+      throw new ValidationException(
+          LedgerError.ARCHIVING_UNVALIDATED_ASSET.buildMessage(
+              request.getAssetId(), result.getCode()),
+          result.getCode());
+    }
+
+    // All the ages up to the proof have been validated, so they can be moved to the archive
+    return archiver.archive(
+        namespace, request.getAssetId(), result.getLedgerProof().get().getAge());
+  }
+
+  private AssetHistoryIndex getHistoryIndex() {
+    if (historyIndex == null) {
+      throw new LedgerException(LedgerError.ASSET_HISTORY_INDEX_DISABLED);
+    }
+    return historyIndex;
+  }
+
   @VisibleForTesting
   LedgerValidationResult validate(
       Context context, @Nullable String namespace, String assetId, int startAge, int endAge) {
+    return validate(context, namespace, assetId, startAge, endAge, false, result -> {});
+  }
+
+  private LedgerValidationResult validate(
+      Context context,
+      @Nullable String namespace,
+      String assetId,
+      int startAge,
+      int endAge,
+      boolean resumed,
+      Consumer<LedgerValidationResult> progress) {
     if (namespace == null) {
       namespace = context.getNamespace();
     }
@@ -114,22 +403,78 @@ public class LedgerValidationService extends ValidationService {
     }
 
     InternalAsset last = null;
-    for (InternalAsset asset : getAssets(namespace, assetId, startAge, endAge)) {
-      StatusCode code;
+    int nextAge = startAge;
+    // The watermark can be moved only if all the ages before nextAge have been validated
+    boolean watermarkable = startAge == 0;
+    int watermarkAge = -1;
+    if (watermarkManager != null && watermarkManager.isEnabled()) {
+      Optional<ValidationWatermark> watermark;
       try {
-        code = validateEach(context, validators, namespace, asset);
+        watermark = watermarkManager.get(namespace, assetId);
       } catch (ValidationException e) {
-        assert e.getCode() != null;
-        code = e.getCode();
         LOGGER.error(e.getMessage());
-      } catch (LedgerException e) {
-        LOGGER.error("validation failed", e);
-        throw e;
+        return new LedgerValidationResult(e.getCode(), null, null);
+      }
+      if (watermark.isPresent()
+          && startAge <= watermark.get().getAge() + 1
+          && watermark.get().getAge() < endAge) {
+        // Skip the ages that have already been validated and check that the hash chain links to
+        // the watermark
+        watermarkAge = watermark.get().getAge();
+        List<InternalAsset> marked = getAssets(namespace, assetId, watermarkAge, watermarkAge, 1);
+        if (marked.isEmpty() || !Arrays.equals(marked.get(0).hash(), watermark.get().getHash())) {
+          LOGGER.error(
+              LedgerError.VALIDATION_WATERMARK_NOT_MATCHED.buildMessage(assetId, watermarkAge));
+          return new LedgerValidationResult(
+              StatusCode.INCONSISTENT_STATES,
+              marked.isEmpty() ? null : proofComposer.create(namespace, marked.get(0)),
+              null);
+        }
+        initializePrevHash(validators, watermark.get().getHash());
+        last = marked.get(0);
+        nextAge = watermarkAge + 1;
+        watermarkable = true;
+      }
+    }
+    if (resumed && startAge > 0 && watermarkAge < 0) {
+      resumePrevHashValidation(validators, namespace, assetId, startAge);
+    }
+
+    // The history is read and validated page by page, each in its own transaction, so that the
+    // memory usage and the transaction duration do not depend on the length of the history. The
+    // validators (e.g., PrevHashValidator) keep their state across the pages.
+    int pageSize = config.getValidationPageSize();
+    while (nextAge <= endAge) {
+      List<InternalAsset> assets = getAssets(namespace, assetId, nextAge, endAge, pageSize);
+      prefetchInputs(context, assets);
+      for (InternalAsset asset : assets) {
+        StatusCode code;
+        try {
+          code = validateEach(context, validators, namespace, asset);
+        } catch (ValidationException e) {
+          assert e.getCode() != null;
+          code = e.getCode();
+          LOGGER.error(e.getMessage());
+        } catch (LedgerException e) {
+          LOGGER.error("validation failed", e);
+          throw e;
+        }
+        if (code != StatusCode.OK) {
+          return new LedgerValidationResult(code, proofComposer.create(namespace, asset), null);
+        }
+        last = asset;
+      }
+      if (watermarkable && last != null && last.age() > watermarkAge) {
+        updateWatermark(namespace, last);
+        watermarkAge = last.age();
       }
-      if (code != StatusCode.OK) {
-        return new LedgerValidationResult(code, proofComposer.create(namespace, asset), null);
+
+      if (assets.size() < pageSize || last == null || last.age() >= endAge) {
+        break;
       }
-      last = asset;
+      progress.accept(
+          new LedgerValidationResult(StatusCode.OK, proofComposer.create(namespace, last), null));
+      nextAge = last.age() + 1;
     }
 
     if (last == null) {
@@ -138,10 +483,44 @@ public class LedgerValidationService extends ValidationService {
     return new LedgerValidationResult(StatusCode.OK, proofComposer.create(namespace, last), null);
   }
 
+  private ExecutorService createExecutor() {
+    return Executors.newFixedThreadPool(
+        config.getValidationParallelism(),
+        new ThreadFactoryBuilder().setNameFormat("ledger-validation-%d").setDaemon(true).build());
+  }
+
+  private void resumePrevHashValidation(
+      List<LedgerValidator> validators, String namespace, String assetId, int startAge) {
+    List<InternalAsset> previous = getAssets(namespace, assetId, startAge - 1, startAge - 1, 1);
+    if (!previous.isEmpty()) {
+      initializePrevHash(validators, previous.get(0).hash());
+    }
+  }
+
+  private void initializePrevHash(List<LedgerValidator> validators, byte[] prevHash) {
+    for (LedgerValidator validator : validators) {
+      if (validator instanceof PrevHashValidator) {
+        ((PrevHashValidator) validator).initialize(prevHash);
+      }
+    }
+  }
+
+  private void updateWatermark(String namespace, InternalAsset asset) {
+    if (watermarkManager == null || !watermarkManager.isEnabled()) {
+      return;
+    }
+    try {
+      watermarkManager.put(namespace, asset);
+    } catch (LedgerException e) {
+      // The validation itself succeeded, so the next validation just checks more ages
+      LOGGER.warn("failed to update the validation watermark of " + asset.id(), e);
+    }
+  }
+
   @VisibleForTesting
   InternalAsset retrieve(String namespace, String assetId, int age) {
     if (age >= 0 && age < Integer.MAX_VALUE) {
-      List<InternalAsset> assets = getAssets(namespace, assetId, age, age);
+      List<InternalAsset> assets = getAssets(namespace, assetId, age, age, 0);
       if (!assets.isEmpty()) {
         // For now, it doesn't do per-ledger validation
         return assets.get(0);
@@ -170,14 +549,15 @@ public class LedgerValidationService extends ValidationService {
   }
 
   private List<InternalAsset> getAssets(
-      String namespace, String assetId, int startAge, int endAge) {
+      String namespace, String assetId, int startAge, int endAge, int limit) {
     Transaction transaction = transactionManager.startWith();
 
     AssetFilter filter =
         new AssetFilter(namespace, assetId)
             .withStartAge(startAge, true)
             .withEndAge(endAge, true)
-            .withAgeOrder(AssetFilter.AgeOrder.ASC);
+            .withAgeOrder(AssetFilter.AgeOrder.ASC)
+            .withLimit(limit);
 
     try {
       List<InternalAsset> assets = transaction.getLedger().scan(filter);
@@ -28,18 +28,20 @@ import java.util.List;
 public abstract class ValidationService {
   protected final ClientKeyValidator clientKeyValidator;
   protected final ContractManager contractManager;
-  private final TransactionManager transactionManager;
   protected final AssetProofComposer proofComposer;
+  private final LedgerTracerManager tracerManager;
 
   protected ValidationService(
       ClientKeyValidator clientKeyValidator,
       ContractManager contractManager,
       TransactionManager transactionManager,
-      AssetProofComposer proofComposer) {
+      AssetProofComposer proofComposer,
+      long inputCacheSize) {
     this.clientKeyValidator = clientKeyValidator;
     this.contractManager = contractManager;
-    this.transactionManager = transactionManager;
     this.proofComposer = proofComposer;
+    this.tracerManager =
+        new TransactionScannableLedgerTracerManager(transactionManager, inputCacheSize);
   }
 
   public abstract LedgerValidationResult validate(LedgerValidationRequest request);
@@ -67,19 +69,31 @@ public abstract class ValidationService {
     String contractArgument = Argument.getContractArgument(asset.argument());
     contract.invoke(tracer, contractArgument, entry.getProperties().orElse(null));
 
+    StatusCode code = StatusCode.OK;
     for (LedgerValidator validator : validators) {
-      StatusCode code = validator.validate(tracer, contract, namespace, asset);
+      code = validator.validate(tracer, contract, namespace, asset);
       if (code != StatusCode.OK) {
-        return code;
+        break;
       }
     }
-    return StatusCode.OK;
+    // The invocation has succeeded, so the instance can be reused by the later validations
+    contractManager.release(context.getNamespace(), entry, contract);
+    return code;
+  }
+
+  /**
+   * Retrieves the input dependencies of the specified assets at once before they are validated one
+   * by one with {@link #validateEach(Context, List, String, InternalAsset)}.
+   *
+   * @param context a {@link Context} of the validation
+   * @param assets a list of assets to be validated
+   */
+  protected void prefetchInputs(Context context, List<InternalAsset> assets) {
+    tracerManager.prefetch(context, assets);
   }
 
   @VisibleForTesting
   LedgerTracerBase<?> getLedgerTracerBase(Context context, DeserializationType type) {
-    LedgerTracerManager tracerManager =
-        new TransactionScannableLedgerTracerManager(transactionManager);
     return tracerManager.start(context, type);
   }
 }
@@ -1,14 +1,19 @@
 package com.scalar.dl.ledger.statemachine;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
+import com.scalar.dl.ledger.error.CommonError;
+import com.scalar.dl.ledger.exception.InvalidJsonException;
 import com.scalar.dl.ledger.namespace.Namespaces;
 import com.scalar.dl.ledger.statemachine.AssetInput.AssetInputEntry;
 import com.scalar.dl.ledger.util.JacksonSerDe;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
@@ -116,36 +121,47 @@ public class AssetInput implements Iterable<AssetInputEntry> {
     return toV2String(entriesPerNamespace);
   }
 
+  // The JSON is written with a streaming generator instead of building a tree of nodes, which
+  // produces exactly the same string as serializing the corresponding tree.
   private String toV1String(ImmutableSet<AssetInputEntry> assets) {
-    ObjectNode objectNode = mapper.createObjectNode();
-    assets.forEach(
-        asset -> {
-          ObjectNode element = mapper.createObjectNode();
-          element.put(KEY_AGE, asset.age());
-          objectNode.set(asset.id(), element);
-        });
-    return serde.serialize(objectNode);
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+      generator.writeStartObject();
+      writeAssets(generator, assets);
+      generator.writeEndObject();
+    } catch (IOException e) {
+      throw new InvalidJsonException(CommonError.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+    return writer.toString();
   }
 
   private String toV2String(ImmutableSetMultimap<String, AssetInputEntry> entriesPerNamespace) {
-    ObjectNode objectNode = mapper.createObjectNode();
-    entriesPerNamespace
-        .asMap()
-        .forEach(
-            (namespace, assets) -> {
-              ObjectNode namespaceNode = mapper.createObjectNode();
-              assets.forEach(
-                  asset -> {
-                    ObjectNode element = mapper.createObjectNode();
-                    element.put(KEY_AGE, asset.age());
-                    namespaceNode.set(asset.id(), element);
-                  });
-              objectNode.set(namespace, namespaceNode);
-            });
-    if (!entriesPerNamespace.isEmpty()) {
-      objectNode.put(KEY_VERSION, INPUT_FORMAT_VERSION);
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+      generator.writeStartObject();
+      for (Map.Entry<String, Collection<AssetInputEntry>> entry :
+          entriesPerNamespace.asMap().entrySet()) {
+        generator.writeObjectFieldStart(entry.getKey());
+        writeAssets(generator, entry.getValue());
+        generator.writeEndObject();
+      }
+      if (!entriesPerNamespace.isEmpty()) {
+        generator.writeNumberField(KEY_VERSION, INPUT_FORMAT_VERSION);
+      }
+      generator.writeEndObject();
+    } catch (IOException e) {
+      throw new InvalidJsonException(CommonError.JSON_SERIALIZATION_FAILED, e, e.getMessage());
+    }
+    return writer.toString();
+  }
+
+  private void writeAssets(JsonGenerator generator, Collection<AssetInputEntry> assets)
+      throws IOException {
+    for (AssetInputEntry asset : assets) {
+      generator.writeObjectFieldStart(asset.id());
+      generator.writeNumberField(KEY_AGE, asset.age());
+      generator.writeEndObject();
     }
-    return serde.serialize(objectNode);
   }
 
   @Immutable
@@ -14,6 +14,7 @@ import com.scalar.dl.ledger.statemachine.Context;
 import com.scalar.dl.ledger.statemachine.InternalAsset;
 import com.scalar.dl.ledger.statemachine.MetadataComprisedAsset;
 import com.scalar.dl.ledger.util.JacksonSerDe;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +32,7 @@ public class JacksonBasedLedgerTracer extends LedgerTracerBase<JsonNode> {
   @Override
   public void setInput(String input) {
     AssetInput assetInput = new AssetInput(input);
+    scanner.prefetch(context.getNamespace(), Collections.singletonList(assetInput));
     assetInput.forEach(
         eachInput -> {
           String inputNamespace =
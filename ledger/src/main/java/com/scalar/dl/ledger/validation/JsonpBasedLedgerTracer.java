@@ -12,6 +12,7 @@ import com.scalar.dl.ledger.statemachine.Context;
 import com.scalar.dl.ledger.statemachine.InternalAsset;
 import com.scalar.dl.ledger.statemachine.MetadataComprisedAsset;
 import com.scalar.dl.ledger.util.JsonpSerDe;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,7 @@ public class JsonpBasedLedgerTracer extends LedgerTracerBase<JsonObject> {
   @Override
   public void setInput(String input) {
     AssetInput assetInput = new AssetInput(input);
+    scanner.prefetch(context.getNamespace(), Collections.singletonList(assetInput));
     assetInput.forEach(
         eachInput -> {
           String inputNamespace =
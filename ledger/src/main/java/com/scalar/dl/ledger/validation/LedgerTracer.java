@@ -15,6 +15,7 @@ import com.scalar.dl.ledger.statemachine.AssetKey;
 import com.scalar.dl.ledger.statemachine.Context;
 import com.scalar.dl.ledger.statemachine.InternalAsset;
 import com.scalar.dl.ledger.util.JsonpSerDe;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +55,7 @@ public class LedgerTracer implements Ledger {
 
   public void setInput(String input) {
     AssetInput assetInput = new AssetInput(input);
+    scanner.prefetch(context.getNamespace(), Collections.singletonList(assetInput));
     assetInput.forEach(
         eachInput -> {
           String inputNamespace =
@@ -2,8 +2,19 @@ package com.scalar.dl.ledger.validation;
 
 import com.scalar.dl.ledger.statemachine.Context;
 import com.scalar.dl.ledger.statemachine.DeserializationType;
+import com.scalar.dl.ledger.statemachine.InternalAsset;
+import java.util.List;
 
 public interface LedgerTracerManager {
 
   LedgerTracerBase<?> start(Context context, DeserializationType type);
+
+  /**
+   * Retrieves the input dependencies of the specified assets in advance so that the tracers of the
+   * assets do not have to retrieve them one by one. It does nothing by default.
+   *
+   * @param context a {@link Context} of the validation
+   * @param assets a list of assets to be validated
+   */
+  default void prefetch(Context context, List<InternalAsset> assets) {}
 }
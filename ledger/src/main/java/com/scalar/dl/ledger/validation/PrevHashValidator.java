@@ -1,6 +1,5 @@
 package com.scalar.dl.ledger.validation;
 
-import com.google.common.annotations.VisibleForTesting;
 import com.scalar.dl.ledger.contract.ContractMachine;
 import com.scalar.dl.ledger.error.LedgerError;
 import com.scalar.dl.ledger.exception.ValidationException;
@@ -24,7 +23,6 @@ public class PrevHashValidator implements LedgerValidator {
     prevHash = null;
   }
 
-  @VisibleForTesting
   @SuppressFBWarnings("EI_EXPOSE_REP2")
   public void initialize(byte[] prevHash) {
     this.prevHash = prevHash;
@@ -12,6 +12,7 @@ import com.scalar.dl.ledger.statemachine.Context;
 import com.scalar.dl.ledger.statemachine.InternalAsset;
 import com.scalar.dl.ledger.statemachine.MetadataComprisedAsset;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -27,6 +28,7 @@ public class StringBasedLedgerTracer extends LedgerTracerBase<String> {
   @Override
   public void setInput(String input) {
     AssetInput assetInput = new AssetInput(input);
+    scanner.prefetch(context.getNamespace(), Collections.singletonList(assetInput));
     assetInput.forEach(
         eachInput -> {
           String inputNamespace =
@@ -2,23 +2,32 @@ package com.scalar.dl.ledger.validation;
 
 import com.scalar.dl.ledger.database.AssetScanner;
 import com.scalar.dl.ledger.database.TransactionManager;
-import com.scalar.dl.ledger.database.scalardb.TransactionAssetScanner;
+import com.scalar.dl.ledger.database.scalardb.PrefetchingAssetScanner;
 import com.scalar.dl.ledger.error.CommonError;
+import com.scalar.dl.ledger.statemachine.AssetInput;
 import com.scalar.dl.ledger.statemachine.Context;
 import com.scalar.dl.ledger.statemachine.DeserializationType;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import com.scalar.dl.ledger.statemachine.InternalAsset;
+import java.util.ArrayList;
+import java.util.List;
 
 public class TransactionScannableLedgerTracerManager implements LedgerTracerManager {
-  private final TransactionManager manager;
+  private final AssetScanner scanner;
 
-  @SuppressFBWarnings("EI_EXPOSE_REP2")
-  public TransactionScannableLedgerTracerManager(TransactionManager manager) {
-    this.manager = manager;
+  /**
+   * Constructs a {@code TransactionScannableLedgerTracerManager}.
+   *
+   * @param manager a {@link TransactionManager}
+   * @param inputCacheSize the maximum number of the input assets cached across the validations
+   */
+  public TransactionScannableLedgerTracerManager(TransactionManager manager, long inputCacheSize) {
+    // The scanner is shared by the tracers so that the inputs cached for an asset are reused in
+    // the validation of the other assets
+    this.scanner = new PrefetchingAssetScanner(manager, inputCacheSize);
   }
 
   @Override
   public LedgerTracerBase<?> start(Context context, DeserializationType type) {
-    AssetScanner scanner = new TransactionAssetScanner(manager);
     switch (type) {
       case DEPRECATED:
         return new DeprecatedLedgerTracer(new LedgerTracer(context, scanner));
@@ -33,4 +42,17 @@ public class TransactionScannableLedgerTracerManager implements LedgerTracerMana
             CommonError.UNSUPPORTED_DESERIALIZATION_TYPE.buildMessage(type));
     }
   }
+
+  @Override
+  public void prefetch(Context context, List<InternalAsset> assets) {
+    List<AssetInput> inputs = new ArrayList<>(assets.size());
+    for (InternalAsset asset : assets) {
+      try {
+        inputs.add(new AssetInput(asset.input()));
+      } catch (RuntimeException e) {
+        // A malformed input is reported when the asset is validated
+      }
+    }
+    scanner.prefetch(context.getNamespace(), inputs);
+  }
 }
@@ -0,0 +1,121 @@
+package com.scalar.dl.ledger.validation;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A signed record of the last age of an asset that has been validated, together with the hash of
+ * the asset record at that age. Since every age up to the watermark has been validated, a
+ * subsequent validation only needs to check the ages above it and that the hash chain links to it.
+ */
+@Immutable
+public class ValidationWatermark {
+  public static final String ASSET_ID = "asset_id";
+  public static final String AGE = "age";
+  public static final String HASH = "hash";
+  public static final String SIGNATURE = "signature";
+  private final String assetId;
+  private final int age;
+  private final byte[] hash;
+  private final byte[] signature;
+
+  /**
+   * Constructs a {@code ValidationWatermark} with the specified asset ID, age, hash and signature.
+   *
+   * @param assetId the ID of an asset
+   * @param age the last validated age of the asset
+   * @param hash the hash of the asset record at the age
+   * @param signature the signature of the watermark
+   */
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public ValidationWatermark(String assetId, int age, byte[] hash, byte[] signature) {
+    this.assetId = assetId;
+    this.age = age;
+    this.hash = hash;
+    this.signature = signature;
+  }
+
+  /**
+   * Returns the ID of the asset.
+   *
+   * @return the ID of the asset
+   */
+  public String getAssetId() {
+    return assetId;
+  }
+
+  /**
+   * Returns the last validated age of the asset.
+   *
+   * @return the last validated age of the asset
+   */
+  public int getAge() {
+    return age;
+  }
+
+  /**
+   * Returns the hash of the asset record at the last validated age.
+   *
+   * @return the hash of the asset record at the last validated age
+   */
+  @SuppressFBWarnings("EI_EXPOSE_REP")
+  public byte[] getHash() {
+    return hash;
+  }
+
+  /**
+   * Returns the signature of the watermark.
+   *
+   * @return the signature of the watermark
+   */
+  @SuppressFBWarnings("EI_EXPOSE_REP")
+  public byte[] getSignature() {
+    return signature;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(assetId, age, Arrays.hashCode(hash), Arrays.hashCode(signature));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof ValidationWatermark)) {
+      return false;
+    }
+    ValidationWatermark other = (ValidationWatermark) o;
+    return this.assetId.equals(other.assetId)
+        && this.age == other.age
+        && Arrays.equals(this.hash, other.hash)
+        && Arrays.equals(this.signature, other.signature);
+  }
+
+  public static byte[] serialize(String namespace, String assetId, int age, byte[] hash) {
+    byte[] namespaceBytes = namespace.getBytes(StandardCharsets.UTF_8);
+    byte[] assetIdBytes = assetId.getBytes(StandardCharsets.UTF_8);
+
+    ByteBuffer buffer =
+        ByteBuffer.allocate(
+            Integer.BYTES
+                + namespaceBytes.length
+                + Integer.BYTES
+                + assetIdBytes.length
+                + Integer.BYTES
+                + hash.length);
+    buffer.putInt(namespaceBytes.length);
+    buffer.put(namespaceBytes);
+    buffer.putInt(assetIdBytes.length);
+    buffer.put(assetIdBytes);
+    buffer.putInt(age);
+    buffer.put(hash);
+    buffer.rewind();
+    return buffer.array();
+  }
+}
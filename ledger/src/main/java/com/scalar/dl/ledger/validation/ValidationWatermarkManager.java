@@ -0,0 +1,82 @@
+package com.scalar.dl.ledger.validation;
+
+import com.google.inject.Inject;
+import com.scalar.dl.ledger.config.LedgerConfig;
+import com.scalar.dl.ledger.crypto.HmacSigner;
+import com.scalar.dl.ledger.crypto.HmacValidator;
+import com.scalar.dl.ledger.database.ValidationWatermarkRegistry;
+import com.scalar.dl.ledger.error.LedgerError;
+import com.scalar.dl.ledger.exception.ValidationException;
+import com.scalar.dl.ledger.statemachine.InternalAsset;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A manager of the {@link ValidationWatermark}s. The watermarks are signed with HMAC using {@code
+ * scalar.dl.ledger.validation.watermark.secret_key} so that a watermark written to the database by
+ * anyone other than Ledger is detected instead of letting validation skip unvalidated ages.
+ */
+@ThreadSafe
+public class ValidationWatermarkManager {
+  private final ValidationWatermarkRegistry registry;
+  @Nullable private final HmacSigner signer;
+  @Nullable private final HmacValidator validator;
+
+  @Inject
+  public ValidationWatermarkManager(LedgerConfig config, ValidationWatermarkRegistry registry) {
+    this.registry = registry;
+    if (config.isValidationWatermarkEnabled()) {
+      this.signer = new HmacSigner(config.getValidationWatermarkSecretKey());
+      this.validator = new HmacValidator(config.getValidationWatermarkSecretKey());
+    } else {
+      this.signer = null;
+      this.validator = null;
+    }
+  }
+
+  public boolean isEnabled() {
+    return signer != null;
+  }
+
+  /**
+   * Returns the watermark of the specified asset.
+   *
+   * @param namespace a namespace of the asset
+   * @param assetId an ID of the asset
+   * @return an {@code Optional} with the watermark, or an empty {@code Optional} if the watermark
+   *     is disabled or the asset has not been validated yet
+   * @throws ValidationException if the signature of the watermark is invalid
+   */
+  public Optional<ValidationWatermark> get(String namespace, String assetId) {
+    if (validator == null) {
+      return Optional.empty();
+    }
+    Optional<ValidationWatermark> watermark = registry.lookup(namespace, assetId);
+    watermark.ifPresent(
+        w -> {
+          byte[] bytes = ValidationWatermark.serialize(namespace, assetId, w.getAge(), w.getHash());
+          if (!validator.validate(bytes, w.getSignature())) {
+            throw new ValidationException(LedgerError.INVALID_VALIDATION_WATERMARK, assetId);
+          }
+        });
+    return watermark;
+  }
+
+  /**
+   * Moves the watermark of the specified asset to the given asset record, which must have been
+   * validated along with all the preceding ages.
+   *
+   * @param namespace a namespace of the asset
+   * @param asset the last validated asset record
+   */
+  public void put(String namespace, InternalAsset asset) {
+    if (signer == null) {
+      return;
+    }
+    byte[] signature =
+        signer.sign(ValidationWatermark.serialize(namespace, asset.id(), asset.age(), asset.hash()));
+    registry.bind(
+        namespace, new ValidationWatermark(asset.id(), asset.age(), asset.hash(), signature));
+  }
+}
@@ -0,0 +1,105 @@
+package com.scalar.dl.ledger.asset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class AssetRecordEncoderTest {
+  private static final String ANY_ID = "id";
+  private static final int ANY_AGE = 1;
+  private static final String ANY_INPUT = "{\"id1\":{\"age\":1},\"\u8cc7\u7523\":{\"age\":3}}";
+  private static final String ANY_OUTPUT = "{\"balance\":1100,\"memo\":\"\u00e9\"}";
+  private static final String ANY_CONTRACT_ID = "com.any.contract.AnyContract";
+  private static final String ANY_ARGUMENT = "{\"asset_ids\":[\"id1\",\"id2\"],\"amount\":100}";
+  private static final byte[] ANY_SIGNATURE = "signature".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] ANY_PREV_HASH = "prev_hash".getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  public void hash_RecordGiven_ShouldReturnSameAsAssetHasher() {
+    // Arrange
+    AssetRecordEncoder encoder =
+        new AssetRecordEncoder(ANY_INPUT, ANY_CONTRACT_ID, ANY_ARGUMENT, ANY_SIGNATURE);
+    byte[] expected =
+        new AssetHasher.Builder()
+            .id(ANY_ID)
+            .age(ANY_AGE)
+            .input(ANY_INPUT)
+            .output(ANY_OUTPUT)
+            .contractId(ANY_CONTRACT_ID)
+            .argument(ANY_ARGUMENT)
+            .signature(ANY_SIGNATURE)
+            .prevHash(ANY_PREV_HASH)
+            .build()
+            .get();
+
+    // Act
+    byte[] actual = encoder.hash(ANY_ID, ANY_AGE, ANY_OUTPUT, ANY_PREV_HASH);
+
+    // Assert
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public void hash_FirstRecordGiven_ShouldReturnSameAsAssetHasher() {
+    // Arrange
+    AssetRecordEncoder encoder =
+        new AssetRecordEncoder(ANY_INPUT, ANY_CONTRACT_ID, ANY_ARGUMENT, ANY_SIGNATURE);
+    byte[] expected =
+        new AssetHasher.Builder()
+            .id(ANY_ID)
+            .age(0)
+            .input(ANY_INPUT)
+            .output(ANY_OUTPUT)
+            .contractId(ANY_CONTRACT_ID)
+            .argument(ANY_ARGUMENT)
+            .signature(ANY_SIGNATURE)
+            .build()
+            .get();
+
+    // Act
+    byte[] actual = encoder.hash(ANY_ID, 0, ANY_OUTPUT, null);
+
+    // Assert
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public void hash_RecordsOfDifferentAssetsGiven_ShouldReturnDifferentHashes() {
+    // Arrange
+    AssetRecordEncoder encoder =
+        new AssetRecordEncoder(ANY_INPUT, ANY_CONTRACT_ID, ANY_ARGUMENT, ANY_SIGNATURE);
+
+    // Act
+    byte[] hash1 = encoder.hash("id1", ANY_AGE, ANY_OUTPUT, ANY_PREV_HASH);
+    byte[] hash2 = encoder.hash("id2", ANY_AGE, ANY_OUTPUT, ANY_PREV_HASH);
+
+    // Assert
+    assertThat(hash1).isNotEqualTo(hash2);
+  }
+
+  @Test
+  public void hash_PrevHashNotGivenForNonZeroAge_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    AssetRecordEncoder encoder =
+        new AssetRecordEncoder(ANY_INPUT, ANY_CONTRACT_ID, ANY_ARGUMENT, ANY_SIGNATURE);
+
+    // Act
+    Throwable thrown = catchThrowable(() -> encoder.hash(ANY_ID, ANY_AGE, ANY_OUTPUT, null));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_NullSignatureGiven_ShouldThrowIllegalArgumentException() {
+    // Act
+    Throwable thrown =
+        catchThrowable(
+            () -> new AssetRecordEncoder(ANY_INPUT, ANY_CONTRACT_ID, ANY_ARGUMENT, null));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+}
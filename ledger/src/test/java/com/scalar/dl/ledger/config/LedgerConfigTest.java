@@ -56,7 +56,10 @@ public class LedgerConfigTest {
     assertThat(config.isServerTlsEnabled()).isEqualTo(LedgerConfig.DEFAULT_TLS_ENABLED);
     assertThat(config.getGrpcServerConfig().getMaxInboundMessageSize()).isEqualTo(0);
     assertThat(config.getGrpcServerConfig().getMaxInboundMetadataSize()).isEqualTo(0);
+    assertThat(config.getGrpcServerConfig().getExecutor()).isEqualTo(GrpcServerExecutor.DEFAULT);
     assertThat(config.isProofEnabled()).isEqualTo(LedgerConfig.DEFAULT_PROOF_ENABLED);
+    assertThat(config.isProofAggregationEnabled())
+        .isEqualTo(LedgerConfig.DEFAULT_PROOF_AGGREGATION_ENABLED);
     assertThat(config.isFunctionEnabled()).isEqualTo(LedgerConfig.DEFAULT_FUNCTION_ENABLED);
     assertThat(config.isNonPrivilegedPortFunctionRegistrationEnabled())
         .isEqualTo(LedgerConfig.DEFAULT_NON_PRIVILEGED_PORT_FUNCTION_REGISTRATION_ENABLED);
@@ -70,6 +73,63 @@ public class LedgerConfigTest {
         .isEqualTo(LedgerConfig.DEFAULT_DIRECT_ASSET_ACCESS_ENABLED);
     assertThat(config.isTxStateManagementEnabled())
         .isEqualTo(LedgerConfig.DEFAULT_TX_STATE_MANAGEMENT_ENABLED);
+    assertThat(config.isGroupCommitEnabled()).isEqualTo(LedgerConfig.DEFAULT_GROUP_COMMIT_ENABLED);
+    assertThat(config.getGroupCommitMaxSize())
+        .isEqualTo(LedgerConfig.DEFAULT_GROUP_COMMIT_MAX_SIZE);
+    assertThat(config.getGroupCommitWindowMillis())
+        .isEqualTo(LedgerConfig.DEFAULT_GROUP_COMMIT_WINDOW_MILLIS);
+    assertThat(config.getGroupCommitTimeoutMillis())
+        .isEqualTo(LedgerConfig.DEFAULT_GROUP_COMMIT_TIMEOUT_MILLIS);
+    assertThat(config.isAssetCacheEnabled()).isEqualTo(LedgerConfig.DEFAULT_ASSET_CACHE_ENABLED);
+    assertThat(config.getAssetCacheMaxSize()).isEqualTo(LedgerConfig.DEFAULT_ASSET_CACHE_MAX_SIZE);
+    assertThat(config.getContractLoaderMaxNamespaces())
+        .isEqualTo(LedgerConfig.DEFAULT_CONTRACT_LOADER_MAX_NAMESPACES);
+    assertThat(config.isContractPoolEnabled())
+        .isEqualTo(LedgerConfig.DEFAULT_CONTRACT_POOL_ENABLED);
+    assertThat(config.getContractPoolSize()).isEqualTo(LedgerConfig.DEFAULT_CONTRACT_POOL_SIZE);
+    assertThat(config.isFunctionCacheEnabled())
+        .isEqualTo(LedgerConfig.DEFAULT_FUNCTION_CACHE_ENABLED);
+    assertThat(config.getFunctionCacheMaxSize())
+        .isEqualTo(LedgerConfig.DEFAULT_FUNCTION_CACHE_MAX_SIZE);
+    assertThat(config.getFunctionCacheRevalidationIntervalMillis())
+        .isEqualTo(LedgerConfig.DEFAULT_FUNCTION_CACHE_REVALIDATION_INTERVAL_MILLIS);
+    assertThat(config.isContentionManagerEnabled())
+        .isEqualTo(LedgerConfig.DEFAULT_CONTENTION_MANAGER_ENABLED);
+    assertThat(config.getContentionManagerHotThreshold())
+        .isEqualTo(LedgerConfig.DEFAULT_CONTENTION_MANAGER_HOT_THRESHOLD);
+    assertThat(config.getContentionManagerWindowMillis())
+        .isEqualTo(LedgerConfig.DEFAULT_CONTENTION_MANAGER_WINDOW_MILLIS);
+    assertThat(config.getContentionManagerMaxWaitMillis())
+        .isEqualTo(LedgerConfig.DEFAULT_CONTENTION_MANAGER_MAX_WAIT_MILLIS);
+    assertThat(config.getContentionManagerMaxSize())
+        .isEqualTo(LedgerConfig.DEFAULT_CONTENTION_MANAGER_MAX_SIZE);
+    assertThat(config.isAssetCompressionEnabled())
+        .isEqualTo(LedgerConfig.DEFAULT_ASSET_COMPRESSION_ENABLED);
+    assertThat(config.getAssetCompressionMinSize())
+        .isEqualTo(LedgerConfig.DEFAULT_ASSET_COMPRESSION_MIN_SIZE);
+    assertThat(config.getValidationPageSize())
+        .isEqualTo(LedgerConfig.DEFAULT_VALIDATION_PAGE_SIZE);
+    assertThat(config.getValidationInputCacheSize())
+        .isEqualTo(LedgerConfig.DEFAULT_VALIDATION_INPUT_CACHE_SIZE);
+    assertThat(config.getValidationParallelism())
+        .isEqualTo(LedgerConfig.DEFAULT_VALIDATION_PARALLELISM);
+    assertThat(config.isValidationWatermarkEnabled())
+        .isEqualTo(LedgerConfig.DEFAULT_VALIDATION_WATERMARK_ENABLED);
+    assertThat(config.isArchiveEnabled()).isEqualTo(LedgerConfig.DEFAULT_ARCHIVE_ENABLED);
+    assertThat(config.getArchiveRetainedAges())
+        .isEqualTo(LedgerConfig.DEFAULT_ARCHIVE_RETAINED_AGES);
+    assertThat(config.isHistoryIndexEnabled())
+        .isEqualTo(LedgerConfig.DEFAULT_HISTORY_INDEX_ENABLED);
+    assertThat(config.isPhaseStatsEnabled()).isEqualTo(LedgerConfig.DEFAULT_PHASE_STATS_ENABLED);
+    assertThat(config.getPhaseStatsMaxTags()).isEqualTo(LedgerConfig.DEFAULT_PHASE_STATS_MAX_TAGS);
+    assertThat(config.getTracingConfig().isEnabled())
+        .isEqualTo(LedgerConfig.DEFAULT_TRACING_ENABLED);
+    assertThat(config.getTracingConfig().getSamplingRatio())
+        .isEqualTo(LedgerConfig.DEFAULT_TRACING_SAMPLING_RATIO);
+    assertThat(config.getTracingConfig().getExporter().getName())
+        .isEqualTo(LedgerConfig.DEFAULT_TRACING_EXPORTER);
+    assertThat(config.getTracingConfig().getFilePath())
+        .isEqualTo(LedgerConfig.DEFAULT_TRACING_FILE_PATH);
   }
 
   @Test
@@ -186,6 +246,31 @@ public class LedgerConfigTest {
         .isEqualTo(Integer.parseInt(SOME_GRPC_MAX_INBOUND_METADATA_SIZE));
   }
 
+  @Test
+  public void getExecutor_VirtualThreadGiven_ShouldReturnVirtualThread() {
+    // Arrange
+    props.setProperty(LedgerConfig.SERVER_GRPC_EXECUTOR, "virtual-thread");
+
+    // Act
+    LedgerConfig config = new LedgerConfig(props);
+
+    // Assert
+    assertThat(config.getGrpcServerConfig().getExecutor())
+        .isEqualTo(GrpcServerExecutor.VIRTUAL_THREAD);
+  }
+
+  @Test
+  public void constructor_InvalidExecutorGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    props.setProperty(LedgerConfig.SERVER_GRPC_EXECUTOR, "unknown");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   public void getName_PropertiesGiven_ShouldReturnSpecified() {
     // Arrange
@@ -210,6 +295,20 @@ public class LedgerConfigTest {
     // Assert
     assertThat(config.isProofEnabled()).isTrue();
   }
+  @Test
+  public void isProofAggregationEnabled_PropertiesGiven_ShouldReturnSpecified() {
+    // Arrange
+    props.setProperty(LedgerConfig.PROOF_ENABLED, "true");
+    props.setProperty(LedgerConfig.PROOF_PRIVATE_KEY_PEM, SOME_PEM);
+    props.setProperty(LedgerConfig.PROOF_AGGREGATION_ENABLED, "true");
+
+    // Act
+    LedgerConfig config = new LedgerConfig(props);
+
+    // Assert
+    assertThat(config.isProofAggregationEnabled()).isTrue();
+  }
+
 
   @Test
   public void getProofPrivateKeyPem_PropertiesGiven_ShouldReturnSpecified() {
@@ -767,6 +866,402 @@ public class LedgerConfigTest {
     assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
   }
 
+  @Test
+  public void constructor_LedgerGroupCommitPropertiesGiven_ShouldReturnSpecified() {
+    // Arrange
+    props.setProperty(LedgerConfig.GROUP_COMMIT_ENABLED, "true");
+    props.setProperty(LedgerConfig.GROUP_COMMIT_MAX_SIZE, "16");
+    props.setProperty(LedgerConfig.GROUP_COMMIT_WINDOW_MILLIS, "20");
+    props.setProperty(LedgerConfig.GROUP_COMMIT_TIMEOUT_MILLIS, "3000");
+
+    // Act
+    LedgerConfig config = new LedgerConfig(props);
+
+    // Assert
+    assertThat(config.isGroupCommitEnabled()).isTrue();
+    assertThat(config.getGroupCommitMaxSize()).isEqualTo(16);
+    assertThat(config.getGroupCommitWindowMillis()).isEqualTo(20);
+    assertThat(config.getGroupCommitTimeoutMillis()).isEqualTo(3000);
+  }
+
+  @Test
+  public void constructor_AssetCachePropertiesGiven_ShouldReturnSpecified() {
+    // Arrange
+    props.setProperty(LedgerConfig.ASSET_CACHE_ENABLED, "true");
+    props.setProperty(LedgerConfig.ASSET_CACHE_MAX_SIZE, SOME_NUMBER);
+
+    // Act
+    LedgerConfig config = new LedgerConfig(props);
+
+    // Assert
+    assertThat(config.isAssetCacheEnabled()).isTrue();
+    assertThat(config.getAssetCacheMaxSize()).isEqualTo(Long.parseLong(SOME_NUMBER));
+  }
+
+  @Test
+  public void constructor_ContractLoaderMaxNamespacesGiven_ShouldReturnSpecified() {
+    // Arrange
+    props.setProperty(LedgerConfig.CONTRACT_LOADER_MAX_NAMESPACES, SOME_NUMBER);
+
+    // Act
+    LedgerConfig config = new LedgerConfig(props);
+
+    // Assert
+    assertThat(config.getContractLoaderMaxNamespaces()).isEqualTo(Integer.parseInt(SOME_NUMBER));
+  }
+
+  @Test
+  public void constructor_NonPositiveContractLoaderMaxNamespacesGiven_ShouldThrowException() {
+    // Arrange
+    props.setProperty(LedgerConfig.CONTRACT_LOADER_MAX_NAMESPACES, "0");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_ContractPoolPropertiesGiven_ShouldReturnSpecified() {
+    // Arrange
+    props.setProperty(LedgerConfig.CONTRACT_POOL_ENABLED, "true");
+    props.setProperty(LedgerConfig.CONTRACT_POOL_SIZE, SOME_NUMBER);
+
+    // Act
+    LedgerConfig config = new LedgerConfig(props);
+
+    // Assert
+    assertThat(config.isContractPoolEnabled()).isTrue();
+    assertThat(config.getContractPoolSize()).isEqualTo(Integer.parseInt(SOME_NUMBER));
+  }
+
+  @Test
+  public void constructor_ContractPoolEnabledWithNonPositiveSize_ShouldThrowException() {
+    // Arrange
+    props.setProperty(LedgerConfig.CONTRACT_POOL_ENABLED, "true");
+    props.setProperty(LedgerConfig.CONTRACT_POOL_SIZE, "0");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_FunctionCachePropertiesGiven_ShouldReturnSpecified() {
+    // Arrange
+    props.setProperty(LedgerConfig.FUNCTION_CACHE_ENABLED, "false");
+    props.setProperty(LedgerConfig.FUNCTION_CACHE_MAX_SIZE, SOME_NUMBER);
+    props.setProperty(LedgerConfig.FUNCTION_CACHE_REVALIDATION_INTERVAL_MILLIS, SOME_NUMBER);
+
+    // Act
+    LedgerConfig config = new LedgerConfig(props);
+
+    // Assert
+    assertThat(config.isFunctionCacheEnabled()).isFalse();
+    assertThat(config.getFunctionCacheMaxSize()).isEqualTo(Long.parseLong(SOME_NUMBER));
+    assertThat(config.getFunctionCacheRevalidationIntervalMillis())
+        .isEqualTo(Long.parseLong(SOME_NUMBER));
+  }
+
+  @Test
+  public void constructor_NegativeFunctionCacheRevalidationIntervalGiven_ShouldThrowException() {
+    // Arrange
+    props.setProperty(LedgerConfig.FUNCTION_CACHE_REVALIDATION_INTERVAL_MILLIS, "-1");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_ContentionManagerPropertiesGiven_ShouldReturnSpecified() {
+    // Arrange
+    props.setProperty(LedgerConfig.CONTENTION_MANAGER_ENABLED, "true");
+    props.setProperty(LedgerConfig.CONTENTION_MANAGER_HOT_THRESHOLD, SOME_NUMBER);
+    props.setProperty(LedgerConfig.CONTENTION_MANAGER_WINDOW_MILLIS, SOME_NUMBER);
+    props.setProperty(LedgerConfig.CONTENTION_MANAGER_MAX_WAIT_MILLIS, SOME_NUMBER);
+    props.setProperty(LedgerConfig.CONTENTION_MANAGER_MAX_SIZE, SOME_NUMBER);
+
+    // Act
+    LedgerConfig config = new LedgerConfig(props);
+
+    // Assert
+    assertThat(config.isContentionManagerEnabled()).isTrue();
+    assertThat(config.getContentionManagerHotThreshold()).isEqualTo(Integer.parseInt(SOME_NUMBER));
+    assertThat(config.getContentionManagerWindowMillis()).isEqualTo(Long.parseLong(SOME_NUMBER));
+    assertThat(config.getContentionManagerMaxWaitMillis()).isEqualTo(Long.parseLong(SOME_NUMBER));
+    assertThat(config.getContentionManagerMaxSize()).isEqualTo(Long.parseLong(SOME_NUMBER));
+  }
+
+  @Test
+  public void constructor_NonPositiveContentionManagerHotThresholdGiven_ShouldThrowException() {
+    // Arrange
+    props.setProperty(LedgerConfig.CONTENTION_MANAGER_ENABLED, "true");
+    props.setProperty(LedgerConfig.CONTENTION_MANAGER_HOT_THRESHOLD, "0");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_AssetCompressionPropertiesGiven_ShouldReturnSpecified() {
+    // Arrange
+    props.setProperty(LedgerConfig.ASSET_COMPRESSION_ENABLED, "true");
+    props.setProperty(LedgerConfig.ASSET_COMPRESSION_MIN_SIZE, SOME_NUMBER);
+
+    // Act
+    LedgerConfig config = new LedgerConfig(props);
+
+    // Assert
+    assertThat(config.isAssetCompressionEnabled()).isTrue();
+    assertThat(config.getAssetCompressionMinSize()).isEqualTo(Integer.parseInt(SOME_NUMBER));
+  }
+
+  @Test
+  public void constructor_NonPositiveAssetCompressionMinSizeGiven_ShouldThrowException() {
+    // Arrange
+    props.setProperty(LedgerConfig.ASSET_COMPRESSION_ENABLED, "true");
+    props.setProperty(LedgerConfig.ASSET_COMPRESSION_MIN_SIZE, "0");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_ValidationPropertiesGiven_ShouldReturnSpecified() {
+    // Arrange
+    props.setProperty(LedgerConfig.VALIDATION_PAGE_SIZE, "100");
+    props.setProperty(LedgerConfig.VALIDATION_INPUT_CACHE_SIZE, "500");
+    props.setProperty(LedgerConfig.VALIDATION_PARALLELISM, "4");
+    props.setProperty(LedgerConfig.VALIDATION_WATERMARK_ENABLED, "true");
+    props.setProperty(LedgerConfig.VALIDATION_WATERMARK_SECRET_KEY, SOME_SECRET_KEY);
+
+    // Act
+    LedgerConfig config = new LedgerConfig(props);
+
+    // Assert
+    assertThat(config.getValidationPageSize()).isEqualTo(100);
+    assertThat(config.getValidationInputCacheSize()).isEqualTo(500);
+    assertThat(config.getValidationParallelism()).isEqualTo(4);
+    assertThat(config.isValidationWatermarkEnabled()).isTrue();
+    assertThat(config.getValidationWatermarkSecretKey()).isEqualTo(SOME_SECRET_KEY);
+  }
+
+  @Test
+  public void
+      constructor_ValidationWatermarkEnabledWithoutSecretKey_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    props.setProperty(LedgerConfig.VALIDATION_WATERMARK_ENABLED, "true");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_ArchivePropertiesGiven_ShouldReturnSpecified() {
+    // Arrange
+    props.setProperty(LedgerConfig.ARCHIVE_ENABLED, "true");
+    props.setProperty(LedgerConfig.ARCHIVE_RETAINED_AGES, SOME_NUMBER);
+
+    // Act
+    LedgerConfig config = new LedgerConfig(props);
+
+    // Assert
+    assertThat(config.isArchiveEnabled()).isTrue();
+    assertThat(config.getArchiveRetainedAges()).isEqualTo(Integer.parseInt(SOME_NUMBER));
+  }
+
+  @Test
+  public void constructor_NonPositiveArchiveRetainedAgesGiven_ShouldThrowException() {
+    // Arrange
+    props.setProperty(LedgerConfig.ARCHIVE_ENABLED, "true");
+    props.setProperty(LedgerConfig.ARCHIVE_RETAINED_AGES, "0");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_HistoryIndexPropertiesGiven_ShouldReturnSpecified() {
+    // Arrange
+    props.setProperty(LedgerConfig.HISTORY_INDEX_ENABLED, "true");
+    props.setProperty(LedgerConfig.PROOF_ENABLED, "true");
+    props.setProperty(LedgerConfig.PROOF_PRIVATE_KEY_PEM, SOME_PEM);
+
+    // Act
+    LedgerConfig config = new LedgerConfig(props);
+
+    // Assert
+    assertThat(config.isHistoryIndexEnabled()).isTrue();
+  }
+
+  @Test
+  public void constructor_HistoryIndexEnabledWithoutProof_ShouldThrowException() {
+    // Arrange
+    props.setProperty(LedgerConfig.HISTORY_INDEX_ENABLED, "true");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_PhaseStatsPropertiesGiven_ShouldReturnSpecified() {
+    // Arrange
+    props.setProperty(LedgerConfig.PHASE_STATS_ENABLED, "true");
+    props.setProperty(LedgerConfig.PHASE_STATS_MAX_TAGS, SOME_NUMBER);
+
+    // Act
+    LedgerConfig config = new LedgerConfig(props);
+
+    // Assert
+    assertThat(config.isPhaseStatsEnabled()).isTrue();
+    assertThat(config.getPhaseStatsMaxTags()).isEqualTo(Integer.parseInt(SOME_NUMBER));
+  }
+
+  @Test
+  public void constructor_NonPositivePhaseStatsMaxTagsGiven_ShouldThrowException() {
+    // Arrange
+    props.setProperty(LedgerConfig.PHASE_STATS_ENABLED, "true");
+    props.setProperty(LedgerConfig.PHASE_STATS_MAX_TAGS, "0");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_TracingPropertiesGiven_ShouldReturnSpecified() {
+    // Arrange
+    props.setProperty(LedgerConfig.TRACING_ENABLED, "true");
+    props.setProperty(LedgerConfig.TRACING_SAMPLING_RATIO, "0.5");
+    props.setProperty(LedgerConfig.TRACING_EXPORTER, "memory");
+
+    // Act
+    LedgerConfig config = new LedgerConfig(props);
+
+    // Assert
+    assertThat(config.getTracingConfig().isEnabled()).isTrue();
+    assertThat(config.getTracingConfig().getSamplingRatio()).isEqualTo(0.5);
+    assertThat(config.getTracingConfig().getExporter()).isEqualTo(TracingExporter.MEMORY);
+  }
+
+  @Test
+  public void constructor_InvalidTracingSamplingRatioGiven_ShouldThrowException() {
+    // Arrange
+    props.setProperty(LedgerConfig.TRACING_ENABLED, "true");
+    props.setProperty(LedgerConfig.TRACING_SAMPLING_RATIO, "1.5");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_InvalidTracingExporterGiven_ShouldThrowException() {
+    // Arrange
+    props.setProperty(LedgerConfig.TRACING_ENABLED, "true");
+    props.setProperty(LedgerConfig.TRACING_EXPORTER, "unknown");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void
+      constructor_NonPositiveValidationInputCacheSizeGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    props.setProperty(LedgerConfig.VALIDATION_INPUT_CACHE_SIZE, "0");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_NonPositiveValidationPageSizeGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    props.setProperty(LedgerConfig.VALIDATION_PAGE_SIZE, "0");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void
+      constructor_LedgerGroupCommitEnabledWithAuditorEnabled_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    props.setProperty(LedgerConfig.GROUP_COMMIT_ENABLED, "true");
+    props.setProperty(LedgerConfig.AUDITOR_ENABLED, "true");
+    props.setProperty(LedgerConfig.PROOF_ENABLED, "true");
+    props.setProperty(LedgerConfig.PROOF_PRIVATE_KEY_PEM, SOME_PEM);
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void
+      constructor_LedgerGroupCommitEnabledWithNonPositiveMaxSize_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    props.setProperty(LedgerConfig.GROUP_COMMIT_ENABLED, "true");
+    props.setProperty(LedgerConfig.GROUP_COMMIT_MAX_SIZE, "0");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void
+      constructor_LedgerGroupCommitEnabledWithNonPositiveTimeout_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    props.setProperty(LedgerConfig.GROUP_COMMIT_ENABLED, "true");
+    props.setProperty(LedgerConfig.GROUP_COMMIT_TIMEOUT_MILLIS, "0");
+
+    // Act
+    Throwable thrown = catchThrowable(() -> new LedgerConfig(props));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   public void
       constructor_ConsensusCommitWithCoordinatorWriteOmissionDisabledSpecified_ShouldConstructProperly() {
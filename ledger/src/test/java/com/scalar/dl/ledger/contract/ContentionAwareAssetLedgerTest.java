@@ -0,0 +1,103 @@
+package com.scalar.dl.ledger.contract;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import com.scalar.dl.ledger.database.AssetFilter;
+import com.scalar.dl.ledger.database.TamperEvidentAssetLedger;
+import com.scalar.dl.ledger.statemachine.AssetKey;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class ContentionAwareAssetLedgerTest {
+  private static final String CONTEXT_NAMESPACE = "context_ns";
+  private static final String ANOTHER_NAMESPACE = "another_ns";
+  private static final String HOT_ASSET_ID = "hot";
+  private static final String COLD_ASSET_ID = "cold";
+  private static final String DATA = "data";
+  private static final int HOT_THRESHOLD = 1;
+  private static final long WINDOW_MILLIS = 60000;
+  private static final long MAX_WAIT_MILLIS = 10;
+  private static final long MAX_SIZE = 100;
+
+  @Mock private TamperEvidentAssetLedger delegate;
+
+  private ContentionManager manager;
+  private ContentionManager.Permit permit;
+  private ContentionAwareAssetLedger ledger;
+
+  @BeforeEach
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    manager = new ContentionManager(HOT_THRESHOLD, WINDOW_MILLIS, MAX_WAIT_MILLIS, MAX_SIZE);
+    manager.recordConflict(Collections.singletonList(AssetKey.of(CONTEXT_NAMESPACE, HOT_ASSET_ID)));
+    permit = manager.newPermit();
+    ledger = new ContentionAwareAssetLedger(delegate, CONTEXT_NAMESPACE, permit);
+  }
+
+  @Test
+  public void get_HotAssetGiven_ShouldEnterQueueAndDelegate() {
+    // Arrange
+
+    // Act
+    ledger.get(HOT_ASSET_ID);
+
+    // Assert
+    assertThat(permit.size()).isEqualTo(1);
+    verify(delegate).get(HOT_ASSET_ID);
+  }
+
+  @Test
+  public void get_HotAssetIdInAnotherNamespaceGiven_ShouldNotEnterQueue() {
+    // Arrange
+
+    // Act
+    ledger.get(ANOTHER_NAMESPACE, HOT_ASSET_ID);
+
+    // Assert
+    assertThat(permit.size()).isEqualTo(0);
+    verify(delegate).get(ANOTHER_NAMESPACE, HOT_ASSET_ID);
+  }
+
+  @Test
+  public void scan_HotAssetGiven_ShouldEnterQueueAndDelegate() {
+    // Arrange
+    AssetFilter filter = new AssetFilter(HOT_ASSET_ID);
+
+    // Act
+    ledger.scan(filter);
+
+    // Assert
+    assertThat(permit.size()).isEqualTo(1);
+    verify(delegate).scan(filter);
+  }
+
+  @Test
+  public void put_ColdAssetGiven_ShouldNotEnterQueue() {
+    // Arrange
+
+    // Act
+    ledger.put(COLD_ASSET_ID, DATA);
+
+    // Assert
+    assertThat(permit.size()).isEqualTo(0);
+    verify(delegate).put(COLD_ASSET_ID, DATA);
+  }
+
+  @Test
+  public void put_HotAssetReadBeforeGiven_ShouldEnterQueueOnce() {
+    // Arrange
+    ledger.get(CONTEXT_NAMESPACE, HOT_ASSET_ID);
+
+    // Act
+    ledger.put(CONTEXT_NAMESPACE, HOT_ASSET_ID, DATA);
+
+    // Assert
+    assertThat(permit.size()).isEqualTo(1);
+    assertThat(manager.getTimeoutCount()).isEqualTo(0);
+    verify(delegate).put(CONTEXT_NAMESPACE, HOT_ASSET_ID, DATA);
+  }
+}
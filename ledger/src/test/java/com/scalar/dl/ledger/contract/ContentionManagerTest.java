@@ -0,0 +1,220 @@
+package com.scalar.dl.ledger.contract;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+import com.scalar.dl.ledger.statemachine.AssetKey;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ContentionManagerTest {
+  private static final String NAMESPACE = "namespace";
+  private static final AssetKey HOT_KEY = AssetKey.of(NAMESPACE, "hot");
+  private static final AssetKey COLD_KEY = AssetKey.of(NAMESPACE, "cold");
+  private static final AssetKey ANOTHER_KEY = AssetKey.of(NAMESPACE, "another");
+  private static final int HOT_THRESHOLD = 2;
+  private static final long WINDOW_MILLIS = 60000;
+  private static final long MAX_WAIT_MILLIS = 60000;
+  private static final long MAX_SIZE = 100;
+  private ContentionManager manager;
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setUp() {
+    manager = new ContentionManager(HOT_THRESHOLD, WINDOW_MILLIS, MAX_WAIT_MILLIS, MAX_SIZE);
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private void makeHot(ContentionManager manager) {
+    for (int i = 0; i < HOT_THRESHOLD; i++) {
+      manager.recordConflict(Collections.singletonList(HOT_KEY));
+    }
+  }
+
+  @Test
+  public void enter_NoConflictsRecorded_ShouldNotEnterQueue() {
+    // Arrange
+    ContentionManager.Permit permit = manager.newPermit();
+
+    // Act
+    permit.enter(HOT_KEY);
+
+    // Assert
+    assertThat(permit.size()).isEqualTo(0);
+    assertThat(manager.getHotKeyCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void enter_ConflictsLessThanThresholdRecorded_ShouldNotEnterQueue() {
+    // Arrange
+    manager.recordConflict(Collections.singletonList(HOT_KEY));
+    ContentionManager.Permit permit = manager.newPermit();
+
+    // Act
+    permit.enter(HOT_KEY);
+
+    // Assert
+    assertThat(permit.size()).isEqualTo(0);
+    assertThat(manager.getHotKeyCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void enter_ConflictsReachingThresholdRecorded_ShouldEnterQueueOfHotAssetOnly() {
+    // Arrange
+    manager.recordConflict(Arrays.asList(HOT_KEY, COLD_KEY));
+    manager.recordConflict(Collections.singletonList(HOT_KEY));
+    ContentionManager.Permit permit = manager.newPermit();
+
+    // Act
+    permit.enter(HOT_KEY);
+    permit.enter(COLD_KEY);
+
+    // Assert
+    assertThat(permit.size()).isEqualTo(1);
+    assertThat(manager.getHotKeyCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void enter_AssetOtherThanHotAssetGiven_ShouldNotWaitForHotAsset() {
+    // Arrange
+    makeHot(manager);
+    ContentionManager.Permit first = manager.newPermit();
+    first.enter(HOT_KEY);
+    ContentionManager.Permit second = manager.newPermit();
+
+    // Act
+    second.enter(ANOTHER_KEY);
+
+    // Assert
+    assertThat(first.size()).isEqualTo(1);
+    assertThat(second.size()).isEqualTo(0);
+    assertThat(manager.getTimeoutCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void enter_SameAssetEnteredTwice_ShouldEnterQueueOnce() {
+    // Arrange
+    makeHot(manager);
+    ContentionManager.Permit permit = manager.newPermit();
+
+    // Act
+    permit.enter(HOT_KEY);
+    permit.enter(HOT_KEY);
+
+    // Assert
+    assertThat(permit.size()).isEqualTo(1);
+    assertThat(manager.getTimeoutCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void enter_HotAssetHeldByAnotherExecution_ShouldWaitUntilItIsReleased()
+      throws Exception {
+    // Arrange
+    makeHot(manager);
+    ContentionManager.Permit first = manager.newPermit();
+    first.enter(HOT_KEY);
+
+    // Act
+    Future<ContentionManager.Permit> second =
+        executor.submit(
+            () -> {
+              ContentionManager.Permit permit = manager.newPermit();
+              permit.enter(HOT_KEY);
+              return permit;
+            });
+    while (manager.getQueueDepth() == 0) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    boolean doneBeforeRelease = second.isDone();
+    first.close();
+
+    // Assert
+    assertThat(doneBeforeRelease).isFalse();
+    assertThat(second.get(10, TimeUnit.SECONDS).size()).isEqualTo(1);
+    assertThat(manager.getQueueDepth()).isEqualTo(0);
+    assertThat(manager.getTimeoutCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void enter_HotAssetHeldLongerThanMaxWait_ShouldProceedWithoutQueue() {
+    // Arrange
+    manager = new ContentionManager(HOT_THRESHOLD, WINDOW_MILLIS, 10, MAX_SIZE);
+    makeHot(manager);
+    ContentionManager.Permit first = manager.newPermit();
+    first.enter(HOT_KEY);
+    ContentionManager.Permit second = manager.newPermit();
+
+    // Act
+    second.enter(HOT_KEY);
+
+    // Assert
+    assertThat(first.size()).isEqualTo(1);
+    assertThat(second.size()).isEqualTo(0);
+    assertThat(manager.getTimeoutCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void enter_WindowElapsedWithoutConflicts_ShouldNotEnterQueue() {
+    // Arrange
+    manager = spy(manager);
+    doReturn(0L).when(manager).now();
+    makeHot(manager);
+    doReturn(WINDOW_MILLIS).when(manager).now();
+    ContentionManager.Permit permit = manager.newPermit();
+
+    // Act
+    permit.enter(HOT_KEY);
+
+    // Assert
+    assertThat(permit.size()).isEqualTo(0);
+    assertThat(manager.getHotKeyCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void getHotKeyCount_WindowElapsedWhileExecutionsWaiting_ShouldReturnZero() {
+    // Arrange
+    manager = spy(new ContentionManager(HOT_THRESHOLD, WINDOW_MILLIS, 10, MAX_SIZE));
+    doReturn(0L).when(manager).now();
+    makeHot(manager);
+    ContentionManager.Permit first = manager.newPermit();
+    first.enter(HOT_KEY);
+    doReturn(WINDOW_MILLIS - 1).when(manager).now();
+    manager.newPermit().enter(HOT_KEY);
+
+    // Act
+    doReturn(WINDOW_MILLIS).when(manager).now();
+    long count = manager.getHotKeyCount();
+
+    // Assert
+    assertThat(manager.getTimeoutCount()).isEqualTo(1);
+    assertThat(count).isEqualTo(0);
+  }
+
+  @Test
+  public void enter_DisabledManagerGiven_ShouldNotEnterQueue() {
+    // Arrange
+    manager = ContentionManager.disabled();
+    makeHot(manager);
+    ContentionManager.Permit permit = manager.newPermit();
+
+    // Act
+    permit.enter(HOT_KEY);
+
+    // Assert
+    assertThat(permit.size()).isEqualTo(0);
+    assertThat(manager.isEnabled()).isFalse();
+  }
+}
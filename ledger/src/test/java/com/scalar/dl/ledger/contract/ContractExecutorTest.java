@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
@@ -22,12 +23,14 @@ import com.scalar.dl.ledger.database.Transaction;
 import com.scalar.dl.ledger.database.TransactionManager;
 import com.scalar.dl.ledger.exception.ConflictException;
 import com.scalar.dl.ledger.exception.ContractContextException;
+import com.scalar.dl.ledger.exception.MissingContractException;
 import com.scalar.dl.ledger.function.FunctionMachine;
 import com.scalar.dl.ledger.function.FunctionManager;
 import com.scalar.dl.ledger.model.ContractExecutionRequest;
 import com.scalar.dl.ledger.model.ContractExecutionResult;
 import com.scalar.dl.ledger.namespace.Namespaces;
 import com.scalar.dl.ledger.proof.AssetProof;
+import com.scalar.dl.ledger.server.PhaseStats;
 import com.scalar.dl.ledger.statemachine.AssetKey;
 import com.scalar.dl.ledger.statemachine.DeprecatedLedger;
 import com.scalar.dl.ledger.statemachine.DeserializationType;
@@ -48,6 +51,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 public class ContractExecutorTest {
   private static final String ANY_ENTITY_ID = "entity_id";
@@ -55,6 +59,7 @@ public class ContractExecutorTest {
   private static final String ANY_CONTRACT_ARGUMENT = "contract_argument";
   private static final String ANY_CONTRACT_ARGUMENT_V2 =
       Argument.format("contract_argument", "nonce", Collections.emptyList());
+  private static final String ANY_CONTRACT_ID = "contract_id";
   private static final String ANY_CONTRACT_RESULT = "contract_result";
   private static final String ANY_FUNCTION_ID = "function_id";
   private static final String ANY_FUNCTION_ARGUMENT = "function_argument";
@@ -68,6 +73,8 @@ public class ContractExecutorTest {
   @Mock private TransactionManager transactionManager;
   @Mock private ContractManager contractManager;
   @Mock private FunctionManager functionManager;
+  @Spy private PhaseStats phaseStats = PhaseStats.disabled();
+  @Spy private ContentionManager contentionManager = ContentionManager.disabled();
   @InjectMocks private ContractExecutor executor;
   @Mock private ContractMachine contract;
   @Mock private ContractExecutionRequest request;
@@ -135,6 +142,7 @@ public class ContractExecutorTest {
     verify(contract).invoke(deprecatedLedger, ANY_CONTRACT_ARGUMENT, null);
     verify(function, never())
         .invoke(any(Database.class), nullable(String.class), anyString(), nullable(String.class));
+    verify(contractManager).release(anyString(), any(ContractEntry.class), eq(contract));
     verify(transaction).commit();
     verify(transaction, never()).abort();
     assertThat(result.getContractResult().orElse(null)).isEqualTo(ANY_CONTRACT_RESULT);
@@ -147,6 +155,7 @@ public class ContractExecutorTest {
   public void execute_ContractWithV2ArgumentFormatGiven_ShouldInvokeContract() {
     // Arrange
     configureBehaviors(2, false);
+    when(request.getContractId()).thenReturn(ANY_CONTRACT_ID);
     when(contract.invoke(
             ArgumentMatchers.<Ledger<JsonObject>>any(), anyString(), nullable(String.class)))
         .thenReturn(ANY_CONTRACT_RESULT);
@@ -160,6 +169,7 @@ public class ContractExecutorTest {
 
     // Assert
     verify(contract).invoke(jsonpBasedAssetLedger, ANY_CONTRACT_ARGUMENT, null);
+    verify(phaseStats).registerTag(Namespaces.DEFAULT, ANY_CONTRACT_ID);
     verify(function, never())
         .invoke(any(Database.class), nullable(String.class), anyString(), nullable(String.class));
     verify(transaction).commit();
@@ -170,6 +180,22 @@ public class ContractExecutorTest {
     assertThat(result.getAuditorProofs()).isEmpty();
   }
 
+  @Test
+  public void execute_ContractNotFound_ShouldThrowExceptionWithoutRegisteringPhaseTag() {
+    // Arrange
+    configureBehaviors(2, false);
+    MissingContractException toThrow = mock(MissingContractException.class);
+    when(contractManager.get(anyString(), any())).thenThrow(toThrow);
+
+    // Act
+    Throwable thrown = catchThrowable(() -> executor.execute(request));
+
+    // Assert
+    assertThat(thrown).isEqualTo(toThrow);
+    verify(phaseStats, never()).registerTag(anyString(), anyString());
+    verify(transactionManager, never()).startWith(request);
+  }
+
   @Test
   public void
       execute_ContractWithV1ArgumentFormatAndFunctionGiven_ShouldInvokeContractAndFunction() {
@@ -253,6 +279,7 @@ public class ContractExecutorTest {
     verify(contract).invoke(deprecatedLedger, ANY_CONTRACT_ARGUMENT, null);
     verify(transaction, never()).commit();
     verify(transaction).abort();
+    verify(contractManager, never()).release(anyString(), any(), any());
     verify(function, never())
         .invoke(any(Database.class), nullable(String.class), anyString(), nullable(String.class));
     assertThat(thrown).isEqualTo(toThrow);
@@ -268,6 +295,7 @@ public class ContractExecutorTest {
     when(contract.getDeserializationType()).thenReturn(DeserializationType.DEPRECATED);
     when(config.isFunctionEnabled()).thenReturn(false);
     Map<AssetKey, Integer> expectedMap = ImmutableMap.of(ANY_ASSET_KEY, ANY_ASSET_AGE);
+    when(request.getContractId()).thenReturn(ANY_CONTRACT_ID);
     ConflictException toThrow = mock(ConflictException.class);
     when(toThrow.getKeys()).thenReturn(expectedMap);
     when(transaction.commit()).thenThrow(toThrow);
@@ -281,6 +309,7 @@ public class ContractExecutorTest {
     verify(transaction).commit();
     verify(transaction).abort();
     verify(transactionManager).recover(expectedMap);
+    verify(contentionManager).recordConflict(expectedMap.keySet());
     verify(function, never())
         .invoke(any(Database.class), nullable(String.class), anyString(), nullable(String.class));
     assertThat(thrown).isEqualTo(toThrow);
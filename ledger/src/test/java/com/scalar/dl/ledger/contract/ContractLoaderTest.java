@@ -0,0 +1,87 @@
+package com.scalar.dl.ledger.contract;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.io.ByteStreams;
+import com.scalar.dl.ledger.service.LedgerModule;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ContractLoaderTest {
+  private static final String ANY_NAMESPACE1 = "namespace1";
+  private static final String ANY_NAMESPACE2 = "namespace2";
+  private static final String ANY_ENTITY_ID = "entity_id";
+  private static final int ANY_KEY_VERSION = 1;
+  private ContractEntry entry;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    Class<?> clazz = TestJsonpBasedContract.class;
+    String resource = "/" + clazz.getName().replace('.', '/') + ".class";
+    byte[] byteCode;
+    try (InputStream in = clazz.getResourceAsStream(resource)) {
+      byteCode = ByteStreams.toByteArray(in);
+    }
+    entry =
+        new ContractEntry(
+            "id",
+            clazz.getName(),
+            ANY_ENTITY_ID,
+            ANY_KEY_VERSION,
+            byteCode,
+            null,
+            1L,
+            "signature".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void defineClass_SameEntryGivenTwiceInSameNamespace_ShouldReturnSameClass() {
+    // Arrange
+    ContractLoader loader = new ContractLoader(LedgerModule.getProtectionDomain());
+
+    // Act
+    Class<?> first = loader.defineClass(ANY_NAMESPACE1, entry);
+    Class<?> second = loader.defineClass(ANY_NAMESPACE1, entry);
+
+    // Assert
+    assertThat(second).isSameAs(first);
+    assertThat(loader.getLoaderCount()).isEqualTo(1);
+    assertThat(loader.getLoadedClassCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void defineClass_SameEntryGivenInDifferentNamespaces_ShouldReturnDifferentClasses() {
+    // Arrange
+    ContractLoader loader = new ContractLoader(LedgerModule.getProtectionDomain());
+
+    // Act
+    Class<?> first = loader.defineClass(ANY_NAMESPACE1, entry);
+    Class<?> second = loader.defineClass(ANY_NAMESPACE2, entry);
+
+    // Assert
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getClassLoader()).isNotSameAs(first.getClassLoader());
+    assertThat(loader.getLoaderCount()).isEqualTo(2);
+    assertThat(loader.getLoadedClassCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void defineClass_MoreNamespacesThanMaximumGiven_ShouldEvictLeastRecentlyUsedLoader() {
+    // Arrange
+    ContractLoader loader = new ContractLoader(LedgerModule.getProtectionDomain(), 1);
+    Class<?> evicted = loader.defineClass(ANY_NAMESPACE1, entry);
+    loader.defineClass(ANY_NAMESPACE2, entry);
+
+    // Act
+    Class<?> redefined = loader.defineClass(ANY_NAMESPACE1, entry);
+
+    // Assert
+    assertThat(redefined).isNotSameAs(evicted);
+    assertThat(loader.getLoaderCount()).isEqualTo(1);
+    assertThat(loader.getLoadedClassCount()).isEqualTo(1);
+    assertThat(loader.getEvictedLoaderCount()).isEqualTo(2);
+  }
+}
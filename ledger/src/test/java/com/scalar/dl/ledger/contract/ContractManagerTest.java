@@ -47,6 +47,7 @@ public class ContractManagerTest {
   private static final byte[] ANY_BYTE_CODE = "byte_code".getBytes(StandardCharsets.UTF_8);
   private static final String ANY_ENTITY_ID = "entity_id";
   private static final int ANY_CERT_VERSION = 1;
+  private static final int POOL_SIZE = 2;
   @Mock private ContractRegistry registry;
   @Mock private ContractLoader loader;
   @Mock private ClientKeyValidator clientKeyValidator;
@@ -102,7 +103,7 @@ public class ContractManagerTest {
   public void register_ContractEntryGiven_ShouldBind() {
     // Arrange
     when(registry.lookup(ANY_NAMESPACE, entry.getKey())).thenThrow(MissingContractException.class);
-    doReturn(TestJsonpBasedContract.class).when(loader).defineClass(entry);
+    doReturn(TestJsonpBasedContract.class).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     manager.register(ANY_NAMESPACE, entry);
@@ -110,7 +111,7 @@ public class ContractManagerTest {
     // Assert
     verify(registry).lookup(ANY_NAMESPACE, entry.getKey());
     verify(validator).validate(any(), any());
-    verify(manager).defineClass(entry);
+    verify(manager).defineClass(ANY_NAMESPACE, entry);
     verify(registry).bind(ANY_NAMESPACE, entry);
   }
 
@@ -125,7 +126,7 @@ public class ContractManagerTest {
         .isInstanceOf(DatabaseException.class);
 
     verify(validator, never()).validate(any(), any());
-    verify(manager, never()).defineClass(entry);
+    verify(manager, never()).defineClass(ANY_NAMESPACE, entry);
     verify(registry, never()).bind(ANY_NAMESPACE, entry);
   }
 
@@ -146,13 +147,13 @@ public class ContractManagerTest {
   public void register_LoadFailedWithRuntimeException_ShouldThrowException() {
     // Arrange
     when(registry.lookup(ANY_NAMESPACE, entry.getKey())).thenThrow(MissingContractException.class);
-    doThrow(RuntimeException.class).when(loader).defineClass(entry);
+    doThrow(RuntimeException.class).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act Assert
     Throwable thrown = catchThrowable(() -> manager.register(ANY_NAMESPACE, entry));
 
     assertThat(thrown).isExactlyInstanceOf(UnloadableContractException.class);
-    verify(manager).defineClass(entry);
+    verify(manager).defineClass(ANY_NAMESPACE, entry);
     verify(registry, never()).bind(ANY_NAMESPACE, entry);
   }
 
@@ -161,13 +162,13 @@ public class ContractManagerTest {
     // Arrange
     // NOTICE: it doesn't work if TestContract is defined as an inner class of this
     Class<? extends Contract> clazz = TestContract.class;
-    doReturn(clazz).when(loader).defineClass(entry);
+    doReturn(clazz).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     ContractMachine contract = manager.getInstance(ANY_NAMESPACE, entry);
 
     // Assert
-    verify(loader).defineClass(entry);
+    verify(loader).defineClass(ANY_NAMESPACE, entry);
     verify(manager).validateContract(ANY_NAMESPACE, entry);
     assertThat(contract.isRoot()).isFalse();
     assertThat(contract.getClientIdentityKey().getEntityId()).isEqualTo(ANY_ENTITY_ID);
@@ -180,13 +181,13 @@ public class ContractManagerTest {
     // Arrange
     // NOTICE: it doesn't work if TestContract is defined as an inner class of this
     Class<? extends ContractBase<?>> clazz = TestJsonpBasedContract.class;
-    doReturn(clazz).when(loader).defineClass(entry);
+    doReturn(clazz).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     ContractMachine contract = manager.getInstance(ANY_NAMESPACE, entry);
 
     // Assert
-    verify(loader).defineClass(entry);
+    verify(loader).defineClass(ANY_NAMESPACE, entry);
     verify(manager).validateContract(ANY_NAMESPACE, entry);
     assertThat(contract.isRoot()).isFalse();
     assertThat(contract.getClientIdentityKey().getEntityId()).isEqualTo(ANY_ENTITY_ID);
@@ -199,17 +200,91 @@ public class ContractManagerTest {
     // Arrange
     // NOTICE: it doesn't work if TestContract is defined as an inner class of this
     Class<? extends ContractBase<?>> clazz = TestJsonpBasedContract.class;
-    doReturn(clazz).when(loader).defineClass(entry);
+    doReturn(clazz).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     manager.getInstance(ANY_NAMESPACE, entry);
     manager.getInstance(ANY_NAMESPACE, entry);
 
     // Assert
-    verify(loader, times(2)).defineClass(entry);
+    verify(loader, times(2)).defineClass(ANY_NAMESPACE, entry);
     verify(manager).validateContract(ANY_NAMESPACE, entry);
   }
 
+  @Test
+  public void getInstance_ReleasedInstanceExists_ShouldReturnItInitialized() {
+    // Arrange
+    // NOTICE: it doesn't work if TestContract is defined as an inner class of this
+    Class<? extends ContractBase<?>> clazz = TestJsonpBasedContract.class;
+    doReturn(clazz).when(loader).defineClass(ANY_NAMESPACE, entry);
+    manager = new ContractManager(registry, loader, clientKeyValidator, POOL_SIZE);
+    ContractMachine released = manager.getInstance(ANY_NAMESPACE, entry);
+    released.setRoot(true);
+    manager.release(ANY_NAMESPACE, entry, released);
+
+    // Act
+    ContractMachine contract = manager.getInstance(ANY_NAMESPACE, entry);
+
+    // Assert
+    assertThat(contract).isSameAs(released);
+    assertThat(contract.isRoot()).isFalse();
+    assertThat(contract.getContext()).isNull();
+  }
+
+  @Test
+  public void getInstance_ReleasedInstanceExistsWithPoolingDisabled_ShouldReturnNewInstance() {
+    // Arrange
+    // NOTICE: it doesn't work if TestContract is defined as an inner class of this
+    Class<? extends ContractBase<?>> clazz = TestJsonpBasedContract.class;
+    doReturn(clazz).when(loader).defineClass(ANY_NAMESPACE, entry);
+    ContractMachine released = manager.getInstance(ANY_NAMESPACE, entry);
+    manager.release(ANY_NAMESPACE, entry, released);
+
+    // Act
+    ContractMachine contract = manager.getInstance(ANY_NAMESPACE, entry);
+
+    // Assert
+    assertThat(contract).isNotSameAs(released);
+  }
+
+  @Test
+  public void getInstance_ReleasedInstanceAlreadyTaken_ShouldReturnNewInstance() {
+    // Arrange
+    // NOTICE: it doesn't work if TestContract is defined as an inner class of this
+    Class<? extends ContractBase<?>> clazz = TestJsonpBasedContract.class;
+    doReturn(clazz).when(loader).defineClass(ANY_NAMESPACE, entry);
+    manager = new ContractManager(registry, loader, clientKeyValidator, POOL_SIZE);
+    manager.release(ANY_NAMESPACE, entry, manager.getInstance(ANY_NAMESPACE, entry));
+    ContractMachine taken = manager.getInstance(ANY_NAMESPACE, entry);
+
+    // Act
+    ContractMachine contract = manager.getInstance(ANY_NAMESPACE, entry);
+
+    // Assert
+    assertThat(contract).isNotSameAs(taken);
+  }
+
+  @Test
+  public void getInstance_ReleasedInstanceOfEvictedClassExists_ShouldReturnNewInstance() {
+    // Arrange
+    // NOTICE: it doesn't work if TestContract is defined as an inner class of this
+    Class<? extends ContractBase<?>> clazz = TestJsonpBasedContract.class;
+    doReturn(clazz).when(loader).defineClass(ANY_NAMESPACE, entry);
+    manager = new ContractManager(registry, loader, clientKeyValidator, POOL_SIZE);
+    ContractMachine released = manager.getInstance(ANY_NAMESPACE, entry);
+    manager.release(ANY_NAMESPACE, entry, released);
+    // the class is defined again by a new loader after the previous loader is evicted
+    Class<? extends ContractBase<?>> redefined = TestStringBasedContract.class;
+    doReturn(redefined).when(loader).defineClass(ANY_NAMESPACE, entry);
+
+    // Act
+    ContractMachine contract = manager.getInstance(ANY_NAMESPACE, entry);
+
+    // Assert
+    assertThat(contract).isNotSameAs(released);
+    assertThat(contract.getContractBase()).isInstanceOf(TestStringBasedContract.class);
+  }
+
   @Test
   public void getInstance_SameEntryGivenAfterExpired_ShouldReturnContractWithValidation() {
     // Arrange
@@ -220,14 +295,14 @@ public class ContractManagerTest {
     manager = spy(new ContractManager(registry, loader, clientKeyValidator, caches));
     // NOTICE: it doesn't work if TestContract is defined as an inner class of this
     Class<? extends ContractBase<?>> clazz = TestJsonpBasedContract.class;
-    doReturn(clazz).when(loader).defineClass(entry);
+    doReturn(clazz).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     manager.getInstance(ANY_NAMESPACE, entry);
     manager.getInstance(ANY_NAMESPACE, entry);
 
     // Assert
-    verify(loader, times(2)).defineClass(entry);
+    verify(loader, times(2)).defineClass(ANY_NAMESPACE, entry);
     verify(manager, times(2)).validateContract(ANY_NAMESPACE, entry);
   }
 
@@ -241,14 +316,14 @@ public class ContractManagerTest {
     manager = spy(new ContractManager(registry, loader, clientKeyValidator));
     // NOTICE: it doesn't work if TestContract is defined as an inner class of this
     Class<? extends ContractBase<?>> clazz = TestJsonpBasedContract.class;
-    doReturn(clazz).when(loader).defineClass(entry);
+    doReturn(clazz).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     ContractMachine contract = manager.getInstance(ANY_NAMESPACE, entry);
 
     // Assert
     verify(manager).validateContract(ANY_NAMESPACE, entry);
-    verify(loader).defineClass(entry);
+    verify(loader).defineClass(ANY_NAMESPACE, entry);
     assertThat(contract.isRoot()).isFalse();
     assertThat(contract.getClientIdentityKey().getEntityId()).isEqualTo(ANY_ENTITY_ID);
     assertThat(contract.getClientIdentityKey().getKeyVersion()).isEqualTo(ANY_CERT_VERSION);
@@ -265,7 +340,7 @@ public class ContractManagerTest {
     manager = spy(new ContractManager(registry, loader, clientKeyValidator));
     // NOTICE: it doesn't work if TestContract is defined as an inner class of this
     Class<? extends ContractBase<?>> clazz = TestJsonpBasedContract.class;
-    doReturn(clazz).when(loader).defineClass(entry);
+    doReturn(clazz).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     AssertionsForClassTypes.assertThatThrownBy(() -> manager.getInstance(ANY_NAMESPACE, entry))
@@ -273,7 +348,7 @@ public class ContractManagerTest {
 
     // Assert
     verify(manager).validateContract(ANY_NAMESPACE, entry);
-    verify(loader, never()).defineClass(entry);
+    verify(loader, never()).defineClass(ANY_NAMESPACE, entry);
   }
 
   @Test
@@ -286,7 +361,7 @@ public class ContractManagerTest {
     manager = spy(new ContractManager(registry, loader, clientKeyValidator));
     SecurityException toThrow = mock(SecurityException.class);
     when(toThrow.getMessage()).thenReturn("details");
-    doThrow(toThrow).when(loader).defineClass(entry);
+    doThrow(toThrow).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     AssertionsForClassTypes.assertThatThrownBy(() -> manager.getInstance(ANY_NAMESPACE, entry))
@@ -295,6 +370,6 @@ public class ContractManagerTest {
 
     // Assert
     verify(manager).validateContract(ANY_NAMESPACE, entry);
-    verify(loader).defineClass(entry);
+    verify(loader).defineClass(ANY_NAMESPACE, entry);
   }
 }
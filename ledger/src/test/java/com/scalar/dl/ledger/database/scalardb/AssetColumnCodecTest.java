@@ -0,0 +1,115 @@
+package com.scalar.dl.ledger.database.scalardb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.google.common.base.Strings;
+import org.junit.jupiter.api.Test;
+
+public class AssetColumnCodecTest {
+  private static final int ANY_MIN_SIZE = 64;
+  private static final String LARGE_VALUE =
+      "{\"balance\":1000,\"memo\":\"" + Strings.repeat("\u8cc7\u7523", 100) + "\"}";
+  private static final String SMALL_VALUE = "{\"balance\":1000}";
+
+  @Test
+  public void encode_LargeValueGiven_ShouldReturnCompressedValue() {
+    // Arrange
+    AssetColumnCodec codec = new AssetColumnCodec(true, ANY_MIN_SIZE);
+
+    // Act
+    String encoded = codec.encode(LARGE_VALUE);
+
+    // Assert
+    assertThat(encoded).startsWith(AssetColumnCodec.DEFLATE_V1_PREFIX);
+    assertThat(encoded.length()).isLessThan(LARGE_VALUE.length());
+    assertThat(AssetColumnCodec.decode(encoded)).isEqualTo(LARGE_VALUE);
+  }
+
+  @Test
+  public void encode_SmallValueGiven_ShouldReturnValueAsItIs() {
+    // Arrange
+    AssetColumnCodec codec = new AssetColumnCodec(true, ANY_MIN_SIZE);
+
+    // Act
+    String encoded = codec.encode(SMALL_VALUE);
+
+    // Assert
+    assertThat(encoded).isSameAs(SMALL_VALUE);
+  }
+
+  @Test
+  public void encode_IncompressibleValueGiven_ShouldReturnValueAsItIs() {
+    // Arrange
+    AssetColumnCodec codec = new AssetColumnCodec(true, 1);
+    String value = "{\"a\":1}";
+
+    // Act
+    String encoded = codec.encode(value);
+
+    // Assert
+    assertThat(encoded).isSameAs(value);
+  }
+
+  @Test
+  public void encode_CompressionDisabled_ShouldReturnValueAsItIs() {
+    // Arrange
+    AssetColumnCodec codec = AssetColumnCodec.uncompressed();
+
+    // Act
+    String encoded = codec.encode(LARGE_VALUE);
+
+    // Assert
+    assertThat(encoded).isSameAs(LARGE_VALUE);
+  }
+
+  @Test
+  public void encode_ValueStartingWithPrefixGiven_ShouldReturnValueDecodedAsItWas() {
+    // Arrange
+    AssetColumnCodec codec = AssetColumnCodec.uncompressed();
+    String value = AssetColumnCodec.DEFLATE_V1_PREFIX + "abc";
+
+    // Act
+    String encoded = codec.encode(value);
+
+    // Assert
+    assertThat(encoded).isNotEqualTo(value);
+    assertThat(AssetColumnCodec.decode(encoded)).isEqualTo(value);
+  }
+
+  @Test
+  public void decode_UncompressedValueGiven_ShouldReturnValueAsItIs() {
+    // Act
+    String decoded = AssetColumnCodec.decode(SMALL_VALUE);
+
+    // Assert
+    assertThat(decoded).isSameAs(SMALL_VALUE);
+  }
+
+  @Test
+  public void decode_TruncatedValueGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    String encoded = new AssetColumnCodec(true, ANY_MIN_SIZE).encode(LARGE_VALUE);
+    String truncated = encoded.substring(0, encoded.length() - 8);
+
+    // Act
+    Throwable thrown = catchThrowable(() -> AssetColumnCodec.decode(truncated));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void decode_ValidValueGivenAfterTruncatedValue_ShouldReturnDecodedValue() {
+    // Arrange
+    String encoded = new AssetColumnCodec(true, ANY_MIN_SIZE).encode(LARGE_VALUE);
+    String truncated = encoded.substring(0, encoded.length() - 8);
+    catchThrowable(() -> AssetColumnCodec.decode(truncated));
+
+    // Act
+    String decoded = AssetColumnCodec.decode(encoded);
+
+    // Assert
+    assertThat(decoded).isEqualTo(LARGE_VALUE);
+  }
+}
@@ -0,0 +1,68 @@
+package com.scalar.dl.ledger.database.scalardb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.scalar.dl.ledger.database.AssetRecord;
+import com.scalar.dl.ledger.statemachine.AssetKey;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AssetRecordCacheTest {
+  private static final AssetKey ANY_ASSET_KEY = AssetKey.of("default", "id");
+  private static final String ANY_DATA = "data";
+  private AssetRecordCache cache;
+
+  @BeforeEach
+  public void setUp() {
+    cache = new AssetRecordCache(10);
+  }
+
+  private AssetRecord createRecord(int age) {
+    return AssetRecord.newBuilder().id(ANY_ASSET_KEY.assetId()).age(age).data(ANY_DATA).build();
+  }
+
+  @Test
+  public void get_RecordWithSameAgeCached_ShouldReturnIt() {
+    // Arrange
+    AssetRecord record = createRecord(1);
+    cache.put(ANY_ASSET_KEY, record);
+
+    // Act Assert
+    assertThat(cache.get(ANY_ASSET_KEY, 1)).contains(record);
+  }
+
+  @Test
+  public void get_RecordWithDifferentAgeCached_ShouldReturnEmpty() {
+    // Arrange
+    cache.put(ANY_ASSET_KEY, createRecord(1));
+
+    // Act Assert
+    assertThat(cache.get(ANY_ASSET_KEY, 2)).isEmpty();
+  }
+
+  @Test
+  public void put_OlderRecordGiven_ShouldKeepNewerRecord() {
+    // Arrange
+    AssetRecord newer = createRecord(2);
+    cache.put(ANY_ASSET_KEY, newer);
+
+    // Act
+    cache.put(ANY_ASSET_KEY, createRecord(1));
+
+    // Assert
+    assertThat(cache.get(ANY_ASSET_KEY, 2)).contains(newer);
+  }
+
+  @Test
+  public void invalidate_CachedKeyGiven_ShouldRemoveRecord() {
+    // Arrange
+    cache.put(ANY_ASSET_KEY, createRecord(1));
+
+    // Act
+    cache.invalidate(Collections.singleton(ANY_ASSET_KEY));
+
+    // Assert
+    assertThat(cache.get(ANY_ASSET_KEY, 1)).isEmpty();
+  }
+}
@@ -2,18 +2,18 @@ package com.scalar.dl.ledger.database.scalardb;
 
 import static com.scalar.dl.ledger.statemachine.AssetInput.KEY_AGE;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableMap;
 import com.scalar.db.api.Put;
 import com.scalar.db.io.BlobValue;
 import com.scalar.db.io.IntValue;
 import com.scalar.db.io.TextValue;
+import com.scalar.dl.ledger.asset.AssetHasher;
+import com.scalar.dl.ledger.contract.ContractEntry;
+import com.scalar.dl.ledger.crypto.CertificateEntry;
 import com.scalar.dl.ledger.database.AssetRecord;
 import com.scalar.dl.ledger.database.Snapshot;
 import com.scalar.dl.ledger.model.ContractExecutionRequest;
@@ -54,6 +54,7 @@ public class DefaultTamperEvidentAssetComposerTest {
   @Mock private Snapshot snapshot;
   @Mock private ContractExecutionRequest request;
   @Mock private ScalarNamespaceResolver namespaceResolver;
+  @Spy private AssetColumnCodec codec = AssetColumnCodec.uncompressed();
   @Spy @InjectMocks private DefaultTamperEvidentAssetComposer composer;
 
   @BeforeEach
@@ -96,17 +97,6 @@ public class DefaultTamperEvidentAssetComposerTest {
     when(snapshot.getWriteSet())
         .thenReturn(ImmutableMap.of(ASSET_KEY1, createAsset(ANY_ID1, ANY_AGE + 1, ANY_OUTPUT1)));
     request = configureContractExecutionRequestMock();
-    doReturn(new byte[0])
-        .when(composer)
-        .hashWith(
-            anyString(),
-            anyInt(),
-            anyString(),
-            anyString(),
-            anyString(),
-            anyString(),
-            any(),
-            any());
 
     // Act
     Map<AssetKey, Put> puts = composer.compose(snapshot, request);
@@ -150,17 +140,6 @@ public class DefaultTamperEvidentAssetComposerTest {
                 ASSET_KEY2,
                 createAsset(ANY_ID2, ANY_AGE + 1, outputs.get(1))));
     request = configureContractExecutionRequestMock();
-    doReturn(new byte[0])
-        .when(composer)
-        .hashWith(
-            anyString(),
-            anyInt(),
-            anyString(),
-            anyString(),
-            anyString(),
-            anyString(),
-            any(),
-            any());
 
     // Act
     Map<AssetKey, Put> puts = composer.compose(snapshot, request);
@@ -202,17 +181,6 @@ public class DefaultTamperEvidentAssetComposerTest {
     when(snapshot.getWriteSet())
         .thenReturn(ImmutableMap.of(ASSET_KEY1, createAsset(ANY_ID1, 0, ANY_OUTPUT1)));
     request = configureContractExecutionRequestMock();
-    doReturn(new byte[0])
-        .when(composer)
-        .hashWith(
-            anyString(),
-            anyInt(),
-            anyString(),
-            anyString(),
-            anyString(),
-            anyString(),
-            any(),
-            any());
 
     // Act
     Map<AssetKey, Put> puts = composer.compose(snapshot, request);
@@ -230,4 +198,98 @@ public class DefaultTamperEvidentAssetComposerTest {
     assertThat(put.getValues().get(AssetAttribute.PREV_HASH))
         .isEqualTo(new BlobValue(AssetAttribute.PREV_HASH, (byte[]) null));
   }
+
+  @Test
+  public void compose_TwoWriteSetGiven_ShouldComposeHashesSameAsAssetHasher() {
+    // Arrange
+    InternalAsset record = configureAssetMock(ANY_INPUT1, ANY_AGE, ANY_HASH);
+    when(snapshot.getReadSet()).thenReturn(ImmutableMap.of(ASSET_KEY1, record));
+    when(snapshot.getWriteSet())
+        .thenReturn(
+            ImmutableMap.of(
+                ASSET_KEY1,
+                createAsset(ANY_ID1, ANY_AGE + 1, ANY_OUTPUT1),
+                ASSET_KEY2,
+                createAsset(ANY_ID2, 0, ANY_OUTPUT2)));
+    request = configureContractExecutionRequestMock();
+    String contractId =
+        new ContractEntry.Key(
+                ANY_CONTRACT_ID, new CertificateEntry.Key(ANY_ENTITY_ID, ANY_CERT_VERSION))
+            .serialize();
+
+    // Act
+    Map<AssetKey, Put> puts = composer.compose(snapshot, request);
+
+    // Assert
+    TextValue inputValue = (TextValue) puts.get(ASSET_KEY1).getValues().get(AssetAttribute.INPUT);
+    String input = inputValue.get().orElse(null);
+    byte[] expected1 =
+        new AssetHasher.Builder()
+            .id(ANY_ID1)
+            .age(ANY_AGE + 1)
+            .input(input)
+            .output(ANY_OUTPUT1)
+            .contractId(contractId)
+            .argument(ANY_CONTRACT_ARGUMENT)
+            .signature(ANY_SIGNATURE)
+            .prevHash(ANY_HASH)
+            .build()
+            .get();
+    byte[] expected2 =
+        new AssetHasher.Builder()
+            .id(ANY_ID2)
+            .age(0)
+            .input(input)
+            .output(ANY_OUTPUT2)
+            .contractId(contractId)
+            .argument(ANY_CONTRACT_ARGUMENT)
+            .signature(ANY_SIGNATURE)
+            .build()
+            .get();
+    assertThat(puts.get(ASSET_KEY1).getValues().get(AssetAttribute.HASH))
+        .isEqualTo(new BlobValue(AssetAttribute.HASH, expected1));
+    assertThat(puts.get(ASSET_KEY2).getValues().get(AssetAttribute.HASH))
+        .isEqualTo(new BlobValue(AssetAttribute.HASH, expected2));
+  }
+
+  @Test
+  public void compose_CompressionEnabledAndLargeOutputGiven_ShouldComposeCompressedOutput() {
+    // Arrange
+    String output = "{\"data\":\"" + Strings.repeat("a", 1000) + "\"}";
+    composer =
+        new DefaultTamperEvidentAssetComposer(namespaceResolver, new AssetColumnCodec(true, 512));
+    when(snapshot.getWriteSet())
+        .thenReturn(ImmutableMap.of(ASSET_KEY1, createAsset(ANY_ID1, 0, output)));
+    request = configureContractExecutionRequestMock();
+    String contractId =
+        new ContractEntry.Key(
+                ANY_CONTRACT_ID, new CertificateEntry.Key(ANY_ENTITY_ID, ANY_CERT_VERSION))
+            .serialize();
+
+    // Act
+    Map<AssetKey, Put> puts = composer.compose(snapshot, request);
+
+    // Assert
+    Put put = puts.get(ASSET_KEY1);
+    String stored = put.getTextValue(AssetAttribute.OUTPUT);
+    assertThat(stored).startsWith(AssetColumnCodec.DEFLATE_V1_PREFIX);
+    assertThat(stored.length()).isLessThan(output.length());
+    assertThat(AssetColumnCodec.decode(stored)).isEqualTo(output);
+    // Small values are written as they are
+    String input = put.getTextValue(AssetAttribute.INPUT);
+    assertThat(put.getTextValue(AssetAttribute.ARGUMENT)).isEqualTo(ANY_CONTRACT_ARGUMENT);
+    // The hash is computed over the uncompressed output
+    byte[] expected =
+        new AssetHasher.Builder()
+            .id(ANY_ID1)
+            .age(0)
+            .input(input)
+            .output(output)
+            .contractId(contractId)
+            .argument(ANY_CONTRACT_ARGUMENT)
+            .signature(ANY_SIGNATURE)
+            .build()
+            .get();
+    assertThat(put.getBlobValueAsBytes(AssetAttribute.HASH)).isEqualTo(expected);
+  }
 }
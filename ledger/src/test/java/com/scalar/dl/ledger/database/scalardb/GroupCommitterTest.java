@@ -0,0 +1,305 @@
+package com.scalar.dl.ledger.database.scalardb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableSet;
+import com.scalar.db.api.DistributedTransaction;
+import com.scalar.db.api.DistributedTransactionManager;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.TransactionState;
+import com.scalar.db.exception.transaction.CommitConflictException;
+import com.scalar.db.exception.transaction.TransactionException;
+import com.scalar.dl.ledger.exception.ConflictException;
+import com.scalar.dl.ledger.statemachine.AssetKey;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class GroupCommitterTest {
+  private static final int MAX_SIZE = 2;
+  private static final long WINDOW_MILLIS = 60000;
+  private static final long TIMEOUT_MILLIS = 60000;
+  private static final String NAMESPACE = "scalar";
+  private static final String NONCE1 = "nonce1";
+  private static final String NONCE2 = "nonce2";
+  private static final String NONCE3 = "nonce3";
+  private static final AssetKey ASSET_KEY1 = AssetKey.of("default", "id1");
+  private static final AssetKey ASSET_KEY2 = AssetKey.of("default", "id2");
+  @Mock private DistributedTransactionManager manager;
+  @Mock private DistributedTransaction transaction;
+  private GroupCommitter committer;
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setUp() throws TransactionException {
+    MockitoAnnotations.openMocks(this);
+    when(manager.start()).thenReturn(transaction);
+    when(transaction.get(any(Get.class))).thenReturn(Optional.empty());
+    committer = new GroupCommitter(manager, NAMESPACE, MAX_SIZE, WINDOW_MILLIS, TIMEOUT_MILLIS);
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void join_CalledWithinMaxSize_ShouldShareOneTransaction() throws TransactionException {
+    // Arrange
+
+    // Act
+    GroupCommitter.Member member1 = committer.join(NONCE1);
+    GroupCommitter.Member member2 = committer.join(NONCE2);
+
+    // Assert
+    assertThat(member1.getTransaction()).isSameAs(member2.getTransaction());
+    verify(manager).start();
+  }
+
+  @Test
+  public void join_CalledBeyondMaxSize_ShouldStartNewGroup() throws TransactionException {
+    // Arrange
+    committer.join(NONCE1);
+    committer.join(NONCE2);
+
+    // Act
+    committer.join(NONCE3);
+
+    // Assert
+    verify(manager, times(2)).start();
+  }
+
+  @Test
+  public void commit_NonOverlappingMembersGiven_ShouldPutAllAndCommitOnce() throws Exception {
+    // Arrange
+    Put put1 = mock(Put.class);
+    Put put2 = mock(Put.class);
+    GroupCommitter.Member member1 = committer.join(NONCE1);
+    GroupCommitter.Member member2 = committer.join(NONCE2);
+
+    // Act
+    Future<?> future =
+        executor.submit(
+            () -> {
+              member1.commit(
+                  Collections.singletonList(put1),
+                  ImmutableSet.of(ASSET_KEY1),
+                  ImmutableSet.of(ASSET_KEY1));
+              return null;
+            });
+    member2.commit(
+        Collections.singletonList(put2), ImmutableSet.of(ASSET_KEY2), ImmutableSet.of(ASSET_KEY2));
+    future.get();
+
+    // Assert
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Put>> captor = ArgumentCaptor.forClass(List.class);
+    verify(transaction).put(captor.capture());
+    assertThat(captor.getValue()).hasSize(4).containsAll(Arrays.asList(put1, put2));
+    assertThat(getNonces(captor.getValue())).containsExactlyInAnyOrder(NONCE1, NONCE2);
+    verify(transaction).commit();
+  }
+
+  @Test
+  public void commit_OverlappingMembersGiven_ShouldThrowConflictExceptionToOneAndCommitTheOther()
+      throws Exception {
+    // Arrange
+    Put put1 = mock(Put.class);
+    Put put2 = mock(Put.class);
+    GroupCommitter.Member member1 = committer.join(NONCE1);
+    GroupCommitter.Member member2 = committer.join(NONCE2);
+
+    // Act
+    Future<Throwable> future =
+        executor.submit(
+            () ->
+                catchThrowable(
+                    () ->
+                        member1.commit(
+                            Collections.singletonList(put1),
+                            ImmutableSet.of(ASSET_KEY1),
+                            ImmutableSet.of(ASSET_KEY1))));
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                member2.commit(
+                    Collections.singletonList(put2),
+                    ImmutableSet.of(ASSET_KEY1, ASSET_KEY2),
+                    ImmutableSet.of(ASSET_KEY2)));
+    Throwable thrownInOther = future.get();
+
+    // Assert
+    // The member that arrives later is rejected
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Put>> captor = ArgumentCaptor.forClass(List.class);
+    verify(transaction).put(captor.capture());
+    verify(transaction).commit();
+    assertThat(captor.getValue()).hasSize(2);
+    if (thrown == null) {
+      assertThat(thrownInOther).isExactlyInstanceOf(ConflictException.class);
+      assertThat(captor.getValue()).contains(put2);
+      assertThat(getNonces(captor.getValue())).containsExactly(NONCE2);
+    } else {
+      assertThat(thrown).isExactlyInstanceOf(ConflictException.class);
+      assertThat(thrownInOther).isNull();
+      assertThat(captor.getValue()).contains(put1);
+      assertThat(getNonces(captor.getValue())).containsExactly(NONCE1);
+    }
+  }
+
+  @Test
+  public void commit_CommitConflictExceptionThrown_ShouldThrowItToAllMembers() throws Exception {
+    // Arrange
+    CommitConflictException toThrow = mock(CommitConflictException.class);
+    doThrow(toThrow).when(transaction).commit();
+    GroupCommitter.Member member1 = committer.join(NONCE1);
+    GroupCommitter.Member member2 = committer.join(NONCE2);
+
+    // Act
+    Future<Throwable> future =
+        executor.submit(
+            () ->
+                catchThrowable(
+                    () ->
+                        member1.commit(
+                            Collections.emptyList(),
+                            ImmutableSet.of(ASSET_KEY1),
+                            Collections.emptySet())));
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                member2.commit(
+                    Collections.emptyList(), ImmutableSet.of(ASSET_KEY2), Collections.emptySet()));
+
+    // Assert
+    assertThat(thrown).isSameAs(toThrow);
+    assertThat(future.get()).isSameAs(toThrow);
+  }
+
+  @Test
+  public void leave_AllMembersLeft_ShouldAbortGroupTransaction() throws TransactionException {
+    // Arrange
+    GroupCommitter.Member member1 = committer.join(NONCE1);
+    GroupCommitter.Member member2 = committer.join(NONCE2);
+
+    // Act
+    member1.leave();
+    member2.leave();
+
+    // Assert
+    verify(transaction).abort();
+    verify(transaction, never()).commit();
+  }
+
+  @Test
+  public void join_AfterAllMembersFinished_ShouldStartNewGroup() throws TransactionException {
+    // Arrange
+    GroupCommitter.Member member = committer.join(NONCE1);
+    member.commit(Collections.emptyList(), ImmutableSet.of(ASSET_KEY1), Collections.emptySet());
+
+    // Act
+    committer.join(NONCE2);
+
+    // Assert
+    verify(transaction).commit();
+    verify(manager, times(2)).start();
+  }
+
+  @Test
+  public void join_NonceUsedInSameGroupGiven_ShouldThrowConflictException()
+      throws TransactionException {
+    // Arrange
+    committer.join(NONCE1);
+
+    // Act
+    Throwable thrown = catchThrowable(() -> committer.join(NONCE1));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(ConflictException.class);
+    verify(manager).start();
+  }
+
+  @Test
+  public void join_NonceInNonceTableGiven_ShouldThrowConflictExceptionAndLeaveGroup()
+      throws TransactionException {
+    // Arrange
+    when(transaction.get(any(Get.class))).thenReturn(Optional.of(mock(Result.class)));
+
+    // Act
+    Throwable thrown = catchThrowable(() -> committer.join(NONCE1));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(ConflictException.class);
+    verify(transaction).abort();
+  }
+
+  @Test
+  public void join_NonceUsedAsTransactionIdGiven_ShouldThrowConflictException()
+      throws TransactionException {
+    // Arrange
+    when(manager.getState(NONCE1)).thenReturn(TransactionState.COMMITTED);
+
+    // Act
+    Throwable thrown = catchThrowable(() -> committer.join(NONCE1));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(ConflictException.class);
+    verify(transaction, never()).get(any(Get.class));
+  }
+
+  @Test
+  public void commit_OtherMemberNotFinishedWithinTimeout_ShouldAbortGroupAndThrowConflictException()
+      throws TransactionException {
+    // Arrange
+    committer = new GroupCommitter(manager, NAMESPACE, MAX_SIZE, WINDOW_MILLIS, 100);
+    GroupCommitter.Member member1 = committer.join(NONCE1);
+    GroupCommitter.Member member2 = committer.join(NONCE2);
+
+    // Act
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                member1.commit(
+                    Collections.emptyList(), ImmutableSet.of(ASSET_KEY1), Collections.emptySet()));
+    Throwable thrownInOther =
+        catchThrowable(
+            () ->
+                member2.commit(
+                    Collections.emptyList(), ImmutableSet.of(ASSET_KEY2), Collections.emptySet()));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(ConflictException.class);
+    assertThat(thrownInOther).isExactlyInstanceOf(ConflictException.class);
+    verify(transaction).abort();
+    verify(transaction, never()).commit();
+  }
+
+  private List<String> getNonces(List<Put> puts) {
+    return puts.stream()
+        .filter(p -> p.forTable().map(GroupCommitter.NONCE_TABLE::equals).orElse(false))
+        .map(p -> p.getPartitionKey().getColumns().get(0).getTextValue())
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,152 @@
+package com.scalar.dl.ledger.database.scalardb;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.scalar.dl.ledger.database.TamperEvidentAssetLedger;
+import com.scalar.dl.ledger.database.Transaction;
+import com.scalar.dl.ledger.database.TransactionManager;
+import com.scalar.dl.ledger.exception.ConflictException;
+import com.scalar.dl.ledger.exception.DatabaseException;
+import com.scalar.dl.ledger.statemachine.AssetInput;
+import com.scalar.dl.ledger.statemachine.InternalAsset;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class PrefetchingAssetScannerTest {
+  private static final String SOME_NAMESPACE = "namespace";
+  private static final String SOME_ID1 = "id1";
+  private static final String SOME_ID2 = "id2";
+  private static final String SOME_INPUT =
+      "{\"_version\":2,\""
+          + SOME_NAMESPACE
+          + "\":{\""
+          + SOME_ID1
+          + "\":{\"age\":1},\""
+          + SOME_ID2
+          + "\":{\"age\":2}}}";
+  @Mock private TransactionManager manager;
+  @Mock private Transaction transaction;
+  @Mock private TamperEvidentAssetLedger ledger;
+  private PrefetchingAssetScanner scanner;
+
+  @BeforeEach
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    scanner = new PrefetchingAssetScanner(manager, 10);
+    when(manager.startWith()).thenReturn(transaction);
+    when(transaction.getLedger()).thenReturn(ledger);
+  }
+
+  @Test
+  public void prefetch_InputGiven_ShouldRetrieveAllAssetsInOneTransaction() {
+    // Arrange
+    InternalAsset asset1 = mock(InternalAsset.class);
+    InternalAsset asset2 = mock(InternalAsset.class);
+    when(ledger.scan(any()))
+        .thenReturn(Collections.singletonList(asset1))
+        .thenReturn(Collections.singletonList(asset2));
+
+    // Act
+    scanner.prefetch(SOME_NAMESPACE, Collections.singletonList(new AssetInput(SOME_INPUT)));
+    InternalAsset actual1 = scanner.doGet(SOME_NAMESPACE, SOME_ID1, 1);
+    InternalAsset actual2 = scanner.doGet(SOME_NAMESPACE, SOME_ID2, 2);
+
+    // Assert
+    assertThat(actual1).isEqualTo(asset1);
+    assertThat(actual2).isEqualTo(asset2);
+    verify(manager).startWith();
+    verify(ledger, times(2)).scan(any());
+    verify(transaction).commit();
+  }
+
+  @Test
+  public void prefetch_CachedInputGiven_ShouldNotStartTransaction() {
+    // Arrange
+    InternalAsset asset = mock(InternalAsset.class);
+    when(ledger.scan(any())).thenReturn(Collections.singletonList(asset));
+    scanner.prefetch(SOME_NAMESPACE, Collections.singletonList(new AssetInput(SOME_INPUT)));
+
+    // Act
+    scanner.prefetch(SOME_NAMESPACE, Collections.singletonList(new AssetInput(SOME_INPUT)));
+
+    // Assert
+    verify(manager).startWith();
+  }
+
+  @Test
+  public void doGet_NotPrefetchedAssetGiven_ShouldRetrieveItOnlyOnce() {
+    // Arrange
+    InternalAsset asset = mock(InternalAsset.class);
+    when(ledger.scan(any())).thenReturn(Collections.singletonList(asset));
+
+    // Act
+    scanner.doGet(SOME_NAMESPACE, SOME_ID1, 1);
+    InternalAsset actual = scanner.doGet(SOME_NAMESPACE, SOME_ID1, 1);
+
+    // Assert
+    assertThat(actual).isEqualTo(asset);
+    verify(manager).startWith();
+  }
+
+  @Test
+  public void doGet_NonexistentAssetGiven_ShouldReturnNull() {
+    // Arrange
+    when(ledger.scan(any())).thenReturn(Collections.emptyList());
+    scanner.prefetch(SOME_NAMESPACE, Collections.singletonList(new AssetInput(SOME_INPUT)));
+
+    // Act
+    InternalAsset actual = scanner.doGet(SOME_NAMESPACE, SOME_ID1, 1);
+
+    // Assert
+    assertThat(actual).isNull();
+  }
+
+  @Test
+  public void prefetch_ConflictExceptionThrown_ShouldAbortAndRethrowIt() {
+    // Arrange
+    ConflictException toThrow = mock(ConflictException.class);
+    when(ledger.scan(any())).thenThrow(toThrow);
+
+    // Act
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                scanner.prefetch(
+                    SOME_NAMESPACE, Collections.singletonList(new AssetInput(SOME_INPUT))));
+
+    // Assert
+    assertThat(thrown).isEqualTo(toThrow);
+    verify(transaction, never()).commit();
+    verify(transaction).abort();
+  }
+
+  @Test
+  public void prefetch_NonLedgerExceptionThrown_ShouldAbortAndThrowDatabaseException() {
+    // Arrange
+    RuntimeException toThrow = new RuntimeException("error");
+    when(ledger.scan(any())).thenThrow(toThrow);
+
+    // Act
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                scanner.prefetch(
+                    SOME_NAMESPACE, Collections.singletonList(new AssetInput(SOME_INPUT))));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(DatabaseException.class);
+    assertThat(thrown.getCause()).isEqualTo(toThrow);
+    verify(transaction, never()).commit();
+    verify(transaction).abort();
+  }
+}
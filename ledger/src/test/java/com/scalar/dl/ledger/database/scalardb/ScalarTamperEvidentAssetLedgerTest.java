@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -26,6 +27,7 @@ import com.scalar.db.exception.transaction.AbortException;
 import com.scalar.db.exception.transaction.CommitConflictException;
 import com.scalar.db.exception.transaction.CommitException;
 import com.scalar.db.exception.transaction.CrudException;
+import com.scalar.db.exception.transaction.TransactionException;
 import com.scalar.db.io.BlobValue;
 import com.scalar.db.io.IntValue;
 import com.scalar.db.io.Key;
@@ -50,6 +52,7 @@ import com.scalar.dl.ledger.service.StatusCode;
 import com.scalar.dl.ledger.statemachine.AssetKey;
 import com.scalar.dl.ledger.statemachine.InternalAsset;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -225,6 +228,75 @@ public class ScalarTamperEvidentAssetLedgerTest {
     assertThat(captured.get(0).getLimit()).isEqualTo(1);
   }
 
+  @Test
+  public void get_AssetIdGivenAndRecordAtLatestAgeCached_ShouldReturnCachedRecordWithOneLookup()
+      throws CrudException {
+    // Arrange
+    configureMetaResult(metaResult);
+    configureResult(result);
+    AssetRecord cached = AssetLedgerUtility.getAssetRecordFrom(result);
+    AssetRecordCache recordCache = new AssetRecordCache(10);
+    recordCache.put(ANY_ASSET_KEY, cached);
+    ledger = createLedgerWithCache(recordCache);
+    when(transaction.get(any(Get.class))).thenReturn(Optional.of(metaResult));
+    when(config.isDirectAssetAccessEnabled()).thenReturn(false);
+
+    // Act
+    Optional<InternalAsset> actual = ledger.get(ANY_ID);
+
+    // Assert
+    assertThat(actual).contains(cached);
+    assertThat(snapshot.getReadSet()).containsOnly(entry(ANY_ASSET_KEY, cached));
+    verify(transaction, times(1)).get(any(Get.class)); // only for asset_metadata
+  }
+
+  @Test
+  public void get_AssetIdGivenAndStaleRecordCached_ShouldReadLatestRecordAndCacheIt()
+      throws CrudException {
+    // Arrange
+    configureMetaResult(metaResult);
+    configureResult(result);
+    AssetRecord latest = AssetLedgerUtility.getAssetRecordFrom(result);
+    AssetRecord stale = AssetRecord.newBuilder(latest).age(ANY_AGE - 1).build();
+    AssetRecordCache recordCache = new AssetRecordCache(10);
+    recordCache.put(ANY_ASSET_KEY, stale);
+    ledger = createLedgerWithCache(recordCache);
+    when(transaction.get(any(Get.class)))
+        .thenReturn(Optional.of(metaResult))
+        .thenReturn(Optional.of(result));
+    when(config.isDirectAssetAccessEnabled()).thenReturn(false);
+
+    // Act
+    Optional<InternalAsset> actual = ledger.get(ANY_ID);
+
+    // Assert
+    assertThat(actual).contains(latest);
+    verify(transaction, times(2)).get(any(Get.class));
+    assertThat(recordCache.get(ANY_ASSET_KEY, ANY_AGE)).contains(latest);
+  }
+
+  @Test
+  public void commit_RecordCacheGiven_ShouldInvalidateWrittenAssets()
+      throws CommitException,
+          com.scalar.db.exception.transaction.UnknownTransactionStatusException,
+          CrudException {
+    // Arrange
+    AssetRecordCache recordCache = new AssetRecordCache(10);
+    AssetRecord record = AssetRecord.newBuilder().id(ANY_ID).age(ANY_AGE).data(ANY_DATA).build();
+    recordCache.put(ANY_ASSET_KEY, record);
+    ledger = createLedgerWithCache(recordCache);
+    snapshot.put(ANY_ASSET_KEY, record);
+    snapshot.put(ANY_ASSET_KEY, ANY_DATA);
+    when(config.isDirectAssetAccessEnabled()).thenReturn(false);
+
+    // Act
+    ledger.commit();
+
+    // Assert
+    assertThat(recordCache.get(ANY_ASSET_KEY, ANY_AGE)).isEmpty();
+    verify(transaction).commit();
+  }
+
   @Test
   public void get_AssetIdGivenAndCrudExceptionThrownInGetAge_ShouldThrowAssetRetrievalException()
       throws CrudException {
@@ -356,6 +428,67 @@ public class ScalarTamperEvidentAssetLedgerTest {
     assertThat(snapshot.getReadSet()).containsOnlyKeys(ANY_ASSET_KEY);
   }
 
+  @Test
+  public void scan_ArchiveEnabledAndArchivedAgesGiven_ShouldScanArchiveAndThenAssetTable()
+      throws CrudException {
+    // Arrange
+    AssetFilter filter = new AssetFilter(ANY_ID).withAgeOrder(AssetFilter.AgeOrder.ASC);
+    TransactionResult summary = mock(TransactionResult.class);
+    when(summary.getInt(AssetRecord.AGE)).thenReturn(ANY_AGE);
+    configureMetaResult(metaResult);
+    configureResult(result);
+    when(transaction.get(any(Get.class)))
+        .thenReturn(Optional.of(summary))
+        .thenReturn(Optional.of(metaResult))
+        .thenReturn(Optional.of(result));
+    when(transaction.scan(any(Scan.class)))
+        .thenReturn(Collections.singletonList(result))
+        .thenReturn(Collections.emptyList());
+    when(config.isArchiveEnabled()).thenReturn(true);
+    when(config.isDirectAssetAccessEnabled()).thenReturn(false);
+
+    // Act
+    List<InternalAsset> assets = ledger.scan(filter);
+
+    // Assert
+    Scan archiveScan =
+        new Scan(new Key(AssetAttribute.ID, ANY_ID))
+            .withOrdering(new Scan.Ordering(AssetAttribute.AGE, Scan.Ordering.Order.ASC))
+            .withConsistency(Consistency.LINEARIZABLE)
+            .forNamespace(NAMESPACE)
+            .forTable(AssetArchiver.TABLE);
+    Scan assetScan =
+        new Scan(new Key(AssetAttribute.ID, ANY_ID))
+            .withOrdering(new Scan.Ordering(AssetAttribute.AGE, Scan.Ordering.Order.ASC))
+            .withConsistency(Consistency.LINEARIZABLE)
+            .forNamespace(NAMESPACE)
+            .forTable(ScalarTamperEvidentAssetLedger.TABLE);
+    verify(transaction).scan(archiveScan);
+    verify(transaction).scan(assetScan);
+    assertThat(assets).hasSize(1);
+  }
+
+  @Test
+  public void scan_ArchiveEnabledButNothingArchived_ShouldScanOnlyAssetTable()
+      throws CrudException {
+    // Arrange
+    AssetFilter filter = new AssetFilter(ANY_ID).withAgeOrder(AssetFilter.AgeOrder.ASC);
+    configureMetaResult(metaResult);
+    configureResult(result);
+    when(transaction.get(any(Get.class)))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(metaResult))
+        .thenReturn(Optional.of(result));
+    when(config.isArchiveEnabled()).thenReturn(true);
+    when(config.isDirectAssetAccessEnabled()).thenReturn(false);
+
+    // Act
+    ledger.scan(filter);
+
+    // Assert
+    verify(transaction, times(1)).scan(any(Scan.class));
+  }
+
   @Test
   public void scan_AssetFilterWithDescAgeOrderGiven_ShouldScanByTransactionWithDesc()
       throws CrudException {
@@ -569,6 +702,63 @@ public class ScalarTamperEvidentAssetLedgerTest {
     verify(transaction).commit();
   }
 
+  private Put createAssetPut(int age) {
+    return new Put(
+            new Key(AssetAttribute.toIdValue(ANY_ID)), new Key(AssetAttribute.toAgeValue(age)))
+        .withValue(AssetAttribute.toHashValue(ANY_HASH))
+        .forNamespace(NAMESPACE)
+        .forTable(ScalarTamperEvidentAssetLedger.TABLE);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void commit_HistoryIndexEnabled_ShouldPutHistoryNodesWithAssetRecords()
+      throws TransactionException {
+    // Arrange
+    snapshot.put(ANY_ASSET_KEY, ANY_DATA);
+    when(assetComposer.compose(any(), any()))
+        .thenReturn(Collections.singletonMap(ANY_ASSET_KEY, createAssetPut(ANY_AGE)));
+    when(config.isDirectAssetAccessEnabled()).thenReturn(true);
+    when(config.isHistoryIndexEnabled()).thenReturn(true);
+    when(result.getBlobAsBytes(AssetRecord.HASH)).thenReturn(ANY_PREV_HASH);
+    when(transaction.get(any(Get.class))).thenReturn(Optional.of(result));
+
+    // Act
+    ledger.commit();
+
+    // Assert
+    ArgumentCaptor<List<Put>> captor = ArgumentCaptor.forClass(List.class);
+    verify(transaction, times(2)).put(captor.capture());
+    List<Put> historyPuts = captor.getAllValues().get(1);
+    // The leaf of age 1 and its parent merged with the leaf of age 0
+    assertThat(historyPuts).hasSize(2);
+    assertThat(historyPuts.get(0).forTable()).hasValue(AssetHistoryIndex.TABLE);
+    assertThat(historyPuts.get(0).getClusteringKey().get().getColumns().get(0).getBigIntValue())
+        .isEqualTo(1L);
+    assertThat(historyPuts.get(1).getClusteringKey().get().getColumns().get(0).getBigIntValue())
+        .isEqualTo(2L);
+    verify(transaction).commit();
+  }
+
+  @Test
+  public void commit_HistoryIndexEnabledForAssetNotIndexed_ShouldNotPutHistoryNodes()
+      throws TransactionException {
+    // Arrange
+    snapshot.put(ANY_ASSET_KEY, ANY_DATA);
+    when(assetComposer.compose(any(), any()))
+        .thenReturn(Collections.singletonMap(ANY_ASSET_KEY, createAssetPut(ANY_AGE)));
+    when(config.isDirectAssetAccessEnabled()).thenReturn(true);
+    when(config.isHistoryIndexEnabled()).thenReturn(true);
+    when(transaction.get(any(Get.class))).thenReturn(Optional.empty());
+
+    // Act
+    ledger.commit();
+
+    // Assert
+    verify(transaction).put(any(List.class));
+    verify(transaction).commit();
+  }
+
   @Test
   public void commit_NonEmptySnapshotGivenAndDirectAssetAccessEnabled_ShouldCommitProperly()
       throws CommitException,
@@ -887,6 +1077,69 @@ public class ScalarTamperEvidentAssetLedgerTest {
     assertThat(proofs).containsOnly(proof);
   }
 
+  @Test
+  public void commit_NonEmptySnapshotGivenWithProofAggregationEnabled_ShouldSignOnceForAllProofs()
+      throws CommitException,
+          com.scalar.db.exception.transaction.UnknownTransactionStatusException,
+          CrudException {
+    // Arrange
+    snapshot.put(ANY_ASSET_KEY, ANY_DATA);
+    snapshot.put(ANY_ASSET_KEY2, asset);
+    doNothing().when(transaction).put(any(List.class));
+    doNothing().when(transaction).put(any(Put.class));
+    Put put =
+        new Put(
+                new Key(AssetAttribute.toIdValue(ANY_ID)),
+                new Key(AssetAttribute.toAgeValue(ANY_AGE)))
+            .withValue(AssetAttribute.toHashValue(ANY_HASH))
+            .withValue(AssetAttribute.toPrevHashValue(ANY_PREV_HASH))
+            .withValue(AssetAttribute.toInputValue(ANY_INPUT))
+            .forNamespace(NAMESPACE)
+            .forTable(ScalarTamperEvidentAssetLedger.TABLE);
+    when(assetComposer.compose(any(), any()))
+        .thenReturn(Collections.singletonMap(ANY_ASSET_KEY, put));
+    when(request.getNonce()).thenReturn(ANY_NONCE);
+    when(asset.id()).thenReturn(ANY_ID2);
+    when(asset.age()).thenReturn(ANY_AGE);
+    when(asset.hash()).thenReturn(ANY_HASH);
+    when(asset.prevHash()).thenReturn(ANY_PREV_HASH);
+    when(asset.input()).thenReturn(ANY_INPUT);
+    when(asset.argument()).thenReturn(ANY_ARGUMENT);
+
+    when(config.isProofEnabled()).thenReturn(true);
+    DigitalSignatureSigner signer = mock(DigitalSignatureSigner.class);
+    when(signer.sign(any())).thenReturn(ANY_SIGNATURE);
+    proofComposer = new AssetProofComposer(signer, true);
+    ledger =
+        new ScalarTamperEvidentAssetLedger(
+            transaction,
+            new ScalarTamperEvidentAssetLedger.Metadata(transaction, namespaceResolver),
+            snapshot,
+            request,
+            assetComposer,
+            proofComposer,
+            stateManager,
+            namespaceResolver,
+            config);
+    when(config.isDirectAssetAccessEnabled()).thenReturn(false);
+
+    // Act
+    List<AssetProof> proofs = ledger.commit();
+
+    // Assert
+    verify(signer).sign(any());
+    assertThat(proofs).hasSize(2);
+    assertThat(proofs)
+        .allSatisfy(
+            p -> {
+              assertThat(p.isAggregated()).isTrue();
+              assertThat(p.getLeafCount()).isEqualTo(2);
+              assertThat(p.getMerklePath()).hasSize(1);
+              assertThat(p.getSignature()).isEqualTo(ANY_SIGNATURE);
+            });
+    assertThat(proofs).extracting(AssetProof::getId).containsOnly(ANY_ID, ANY_ID2);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   public void commit_WriteTransactionGiven_ShouldPutWithStateManagerAccordingToConfig(
@@ -976,6 +1229,47 @@ public class ScalarTamperEvidentAssetLedgerTest {
     verify(stateManager, never()).putAbort(ANY_NONCE);
   }
 
+  @Test
+  public void commit_GroupMemberGiven_ShouldHandPutsOverToGroupWithoutCommitting()
+      throws TransactionException {
+    // Arrange
+    GroupCommitter.Member member = mock(GroupCommitter.Member.class);
+    ledger = createLedgerInGroup(member);
+    snapshot.put(ANY_ASSET_KEY, asset);
+    snapshot.put(ANY_ASSET_KEY, ANY_DATA);
+    when(config.isDirectAssetAccessEnabled()).thenReturn(false);
+
+    // Act
+    ledger.commit();
+
+    // Assert
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Collection<Put>> captor = ArgumentCaptor.forClass(Collection.class);
+    verify(member)
+        .commit(
+            captor.capture(),
+            eq(Collections.singleton(ANY_ASSET_KEY)),
+            eq(Collections.singleton(ANY_ASSET_KEY)));
+    assertThat(captor.getValue()).hasSize(1); // for asset_metadata
+    verify(transaction, never()).put(any(List.class));
+    verify(transaction, never()).put(any(Put.class));
+    verify(transaction, never()).commit();
+  }
+
+  @Test
+  public void abort_GroupMemberGiven_ShouldLeaveGroupWithoutAborting() throws AbortException {
+    // Arrange
+    GroupCommitter.Member member = mock(GroupCommitter.Member.class);
+    ledger = createLedgerInGroup(member);
+
+    // Act
+    ledger.abort();
+
+    // Assert
+    verify(member).leave();
+    verify(transaction, never()).abort();
+  }
+
   @Test
   public void get_TableNotFoundExceptionThrown_ShouldThrowLedgerExceptionWithNamespaceNotFound()
       throws CrudException {
@@ -1095,4 +1389,34 @@ public class ScalarTamperEvidentAssetLedgerTest {
         .isInstanceOf(IllegalArgumentException.class)
         .isSameAs(toThrow);
   }
+
+  private ScalarTamperEvidentAssetLedger createLedgerInGroup(GroupCommitter.Member member) {
+    return new ScalarTamperEvidentAssetLedger(
+        transaction,
+        new ScalarTamperEvidentAssetLedger.Metadata(transaction, namespaceResolver, member),
+        snapshot,
+        request,
+        assetComposer,
+        proofComposer,
+        stateManager,
+        namespaceResolver,
+        config,
+        member,
+        null);
+  }
+
+  private ScalarTamperEvidentAssetLedger createLedgerWithCache(AssetRecordCache recordCache) {
+    return new ScalarTamperEvidentAssetLedger(
+        transaction,
+        new ScalarTamperEvidentAssetLedger.Metadata(transaction, namespaceResolver),
+        snapshot,
+        request,
+        assetComposer,
+        proofComposer,
+        stateManager,
+        namespaceResolver,
+        config,
+        null,
+        recordCache);
+  }
 }
@@ -13,7 +13,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
+import com.scalar.db.api.DistributedTransaction;
 import com.scalar.db.api.DistributedTransactionManager;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Result;
 import com.scalar.db.exception.transaction.TransactionException;
 import com.scalar.db.transaction.consensuscommit.ConsensusCommitManager;
 import com.scalar.db.transaction.jdbc.JdbcTransactionManager;
@@ -23,6 +26,7 @@ import com.scalar.dl.ledger.database.AssetProofComposer;
 import com.scalar.dl.ledger.database.TamperEvidentAssetLedger;
 import com.scalar.dl.ledger.database.Transaction;
 import com.scalar.dl.ledger.database.TransactionState;
+import com.scalar.dl.ledger.exception.ConflictException;
 import com.scalar.dl.ledger.exception.DatabaseException;
 import com.scalar.dl.ledger.exception.LedgerException;
 import com.scalar.dl.ledger.model.ContractExecutionRequest;
@@ -30,6 +34,7 @@ import com.scalar.dl.ledger.service.StatusCode;
 import com.scalar.dl.ledger.statemachine.AssetKey;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -37,6 +42,7 @@ import org.mockito.MockitoAnnotations;
 
 public class ScalarTransactionManagerTest {
   private static final String NONCE = "nonce";
+  private static final String ANOTHER_NONCE = "another_nonce";
   private static final String BASE_NAMESPACE = "scalar";
   private static final String DEFAULT_NAMESPACE = "default";
   private static final String SOME_NAMESPACE = "namespace";
@@ -94,6 +100,62 @@ public class ScalarTransactionManagerTest {
     verify(manager).start(NONCE);
   }
 
+  @Test
+  public void startWith_GroupCommitEnabled_ShouldStartOneTransactionForConcurrentRequests()
+      throws TransactionException {
+    // Arrange
+    when(config.isGroupCommitEnabled()).thenReturn(true);
+    when(config.getGroupCommitMaxSize()).thenReturn(2);
+    when(config.getGroupCommitWindowMillis()).thenReturn(60000L);
+    when(config.getGroupCommitTimeoutMillis()).thenReturn(60000L);
+    when(config.getNamespace()).thenReturn(BASE_NAMESPACE);
+    DistributedTransaction transaction = mock(DistributedTransaction.class);
+    when(manager.start()).thenReturn(transaction);
+    when(transaction.get(any(Get.class))).thenReturn(Optional.empty());
+    transactionManager =
+        new ScalarTransactionManager(
+            manager, assetComposer, proofComposer, stateManager, namespaceResolver, config);
+    ContractExecutionRequest request2 = mock(ContractExecutionRequest.class);
+    when(request.getNonce()).thenReturn(NONCE);
+    when(request2.getNonce()).thenReturn(ANOTHER_NONCE);
+    when(request2.getContextNamespaceOrDefault()).thenReturn(DEFAULT_NAMESPACE);
+
+    // Act
+    Transaction transaction1 = transactionManager.startWith(request);
+    Transaction transaction2 = transactionManager.startWith(request2);
+
+    // Assert
+    verify(manager).start();
+    verify(manager, never()).start(anyString());
+    assertThat(transaction1.getDatabase()).isNull();
+    assertThat(transaction2.getDatabase()).isNull();
+  }
+
+  @Test
+  public void startWith_GroupCommitEnabledAndUsedNonceGiven_ShouldThrowConflictException()
+      throws TransactionException {
+    // Arrange
+    when(config.isGroupCommitEnabled()).thenReturn(true);
+    when(config.getGroupCommitMaxSize()).thenReturn(2);
+    when(config.getGroupCommitWindowMillis()).thenReturn(60000L);
+    when(config.getGroupCommitTimeoutMillis()).thenReturn(60000L);
+    when(config.getNamespace()).thenReturn(BASE_NAMESPACE);
+    DistributedTransaction transaction = mock(DistributedTransaction.class);
+    when(manager.start()).thenReturn(transaction);
+    when(transaction.get(any(Get.class))).thenReturn(Optional.of(mock(Result.class)));
+    transactionManager =
+        new ScalarTransactionManager(
+            manager, assetComposer, proofComposer, stateManager, namespaceResolver, config);
+    when(request.getNonce()).thenReturn(NONCE);
+
+    // Act
+    Throwable thrown = catchThrowable(() -> transactionManager.startWith(request));
+
+    // Assert
+    assertThat(thrown).isExactlyInstanceOf(ConflictException.class);
+    assertThat(((ConflictException) thrown).getCode()).isEqualTo(StatusCode.CONFLICT);
+  }
+
   @Test
   public void getState_CommittedGivenFromDatabaseUnderneath_ShouldReturnCommitted()
       throws TransactionException {
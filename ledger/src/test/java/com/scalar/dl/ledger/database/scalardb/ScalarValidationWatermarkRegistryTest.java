@@ -0,0 +1,132 @@
+package com.scalar.dl.ledger.database.scalardb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.scalar.db.api.Consistency;
+import com.scalar.db.api.DistributedStorage;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.Result;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.io.Key;
+import com.scalar.dl.ledger.exception.DatabaseException;
+import com.scalar.dl.ledger.validation.ValidationWatermark;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class ScalarValidationWatermarkRegistryTest {
+  private static final String SOME_ASSET_ID = "asset_id";
+  private static final int SOME_AGE = 10;
+  private static final byte[] SOME_HASH = "hash".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] SOME_SIGNATURE = "signature".getBytes(StandardCharsets.UTF_8);
+  private static final String ANY_NAMESPACE = "test_namespace";
+  private static final String RESOLVED_NAMESPACE = "resolved_namespace";
+  @Mock private DistributedStorage storage;
+  @Mock private ScalarNamespaceResolver namespaceResolver;
+  private ScalarValidationWatermarkRegistry registry;
+
+  @BeforeEach
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(namespaceResolver.resolve(ANY_NAMESPACE)).thenReturn(RESOLVED_NAMESPACE);
+    registry = new ScalarValidationWatermarkRegistry(storage, namespaceResolver);
+  }
+
+  @Test
+  public void bind_ValidArgumentGiven_ShouldPutWatermark() throws ExecutionException {
+    // Arrange
+    ValidationWatermark watermark =
+        new ValidationWatermark(SOME_ASSET_ID, SOME_AGE, SOME_HASH, SOME_SIGNATURE);
+
+    // Act
+    registry.bind(ANY_NAMESPACE, watermark);
+
+    // Assert
+    Put expected =
+        Put.newBuilder()
+            .namespace(RESOLVED_NAMESPACE)
+            .table(ScalarValidationWatermarkRegistry.TABLE)
+            .partitionKey(Key.ofText(ValidationWatermark.ASSET_ID, SOME_ASSET_ID))
+            .intValue(ValidationWatermark.AGE, SOME_AGE)
+            .blobValue(ValidationWatermark.HASH, SOME_HASH)
+            .blobValue(ValidationWatermark.SIGNATURE, SOME_SIGNATURE)
+            .consistency(Consistency.SEQUENTIAL)
+            .build();
+    verify(storage).put(expected);
+  }
+
+  @Test
+  public void bind_ValidArgumentGivenAndStorageFailed_ShouldThrowDatabaseException()
+      throws ExecutionException {
+    // Arrange
+    ValidationWatermark watermark =
+        new ValidationWatermark(SOME_ASSET_ID, SOME_AGE, SOME_HASH, SOME_SIGNATURE);
+    ExecutionException toThrow = mock(ExecutionException.class);
+    doThrow(toThrow).when(storage).put(any(Put.class));
+
+    // Act Assert
+    assertThatThrownBy(() -> registry.bind(ANY_NAMESPACE, watermark))
+        .isInstanceOf(DatabaseException.class)
+        .hasCause(toThrow);
+  }
+
+  @Test
+  public void lookup_WatermarkStored_ShouldReturnIt() throws ExecutionException {
+    // Arrange
+    Result result = mock(Result.class);
+    when(result.getText(ValidationWatermark.ASSET_ID)).thenReturn(SOME_ASSET_ID);
+    when(result.getInt(ValidationWatermark.AGE)).thenReturn(SOME_AGE);
+    when(result.getBlobAsBytes(ValidationWatermark.HASH)).thenReturn(SOME_HASH);
+    when(result.getBlobAsBytes(ValidationWatermark.SIGNATURE)).thenReturn(SOME_SIGNATURE);
+    when(storage.get(any(Get.class))).thenReturn(Optional.of(result));
+
+    // Act
+    Optional<ValidationWatermark> actual = registry.lookup(ANY_NAMESPACE, SOME_ASSET_ID);
+
+    // Assert
+    assertThat(actual)
+        .contains(new ValidationWatermark(SOME_ASSET_ID, SOME_AGE, SOME_HASH, SOME_SIGNATURE));
+    Get expected =
+        Get.newBuilder()
+            .namespace(RESOLVED_NAMESPACE)
+            .table(ScalarValidationWatermarkRegistry.TABLE)
+            .partitionKey(Key.ofText(ValidationWatermark.ASSET_ID, SOME_ASSET_ID))
+            .consistency(Consistency.SEQUENTIAL)
+            .build();
+    verify(storage).get(expected);
+  }
+
+  @Test
+  public void lookup_WatermarkNotStored_ShouldReturnEmpty() throws ExecutionException {
+    // Arrange
+    when(storage.get(any(Get.class))).thenReturn(Optional.empty());
+
+    // Act
+    Optional<ValidationWatermark> actual = registry.lookup(ANY_NAMESPACE, SOME_ASSET_ID);
+
+    // Assert
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  public void lookup_StorageFailed_ShouldThrowDatabaseException() throws ExecutionException {
+    // Arrange
+    ExecutionException toThrow = mock(ExecutionException.class);
+    when(storage.get(any(Get.class))).thenThrow(toThrow);
+
+    // Act Assert
+    assertThatThrownBy(() -> registry.lookup(ANY_NAMESPACE, SOME_ASSET_ID))
+        .isInstanceOf(DatabaseException.class)
+        .hasCause(toThrow);
+  }
+}
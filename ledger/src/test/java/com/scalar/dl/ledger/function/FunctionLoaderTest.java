@@ -0,0 +1,85 @@
+package com.scalar.dl.ledger.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.io.ByteStreams;
+import com.scalar.dl.ledger.service.LedgerModule;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FunctionLoaderTest {
+  private static final String ANY_NAMESPACE1 = "namespace1";
+  private static final String ANY_NAMESPACE2 = "namespace2";
+  private FunctionEntry entry;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    Class<?> clazz = TestJacksonBasedFunction.class;
+    String resource = "/" + clazz.getName().replace('.', '/') + ".class";
+    byte[] byteCode;
+    try (InputStream in = clazz.getResourceAsStream(resource)) {
+      byteCode = ByteStreams.toByteArray(in);
+    }
+    entry = new FunctionEntry("id", clazz.getName(), byteCode, 1L);
+  }
+
+  @Test
+  public void defineClass_SameEntryGivenTwiceInSameNamespace_ShouldReturnSameClass() {
+    // Arrange
+    FunctionLoader loader = new FunctionLoader(LedgerModule.getProtectionDomain());
+
+    // Act
+    Class<?> first = loader.defineClass(ANY_NAMESPACE1, entry);
+    Class<?> second = loader.defineClass(ANY_NAMESPACE1, entry);
+
+    // Assert
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  public void defineClass_SameEntryGivenInDifferentNamespaces_ShouldReturnDifferentClasses() {
+    // Arrange
+    FunctionLoader loader = new FunctionLoader(LedgerModule.getProtectionDomain());
+
+    // Act
+    Class<?> first = loader.defineClass(ANY_NAMESPACE1, entry);
+    Class<?> second = loader.defineClass(ANY_NAMESPACE2, entry);
+
+    // Assert
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getClassLoader().getParent())
+        .isNotSameAs(first.getClassLoader().getParent());
+  }
+
+  @Test
+  public void defineClass_EntryRegisteredAgainWithSameByteCodeGiven_ShouldReturnSameClass() {
+    // Arrange
+    FunctionLoader loader = new FunctionLoader(LedgerModule.getProtectionDomain());
+    FunctionEntry registeredAgain =
+        new FunctionEntry(entry.getId(), entry.getBinaryName(), entry.getByteCode().clone(), 2L);
+
+    // Act
+    Class<?> first = loader.defineClass(ANY_NAMESPACE1, entry);
+    Class<?> second = loader.defineClass(ANY_NAMESPACE1, registeredAgain);
+
+    // Assert
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  public void defineClass_MoreNamespacesThanMaximumGiven_ShouldEvictLeastRecentlyUsedLoader() {
+    // Arrange
+    FunctionLoader loader = new FunctionLoader(LedgerModule.getProtectionDomain(), 1);
+    Class<?> evicted = loader.defineClass(ANY_NAMESPACE1, entry);
+    loader.defineClass(ANY_NAMESPACE2, entry);
+
+    // Act
+    Class<?> redefined = loader.defineClass(ANY_NAMESPACE1, entry);
+
+    // Assert
+    assertThat(redefined).isNotSameAs(evicted);
+    assertThat(loader.getLoaderCount()).isEqualTo(1);
+  }
+}
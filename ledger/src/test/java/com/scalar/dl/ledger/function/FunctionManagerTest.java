@@ -8,6 +8,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,27 +41,27 @@ public class FunctionManagerTest {
   @Test
   public void register_FunctionEntryGiven_ShouldBind() {
     // Arrange
-    doReturn(TestJacksonBasedFunction.class).when(loader).defineClass(entry);
+    doReturn(TestJacksonBasedFunction.class).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     manager.register(ANY_NAMESPACE, entry);
 
     // Assert
-    verify(manager).getInstance(entry);
+    verify(manager).getInstance(ANY_NAMESPACE, entry);
     verify(registry).bind(ANY_NAMESPACE, entry);
   }
 
   @Test
   public void register_LoadFailedWithRuntimeException_ShouldThrowException() {
     // Arrange
-    doThrow(RuntimeException.class).when(loader).defineClass(entry);
+    doThrow(RuntimeException.class).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     Throwable thrown = catchThrowable(() -> manager.register(ANY_NAMESPACE, entry));
 
     // Assert
     assertThat(thrown).isExactlyInstanceOf(UnloadableFunctionException.class);
-    verify(manager).getInstance(entry);
+    verify(manager).getInstance(ANY_NAMESPACE, entry);
     verify(registry, never()).bind(ANY_NAMESPACE, entry);
   }
 
@@ -95,13 +96,13 @@ public class FunctionManagerTest {
     // Arrange
     when(registry.lookup(ANY_NAMESPACE, ANY_FUNCTION_ID)).thenReturn(Optional.of(entry));
     Class<? extends Function> clazz = TestFunction.class;
-    doReturn(clazz).when(loader).defineClass(entry);
+    doReturn(clazz).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     FunctionMachine function = manager.getInstance(ANY_NAMESPACE, ANY_FUNCTION_ID);
 
     // Assert
-    verify(loader).defineClass(entry);
+    verify(loader).defineClass(ANY_NAMESPACE, entry);
     assertThat(function.getFunctionBase()).isInstanceOf(DeprecatedFunction.class);
   }
 
@@ -109,13 +110,13 @@ public class FunctionManagerTest {
   public void getInstance_ExistingJsonpBasedFunctionIdGiven_ShouldReturnFunction() {
     // Arrange
     when(registry.lookup(ANY_NAMESPACE, ANY_FUNCTION_ID)).thenReturn(Optional.of(entry));
-    doReturn(TestJsonpBasedFunction.class).when(loader).defineClass(entry);
+    doReturn(TestJsonpBasedFunction.class).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     FunctionMachine function = manager.getInstance(ANY_NAMESPACE, ANY_FUNCTION_ID);
 
     // Assert
-    verify(loader).defineClass(entry);
+    verify(loader).defineClass(ANY_NAMESPACE, entry);
     assertThat(function.getFunctionBase()).isInstanceOf(JsonpBasedFunction.class);
   }
 
@@ -123,13 +124,13 @@ public class FunctionManagerTest {
   public void getInstance_ExistingJacksonBasedFunctionIdGiven_ShouldReturnFunction() {
     // Arrange
     when(registry.lookup(ANY_NAMESPACE, ANY_FUNCTION_ID)).thenReturn(Optional.of(entry));
-    doReturn(TestJacksonBasedFunction.class).when(loader).defineClass(entry);
+    doReturn(TestJacksonBasedFunction.class).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     FunctionMachine function = manager.getInstance(ANY_NAMESPACE, ANY_FUNCTION_ID);
 
     // Assert
-    verify(loader).defineClass(entry);
+    verify(loader).defineClass(ANY_NAMESPACE, entry);
     assertThat(function.getFunctionBase()).isInstanceOf(JacksonBasedFunction.class);
   }
 
@@ -137,13 +138,13 @@ public class FunctionManagerTest {
   public void getInstance_ExistingStringBasedFunctionIdGiven_ShouldReturnFunction() {
     // Arrange
     when(registry.lookup(ANY_NAMESPACE, ANY_FUNCTION_ID)).thenReturn(Optional.of(entry));
-    doReturn(TestStringBasedFunction.class).when(loader).defineClass(entry);
+    doReturn(TestStringBasedFunction.class).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     FunctionMachine function = manager.getInstance(ANY_NAMESPACE, ANY_FUNCTION_ID);
 
     // Assert
-    verify(loader).defineClass(entry);
+    verify(loader).defineClass(ANY_NAMESPACE, entry);
     assertThat(function.getFunctionBase()).isInstanceOf(StringBasedFunction.class);
   }
 
@@ -167,7 +168,7 @@ public class FunctionManagerTest {
     when(registry.lookup(ANY_NAMESPACE, ANY_FUNCTION_ID)).thenReturn(Optional.of(entry));
     SecurityException toThrow = mock(SecurityException.class);
     when(toThrow.getMessage()).thenReturn("details");
-    doThrow(toThrow).when(loader).defineClass(entry);
+    doThrow(toThrow).when(loader).defineClass(ANY_NAMESPACE, entry);
 
     // Act
     assertThatThrownBy(() -> manager.getInstance(ANY_NAMESPACE, ANY_FUNCTION_ID))
@@ -178,6 +179,95 @@ public class FunctionManagerTest {
     verify(manager).defineClass(ANY_NAMESPACE, ANY_FUNCTION_ID);
   }
 
+  @Test
+  public void getInstance_CachedFunctionWithinRevalidationIntervalGiven_ShouldNotReadRegistry() {
+    // Arrange
+    FunctionCache cache = new FunctionCache(10, Long.MAX_VALUE);
+    manager = new FunctionManager(registry, loader, cache);
+    when(registry.lookup(ANY_NAMESPACE, ANY_FUNCTION_ID)).thenReturn(Optional.of(entry));
+    doReturn(TestJacksonBasedFunction.class).when(loader).defineClass(ANY_NAMESPACE, entry);
+
+    // Act
+    manager.getInstance(ANY_NAMESPACE, ANY_FUNCTION_ID);
+    FunctionMachine function = manager.getInstance(ANY_NAMESPACE, ANY_FUNCTION_ID);
+
+    // Assert
+    assertThat(function.getFunctionBase()).isInstanceOf(JacksonBasedFunction.class);
+    verify(registry).lookup(ANY_NAMESPACE, ANY_FUNCTION_ID);
+    verify(registry, never()).lookupVersion(ANY_NAMESPACE, ANY_FUNCTION_ID);
+    verify(loader).defineClass(ANY_NAMESPACE, entry);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void getInstance_CachedFunctionWithSameVersionGiven_ShouldOnlyReadVersion() {
+    // Arrange
+    FunctionCache cache = new FunctionCache(10, 0);
+    manager = new FunctionManager(registry, loader, cache);
+    when(entry.getRegisteredAt()).thenReturn(1L);
+    when(registry.lookup(ANY_NAMESPACE, ANY_FUNCTION_ID)).thenReturn(Optional.of(entry));
+    when(registry.lookupVersion(ANY_NAMESPACE, ANY_FUNCTION_ID)).thenReturn(Optional.of(1L));
+    doReturn(TestJacksonBasedFunction.class).when(loader).defineClass(ANY_NAMESPACE, entry);
+
+    // Act
+    manager.getInstance(ANY_NAMESPACE, ANY_FUNCTION_ID);
+    manager.getInstance(ANY_NAMESPACE, ANY_FUNCTION_ID);
+
+    // Assert
+    verify(registry).lookup(ANY_NAMESPACE, ANY_FUNCTION_ID);
+    verify(registry).lookupVersion(ANY_NAMESPACE, ANY_FUNCTION_ID);
+    verify(loader).defineClass(ANY_NAMESPACE, entry);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void getInstance_CachedFunctionRegisteredAgainGiven_ShouldReloadFunction() {
+    // Arrange
+    FunctionCache cache = new FunctionCache(10, 0);
+    manager = new FunctionManager(registry, loader, cache);
+    FunctionEntry newEntry = mock(FunctionEntry.class);
+    when(entry.getRegisteredAt()).thenReturn(1L);
+    when(newEntry.getRegisteredAt()).thenReturn(2L);
+    when(registry.lookup(ANY_NAMESPACE, ANY_FUNCTION_ID))
+        .thenReturn(Optional.of(entry))
+        .thenReturn(Optional.of(newEntry));
+    when(registry.lookupVersion(ANY_NAMESPACE, ANY_FUNCTION_ID)).thenReturn(Optional.of(2L));
+    doReturn(TestJacksonBasedFunction.class).when(loader).defineClass(ANY_NAMESPACE, entry);
+    doReturn(TestStringBasedFunction.class).when(loader).defineClass(ANY_NAMESPACE, newEntry);
+
+    // Act
+    manager.getInstance(ANY_NAMESPACE, ANY_FUNCTION_ID);
+    FunctionMachine function = manager.getInstance(ANY_NAMESPACE, ANY_FUNCTION_ID);
+
+    // Assert
+    assertThat(function.getFunctionBase()).isInstanceOf(StringBasedFunction.class);
+    verify(registry, times(2)).lookup(ANY_NAMESPACE, ANY_FUNCTION_ID);
+    verify(loader).defineClass(ANY_NAMESPACE, newEntry);
+    assertThat(cache.getHitCount()).isEqualTo(0);
+    assertThat(cache.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void register_CachedFunctionGiven_ShouldInvalidateCache() {
+    // Arrange
+    FunctionCache cache = new FunctionCache(10, Long.MAX_VALUE);
+    manager = new FunctionManager(registry, loader, cache);
+    when(registry.lookup(ANY_NAMESPACE, ANY_FUNCTION_ID)).thenReturn(Optional.of(entry));
+    doReturn(TestJacksonBasedFunction.class).when(loader).defineClass(ANY_NAMESPACE, entry);
+    manager.getInstance(ANY_NAMESPACE, ANY_FUNCTION_ID);
+
+    // Act
+    manager.register(ANY_NAMESPACE, entry);
+    manager.getInstance(ANY_NAMESPACE, ANY_FUNCTION_ID);
+
+    // Assert
+    verify(registry).bind(ANY_NAMESPACE, entry);
+    verify(registry, times(2)).lookup(ANY_NAMESPACE, ANY_FUNCTION_ID);
+    assertThat(cache.getMissCount()).isEqualTo(2);
+  }
+
   @Test
   public void exists_ExistingFunctionIdGiven_ShouldReturnTrue() {
     // Arrange
@@ -8,6 +8,11 @@ import static org.mockito.Mockito.when;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Empty;
 import com.scalar.dl.ledger.service.LedgerService;
+import com.scalar.dl.ledger.service.LedgerValidationService;
+import com.scalar.dl.rpc.AssetArchivingRequest;
+import com.scalar.dl.rpc.AssetArchivingResponse;
+import com.scalar.dl.rpc.AssetHistoryIndexingRequest;
+import com.scalar.dl.rpc.AssetHistoryIndexingResponse;
 import com.scalar.dl.rpc.CertificateRegistrationRequest;
 import com.scalar.dl.rpc.FunctionRegistrationRequest;
 import com.scalar.dl.rpc.NamespaceCreationRequest;
@@ -33,6 +38,7 @@ public class LedgerPrivilegedServiceTest {
   private static final String SOME_FUNCTION_BINARY_NAME = "function_name";
   private static final byte[] SOME_FUNCTION_BYTE_CODE = "function".getBytes(StandardCharsets.UTF_8);
   @Mock private LedgerService ledger;
+  @Mock private LedgerValidationService validation;
   @Mock private GateKeeper gateKeeper;
   private LedgerPrivilegedService grpc;
 
@@ -42,7 +48,7 @@ public class LedgerPrivilegedServiceTest {
     doNothing().when(gateKeeper).letIn();
     doNothing().when(gateKeeper).letOut();
     CommonService commonService = new CommonService(null, gateKeeper);
-    grpc = new LedgerPrivilegedService(ledger, commonService);
+    grpc = new LedgerPrivilegedService(ledger, validation, commonService);
   }
 
   @Test
@@ -161,4 +167,45 @@ public class LedgerPrivilegedServiceTest {
         new com.scalar.dl.ledger.model.NamespacesListingRequest(pattern);
     verify(ledger).list(expected);
   }
+
+  @Test
+  public void indexAssetHistory_AssetHistoryIndexingRequestGiven_ShouldCallIndexAndOnCompleted() {
+    // Arrange
+    AssetHistoryIndexingRequest request =
+        AssetHistoryIndexingRequest.newBuilder().setAssetId("asset_id").build();
+    com.scalar.dl.ledger.model.AssetHistoryIndexingRequest expected =
+        new com.scalar.dl.ledger.model.AssetHistoryIndexingRequest(null, "asset_id");
+    when(validation.index(expected)).thenReturn(10L);
+    StreamObserver<AssetHistoryIndexingResponse> observer = mock(StreamObserver.class);
+
+    // Act
+    grpc.indexAssetHistory(request, observer);
+
+    // Assert
+    verify(validation).index(expected);
+    verify(observer).onNext(AssetHistoryIndexingResponse.newBuilder().setSize(10L).build());
+    verify(observer).onCompleted();
+  }
+
+  @Test
+  public void archiveAsset_AssetArchivingRequestGiven_ShouldCallArchiveAndOnCompleted() {
+    // Arrange
+    AssetArchivingRequest request =
+        AssetArchivingRequest.newBuilder()
+            .setNamespace("test_namespace")
+            .setAssetId("asset_id")
+            .build();
+    com.scalar.dl.ledger.model.AssetArchivingRequest expected =
+        new com.scalar.dl.ledger.model.AssetArchivingRequest("test_namespace", "asset_id");
+    when(validation.archive(expected)).thenReturn(3);
+    StreamObserver<AssetArchivingResponse> observer = mock(StreamObserver.class);
+
+    // Act
+    grpc.archiveAsset(request, observer);
+
+    // Assert
+    verify(validation).archive(expected);
+    verify(observer).onNext(AssetArchivingResponse.newBuilder().setArchived(3).build());
+    verify(observer).onCompleted();
+  }
 }
@@ -2,9 +2,11 @@ package com.scalar.dl.ledger.server;
 
 import static com.scalar.dl.ledger.server.TypeConverter.convert;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -12,22 +14,34 @@ import com.google.protobuf.ByteString;
 import com.google.protobuf.Empty;
 import com.scalar.dl.ledger.config.LedgerConfig;
 import com.scalar.dl.ledger.exception.LedgerException;
+import com.scalar.dl.ledger.model.AssetHistoryProofRetrievalResult;
 import com.scalar.dl.ledger.model.ContractExecutionResult;
 import com.scalar.dl.ledger.model.LedgerValidationResult;
+import com.scalar.dl.ledger.proof.AssetHistoryProof;
 import com.scalar.dl.ledger.proof.AssetProof;
 import com.scalar.dl.ledger.service.LedgerValidationService;
 import com.scalar.dl.ledger.service.StatusCode;
+import com.scalar.dl.rpc.AssetHistoryProofRetrievalRequest;
+import com.scalar.dl.rpc.AssetHistoryProofRetrievalResponse;
 import com.scalar.dl.rpc.AssetProofRetrievalRequest;
 import com.scalar.dl.rpc.AssetProofRetrievalResponse;
 import com.scalar.dl.rpc.ContractExecutionRequest;
 import com.scalar.dl.rpc.ContractExecutionResponse;
 import com.scalar.dl.rpc.ContractRegistrationRequest;
+import com.scalar.dl.rpc.ContractsExecutionRequest;
+import com.scalar.dl.rpc.ContractsExecutionResponse;
 import com.scalar.dl.rpc.ExecutionFinishRequest;
 import com.scalar.dl.rpc.LedgerValidationRequest;
 import com.scalar.dl.rpc.LedgerValidationResponse;
+import com.scalar.dl.rpc.LedgersValidationRequest;
+import com.scalar.dl.rpc.LedgersValidationResponse;
+import com.scalar.dl.rpc.Status;
 import io.grpc.stub.StreamObserver;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -163,6 +177,63 @@ public class LedgerServiceTest {
     verify(observer).onError(any());
   }
 
+  @Test
+  public void executeContracts_SomeRequestsFail_ShouldReturnResultOfEachRequest() {
+    // Arrange
+    ContractExecutionRequest request1 =
+        ContractExecutionRequest.newBuilder()
+            .setNonce(SOME_NONCE + "1")
+            .setContractId(SOME_CONTRACT_ID)
+            .setContractArgument(SOME_ARGUMENT)
+            .setEntityId(SOME_ENTITY_ID)
+            .setKeyVersion(SOME_KEY_VERSION)
+            .setSignature(ByteString.copyFrom(SOME_SIGNATURE))
+            .build();
+    ContractExecutionRequest request2 = request1.toBuilder().setNonce(SOME_NONCE + "2").build();
+    ContractExecutionRequest request3 = request1.toBuilder().setNonce(SOME_NONCE + "3").build();
+    ContractExecutionResult result =
+        new ContractExecutionResult(SOME_CONTRACT_RESULT, null, null, null);
+    when(ledger.execute(convert(request1))).thenReturn(result);
+    when(ledger.execute(convert(request2)))
+        .thenThrow(new LedgerException(SOME_MESSAGE, StatusCode.CONFLICT));
+    when(ledger.execute(convert(request3))).thenThrow(new RuntimeException(SOME_MESSAGE));
+    StreamObserver<ContractsExecutionResponse> observer = mock(StreamObserver.class);
+
+    // Act
+    grpc.executeContracts(
+        ContractsExecutionRequest.newBuilder()
+            .addRequests(request1)
+            .addRequests(request2)
+            .addRequests(request3)
+            .build(),
+        observer);
+
+    // Assert
+    ContractsExecutionResponse expected =
+        ContractsExecutionResponse.newBuilder()
+            .addResults(
+                ContractsExecutionResponse.Result.newBuilder()
+                    .setStatus(Status.newBuilder().setCode(StatusCode.OK.get()))
+                    .setResponse(
+                        ContractExecutionResponse.newBuilder()
+                            .setContractResult(SOME_CONTRACT_RESULT)))
+            .addResults(
+                ContractsExecutionResponse.Result.newBuilder()
+                    .setStatus(
+                        Status.newBuilder()
+                            .setCode(StatusCode.CONFLICT.get())
+                            .setMessage(SOME_MESSAGE)))
+            .addResults(
+                ContractsExecutionResponse.Result.newBuilder()
+                    .setStatus(
+                        Status.newBuilder()
+                            .setCode(StatusCode.RUNTIME_ERROR.get())
+                            .setMessage(SOME_MESSAGE)))
+            .build();
+    verify(observer).onNext(expected);
+    verify(observer).onCompleted();
+  }
+
   @Test
   public void executeContract_FunctionIdAndArgumentGiven_ShouldCallExecute() {
     // Arrange
@@ -244,6 +315,85 @@ public class LedgerServiceTest {
     verify(observer).onError(any());
   }
 
+  @Test
+  public void
+      validateLedgerWithProgress_LedgerValidationRequestGiven_ShouldSendProgressAndResult() {
+    // Arrange
+    AssetProof proof = createAssetProof();
+    LedgerValidationRequest request =
+        LedgerValidationRequest.newBuilder()
+            .setAssetId(SOME_ASSET_ID)
+            .setEntityId(SOME_ENTITY_ID)
+            .setKeyVersion(SOME_KEY_VERSION)
+            .setSignature(ByteString.copyFrom(SOME_SIGNATURE))
+            .build();
+    LedgerValidationResult result = new LedgerValidationResult(StatusCode.OK, proof, null);
+    when(validation.validate(eq(convert(request)), any()))
+        .thenAnswer(
+            invocation -> {
+              Consumer<LedgerValidationResult> progress = invocation.getArgument(1);
+              progress.accept(result);
+              return result;
+            });
+    StreamObserver<LedgerValidationResponse> observer = mock(StreamObserver.class);
+
+    // Act
+    grpc.validateLedgerWithProgress(request, observer);
+
+    // Assert
+    LedgerValidationResponse.Builder builder = LedgerValidationResponse.newBuilder();
+    builder.setProof(CommonTypeConverter.convert(proof));
+    builder.setStatusCode(StatusCode.OK.get());
+    verify(observer, times(2)).onNext(builder.build());
+    verify(observer).onCompleted();
+  }
+
+  @Test
+  public void validateLedgers_SomeValidationsFail_ShouldReturnResultOfEachValidation() {
+    // Arrange
+    AssetProof proof = createAssetProof();
+    LedgerValidationRequest request1 =
+        LedgerValidationRequest.newBuilder()
+            .setAssetId(SOME_ASSET_ID)
+            .setEntityId(SOME_ENTITY_ID)
+            .setKeyVersion(SOME_KEY_VERSION)
+            .setSignature(ByteString.copyFrom(SOME_SIGNATURE))
+            .build();
+    LedgerValidationRequest request2 = request1.toBuilder().setAssetId(SOME_ASSET_ID + "2").build();
+    CompletableFuture<LedgerValidationResult> future1 =
+        CompletableFuture.completedFuture(new LedgerValidationResult(StatusCode.OK, proof, null));
+    CompletableFuture<LedgerValidationResult> future2 = new CompletableFuture<>();
+    future2.completeExceptionally(new LedgerException(SOME_MESSAGE, StatusCode.INVALID_SIGNATURE));
+    when(validation.validate(Arrays.asList(convert(request1), convert(request2))))
+        .thenReturn(Arrays.asList(future1, future2));
+    StreamObserver<LedgersValidationResponse> observer = mock(StreamObserver.class);
+
+    // Act
+    grpc.validateLedgers(
+        LedgersValidationRequest.newBuilder().addRequests(request1).addRequests(request2).build(),
+        observer);
+
+    // Assert
+    LedgersValidationResponse expected =
+        LedgersValidationResponse.newBuilder()
+            .addResults(
+                LedgersValidationResponse.Result.newBuilder()
+                    .setStatus(Status.newBuilder().setCode(StatusCode.OK.get()))
+                    .setResponse(
+                        LedgerValidationResponse.newBuilder()
+                            .setStatusCode(StatusCode.OK.get())
+                            .setProof(CommonTypeConverter.convert(proof))))
+            .addResults(
+                LedgersValidationResponse.Result.newBuilder()
+                    .setStatus(
+                        Status.newBuilder()
+                            .setCode(StatusCode.INVALID_SIGNATURE.get())
+                            .setMessage(SOME_MESSAGE)))
+            .build();
+    verify(observer).onNext(expected);
+    verify(observer).onCompleted();
+  }
+
   @Test
   public void retrieveAssetProof_AssetProofRetrievalRequestGiven_CallRetrieveAndOnCompleted() {
     // Arrange
@@ -296,6 +446,67 @@ public class LedgerServiceTest {
     verify(observer).onError(any());
   }
 
+  @Test
+  public void retrieveAssetHistoryProof_RequestGiven_CallRetrieveAndOnCompleted() {
+    // Arrange
+    AssetHistoryProof proof =
+        new AssetHistoryProof(
+            SOME_NAMESPACE,
+            SOME_ASSET_ID,
+            SOME_ASSET_AGE,
+            SOME_HASH,
+            SOME_ASSET_AGE + 1,
+            Collections.singletonList(SOME_PREV_HASH),
+            Collections.singletonList(SOME_HASH),
+            SOME_SIGNATURE);
+    AssetHistoryProofRetrievalResult result = new AssetHistoryProofRetrievalResult(proof, null);
+    AssetHistoryProofRetrievalRequest request =
+        AssetHistoryProofRetrievalRequest.newBuilder()
+            .setAssetId(SOME_ASSET_ID)
+            .setAge(SOME_ASSET_AGE)
+            .setEntityId(SOME_ENTITY_ID)
+            .setKeyVersion(SOME_KEY_VERSION)
+            .setSignature(ByteString.copyFrom(SOME_SIGNATURE))
+            .build();
+    when(validation.retrieve(convert(request))).thenReturn(result);
+    StreamObserver<AssetHistoryProofRetrievalResponse> observer = mock(StreamObserver.class);
+
+    // Act
+    grpc.retrieveAssetHistoryProof(request, observer);
+
+    // Assert
+    verify(validation).retrieve(convert(request));
+    verify(observer)
+        .onNext(
+            AssetHistoryProofRetrievalResponse.newBuilder()
+                .setProof(CommonTypeConverter.convert(proof))
+                .build());
+    verify(observer).onCompleted();
+  }
+
+  @Test
+  public void retrieveAssetHistoryProof_LedgerExceptionThrown_ShouldCallOnError() {
+    // Arrange
+    AssetHistoryProofRetrievalRequest request =
+        AssetHistoryProofRetrievalRequest.newBuilder()
+            .setAssetId(SOME_ASSET_ID)
+            .setAge(SOME_ASSET_AGE)
+            .setEntityId(SOME_ENTITY_ID)
+            .setKeyVersion(SOME_KEY_VERSION)
+            .setSignature(ByteString.copyFrom(SOME_SIGNATURE))
+            .build();
+    LedgerException toThrow = new LedgerException(SOME_MESSAGE, StatusCode.RUNTIME_ERROR);
+    when(validation.retrieve(convert(request))).thenThrow(toThrow);
+    StreamObserver<AssetHistoryProofRetrievalResponse> observer = mock(StreamObserver.class);
+
+    // Act
+    grpc.retrieveAssetHistoryProof(request, observer);
+
+    // Assert
+    verify(validation).retrieve(convert(request));
+    verify(observer).onError(any());
+  }
+
   @Test
   public void finishExecution_ExecutionFinishRequestGiven_ShouldCallFinishAndOnCompleted() {
     // Arrange
@@ -37,6 +37,7 @@ import com.scalar.dl.ledger.model.NamespacesListingRequest;
 import com.scalar.dl.ledger.model.SecretRegistrationRequest;
 import com.scalar.dl.ledger.model.SignedFunctionRegistrationRequest;
 import com.scalar.dl.ledger.namespace.Namespaces;
+import com.scalar.dl.ledger.server.PhaseStats;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
@@ -46,6 +47,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.MockitoAnnotations;
 
 public class LedgerServiceTest {
@@ -62,6 +64,7 @@ public class LedgerServiceTest {
   @Mock private ContractRegistrationRequest contractRegistrationRequest;
   @Mock private ContractsListingRequest contractsListingRequest;
   @Mock private ContractExecutionRequest contractExecutionRequest;
+  @Spy private PhaseStats phaseStats = PhaseStats.disabled();
   @InjectMocks private LedgerService service;
 
   private static final String SOME_CONTRACT_ID = "contract_id";
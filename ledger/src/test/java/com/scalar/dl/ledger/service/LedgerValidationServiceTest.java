@@ -8,6 +8,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.doNothing;
@@ -34,15 +35,22 @@ import com.scalar.dl.ledger.database.AssetProofComposer;
 import com.scalar.dl.ledger.database.TamperEvidentAssetLedger;
 import com.scalar.dl.ledger.database.Transaction;
 import com.scalar.dl.ledger.database.TransactionManager;
+import com.scalar.dl.ledger.database.scalardb.AssetArchiver;
+import com.scalar.dl.ledger.database.scalardb.AssetHistoryIndex;
 import com.scalar.dl.ledger.error.CommonError;
 import com.scalar.dl.ledger.exception.DatabaseException;
 import com.scalar.dl.ledger.exception.LedgerException;
 import com.scalar.dl.ledger.exception.SignatureException;
 import com.scalar.dl.ledger.exception.ValidationException;
+import com.scalar.dl.ledger.model.AssetArchivingRequest;
+import com.scalar.dl.ledger.model.AssetHistoryIndexingRequest;
+import com.scalar.dl.ledger.model.AssetHistoryProofRetrievalRequest;
+import com.scalar.dl.ledger.model.AssetHistoryProofRetrievalResult;
 import com.scalar.dl.ledger.model.AssetProofRetrievalRequest;
 import com.scalar.dl.ledger.model.LedgerValidationRequest;
 import com.scalar.dl.ledger.model.LedgerValidationResult;
 import com.scalar.dl.ledger.namespace.Namespaces;
+import com.scalar.dl.ledger.proof.AssetProof;
 import com.scalar.dl.ledger.statemachine.Context;
 import com.scalar.dl.ledger.statemachine.DeserializationType;
 import com.scalar.dl.ledger.statemachine.InternalAsset;
@@ -55,7 +63,10 @@ import com.scalar.dl.ledger.validation.JacksonBasedLedgerTracer;
 import com.scalar.dl.ledger.validation.JsonpBasedLedgerTracer;
 import com.scalar.dl.ledger.validation.LedgerTracerBase;
 import com.scalar.dl.ledger.validation.LedgerValidator;
+import com.scalar.dl.ledger.validation.PrevHashValidator;
 import com.scalar.dl.ledger.validation.StringBasedLedgerTracer;
+import com.scalar.dl.ledger.validation.ValidationWatermark;
+import com.scalar.dl.ledger.validation.ValidationWatermarkManager;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -63,6 +74,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 import javax.json.JsonObject;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.BeforeEach;
@@ -78,6 +92,9 @@ public class LedgerValidationServiceTest {
   @Mock private ClientKeyValidator clientKeyValidator;
   @Mock private ContractManager contractManager;
   @Mock private AssetProofComposer proofComposer;
+  @Mock private ValidationWatermarkManager watermarkManager;
+  @Mock private AssetArchiver archiver;
+  @Mock private AssetHistoryIndex historyIndex;
   @Mock private Transaction transaction;
   @Mock private TamperEvidentAssetLedger ledger;
   private LedgerValidationService service;
@@ -85,6 +102,7 @@ public class LedgerValidationServiceTest {
   private static final String NAMESPACE = "namespace";
   private static final String ID = "id";
   private static final int AGE = 1;
+  private static final int PAGE_SIZE = 1000;
   private static final String ENTITY_ID = "request_entity_id";
   private static final int KEY_VERSION = 1;
   private static final String CONTRACT_ID = "contract_id";
@@ -104,6 +122,7 @@ public class LedgerValidationServiceTest {
     MockitoAnnotations.openMocks(this);
     when(config.isAuditorEnabled()).thenReturn(false);
     when(config.getNamespace()).thenReturn(BASE_NAMESPACE);
+    when(config.getValidationPageSize()).thenReturn(PAGE_SIZE);
   }
 
   private List<LedgerValidator> createValidators() {
@@ -192,7 +211,8 @@ public class LedgerValidationServiceTest {
         new AssetFilter(Namespaces.DEFAULT, ID)
             .withStartAge(0, true)
             .withEndAge(Integer.MAX_VALUE, true)
-            .withAgeOrder(AgeOrder.ASC);
+            .withAgeOrder(AgeOrder.ASC)
+            .withLimit(PAGE_SIZE);
     verify(ledger).scan(filter);
     verify(transaction).commit();
   }
@@ -247,6 +267,596 @@ public class LedgerValidationServiceTest {
     verify(transaction).commit();
   }
 
+  @Test
+  public void validate_HistoryLongerThanPageSize_ShouldScanAndValidatePageByPage() {
+    // Arrange
+    List<InternalAsset> assets = createAssetMocks();
+    prepareContractBehaviors(assets);
+    doReturn(assets).doReturn(Collections.emptyList()).when(ledger).scan(any(AssetFilter.class));
+    when(config.getValidationPageSize()).thenReturn(2);
+    JsonpBasedLedgerTracer tracer = mock(JsonpBasedLedgerTracer.class);
+    doNothing().when(tracer).setInput(anyString());
+    List<LedgerValidator> validators = createValidators();
+    for (LedgerValidator v : validators) {
+      when(v.validate(
+              any(), any(ContractMachine.class), any(String.class), any(InternalAsset.class)))
+          .thenReturn(StatusCode.OK);
+    }
+    service =
+        spy(
+            new LedgerValidationService(
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                validators));
+    when(service.getLedgerTracerBase(context, DeserializationType.JSONP_JSON))
+        .thenReturn((LedgerTracerBase) tracer);
+
+    // Act
+    LedgerValidationResult result = service.validate(context, null, ID, 0, Integer.MAX_VALUE);
+
+    // Assert
+    assertThat(result.getCode()).isEqualTo(StatusCode.OK);
+    AssetFilter first =
+        new AssetFilter(Namespaces.DEFAULT, ID)
+            .withStartAge(0, true)
+            .withEndAge(Integer.MAX_VALUE, true)
+            .withAgeOrder(AgeOrder.ASC)
+            .withLimit(2);
+    AssetFilter second =
+        new AssetFilter(Namespaces.DEFAULT, ID)
+            .withStartAge(2, true)
+            .withEndAge(Integer.MAX_VALUE, true)
+            .withAgeOrder(AgeOrder.ASC)
+            .withLimit(2);
+    verify(ledger).scan(first);
+    verify(ledger).scan(second);
+    verify(transaction, times(2)).commit();
+    verify(proofComposer).create(Namespaces.DEFAULT, assets.get(1));
+  }
+
+  @Test
+  public void validate_LedgerValidationRequestAndProgressGiven_ShouldReportProgressPerPage() {
+    // Arrange
+    List<InternalAsset> assets = createAssetMocks();
+    prepareContractBehaviors(assets);
+    doReturn(assets).doReturn(Collections.emptyList()).when(ledger).scan(any(AssetFilter.class));
+    when(config.getValidationPageSize()).thenReturn(2);
+    byte[] serialized =
+        LedgerValidationRequest.serialize(
+            null, ID, 0, Integer.MAX_VALUE, null, ENTITY_ID, KEY_VERSION);
+    DigitalSignatureSigner signer = new DigitalSignatureSigner(PRIVATE_KEY_A);
+    when(clientKeyValidator.getValidator(anyString(), anyString(), anyInt()))
+        .thenReturn(new DigitalSignatureValidator(CERTIFICATE_A));
+    JsonpBasedLedgerTracer tracer = mock(JsonpBasedLedgerTracer.class);
+    doNothing().when(tracer).setInput(anyString());
+    List<LedgerValidator> validators = createValidators();
+    for (LedgerValidator v : validators) {
+      when(v.validate(
+              any(), any(ContractMachine.class), any(String.class), any(InternalAsset.class)))
+          .thenReturn(StatusCode.OK);
+    }
+    service =
+        spy(
+            new LedgerValidationService(
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                validators));
+    when(service.getLedgerTracerBase(context, DeserializationType.JSONP_JSON))
+        .thenReturn((LedgerTracerBase) tracer);
+    List<LedgerValidationResult> reported = new ArrayList<>();
+    Consumer<LedgerValidationResult> progress = reported::add;
+
+    // Act
+    LedgerValidationResult result =
+        service.validate(
+            new LedgerValidationRequest(
+                null,
+                ID,
+                0,
+                Integer.MAX_VALUE,
+                null,
+                ENTITY_ID,
+                KEY_VERSION,
+                signer.sign(serialized)),
+            progress);
+
+    // Assert
+    assertThat(result.getCode()).isEqualTo(StatusCode.OK);
+    assertThat(reported).hasSize(1);
+    assertThat(reported.get(0).getCode()).isEqualTo(StatusCode.OK);
+  }
+
+  @Test
+  public void
+      validate_LedgerValidationRequestWithStartAgeGiven_ShouldInitializePrevHashWithPreviousAsset() {
+    // Arrange
+    List<InternalAsset> assets = createAssetMocks();
+    ContractMachine contract = prepareContractBehaviors(assets);
+    AssetFilter previous =
+        new AssetFilter(Namespaces.DEFAULT, ID)
+            .withStartAge(0, true)
+            .withEndAge(0, true)
+            .withAgeOrder(AgeOrder.ASC)
+            .withLimit(1);
+    doReturn(Collections.singletonList(assets.get(0))).when(ledger).scan(previous);
+    AssetFilter rest =
+        new AssetFilter(Namespaces.DEFAULT, ID)
+            .withStartAge(1, true)
+            .withEndAge(Integer.MAX_VALUE, true)
+            .withAgeOrder(AgeOrder.ASC)
+            .withLimit(PAGE_SIZE);
+    doReturn(Collections.singletonList(assets.get(1))).when(ledger).scan(rest);
+    byte[] serialized =
+        LedgerValidationRequest.serialize(
+            null, ID, 1, Integer.MAX_VALUE, null, ENTITY_ID, KEY_VERSION);
+    DigitalSignatureSigner signer = new DigitalSignatureSigner(PRIVATE_KEY_A);
+    when(clientKeyValidator.getValidator(anyString(), anyString(), anyInt()))
+        .thenReturn(new DigitalSignatureValidator(CERTIFICATE_A));
+    JsonpBasedLedgerTracer tracer = mock(JsonpBasedLedgerTracer.class);
+    doNothing().when(tracer).setInput(anyString());
+    PrevHashValidator prevHashValidator = mock(PrevHashValidator.class);
+    when(prevHashValidator.validate(
+            any(), any(ContractMachine.class), any(String.class), any(InternalAsset.class)))
+        .thenReturn(StatusCode.OK);
+    service =
+        spy(
+            new LedgerValidationService(
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                Collections.singletonList(prevHashValidator)));
+    when(service.getLedgerTracerBase(context, DeserializationType.JSONP_JSON))
+        .thenReturn((LedgerTracerBase) tracer);
+
+    // Act
+    LedgerValidationResult result =
+        service.validate(
+            new LedgerValidationRequest(
+                null,
+                ID,
+                1,
+                Integer.MAX_VALUE,
+                null,
+                ENTITY_ID,
+                KEY_VERSION,
+                signer.sign(serialized)),
+            r -> {});
+
+    // Assert
+    assertThat(result.getCode()).isEqualTo(StatusCode.OK);
+    verify(prevHashValidator).initialize(FIRST_HASH);
+    verify(prevHashValidator).validate(tracer, contract, Namespaces.DEFAULT, assets.get(1));
+  }
+
+  @Test
+  public void validate_ValidationWatermarkGiven_ShouldValidateOnlyAgesAfterWatermark() {
+    // Arrange
+    List<InternalAsset> assets = createAssetMocks();
+    ContractMachine contract = prepareContractBehaviors(assets);
+    AssetFilter marked =
+        new AssetFilter(Namespaces.DEFAULT, ID)
+            .withStartAge(0, true)
+            .withEndAge(0, true)
+            .withAgeOrder(AgeOrder.ASC)
+            .withLimit(1);
+    doReturn(Collections.singletonList(assets.get(0))).when(ledger).scan(marked);
+    AssetFilter rest =
+        new AssetFilter(Namespaces.DEFAULT, ID)
+            .withStartAge(1, true)
+            .withEndAge(Integer.MAX_VALUE, true)
+            .withAgeOrder(AgeOrder.ASC)
+            .withLimit(PAGE_SIZE);
+    doReturn(Collections.singletonList(assets.get(1))).when(ledger).scan(rest);
+    when(watermarkManager.isEnabled()).thenReturn(true);
+    when(watermarkManager.get(Namespaces.DEFAULT, ID))
+        .thenReturn(Optional.of(new ValidationWatermark(ID, 0, FIRST_HASH, new byte[0])));
+    JsonpBasedLedgerTracer tracer = mock(JsonpBasedLedgerTracer.class);
+    doNothing().when(tracer).setInput(anyString());
+    PrevHashValidator prevHashValidator = mock(PrevHashValidator.class);
+    when(prevHashValidator.validate(
+            any(), any(ContractMachine.class), any(String.class), any(InternalAsset.class)))
+        .thenReturn(StatusCode.OK);
+    service =
+        spy(
+            new LedgerValidationService(
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                Collections.singletonList(prevHashValidator),
+                watermarkManager));
+    when(service.getLedgerTracerBase(context, DeserializationType.JSONP_JSON))
+        .thenReturn((LedgerTracerBase) tracer);
+
+    // Act
+    LedgerValidationResult result = service.validate(context, null, ID, 0, Integer.MAX_VALUE);
+
+    // Assert
+    assertThat(result.getCode()).isEqualTo(StatusCode.OK);
+    verify(prevHashValidator).initialize(FIRST_HASH);
+    verify(prevHashValidator, never())
+        .validate(tracer, contract, Namespaces.DEFAULT, assets.get(0));
+    verify(prevHashValidator).validate(tracer, contract, Namespaces.DEFAULT, assets.get(1));
+    verify(watermarkManager).put(Namespaces.DEFAULT, assets.get(1));
+  }
+
+  @Test
+  public void validate_ValidationWatermarkWithDifferentHashGiven_ShouldReturnInconsistentStates() {
+    // Arrange
+    List<InternalAsset> assets = createAssetMocks();
+    prepareContractBehaviors(assets);
+    doReturn(Collections.singletonList(assets.get(0))).when(ledger).scan(any(AssetFilter.class));
+    when(watermarkManager.isEnabled()).thenReturn(true);
+    when(watermarkManager.get(Namespaces.DEFAULT, ID))
+        .thenReturn(Optional.of(new ValidationWatermark(ID, 0, LAST_HASH, new byte[0])));
+    List<LedgerValidator> validators = createValidators();
+    service =
+        spy(
+            new LedgerValidationService(
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                validators,
+                watermarkManager));
+
+    // Act
+    LedgerValidationResult result = service.validate(context, null, ID, 0, Integer.MAX_VALUE);
+
+    // Assert
+    assertThat(result.getCode()).isEqualTo(StatusCode.INCONSISTENT_STATES);
+    for (LedgerValidator v : validators) {
+      verify(v, never()).validate(any(), any(), any(), any());
+    }
+    verify(watermarkManager, never()).put(anyString(), any());
+  }
+
+  @Test
+  public void validate_NoValidationWatermarkGiven_ShouldValidateAllAndPutWatermark() {
+    // Arrange
+    List<InternalAsset> assets = createAssetMocks();
+    prepareContractBehaviors(assets);
+    when(watermarkManager.isEnabled()).thenReturn(true);
+    when(watermarkManager.get(Namespaces.DEFAULT, ID)).thenReturn(Optional.empty());
+    JsonpBasedLedgerTracer tracer = mock(JsonpBasedLedgerTracer.class);
+    doNothing().when(tracer).setInput(anyString());
+    List<LedgerValidator> validators = createValidators();
+    for (LedgerValidator v : validators) {
+      when(v.validate(
+              any(), any(ContractMachine.class), any(String.class), any(InternalAsset.class)))
+          .thenReturn(StatusCode.OK);
+    }
+    service =
+        spy(
+            new LedgerValidationService(
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                validators,
+                watermarkManager));
+    when(service.getLedgerTracerBase(context, DeserializationType.JSONP_JSON))
+        .thenReturn((LedgerTracerBase) tracer);
+
+    // Act
+    LedgerValidationResult result = service.validate(context, null, ID, 0, Integer.MAX_VALUE);
+
+    // Assert
+    assertThat(result.getCode()).isEqualTo(StatusCode.OK);
+    verify(watermarkManager).put(Namespaces.DEFAULT, assets.get(1));
+  }
+
+  @Test
+  public void validate_ArchiveEnabledAndValidatedFromFirstAge_ShouldNotArchive() {
+    // Arrange
+    List<InternalAsset> assets = createAssetMocks();
+    prepareContractBehaviors(assets);
+    when(archiver.isEnabled()).thenReturn(true);
+    JsonpBasedLedgerTracer tracer = mock(JsonpBasedLedgerTracer.class);
+    doNothing().when(tracer).setInput(anyString());
+    List<LedgerValidator> validators = createValidators();
+    for (LedgerValidator v : validators) {
+      when(v.validate(
+              any(), any(ContractMachine.class), any(String.class), any(InternalAsset.class)))
+          .thenReturn(StatusCode.OK);
+    }
+    service =
+        spy(
+            new LedgerValidationService(
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                validators,
+                null,
+                archiver));
+    when(service.getLedgerTracerBase(context, DeserializationType.JSONP_JSON))
+        .thenReturn((LedgerTracerBase) tracer);
+
+    // Act
+    LedgerValidationResult result = service.validate(context, null, ID, 0, Integer.MAX_VALUE);
+
+    // Assert
+    assertThat(result.getCode()).isEqualTo(StatusCode.OK);
+    verify(archiver, never()).archive(anyString(), anyString(), anyInt());
+  }
+
+  @Test
+  public void archive_ArchiveEnabledAndValidationSucceeded_ShouldArchiveValidatedAges() {
+    // Arrange
+    List<InternalAsset> assets = createAssetMocks();
+    prepareContractBehaviors(assets);
+    when(archiver.isEnabled()).thenReturn(true);
+    when(archiver.archive(Namespaces.DEFAULT, ID, 1)).thenReturn(1);
+    AssetProof proof = mock(AssetProof.class);
+    when(proof.getAge()).thenReturn(1);
+    when(proofComposer.create(Namespaces.DEFAULT, assets.get(1))).thenReturn(proof);
+    JsonpBasedLedgerTracer tracer = mock(JsonpBasedLedgerTracer.class);
+    doNothing().when(tracer).setInput(anyString());
+    List<LedgerValidator> validators = createValidators();
+    for (LedgerValidator v : validators) {
+      when(v.validate(
+              any(), any(ContractMachine.class), any(String.class), any(InternalAsset.class)))
+          .thenReturn(StatusCode.OK);
+    }
+    service =
+        spy(
+            new LedgerValidationService(
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                validators,
+                null,
+                archiver));
+    when(service.getLedgerTracerBase(context, DeserializationType.JSONP_JSON))
+        .thenReturn((LedgerTracerBase) tracer);
+
+    // Act
+    int archived = service.archive(new AssetArchivingRequest(null, ID));
+
+    // Assert
+    assertThat(archived).isEqualTo(1);
+    verify(service).validate(context, Namespaces.DEFAULT, ID, 0, Integer.MAX_VALUE);
+    verify(archiver).archive(Namespaces.DEFAULT, ID, 1);
+  }
+
+  @Test
+  public void archive_ValidationFailed_ShouldThrowValidationExceptionWithoutArchiving() {
+    // Arrange
+    List<InternalAsset> assets = createAssetMocks();
+    prepareContractBehaviors(assets);
+    when(archiver.isEnabled()).thenReturn(true);
+    JsonpBasedLedgerTracer tracer = mock(JsonpBasedLedgerTracer.class);
+    doNothing().when(tracer).setInput(anyString());
+    List<LedgerValidator> validators = createValidators();
+    for (LedgerValidator v : validators) {
+      when(v.validate(
+              any(), any(ContractMachine.class), any(String.class), any(InternalAsset.class)))
+          .thenReturn(StatusCode.INVALID_OUTPUT);
+    }
+    service =
+        spy(
+            new LedgerValidationService(
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                validators,
+                null,
+                archiver));
+    when(service.getLedgerTracerBase(context, DeserializationType.JSONP_JSON))
+        .thenReturn((LedgerTracerBase) tracer);
+
+    // Act
+    Throwable thrown = catchThrowable(() -> service.archive(new AssetArchivingRequest(null, ID)));
+
+    // Assert
+    assertThat(thrown).isInstanceOf(ValidationException.class);
+    assertThat(((ValidationException) thrown).getCode()).isEqualTo(StatusCode.INVALID_OUTPUT);
+    verify(archiver, never()).archive(anyString(), anyString(), anyInt());
+  }
+
+  @Test
+  public void archive_ArchiveDisabled_ShouldThrowLedgerException() {
+    // Arrange
+    when(archiver.isEnabled()).thenReturn(false);
+    service =
+        spy(
+            new LedgerValidationService(
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                createValidators(),
+                null,
+                archiver));
+
+    // Act
+    Throwable thrown = catchThrowable(() -> service.archive(new AssetArchivingRequest(null, ID)));
+
+    // Assert
+    assertThat(thrown).isInstanceOf(LedgerException.class);
+    verify(service, never()).validate(any(), any(), anyString(), anyInt(), anyInt());
+    verify(archiver, never()).archive(anyString(), anyString(), anyInt());
+  }
+
+  @Test
+  public void validate_MultipleLedgerValidationRequestsGiven_ShouldValidateEachAndReleaseContracts()
+      throws Exception {
+    // Arrange
+    List<InternalAsset> assets = createAssetMocks();
+    ContractMachine contract = prepareContractBehaviors(assets);
+    when(config.getValidationParallelism()).thenReturn(1);
+    DigitalSignatureSigner signer = new DigitalSignatureSigner(PRIVATE_KEY_A);
+    when(clientKeyValidator.getValidator(anyString(), anyString(), anyInt()))
+        .thenReturn(new DigitalSignatureValidator(CERTIFICATE_A));
+    JsonpBasedLedgerTracer tracer = mock(JsonpBasedLedgerTracer.class);
+    doNothing().when(tracer).setInput(anyString());
+    List<LedgerValidator> validators = createValidators();
+    for (LedgerValidator v : validators) {
+      when(v.validate(
+              any(), any(ContractMachine.class), any(String.class), any(InternalAsset.class)))
+          .thenReturn(StatusCode.OK);
+    }
+    service =
+        spy(
+            new LedgerValidationService(
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                validators));
+    when(service.getLedgerTracerBase(context, DeserializationType.JSONP_JSON))
+        .thenReturn((LedgerTracerBase) tracer);
+    byte[] serialized1 =
+        LedgerValidationRequest.serialize(
+            null, ID, 0, Integer.MAX_VALUE, null, ENTITY_ID, KEY_VERSION);
+    byte[] serialized2 =
+        LedgerValidationRequest.serialize(
+            null, ID + "2", 0, Integer.MAX_VALUE, null, ENTITY_ID, KEY_VERSION);
+    List<LedgerValidationRequest> requests =
+        Arrays.asList(
+            new LedgerValidationRequest(
+                null,
+                ID,
+                0,
+                Integer.MAX_VALUE,
+                null,
+                ENTITY_ID,
+                KEY_VERSION,
+                signer.sign(serialized1)),
+            new LedgerValidationRequest(
+                null,
+                ID + "2",
+                0,
+                Integer.MAX_VALUE,
+                null,
+                ENTITY_ID,
+                KEY_VERSION,
+                signer.sign(serialized2)));
+
+    // Act
+    List<CompletableFuture<LedgerValidationResult>> futures = service.validate(requests);
+
+    // Assert
+    assertThat(futures).hasSize(2);
+    for (CompletableFuture<LedgerValidationResult> future : futures) {
+      assertThat(future.get().getCode()).isEqualTo(StatusCode.OK);
+    }
+    verify(contractManager, times(4)).getInstance(anyString(), any(ContractEntry.class));
+    verify(contract, times(4)).invoke(tracer, CONTRACT_ARGUMENT, null);
+    verify(contractManager, times(4))
+        .release(anyString(), any(ContractEntry.class), any(ContractMachine.class));
+  }
+
+  @Test
+  public void validate_MultipleLedgerValidationRequestsWithInvalidSignatureGiven_ShouldFailOnlyIt()
+      throws Exception {
+    // Arrange
+    List<InternalAsset> assets = createAssetMocks();
+    prepareContractBehaviors(assets);
+    when(config.getValidationParallelism()).thenReturn(2);
+    DigitalSignatureSigner signer = new DigitalSignatureSigner(PRIVATE_KEY_A);
+    DigitalSignatureSigner wrongSigner = new DigitalSignatureSigner(PRIVATE_KEY_B);
+    when(clientKeyValidator.getValidator(anyString(), anyString(), anyInt()))
+        .thenReturn(new DigitalSignatureValidator(CERTIFICATE_A));
+    JsonpBasedLedgerTracer tracer = mock(JsonpBasedLedgerTracer.class);
+    doNothing().when(tracer).setInput(anyString());
+    List<LedgerValidator> validators = createValidators();
+    for (LedgerValidator v : validators) {
+      when(v.validate(
+              any(), any(ContractMachine.class), any(String.class), any(InternalAsset.class)))
+          .thenReturn(StatusCode.OK);
+    }
+    service =
+        spy(
+            new LedgerValidationService(
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                validators));
+    when(service.getLedgerTracerBase(context, DeserializationType.JSONP_JSON))
+        .thenReturn((LedgerTracerBase) tracer);
+    byte[] serialized =
+        LedgerValidationRequest.serialize(
+            null, ID, 0, Integer.MAX_VALUE, null, ENTITY_ID, KEY_VERSION);
+    List<LedgerValidationRequest> requests =
+        Arrays.asList(
+            new LedgerValidationRequest(
+                null,
+                ID,
+                0,
+                Integer.MAX_VALUE,
+                null,
+                ENTITY_ID,
+                KEY_VERSION,
+                signer.sign(serialized)),
+            new LedgerValidationRequest(
+                null,
+                ID,
+                0,
+                Integer.MAX_VALUE,
+                null,
+                ENTITY_ID,
+                KEY_VERSION,
+                wrongSigner.sign(serialized)));
+
+    // Act
+    List<CompletableFuture<LedgerValidationResult>> futures = service.validate(requests);
+
+    // Assert
+    assertThat(futures.get(0).get().getCode()).isEqualTo(StatusCode.OK);
+    Throwable thrown = catchThrowable(() -> futures.get(1).get());
+    assertThat(thrown).hasCauseExactlyInstanceOf(SignatureException.class);
+  }
+
+  @Test
+  public void validate_MultipleLedgerValidationRequestsGivenAfterClosed_ShouldFailAll() {
+    // Arrange
+    when(config.getValidationParallelism()).thenReturn(1);
+    service =
+        new LedgerValidationService(
+            config,
+            transactionManager,
+            clientKeyValidator,
+            contractManager,
+            proofComposer,
+            createValidators());
+    service.close();
+    LedgerValidationRequest request = mock(LedgerValidationRequest.class);
+
+    // Act
+    List<CompletableFuture<LedgerValidationResult>> futures =
+        service.validate(Arrays.asList(request, request));
+
+    // Assert
+    assertThat(futures).hasSize(2);
+    for (CompletableFuture<LedgerValidationResult> future : futures) {
+      Throwable thrown = catchThrowable(future::get);
+      assertThat(thrown).hasCauseExactlyInstanceOf(RejectedExecutionException.class);
+    }
+    verify(clientKeyValidator, never()).getValidator(anyString(), anyString(), anyInt());
+  }
+
   @Test
   public void validate_ExceptionThrownInAssetRetrieval_ShouldAbortAndThrowException() {
     // Arrange
@@ -320,7 +930,12 @@ public class LedgerValidationServiceTest {
     service =
         spy(
             new LedgerValidationService(
-                config, transactionManager, clientKeyValidator, contractManager, proofComposer));
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                watermarkManager));
 
     // Act
     assertThatThrownBy(
@@ -438,7 +1053,12 @@ public class LedgerValidationServiceTest {
     service =
         spy(
             new LedgerValidationService(
-                config, transactionManager, clientKeyValidator, contractManager, proofComposer));
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                watermarkManager));
 
     // Act
     InternalAsset actual = service.retrieve(Namespaces.DEFAULT, ID, age);
@@ -462,7 +1082,12 @@ public class LedgerValidationServiceTest {
     service =
         spy(
             new LedgerValidationService(
-                config, transactionManager, clientKeyValidator, contractManager, proofComposer));
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                watermarkManager));
 
     // Act
     InternalAsset actual = service.retrieve(Namespaces.DEFAULT, ID, -1);
@@ -487,7 +1112,12 @@ public class LedgerValidationServiceTest {
     service =
         spy(
             new LedgerValidationService(
-                config, transactionManager, clientKeyValidator, contractManager, proofComposer));
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                watermarkManager));
 
     // Act
     InternalAsset actual = service.retrieve(Namespaces.DEFAULT, ID, Integer.MAX_VALUE);
@@ -507,7 +1137,12 @@ public class LedgerValidationServiceTest {
     when(ledger.get(anyString(), anyString())).thenThrow(toThrow);
     service =
         new LedgerValidationService(
-            config, transactionManager, clientKeyValidator, contractManager, proofComposer);
+            config,
+            transactionManager,
+            clientKeyValidator,
+            contractManager,
+            proofComposer,
+            watermarkManager);
 
     // Act
     Throwable thrown = catchThrowable(() -> service.retrieve(Namespaces.DEFAULT, ID, -1));
@@ -529,7 +1164,12 @@ public class LedgerValidationServiceTest {
     service =
         spy(
             new LedgerValidationService(
-                config, transactionManager, clientKeyValidator, contractManager, proofComposer));
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                watermarkManager));
 
     // Act
     Throwable thrown = catchThrowable(() -> service.retrieve(Namespaces.DEFAULT, ID, age));
@@ -550,7 +1190,12 @@ public class LedgerValidationServiceTest {
     service =
         spy(
             new LedgerValidationService(
-                config, transactionManager, clientKeyValidator, contractManager, proofComposer));
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                watermarkManager));
 
     // Act
     Throwable thrown = catchThrowable(() -> service.retrieve(Namespaces.DEFAULT, ID, -1));
@@ -599,7 +1244,12 @@ public class LedgerValidationServiceTest {
     service =
         spy(
             new LedgerValidationService(
-                config, transactionManager, clientKeyValidator, contractManager, proofComposer));
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                watermarkManager));
 
     // Act
     assertThatThrownBy(
@@ -613,6 +1263,94 @@ public class LedgerValidationServiceTest {
     verify(service, never()).retrieve(Namespaces.DEFAULT, ID, AGE);
   }
 
+  private LedgerValidationService createServiceWithHistoryIndex(
+      AssetHistoryIndex historyIndex) {
+    return new LedgerValidationService(
+        config,
+        transactionManager,
+        clientKeyValidator,
+        contractManager,
+        proofComposer,
+        createValidators(),
+        watermarkManager,
+        archiver,
+        historyIndex);
+  }
+
+  @Test
+  public void retrieve_AssetHistoryRequestSignedByCorrectKeyGiven_ShouldGetProofs() {
+    // Arrange
+    byte[] serialized =
+        AssetHistoryProofRetrievalRequest.serialize(null, ID, AGE, 1L, ENTITY_ID, KEY_VERSION);
+    DigitalSignatureSigner signer = new DigitalSignatureSigner(PRIVATE_KEY_A);
+    when(clientKeyValidator.getValidator(anyString(), anyString(), anyInt()))
+        .thenReturn(new DigitalSignatureValidator(CERTIFICATE_A));
+    AssetHistoryProofRetrievalResult expected = mock(AssetHistoryProofRetrievalResult.class);
+    when(historyIndex.getProofs(Namespaces.DEFAULT, ID, AGE, 1L)).thenReturn(expected);
+    service = createServiceWithHistoryIndex(historyIndex);
+
+    // Act
+    AssetHistoryProofRetrievalResult actual =
+        service.retrieve(
+            new AssetHistoryProofRetrievalRequest(
+                null, ID, AGE, 1L, ENTITY_ID, KEY_VERSION, signer.sign(serialized)));
+
+    // Assert
+    assertThat(actual).isEqualTo(expected);
+    verify(clientKeyValidator).getValidator(Namespaces.DEFAULT, ENTITY_ID, KEY_VERSION);
+  }
+
+  @Test
+  public void retrieve_AssetHistoryRequestSignedByWrongKeyGiven_ShouldThrowSignatureException() {
+    // Arrange
+    byte[] serialized =
+        AssetHistoryProofRetrievalRequest.serialize(
+            NAMESPACE, ID, AGE, 0L, ENTITY_ID, KEY_VERSION);
+    DigitalSignatureSigner signer = new DigitalSignatureSigner(PRIVATE_KEY_B);
+    when(clientKeyValidator.getValidator(anyString(), anyString(), anyInt()))
+        .thenReturn(new DigitalSignatureValidator(CERTIFICATE_A));
+    service = createServiceWithHistoryIndex(historyIndex);
+
+    // Act
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                service.retrieve(
+                    new AssetHistoryProofRetrievalRequest(
+                        NAMESPACE, ID, AGE, 0L, ENTITY_ID, KEY_VERSION, signer.sign(serialized))));
+
+    // Assert
+    assertThat(thrown).isInstanceOf(SignatureException.class);
+    verify(historyIndex, never()).getProofs(anyString(), anyString(), anyInt(), anyLong());
+  }
+
+  @Test
+  public void index_AssetHistoryIndexingRequestGiven_ShouldIndexAssetInSpecifiedNamespace() {
+    // Arrange
+    when(historyIndex.index(NAMESPACE, ID)).thenReturn(10L);
+    service = createServiceWithHistoryIndex(historyIndex);
+
+    // Act
+    long size = service.index(new AssetHistoryIndexingRequest(NAMESPACE, ID));
+
+    // Assert
+    assertThat(size).isEqualTo(10L);
+    verify(historyIndex).index(NAMESPACE, ID);
+  }
+
+  @Test
+  public void index_HistoryIndexNotGiven_ShouldThrowLedgerException() {
+    // Arrange
+    service = createServiceWithHistoryIndex(null);
+
+    // Act
+    Throwable thrown =
+        catchThrowable(() -> service.index(new AssetHistoryIndexingRequest(null, ID)));
+
+    // Assert
+    assertThat(thrown).isInstanceOf(LedgerException.class);
+  }
+
   @Test
   public void validateEach_ValidatorsAndAssetWithDeprecatedTracerGiven_ShouldValidateProperly() {
     // Arrange
@@ -636,7 +1374,12 @@ public class LedgerValidationServiceTest {
     service =
         spy(
             new LedgerValidationService(
-                config, transactionManager, clientKeyValidator, contractManager, proofComposer));
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                watermarkManager));
     when(service.getLedgerTracerBase(context, DeserializationType.DEPRECATED))
         .thenReturn((LedgerTracerBase) tracer);
 
@@ -674,7 +1417,12 @@ public class LedgerValidationServiceTest {
     service =
         spy(
             new LedgerValidationService(
-                config, transactionManager, clientKeyValidator, contractManager, proofComposer));
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                watermarkManager));
     doReturn((LedgerTracerBase) tracer)
         .when(service)
         .getLedgerTracerBase(
@@ -712,7 +1460,12 @@ public class LedgerValidationServiceTest {
     service =
         spy(
             new LedgerValidationService(
-                config, transactionManager, clientKeyValidator, contractManager, proofComposer));
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                watermarkManager));
     when(service.getLedgerTracerBase(context, DeserializationType.JSONP_JSON))
         .thenReturn((LedgerTracerBase) tracer);
 
@@ -750,7 +1503,12 @@ public class LedgerValidationServiceTest {
     service =
         spy(
             new LedgerValidationService(
-                config, transactionManager, clientKeyValidator, contractManager, proofComposer));
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                watermarkManager));
     when(service.getLedgerTracerBase(context, DeserializationType.JSONP_JSON))
         .thenReturn((LedgerTracerBase) tracer);
 
@@ -786,7 +1544,12 @@ public class LedgerValidationServiceTest {
     service =
         spy(
             new LedgerValidationService(
-                config, transactionManager, clientKeyValidator, contractManager, proofComposer));
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                watermarkManager));
     when(service.getLedgerTracerBase(context, DeserializationType.JACKSON_JSON))
         .thenReturn((LedgerTracerBase) tracer);
 
@@ -824,7 +1587,12 @@ public class LedgerValidationServiceTest {
     service =
         spy(
             new LedgerValidationService(
-                config, transactionManager, clientKeyValidator, contractManager, proofComposer));
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                watermarkManager));
     when(service.getLedgerTracerBase(context, DeserializationType.JACKSON_JSON))
         .thenReturn((LedgerTracerBase) tracer);
 
@@ -862,7 +1630,12 @@ public class LedgerValidationServiceTest {
     service =
         spy(
             new LedgerValidationService(
-                config, transactionManager, clientKeyValidator, contractManager, proofComposer));
+                config,
+                transactionManager,
+                clientKeyValidator,
+                contractManager,
+                proofComposer,
+                watermarkManager));
     when(service.getLedgerTracerBase(context, DeserializationType.STRING))
         .thenReturn((LedgerTracerBase) tracer);
 
@@ -974,7 +1747,8 @@ public class LedgerValidationServiceTest {
         new AssetFilter(anyNamespace, ID)
             .withStartAge(0, true)
             .withEndAge(Integer.MAX_VALUE, true)
-            .withAgeOrder(AgeOrder.ASC);
+            .withAgeOrder(AgeOrder.ASC)
+            .withLimit(PAGE_SIZE);
     verify(ledger).scan(filter);
   }
 }
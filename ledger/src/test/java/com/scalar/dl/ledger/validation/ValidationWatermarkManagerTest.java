@@ -0,0 +1,124 @@
+package com.scalar.dl.ledger.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.scalar.dl.ledger.config.LedgerConfig;
+import com.scalar.dl.ledger.crypto.HmacSigner;
+import com.scalar.dl.ledger.database.ValidationWatermarkRegistry;
+import com.scalar.dl.ledger.exception.ValidationException;
+import com.scalar.dl.ledger.service.StatusCode;
+import com.scalar.dl.ledger.statemachine.InternalAsset;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class ValidationWatermarkManagerTest {
+  private static final String SOME_NAMESPACE = "namespace";
+  private static final String SOME_ASSET_ID = "asset_id";
+  private static final int SOME_AGE = 10;
+  private static final byte[] SOME_HASH = "hash".getBytes(StandardCharsets.UTF_8);
+  private static final String SOME_SECRET_KEY = "secret_key";
+  @Mock private LedgerConfig config;
+  @Mock private ValidationWatermarkRegistry registry;
+  @Mock private InternalAsset asset;
+  private ValidationWatermarkManager manager;
+
+  @BeforeEach
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(config.isValidationWatermarkEnabled()).thenReturn(true);
+    when(config.getValidationWatermarkSecretKey()).thenReturn(SOME_SECRET_KEY);
+    when(asset.id()).thenReturn(SOME_ASSET_ID);
+    when(asset.age()).thenReturn(SOME_AGE);
+    when(asset.hash()).thenReturn(SOME_HASH);
+    manager = new ValidationWatermarkManager(config, registry);
+  }
+
+  private byte[] sign(String namespace, String assetId, int age, byte[] hash) {
+    return new HmacSigner(SOME_SECRET_KEY)
+        .sign(ValidationWatermark.serialize(namespace, assetId, age, hash));
+  }
+
+  @Test
+  public void put_AssetGiven_ShouldBindSignedWatermark() {
+    // Arrange
+
+    // Act
+    manager.put(SOME_NAMESPACE, asset);
+
+    // Assert
+    ArgumentCaptor<ValidationWatermark> captor = ArgumentCaptor.forClass(ValidationWatermark.class);
+    verify(registry).bind(anyString(), captor.capture());
+    ValidationWatermark expected =
+        new ValidationWatermark(
+            SOME_ASSET_ID,
+            SOME_AGE,
+            SOME_HASH,
+            sign(SOME_NAMESPACE, SOME_ASSET_ID, SOME_AGE, SOME_HASH));
+    assertThat(captor.getValue()).isEqualTo(expected);
+  }
+
+  @Test
+  public void get_WatermarkWithValidSignatureStored_ShouldReturnIt() {
+    // Arrange
+    ValidationWatermark watermark =
+        new ValidationWatermark(
+            SOME_ASSET_ID,
+            SOME_AGE,
+            SOME_HASH,
+            sign(SOME_NAMESPACE, SOME_ASSET_ID, SOME_AGE, SOME_HASH));
+    when(registry.lookup(SOME_NAMESPACE, SOME_ASSET_ID)).thenReturn(Optional.of(watermark));
+
+    // Act
+    Optional<ValidationWatermark> actual = manager.get(SOME_NAMESPACE, SOME_ASSET_ID);
+
+    // Assert
+    assertThat(actual).contains(watermark);
+  }
+
+  @Test
+  public void get_WatermarkWithTamperedAgeStored_ShouldThrowValidationException() {
+    // Arrange
+    ValidationWatermark watermark =
+        new ValidationWatermark(
+            SOME_ASSET_ID,
+            SOME_AGE + 100,
+            SOME_HASH,
+            sign(SOME_NAMESPACE, SOME_ASSET_ID, SOME_AGE, SOME_HASH));
+    when(registry.lookup(SOME_NAMESPACE, SOME_ASSET_ID)).thenReturn(Optional.of(watermark));
+
+    // Act Assert
+    assertThatThrownBy(() -> manager.get(SOME_NAMESPACE, SOME_ASSET_ID))
+        .isInstanceOf(ValidationException.class)
+        .satisfies(
+            e ->
+                assertThat(((ValidationException) e).getCode())
+                    .isEqualTo(StatusCode.INCONSISTENT_STATES));
+  }
+
+  @Test
+  public void get_WatermarkDisabled_ShouldReturnEmptyWithoutLookup() {
+    // Arrange
+    when(config.isValidationWatermarkEnabled()).thenReturn(false);
+    manager = new ValidationWatermarkManager(config, registry);
+
+    // Act
+    Optional<ValidationWatermark> actual = manager.get(SOME_NAMESPACE, SOME_ASSET_ID);
+    manager.put(SOME_NAMESPACE, asset);
+
+    // Assert
+    assertThat(actual).isEmpty();
+    verify(registry, never()).lookup(anyString(), anyString());
+    verify(registry, never()).bind(anyString(), any());
+  }
+}